@@ -0,0 +1,189 @@
+package deu.benchmark;
+
+import deu.ClientHandler;
+import deu.controller.SystemController;
+import deu.model.dto.request.command.UserCommandRequest;
+import deu.server.ConnectionExecutor;
+import deu.server.ConnectionMode;
+import deu.server.FrameCodec;
+import deu.server.NioServer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연결 처리 모드별(가상 스레드 / 플랫폼 스레드 풀 / 연결당 스레드 / NIO 셀렉터) 부하 JMH 벤치마크
+ * - 측정 시간 : 연결 N개를 맺고 각 연결에서 "동시접속자" 요청 1회를 왕복할 때까지 (연결 N개당 평균 시간)
+ * - 보조 지표 : N개의 연결이 유휴 상태(요청 대기)로 유지될 때 증가한 연결당 RSS / 힙 / 플랫폼 스레드 수
+ *              (측정 전후 GC 와 메모리 조회는 시간 측정에서 제외)
+ *
+ * 주의: 클라이언트 소켓도 같은 프로세스에 있으므로 RSS 증가분에는 클라이언트 쪽 비용도 포함된다.
+ *       (모든 모드에 동일하게 포함되므로 모드 간 비교에는 문제가 없다.)
+ *       연결 수가 많으면 ulimit -n 값을 충분히 늘려서 실행해야 한다.
+ *
+ * 실행: mvn -Pjmh compile exec:exec -Djmh.args="ConnectionModeBenchmark -f 1 -p connections=2000"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ConnectionModeBenchmark {
+
+    @Param({"virtual", "pooled", "thread", "nio"})
+    public String mode;
+
+    @Param({"1000"})
+    public int connections;
+
+    private ServerSocket serverSocket;
+    private ConnectionExecutor executor;
+    private NioServer nioServer;
+    private Thread serverThread;
+    private int port;
+    private boolean framed;
+
+    @Setup(Level.Trial)
+    public void startServer() throws Exception {
+        SystemController.getInstance(); // 하위 컨트롤러/서비스 초기화(데이터 파일 로드)는 측정에서 제외
+        if ("nio".equals(mode)) {
+            nioServer = new NioServer(0, Runtime.getRuntime().availableProcessors() * 2,
+                    SystemController.getInstance()::handle);
+            serverThread = Thread.ofPlatform().daemon(true).start(nioServer);
+            port = nioServer.getPort();
+            framed = true;
+            return;
+        }
+
+        // pooled 모드는 모든 연결이 동시에 붙어 있어야 하므로 풀 크기 = 연결 수
+        serverSocket = new ServerSocket(0, connections, InetAddress.getLoopbackAddress());
+        executor = new ConnectionExecutor(ConnectionMode.fromString(mode), connections, connections);
+        serverThread = Thread.ofPlatform().daemon(true).start(() -> {
+            try {
+                while (!serverSocket.isClosed()) {
+                    executor.awaitCapacity();
+                    executor.execute(new ClientHandler(serverSocket.accept()));
+                }
+            } catch (Exception ignored) {
+                // 소켓 종료 시 루프 탈출
+            }
+        });
+        port = serverSocket.getLocalPort();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() throws Exception {
+        if (nioServer != null) {
+            nioServer.close();
+        } else {
+            serverSocket.close();
+            executor.close();
+        }
+        serverThread.join(1000);
+    }
+
+    @Benchmark
+    public List<Socket> openConnections(Footprint footprint) throws Exception {
+        List<Socket> clients = openClients(port, connections, framed);
+        footprint.clients = clients;
+        return clients;
+    }
+
+    /**
+     * 연결당 자원 사용량 (보조 지표, 마지막 측정값)
+     * - 호출 전후의 RSS/힙/스레드 수 차이를 연결 수로 나눈다. 측정 후 연결은 모두 닫는다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long rssBytesPerConnection;
+        public long heapBytesPerConnection;
+        public long platformThreadsAdded;
+
+        private List<Socket> clients = List.of();
+        private long rssBefore;
+        private long heapBefore;
+        private int threadsBefore;
+
+        @Setup(Level.Invocation)
+        public void before() throws Exception {
+            rssBefore = residentMemoryBytes();
+            heapBefore = usedHeapBytes();
+            threadsBefore = ManagementFactory.getThreadMXBean().getThreadCount();
+        }
+
+        @TearDown(Level.Invocation)
+        public void after() throws Exception {
+            int count = Math.max(1, clients.size());
+            rssBytesPerConnection = (residentMemoryBytes() - rssBefore) / count;
+            heapBytesPerConnection = (usedHeapBytes() - heapBefore) / count;
+            platformThreadsAdded = ManagementFactory.getThreadMXBean().getThreadCount() - threadsBefore;
+            closeAll(clients);
+            clients = List.of();
+        }
+    }
+
+    // 연결을 맺고 요청 1회를 왕복한 뒤 소켓을 열어둔 채 반환 (framed=true 이면 NIO 엔진용 프레임 사용)
+    private static List<Socket> openClients(int port, int count, boolean framed) throws Exception {
+        List<Socket> clients = new ArrayList<>(count);
+        UserCommandRequest request = new UserCommandRequest("동시접속자", null);
+        for (int i = 0; i < count; i++) {
+            Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            socket.setTcpNoDelay(true); // 헤더/요청의 작은 쓰기가 Nagle 알고리즘에 묶여 지연되지 않도록
+            socket.setSoLinger(true, 0); // 반복 측정 시 TIME_WAIT 로 포트가 고갈되지 않도록 RST 로 닫음
+            if (framed) {
+                FrameCodec.writeFrame(socket.getOutputStream(), request);
+                FrameCodec.readFrame(socket.getInputStream());
+            } else {
+                ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream());
+                out.flush();
+                ObjectInputStream in = new ObjectInputStream(socket.getInputStream());
+                out.writeObject(request);
+                out.flush();
+                in.readObject();
+            }
+            clients.add(socket);
+        }
+        return clients;
+    }
+
+    private static void closeAll(List<Socket> clients) {
+        for (Socket socket : clients) {
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static long usedHeapBytes() throws InterruptedException {
+        System.gc();
+        Thread.sleep(200);
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    // 리눅스에서는 /proc/self/status 의 VmRSS 사용 (스레드 스택 등 힙 밖의 메모리까지 포함), 그 외에는 힙 사용량
+    private static long residentMemoryBytes() throws Exception {
+        Path status = Path.of("/proc/self/status");
+        if (Files.exists(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024;
+                }
+            }
+        }
+        return usedHeapBytes();
+    }
+}
@@ -0,0 +1,108 @@
+package deu.benchmark;
+
+import deu.controller.SystemController;
+import deu.controller.business.*;
+import deu.model.dto.request.command.*;
+import deu.model.dto.response.BasicResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 분기(dispatch) 비용 비교 JMH 벤치마크
+ * - legacy: 요청마다 new SystemController() + instanceof 체인 + 명령어 문자열 switch (기존 방식 재현)
+ * - routed: SystemController 싱글톤 + 타입/명령어 라우팅 표(HashMap) 조회
+ *
+ * 측정 요청 (저장소/파일 접근이 없는 경로만 사용해 분기 비용만 비교)
+ * - user         : 사용자 "동시접속자"     (instanceof 첫 번째, switch 4번째)
+ * - lecture      : 강의 "강의 삭제" + 잘못된 데이터 (instanceof 5번째, switch 마지막 → 400)
+ * - notification : 알림 미등록 명령       (instanceof 6번째, switch 실패 → 400)
+ *
+ * 실행: mvn -Pjmh compile exec:exec -Djmh.args="DispatchBenchmark -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DispatchBenchmark {
+
+    @Param({"user", "lecture", "notification"})
+    public String type;
+
+    private Object request;
+
+    @Setup
+    public void setUp() {
+        request = switch (type) {
+            case "user" -> new UserCommandRequest("동시접속자", null);
+            case "lecture" -> new LectureCommandRequest("강의 삭제", 0);
+            default -> new NotificationCommandRequest("없는 명령", "20230001");
+        };
+        SystemController.getInstance(); // 하위 컨트롤러/서비스 초기화(데이터 파일 로드)는 측정에서 제외
+    }
+
+    @Benchmark
+    public Object legacy() {
+        return new LegacySystemController().handle(request);
+    }
+
+    @Benchmark
+    public Object routed() {
+        return SystemController.getInstance().handle(request);
+    }
+
+    // 라우팅 표 도입 이전의 SystemController/하위 컨트롤러 분기 구조 (처리 함수는 측정 경로만 실제 컨트롤러 호출)
+    static class LegacySystemController {
+        private final UserController userController = UserController.getInstance();
+        private final UserManagementController userManagementController = UserManagementController.getInstance();
+        private final LectureController lectureController = LectureController.getInstance();
+        private final ReservationController reservationController = ReservationController.getInstance();
+        private final ReservationManagementController reservationManagementController = ReservationManagementController.getInstance();
+        private final NotificationController notificationController = NotificationController.getInstance();
+
+        Object handle(Object request) {
+            try {
+                if (request instanceof UserCommandRequest r) {
+                    return switch (r.command) {
+                        case "로그인", "회원가입", "로그아웃" -> new BasicResponse("501", r.command);
+                        case "동시접속자" -> userController.handleCurrentUser();
+                        case "사용자 이름 반환" -> new BasicResponse("501", r.command);
+                        default -> new BasicResponse("404", "알 수 없는 사용자 명령어");
+                    };
+                } else if (request instanceof UserManagementCommandRequest r) {
+                    return new BasicResponse("501", r.command);
+                } else if (request instanceof ReservationCommandRequest r) {
+                    return new BasicResponse("501", r.command);
+                } else if (request instanceof ReservationManagementCommandRequest r) {
+                    return new BasicResponse("501", r.command);
+                } else if (request instanceof LectureCommandRequest r) {
+                    String command = r.getCommand();
+                    Object data = r.getPayload();
+                    switch (command) {
+                        case "주간 강의 조회", "월간 강의 조회", "일간 강의 조회", "강의실 강의 조회",
+                             "강의 추가", "강의 수정":
+                            break;
+                        case "강의 삭제":
+                            if (data instanceof String) {
+                                return new BasicResponse("501", command);
+                            }
+                            break;
+                    }
+                    return new BasicResponse("400", "잘못된 요청이거나 데이터 형식이 일치하지 않습니다. (" + command + ")");
+                } else if (request instanceof NotificationCommandRequest r) {
+                    if (!(r.payload instanceof String)) {
+                        return new BasicResponse("400", "잘못된 데이터 형식입니다. (String ID 필요)");
+                    }
+                    return switch (r.command) {
+                        case "알림 조회", "알림 전체 조회" -> new BasicResponse("501", r.command);
+                        default -> new BasicResponse("400", "알 수 없는 알림 명령입니다: " + r.command);
+                    };
+                }
+                return new BasicResponse("405", "지원하지 않는 요청 타입");
+            } catch (Exception e) {
+                return new BasicResponse("500", "서버 처리 중 예외 발생: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package deu.benchmark;
+
+import deu.repository.AtomicFileWriter;
+import deu.repository.FsyncPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 전체 저장(저장소 YAML, 알림 파일) 지연 시간 JMH 벤치마크 - fsync 정책별 비교
+ * - truncate : 기존 방식 (원래 파일을 비우고 그 자리에 씀, 도중에 죽으면 파일이 깨짐)
+ * - always   : 임시 파일 + fsync + 이름 변경 + 폴더 fsync
+ * - interval : 임시 파일 + 이름 변경, fsync 는 1초마다 백그라운드에서
+ * - never    : 임시 파일 + 이름 변경, fsync 안 함
+ *
+ * 파일 크기(size): 16KB(사용자/강의 파일 수준), 1MB(예약 약 3천 건 YAML 수준)
+ * 결과는 저장 1회 지연 시간 분포(p50/p90/p99 등)로 출력된다. (SampleTime)
+ *
+ * 실행: mvn -Pjmh compile exec:exec -Djmh.args="FileWriteBenchmark -f 1"
+ * ※ 결과는 디스크 종류(SSD/HDD/네트워크 디스크)에 크게 좌우되므로 실제 서버 디스크에서 측정할 것
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileWriteBenchmark {
+
+    @Param({"truncate", "always", "interval", "never"})
+    public String policy;
+
+    @Param({"16384", "1048576"})
+    public int size;
+
+    private File dir;
+    private File file;
+    private byte[] content;
+    private AtomicFileWriter writer;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory(new File("").getAbsoluteFile().toPath(), "filewrite").toFile();
+        file = new File(dir, "data.yaml");
+        content = new byte[size];
+        Arrays.fill(content, (byte) 'a');
+        if (!"truncate".equals(policy)) {
+            writer = new AtomicFileWriter(FsyncPolicy.fromString(policy), 1000);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (writer != null) {
+            writer.syncPending();
+        }
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        if (writer == null) {
+            try (OutputStream out = new FileOutputStream(file)) {
+                out.write(content);
+            }
+        } else {
+            writer.write(file, out -> out.write(content));
+        }
+    }
+}
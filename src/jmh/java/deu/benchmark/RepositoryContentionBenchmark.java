@@ -0,0 +1,97 @@
+package deu.benchmark;
+
+import deu.model.entity.RoomReservation;
+import deu.repository.ReservationRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReservationRepository 잠금 경합 JMH 벤치마크 - 쓰기 1개 + 조회 N개 동시 실행
+ * - write : 기존 예약의 상태를 바꿔 덮어쓰기 (save, 쓰기 잠금 + 변경 로그 대기열 등록)
+ * - read  : 조회 종류(query)별 반복 호출 (읽기 잠금)
+ *   findById   : ID 조회 (예약 승인/취소/수정 경로)
+ *   findByUser : 사용자별 조회 (클라이언트 예약 목록 새로고침)
+ *   findAll    : 전체 복사 (관리자 화면)
+ *
+ * 기존 예약 수(size): 1만 건 (사용자 500명)
+ * 조회 스레드 수는 -tg 로 바꾼다. 예) -tg 1,1 / 1,8 / 1,32 (쓰기 1개, 조회 N개)
+ * 디스크 속도 영향을 줄이기 위해 server.durability=async 로 실행한다. (잠금 경합만 비교)
+ *
+ * 실행: mvn -Pjmh compile exec:exec -Djmh.args="RepositoryContentionBenchmark -f 1 -tg 1,8"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dserver.durability=async"})
+public class RepositoryContentionBenchmark {
+
+    private static final int USERS = 500;
+
+    @Param({"10000"})
+    public int size;
+
+    @Param({"findById", "findByUser", "findAll"})
+    public String query;
+
+    private ReservationRepository repository;
+    private List<RoomReservation> baseline;
+
+    // 스레드별 진행 위치
+    @State(Scope.Thread)
+    public static class Cursor {
+        private final Random random = new Random(Thread.currentThread().getId());
+
+        int next(int bound) {
+            return random.nextInt(bound);
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = ReservationRepository.getInstance();
+        LocalDate today = LocalDate.now();
+        Random random = new Random(42);
+        baseline = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            baseline.add(RoomReservation.builder()
+                    .buildingName("정보관").floor("9").lectureRoom("91" + random.nextInt(8))
+                    .number("S2024" + (10000 + i % USERS))
+                    .date(today.plusDays(random.nextInt(14) - 7).toString())
+                    .startTime(String.format("%02d:00", 9 + random.nextInt(13)))
+                    .endTime(String.format("%02d:50", 9 + random.nextInt(13)))
+                    .title("스터디").status("대기")
+                    .build());
+        }
+        repository.clear();
+        repository.saveAll(baseline);
+    }
+
+    @Benchmark
+    @Group("rw")
+    @GroupThreads(1)
+    public void write(Cursor cursor) {
+        RoomReservation original = baseline.get(cursor.next(size));
+        repository.save(original.toBuilder().status(cursor.next(2) == 0 ? "승인" : "대기").build());
+    }
+
+    @Benchmark
+    @Group("rw")
+    @GroupThreads(8)
+    public Object read(Cursor cursor) {
+        switch (query) {
+            case "findById":
+                return repository.findById(baseline.get(cursor.next(size)).getId());
+            case "findByUser":
+                return repository.findByUser("S2024" + (10000 + cursor.next(USERS)));
+            default:
+                return repository.findAll();
+        }
+    }
+}
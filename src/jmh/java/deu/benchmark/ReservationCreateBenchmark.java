@@ -0,0 +1,231 @@
+package deu.benchmark;
+
+import deu.model.dto.request.data.reservation.RoomReservationRequest;
+import deu.model.dto.response.BasicResponse;
+import deu.model.entity.RoomReservation;
+import deu.repository.ReservationRepository;
+import deu.service.ReservationService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.results.format.ResultFormatType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예약 신청(ReservationService.createRoomReservation) 경로 JMH 벤치마크
+ *
+ * 측정 항목
+ * - create            : 정책 검사 → 신청 잠금(강의실 시간대 + 신청자) → 정원 검사(시간대 색인 countLiveInSlot)
+ *                       → 하루 시간/7일 횟수/본인 중복(사용량 집계 bookedMinutes, countBookings, hasBookingAt)
+ *                       → 세미나 규칙(findBySlot) → insert 1회(메모리 반영 + 변경 로그 대기열) → 잠금 해제
+ *                       → 묶음 기록(group commit) 디스크 반영 대기 → 알림 저장 (성공 경로 전체)
+ * - rejectDuplicate   : 같은 사용자·같은 시간 재신청 → 409 (저장 없이 잠금 + 색인 조회로 끝나는 검사 단계 비용만 측정)
+ *
+ * 기존 예약 수(size): 1천 / 10만 / 100만 건 (지난 1년간 이력, 사용자 1명당 평균 20건)
+ * - 반복(iteration)마다 기존 예약만 남도록 저장소를 되돌린다. (되돌리는 시간은 측정에서 제외)
+ * - 신청 대상은 정보관 9층 강의실 7개 × 향후 6일 × 13교시 슬롯을 돌아가며 사용한다.
+ *   (정원 3명 → 슬롯당 2건까지 가능, 반복당 약 1,000건을 넘으면 403 이 섞이므로 경고 출력)
+ *
+ * 실행 (data 파일은 target/jmh-work 아래에 생성되므로 실제 데이터에 영향 없음)
+ * - 전체 행렬(크기 × 스레드 1/4/16/64):
+ *     mvn -Pjmh compile exec:exec -Djmh.main=deu.benchmark.ReservationCreateBenchmark
+ * - 일부만: -Djmh.args="1000,100000 1,64"  (크기 목록, 스레드 목록)
+ * - JMH 명령행 직접 사용: -Djmh.args="ReservationCreateBenchmark.create -p size=1000 -t 16"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx6g"})
+public class ReservationCreateBenchmark {
+
+    private static final String BUILDING = "정보관";
+    private static final String FLOOR = "9";
+    private static final String[] ROOMS = {"911", "912", "913", "914", "915", "916", "918"};
+    private static final String[] STATUSES = {"승인", "승인", "승인", "대기", "취소됨", "거절", "삭제됨"};
+    private static final int HOURS = 13; // 09:00 ~ 21:00 시작
+    private static final int DAYS = 6;   // 내일 ~ +6일 (학생은 하루 전까지만 신청 가능)
+    private static final int SLOTS = DAYS * HOURS * ROOMS.length;
+
+    // 중복 검사용 사용자 수 (스레드 수 이상)
+    private static final int PROBES = 64;
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    private ReservationRepository repository;
+    private ReservationService service;
+    private List<RoomReservation> baseline;
+
+    private final AtomicLong userSequence = new AtomicLong();
+    private final AtomicInteger slotSequence = new AtomicInteger();
+    private final AtomicInteger probeSequence = new AtomicInteger();
+    private final LongAdder unexpected = new LongAdder();
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        repository = ReservationRepository.getInstance();
+        service = ReservationService.getInstance();
+
+        LocalDate today = LocalDate.now();
+        Random random = new Random(42);
+        int users = Math.max(1, size / 20);
+        baseline = new ArrayList<>(size + PROBES);
+
+        // 지난 1년간의 이력
+        for (int i = 0; i < size; i++) {
+            int hour = 9 + random.nextInt(HOURS);
+            baseline.add(reservation(
+                    "S2024" + (10000 + random.nextInt(users)),
+                    today.minusDays(1 + random.nextInt(365)),
+                    hour,
+                    ROOMS[random.nextInt(ROOMS.length)],
+                    STATUSES[random.nextInt(STATUSES.length)]));
+        }
+
+        // 중복 검사용: 사용자마다 미래 슬롯 1개에 예약 1건
+        for (int i = 0; i < PROBES; i++) {
+            baseline.add(reservation(probeUser(i), slotDate(today, i), slotHour(i), slotRoom(i), "대기"));
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetRepository() {
+        repository.clear();
+        repository.saveAll(baseline);
+        slotSequence.set(PROBES); // 중복 검사용 슬롯 다음부터 사용
+        unexpected.reset();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportUnexpected() {
+        if (unexpected.sum() > 0) {
+            System.out.println("[경고] 기대와 다른 응답 " + unexpected.sum() + "건 (슬롯 부족 등으로 측정 경로가 달라졌을 수 있음)");
+        }
+    }
+
+    // 매번 새 사용자가 빈 슬롯에 신청 → 200
+    @Benchmark
+    public BasicResponse create() {
+        int slot = slotSequence.getAndIncrement() % SLOTS;
+        LocalDate today = LocalDate.now();
+        RoomReservationRequest request = request(
+                "S7" + userSequence.incrementAndGet(), slotDate(today, slot), slotHour(slot), slotRoom(slot));
+
+        BasicResponse response = service.createRoomReservation(request);
+        if (!"200".equals(response.code)) {
+            unexpected.increment();
+        }
+        return response;
+    }
+
+    // 이미 예약한 시간에 같은 사용자가 재신청 → 409 (저장 없음)
+    @Benchmark
+    public BasicResponse rejectDuplicate(ProbeCursor cursor) {
+        int i = cursor.index;
+        RoomReservationRequest request = request(probeUser(i), slotDate(LocalDate.now(), i), slotHour(i), slotRoom(i));
+
+        BasicResponse response = service.createRoomReservation(request);
+        if (!"409".equals(response.code)) {
+            unexpected.increment();
+        }
+        return response;
+    }
+
+    // 스레드마다 서로 다른 중복 검사용 사용자 사용
+    @State(Scope.Thread)
+    public static class ProbeCursor {
+        int index;
+
+        @Setup(Level.Trial)
+        public void setUp(ReservationCreateBenchmark benchmark) {
+            index = benchmark.probeSequence.getAndIncrement() % PROBES;
+        }
+    }
+
+    private static String probeUser(int i) {
+        return "S8" + (1000 + i);
+    }
+
+    private static LocalDate slotDate(LocalDate today, int slot) {
+        return today.plusDays(1 + slot / (HOURS * ROOMS.length));
+    }
+
+    private static int slotHour(int slot) {
+        return 9 + (slot / ROOMS.length) % HOURS;
+    }
+
+    private static String slotRoom(int slot) {
+        return ROOMS[slot % ROOMS.length];
+    }
+
+    private static String time(int hour) {
+        return String.format("%02d:00", hour);
+    }
+
+    private static RoomReservation reservation(String number, LocalDate date, int hour, String room, String status) {
+        return RoomReservation.builder()
+                .buildingName(BUILDING)
+                .floor(FLOOR)
+                .lectureRoom(room)
+                .number(number)
+                .status(status)
+                .title("스터디")
+                .description("벤치마크")
+                .date(date.toString())
+                .dayOfTheWeek(date.getDayOfWeek().name())
+                .startTime(time(hour))
+                .endTime(time(hour + 1))
+                .purpose("스터디")
+                .build();
+    }
+
+    private static RoomReservationRequest request(String number, LocalDate date, int hour, String room) {
+        RoomReservationRequest request = new RoomReservationRequest();
+        request.setBuildingName(BUILDING);
+        request.setFloor(FLOOR);
+        request.setLectureRoom(room);
+        request.setNumber(number);
+        request.setTitle("스터디");
+        request.setDescription("벤치마크");
+        request.setDate(date.toString());
+        request.setDayOfTheWeek(date.getDayOfWeek().name());
+        request.setStartTime(time(hour));
+        request.setEndTime(time(hour + 1));
+        request.setPurpose("스터디");
+        return request;
+    }
+
+    /**
+     * 크기 × 스레드 수 행렬 실행 (스레드 수는 JMH 파라미터가 아니므로 실행을 나눔)
+     * - args[0]: 기존 예약 수 목록 (기본 1000,100000,1000000)
+     * - args[1]: 스레드 수 목록 (기본 1,4,16,64)
+     * - 결과는 스레드 수별 JSON(reservation-create-t{스레드}.json)으로 저장해 릴리스 간 비교에 사용
+     */
+    public static void main(String[] args) throws Exception {
+        String[] sizes = (args.length > 0 ? args[0] : "1000,100000,1000000").split(",");
+        String[] threads = (args.length > 1 ? args[1] : "1,4,16,64").split(",");
+
+        for (String t : threads) {
+            int threadCount = Integer.parseInt(t.trim());
+            Options options = new OptionsBuilder()
+                    .include(ReservationCreateBenchmark.class.getSimpleName())
+                    .param("size", sizes)
+                    .threads(threadCount)
+                    .resultFormat(ResultFormatType.JSON)
+                    .result("reservation-create-t" + threadCount + ".json")
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
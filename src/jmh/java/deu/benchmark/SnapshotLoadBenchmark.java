@@ -0,0 +1,87 @@
+package deu.benchmark;
+
+import deu.model.entity.RoomReservation;
+import deu.repository.BinarySnapshot;
+import deu.repository.SnapshotConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예약 스냅샷 전체 로딩 시간 JMH 벤치마크 - YAML(SnakeYAML) vs 바이너리 스냅샷
+ * - yaml   : 기존 reservations.yaml 로딩 (SnakeYAML 리플렉션)
+ * - binary : reservations.bin 로딩 (묶음별 병렬 해석)
+ *
+ * 예약 수(size): 10만 / 100만 건 (100만 건 YAML 은 약 380MB, 힙 8GB 이상 필요)
+ * 서버 시작 1회에 해당하므로 한 번 실행 시간(SingleShotTime)을 잰다.
+ *
+ * 실행: mvn -Pjmh compile exec:exec -Djmh.args="SnapshotLoadBenchmark -f 1 -jvmArgs -Xmx8g"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class SnapshotLoadBenchmark {
+
+    @Param({"yaml", "binary"})
+    public String format;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private File dir;
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        dir = Files.createTempDirectory(new File("").getAbsoluteFile().toPath(), "snapshotload").toFile();
+        File bin = new File(dir, "reservations.bin");
+
+        List<RoomReservation> reservations = new ArrayList<>(size);
+        String[] statuses = {"대기", "승인", "거절", "취소"};
+        for (int i = 0; i < size; i++) {
+            reservations.add(RoomReservation.builder()
+                    .buildingName("정보공학관").floor("9").lectureRoom("9" + (10 + i % 20))
+                    .number("S" + (20230000 + i % 5000)).status(statuses[i % statuses.length])
+                    .title("스터디").description("조별 과제 회의").purpose("스터디")
+                    .date(String.format("2026-%02d-%02d", 1 + (i / 28) % 12, 1 + i % 28))
+                    .dayOfTheWeek("월").startTime("09:00").endTime("09:50")
+                    .build());
+        }
+        try (OutputStream out = new FileOutputStream(bin)) {
+            BinarySnapshot.write(out, BinarySnapshot.Kind.RESERVATION, reservations);
+        }
+
+        if ("yaml".equals(format)) {
+            file = new File(dir, "reservations.yaml");
+            SnapshotConverter.convert("reservations", bin, file);
+        } else {
+            file = bin;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                f.delete();
+            }
+        }
+        dir.delete();
+    }
+
+    @Benchmark
+    public List<?> load() throws IOException {
+        return SnapshotConverter.read(BinarySnapshot.Kind.RESERVATION, file);
+    }
+}
@@ -0,0 +1,183 @@
+package deu.benchmark;
+
+import deu.model.dto.response.BasicResponse;
+import deu.model.dto.response.NotificationDTO;
+import deu.model.entity.Lecture;
+import deu.model.entity.RoomReservation;
+import deu.model.enums.Semester;
+import deu.protocol.BinaryProtocol;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 인코딩 방식별(기존 Java 직렬화 / 바이너리 프로토콜) 인코딩·디코딩 시간 JMH 벤치마크
+ * - serialized : ClientHandler 처럼 연결당 ObjectOutputStream 1개를 계속 쓰는 경우 (클래스 정보는 처음 한 번만 전송)
+ * - binary     : BinaryProtocol 의 [길이][본문] 프레임
+ * 매번 새로 만든 객체를 보내므로 이전 응답에 대한 역참조 이득은 없다. (실제 서버 응답과 동일)
+ *
+ * 측정 대상 응답 (response)
+ * - reservations  : BasicResponse(RoomReservation[7][13]), 예약 10건
+ * - lectures      : BasicResponse(Lecture[7][13]), 강의 20건
+ * - notifications : BasicResponse(List<NotificationDTO>), 알림 20건
+ *
+ * 한 번 호출에 응답 BATCH 개를 처리하므로 결과 시간은 BATCH 로 나눠서 본다. 응답 1개 크기는 보조 지표 bytesPerResponse.
+ *
+ * 실행: mvn -Pjmh compile exec:exec -Djmh.args="WireProtocolBenchmark -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WireProtocolBenchmark {
+
+    static final int BATCH = 1000;
+
+    @Param({"reservations", "lectures", "notifications"})
+    public String response;
+
+    @Param({"serialized", "binary"})
+    public String format;
+
+    private List<Object> responses;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        // 응답 객체는 미리 만들어 둔다. (객체 생성 비용 제외)
+        responses = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            responses.add(switch (response) {
+                case "reservations" -> weeklyReservations(i);
+                case "lectures" -> weeklyLectures(i);
+                default -> notifications(i);
+            });
+        }
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return "binary".equals(format) ? encodeBinary(responses) : serialize(responses);
+    }
+
+    @Benchmark
+    public int decode() throws Exception {
+        return "binary".equals(format) ? decodeBinary(encoded) : deserialize(encoded);
+    }
+
+    // 응답 1개 평균 크기 (보조 지표)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Size {
+        public long bytesPerResponse;
+    }
+
+    @Benchmark
+    public byte[] encodedSize(Size size) throws IOException {
+        byte[] bytes = encode();
+        size.bytesPerResponse = bytes.length / BATCH;
+        return bytes;
+    }
+
+    // --- 기존 방식: 연결당 ObjectOutputStream 1개 ---
+
+    private static byte[] serialize(List<Object> responses) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            for (Object response : responses) {
+                out.writeObject(response);
+                out.flush();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int deserialize(byte[] bytes) throws Exception {
+        int count = 0;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            for (int i = 0; i < BATCH; i++) {
+                if (in.readObject() != null) count++;
+            }
+        }
+        return count;
+    }
+
+    // --- 바이너리 프로토콜: [길이][본문] 프레임 ---
+
+    private static byte[] encodeBinary(List<Object> responses) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        for (Object response : responses) {
+            ByteBuffer frame = BinaryProtocol.encode(response);
+            bytes.write(frame.array(), 0, frame.limit());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static int decodeBinary(byte[] bytes) throws IOException {
+        int count = 0;
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        for (int i = 0; i < BATCH; i++) {
+            if (BinaryProtocol.readFrame(in) != null) count++;
+        }
+        return count;
+    }
+
+    // --- 측정용 응답 데이터 ---
+
+    private static Object weeklyReservations(int seed) {
+        RoomReservation[][] schedule = new RoomReservation[7][13];
+        for (int i = 0; i < 10; i++) {
+            int day = i % 7;
+            int period = (seed + i * 3) % 13;
+            schedule[day][period] = RoomReservation.builder()
+                    .buildingName("정보관").floor("9").lectureRoom("912")
+                    .number("S20" + (seed % 100_000))
+                    .title("팀 프로젝트 회의").description("캡스톤 디자인 " + seed)
+                    .date("2026-10-" + (19 + day)).dayOfTheWeek("월요일")
+                    .startTime((9 + period) + ":00").endTime((10 + period) + ":00")
+                    .status("승인").purpose("스터디")
+                    .build();
+        }
+        return new BasicResponse("200", schedule);
+    }
+
+    private static Object weeklyLectures(int seed) {
+        Lecture[][] schedule = new Lecture[7][13];
+        for (int i = 0; i < 20; i++) {
+            Lecture lecture = new Lecture();
+            lecture.setId("L" + seed + "-" + i);
+            lecture.setTitle("자료구조 " + i);
+            lecture.setLectureroom("912");
+            lecture.setBuilding("정보관");
+            lecture.setFloor("9");
+            lecture.setProfessor("김교수");
+            lecture.setDay("MONDAY");
+            lecture.setStartTime((9 + i % 13) + ":00");
+            lecture.setEndTime((10 + i % 13) + ":00");
+            lecture.setYear(2026);
+            lecture.setSemester(Semester.SECOND);
+            schedule[i % 5][i % 13] = lecture;
+        }
+        return new BasicResponse("200", schedule);
+    }
+
+    private static Object notifications(int seed) {
+        List<NotificationDTO> list = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            list.add(new NotificationDTO("예약 승인", "[정보관 912] 예약이 승인되었습니다. #" + seed + "-" + i,
+                    1_790_000_000_000L + seed * 1000L + i));
+        }
+        return new BasicResponse("200", list);
+    }
+}
@@ -2,43 +2,53 @@ package deu;
 
 import deu.controller.SystemController;
 import deu.moniter.LogManager;
+import deu.protocol.BinaryProtocol;
+import deu.server.RequestPipeline;
 
 import java.io.*;
 import java.net.Socket;
-import java.net.SocketException;
+import java.util.function.Function;
 
 public class ClientHandler implements Runnable {
     private final Socket socket;
+    private final int maxInFlight;
+    private final Function<Object, Object> requestHandler;
 
     public ClientHandler(Socket socket) {
+        this(socket, RequestPipeline.DEFAULT_MAX_IN_FLIGHT, SystemController.getInstance()::handle);
+    }
+
+    /**
+     * @param maxInFlight    파이프라이닝(RequestEnvelope) 요청을 연결당 동시에 몇 개까지 처리할지
+     * @param requestHandler 요청 처리기 (SystemController.handle, 필요하면 AdmissionControl 로 감싼 것)
+     */
+    public ClientHandler(Socket socket, int maxInFlight, Function<Object, Object> requestHandler) {
         this.socket = socket;
+        this.maxInFlight = maxInFlight;
+        this.requestHandler = requestHandler;
     }
 
     @Override
     public void run() {
-        ObjectOutputStream out = null;
-        ObjectInputStream in = null;
-        
-         String clientIP = (socket.getInetAddress() != null) ? socket.getInetAddress().getHostAddress() : "Unknown";
-        
+        String clientIP = (socket.getInetAddress() != null) ? socket.getInetAddress().getHostAddress() : "Unknown";
+
         try {
-            // 순서 주의: 반드시 OutputStream을 먼저 생성
-            out = new ObjectOutputStream(socket.getOutputStream());
-            out.flush(); // flush header
-            in = new ObjectInputStream(socket.getInputStream());
-            
-            while(true){
-            // 요청 수신
-            Object request = in.readObject();
-            
-            LogManager.logRequest(clientIP, request);
-
-            // 요청 처리
-            Object response = new SystemController().handle(request);
-
-            // 응답 송신
-            out.writeObject(response);
-            out.flush();
+            // 응답이 여러 개의 작은 세그먼트로 나가므로 Nagle 알고리즘을 끄지 않으면 응답마다 ACK 지연(약 40ms)이 붙음
+            socket.setTcpNoDelay(true);
+
+            // 첫 2바이트로 프로토콜 판별 (읽은 바이트는 되돌려 놓음)
+            // - 0xACED: 기존 클라이언트의 ObjectOutputStream 헤더 → Java 직렬화 방식
+            // - 그 외: 바이너리 프로토콜 협상 메시지("DEUB" + 버전)
+            BufferedInputStream input = new BufferedInputStream(socket.getInputStream());
+            input.mark(2);
+            int first = input.read();
+            int second = input.read();
+            input.reset();
+
+            if (first == 0xAC && second == 0xED) {
+                serveObjectStream(clientIP, input);
+            } else if (first >= 0) {
+                serveBinary(clientIP, input);
             }
 
         } catch (Exception e) {
@@ -48,16 +58,67 @@ public class ClientHandler implements Runnable {
             //LogManager.log("[ERROR] 통신 중 오류 (" + clientIP + "): " + e.getMessage());
             // e.printStackTrace(); // 필요 시 주석 해제
         } finally {
-            // 명시적으로 자원 정리
-            try {
-                if (in != null) in.close();
-            } catch (IOException ignored) {}
+            // 명시적으로 자원 정리 (소켓을 닫으면 스트림도 함께 닫힘)
             try {
-                if (out != null) out.close();
+                socket.close();
             } catch (IOException ignored) {}
+        }
+    }
+
+    // 기존 방식: ObjectOutputStream / ObjectInputStream
+    private void serveObjectStream(String clientIP, InputStream input) throws Exception {
+        // 순서 주의: 반드시 OutputStream을 먼저 생성
+        ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream());
+        out.flush(); // flush header
+        ObjectInputStream in = new ObjectInputStream(input);
+
+        // 응답 송신 (파이프라이닝 요청은 여러 스레드에서 응답하므로 스트림 단위로 동기화)
+        RequestPipeline pipeline = newPipeline(clientIP, response -> {
+            synchronized (out) {
+                out.writeObject(response);
+                out.flush();
+            }
+        });
+
+        while (true) {
+            // 요청 수신 → 처리 (봉투 요청은 동시에 처리되고 응답 순서가 바뀔 수 있음)
+            pipeline.submit(in.readObject());
+        }
+    }
+
+    // 바이너리 프로토콜: 버전 협상 후 [길이][본문] 프레임 반복
+    private void serveBinary(String clientIP, InputStream input) throws Exception {
+        OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+
+        int version = BinaryProtocol.negotiate(BinaryProtocol.readHello(input));
+        out.write(BinaryProtocol.hello(version));
+        out.flush();
+        if (version == 0) {
+            return;
+        }
+
+        RequestPipeline pipeline = newPipeline(clientIP, response -> {
+            synchronized (out) {
+                BinaryProtocol.writeFrame(out, response);
+            }
+        });
+
+        while (true) {
+            pipeline.submit(BinaryProtocol.readFrame(input));
+        }
+    }
+
+    // 응답 전송에 실패하면(연결 끊김) 소켓을 닫아 수신 루프도 종료시킨다.
+    private RequestPipeline newPipeline(String clientIP, RequestPipeline.ResponseSink sink) {
+        return new RequestPipeline(request -> handle(clientIP, request), sink, e -> {
             try {
                 socket.close();
             } catch (IOException ignored) {}
-        }
+        }, maxInFlight);
+    }
+
+    private Object handle(String clientIP, Object request) {
+        LogManager.logRequest(clientIP, request);
+        return requestHandler.apply(request);
     }
-}
\ No newline at end of file
+}
@@ -2,14 +2,25 @@ package deu;
 
 import deu.command.BackupCommand;
 import deu.command.RestoreCommand;
+import deu.controller.SystemController;
+import deu.repository.AtomicFileWriter;
 import deu.repository.ReservationRepository;
+import deu.server.AdmissionControl;
+import deu.server.ConnectionExecutor;
+import deu.server.ConnectionMode;
+import deu.server.NioServer;
+import deu.server.ServerConfig;
+import deu.server.ServerEngine;
 
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.util.List;
 import java.util.Scanner;
+import java.util.function.Function;
 
 import deu.moniter.DebugState;
 import deu.moniter.LogManager;
+import deu.moniter.Metrics;
 import deu.moniter.NormalState;
 
 public class ServerMain {
@@ -22,6 +33,7 @@ public class ServerMain {
         
         Scanner scanner = new Scanner(System.in);
         ReservationRepository repo = ReservationRepository.getInstance();
+        ServerConfig config = ServerConfig.fromSystemProperties();
 
         String backupPath = System.getProperty("user.dir")
                 + "/backup/reservations-backup.yaml";
@@ -43,6 +55,9 @@ public class ServerMain {
         System.out.println("2) 예약 데이터 복구");
         System.out.println("3) 서버 실행\n");
         System.out.println("4) 모니터링 모드 변경 " + currentStatus);
+        System.out.println("5) 연결 처리 모드 변경 [" + config.getMode().getLabel() + "]");
+        System.out.println("6) 서버 엔진 변경 [" + config.getEngine().getLabel() + "]");
+        System.out.println("7) 예약 사용량 집계 점검");
         
         System.out.print("\n번호 입력: ");
 
@@ -63,16 +78,20 @@ public class ServerMain {
                     isServerRunning = true;
                     break;
                 case 4:
-                    // 모드 변경 (토글)
-                    isDebugMode = !isDebugMode;
-                    
-                    if (isDebugMode) {
-                        LogManager.setState(new DebugState());
-                        System.out.println("\n>>> [설정] 모니터링 모드가 '상세(Debug)'로 변경되었습니다.");
-                    } else {
-                        LogManager.setState(new NormalState());
-                        System.out.println("\n>>> [설정] 모니터링 모드가 '일반(Normal)'로 변경되었습니다.");
-                    }
+                    toggleMonitoringMode();
+                    break;
+                case 5:
+                    // 연결 처리 모드 변경 (가상 스레드 -> 플랫폼 스레드 풀 -> 연결당 스레드 순환)
+                    config.setMode(config.getMode().next());
+                    System.out.println("\n>>> [설정] 연결 처리 모드가 '" + config.getMode().getLabel() + "'(으)로 변경되었습니다.");
+                    break;
+                case 6:
+                    // 서버 엔진 변경 (블로킹 소켓 <-> NIO 셀렉터)
+                    config.setEngine(config.getEngine().next());
+                    System.out.println("\n>>> [설정] 서버 엔진이 '" + config.getEngine().getLabel() + "'(으)로 변경되었습니다.");
+                    break;
+                case 7:
+                    checkQuotas(repo);
                     break;
                 default:
                     System.out.println(">> 잘못된 입력입니다.");
@@ -80,14 +99,116 @@ public class ServerMain {
         }
 
         System.out.println("\n=======================================================");
-        System.out.println("         서버 실행 중... 포트 번호: 9999");
+        System.out.println("         서버 실행 중... 포트 번호: " + config.getPort());
+        if (config.getEngine() == ServerEngine.NIO) {
+            System.out.println("         서버 엔진: " + config.getEngine().getLabel()
+                    + " (작업 스레드 " + config.getWorkerThreads() + "개, 최대 " + config.getMaxConnections() + "연결)");
+        } else {
+            System.out.println("         연결 처리 모드: " + config.getMode().getLabel()
+                    + " (최대 " + (config.getMode() == ConnectionMode.POOLED
+                            ? Math.min(config.getMaxConnections(), config.getPoolSize())
+                            : config.getMaxConnections()) + "연결)");
+        }
+        System.out.println("         부하 제어: 조회 " + config.getReadLimit() + "개(대기 " + config.getReadQueue()
+                + ") / 변경 " + config.getWriteLimit() + "개(대기 " + config.getWriteQueue() + ")");
+        System.out.println("         예약 저장: " + repo.getDurability().getLabel()
+                + " / fsync: " + AtomicFileWriter.getInstance().getPolicy().getLabel()
+                + " / 파일 형식: " + repo.getSnapshotFormat().getLabel());
+        if (config.getMetricsIntervalSeconds() > 0) {
+            System.out.println("         성능 지표 기록: " + config.getMetricsFile()
+                    + " (" + config.getMetricsIntervalSeconds() + "초마다)");
+        }
         System.out.println("=======================================================\n");
 
-        try (ServerSocket serverSocket = new ServerSocket(9999)) {
+        // 요청 처리기: 부하 제어(초과 시 503) → SystemController
+        AdmissionControl admission = AdmissionControl.create(config);
+        LogManager.setAdmissionStatus(admission::getStatus);
+        Function<Object, Object> requestHandler = admission.wrap(SystemController.getInstance()::handle);
+
+        Metrics.getInstance().reset();
+        Metrics.getInstance().startDump(config.getMetricsFile(), config.getMetricsIntervalSeconds());
+
+        // 서버는 별도 스레드에서 실행하고, 콘솔에서는 실행 중 메뉴를 받음
+        Thread serverThread = new Thread(() -> {
+            if (config.getEngine() == ServerEngine.NIO) {
+                runNioServer(config, requestHandler);
+            } else {
+                runBlockingServer(config, requestHandler);
+            }
+        }, "server-main");
+        serverThread.start();
+
+        runConsoleMenu(scanner, serverThread, repo);
+    }
+
+    // 서버 실행 중 콘솔 메뉴 (입력이 끝나면(EOF) 서버 종료까지 대기)
+    private static void runConsoleMenu(Scanner scanner, Thread serverThread, ReservationRepository repo) {
+        try {
+            while (serverThread.isAlive()) {
+                System.out.println("[실행 중 메뉴] 1) 성능 지표 보기  2) 성능 지표 초기화  3) 모니터링 모드 변경"
+                        + "  4) 예약 사용량 집계 점검");
+                if (!scanner.hasNextLine()) {
+                    break;
+                }
+                switch (scanner.nextLine().trim()) {
+                    case "1" -> {
+                        System.out.println(Metrics.getInstance().report());
+                        System.out.println("부하 제어: " + LogManager.getAdmissionStatus());
+                        System.out.println("버려진 로그: " + LogManager.getDroppedCount() + "건\n");
+                    }
+                    case "2" -> {
+                        Metrics.getInstance().reset();
+                        System.out.println(">> 성능 지표를 초기화했습니다.");
+                    }
+                    case "3" -> toggleMonitoringMode();
+                    case "4" -> checkQuotas(repo);
+                    case "" -> { }
+                    default -> System.out.println(">> 잘못된 입력입니다.");
+                }
+            }
+            serverThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 예약 사용량 집계 점검 (사용자별 하루 예약 시간/예약 수를 예약 목록에서 다시 계산해 비교, 다르면 다시 계산한 값으로 교체)
+    private static void checkQuotas(ReservationRepository repo) {
+        List<String> differences = repo.verifyQuotas();
+        if (differences.isEmpty()) {
+            System.out.println("\n>>> [점검] 예약 사용량 집계가 예약 목록과 일치합니다.");
+            return;
+        }
+        System.out.println("\n>>> [점검] 예약 사용량 집계 불일치 " + differences.size() + "건 (다시 계산한 값으로 교체함)");
+        for (String difference : differences) {
+            System.out.println("  - " + difference);
+        }
+    }
+
+    // 모니터링 모드 변경 (토글)
+    private static void toggleMonitoringMode() {
+        isDebugMode = !isDebugMode;
+
+        if (isDebugMode) {
+            LogManager.setState(new DebugState());
+            System.out.println("\n>>> [설정] 모니터링 모드가 '상세(Debug)'로 변경되었습니다.");
+        } else {
+            LogManager.setState(new NormalState());
+            System.out.println("\n>>> [설정] 모니터링 모드가 '일반(Normal)'로 변경되었습니다.");
+        }
+    }
+
+    // 기존 방식: accept 루프 + 연결마다 ClientHandler
+    private static void runBlockingServer(ServerConfig config, Function<Object, Object> requestHandler) {
+        try (ServerSocket serverSocket = new ServerSocket(config.getPort());
+             ConnectionExecutor connectionExecutor = ConnectionExecutor.create(config)) {
 
             while (true) {
+                // 한도에 도달했으면 accept 하지 않고 대기 (초과 연결은 OS backlog 에서 대기)
+                connectionExecutor.awaitCapacity();
                 Socket client = serverSocket.accept();
-                new Thread(new ClientHandler(client)).start();
+                // 연결 처리 모드에 맞는 스레드에서 ClientHandler 실행 (한도 초과 시 자리가 날 때까지 대기)
+                connectionExecutor.execute(new ClientHandler(client, config.getMaxInFlight(), requestHandler));
             }
 
         } catch (Exception e) {
@@ -96,6 +217,15 @@ public class ServerMain {
             e.printStackTrace();
         }
     }
-}
-
 
+    // NIO 셀렉터 엔진: 길이 헤더가 붙은 프레임(FrameCodec)으로 요청/응답을 주고받음
+    private static void runNioServer(ServerConfig config, Function<Object, Object> requestHandler) {
+        try (NioServer server = new NioServer(config.getPort(), config.getWorkerThreads(), config.getMaxInFlight(),
+                config.getMaxConnections(), requestHandler)) {
+            server.run();
+        } catch (Exception e) {
+            System.err.println("[FATAL ERROR] NIO 서버 실행 중 문제 발생: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package deu.controller;
+
+/**
+ * 요청 명령의 종류 (읽기 / 쓰기)
+ * - READ : 서버 상태를 바꾸지 않는 조회 명령 → 다른 조회 명령과 동시에 실행해도 안전
+ * - WRITE: 데이터를 추가/수정/삭제하거나 상태를 바꾸는 명령 → 보낸 순서대로 하나씩 실행
+ *
+ * 종류는 각 컨트롤러의 라우팅 표(CommandRoutes)에 명령어를 등록할 때 함께 기록하고,
+ * 요청의 종류는 SystemController.kindOf 로 조회한다.
+ *
+ * ※ "알림 조회"는 안 읽은 알림을 읽음 처리하므로 WRITE 로 등록한다.
+ *    배치 요청은 담긴 요청 중 하나라도 WRITE 이면 WRITE 로 분류한다.
+ *    등록되지 않은 명령(신규 명령 포함)은 안전하게 WRITE 로 취급한다.
+ */
+public enum CommandKind {
+    READ, WRITE
+}
@@ -0,0 +1,169 @@
+package deu.controller;
+
+import deu.model.dto.response.BasicResponse;
+import deu.model.dto.response.LectureListResponse;
+import deu.moniter.LatencyHistogram;
+import deu.moniter.Metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 명령어 → 처리 함수 라우팅 표 (컨트롤러마다 1개, 생성 시 한 번만 구성)
+ * - 요청마다 switch 문으로 문자열을 비교하는 대신 HashMap 조회 1번으로 처리 함수를 찾는다.
+ * - 경로(명령어)별 호출 횟수와 처리 시간을 Metrics 의 "명령 표이름/명령어" 히스토그램에 기록한다.
+ *   (예외, null 결과(데이터 형식 오류 등), 2xx 가 아닌 BasicResponse/LectureListResponse 는 오류로 집계)
+ * - 경로마다 명령 종류(조회 READ / 변경 WRITE)를 등록 시점에 함께 기록한다. (read 로 등록하면 READ, add 는 WRITE)
+ *   수용 제어와 배치 처리는 kindOf 로 이 값을 조회한다. (등록되지 않은 명령은 WRITE)
+ * - 생성된 모든 라우팅 표는 전역 목록에 등록되어 snapshot() 으로 호출 통계를 모아 볼 수 있다.
+ *
+ * @param <R> 컨트롤러 handle 의 반환 타입
+ */
+public class CommandRoutes<R> {
+
+    private static final List<CommandRoutes<?>> registry = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    private final Map<String, Route<R>> routes = new HashMap<>();
+    private final LongAdder misses = new LongAdder();
+
+    public CommandRoutes(String name) {
+        this.name = name;
+        registry.add(this);
+    }
+
+    // 변경(WRITE) 명령어 등록 (payload 를 받아 처리 결과를 반환하는 함수)
+    public CommandRoutes<R> add(String command, Function<Object, ? extends R> handler) {
+        return add(command, CommandKind.WRITE, handler);
+    }
+
+    // 조회(READ) 명령어 등록 - 서버 상태를 바꾸지 않아 다른 조회와 동시에 실행해도 되는 명령만
+    public CommandRoutes<R> read(String command, Function<Object, ? extends R> handler) {
+        return add(command, CommandKind.READ, handler);
+    }
+
+    private CommandRoutes<R> add(String command, CommandKind kind, Function<Object, ? extends R> handler) {
+        routes.put(command, new Route<>(command, kind, handler, Metrics.getInstance().histogram("명령 " + name + "/" + command)));
+        return this;
+    }
+
+    /**
+     * 명령어에 해당하는 경로 조회
+     * @return 등록되지 않은 명령어(또는 null)이면 null
+     */
+    public Route<R> find(String command) {
+        Route<R> route = command != null ? routes.get(command) : null;
+        if (route == null) {
+            misses.increment();
+        }
+        return route;
+    }
+
+    /**
+     * 명령어의 종류 (미등록 명령 집계에는 넣지 않음)
+     * @return 등록되지 않은 명령어(또는 null)이면 WRITE
+     */
+    public CommandKind kindOf(String command) {
+        Route<R> route = command != null ? routes.get(command) : null;
+        return route != null ? route.kind : CommandKind.WRITE;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    // 등록된 명령어별 호출 횟수
+    public Map<String, Long> getCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Route<R> route : routes.values()) {
+            counts.put(route.command, route.getCount());
+        }
+        return counts;
+    }
+
+    // 등록되지 않은 명령어로 들어온 요청 수
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * 전체 라우팅 표의 호출 통계 ("사용자/로그인" → 12 형식, 호출 많은 순)
+     * - 미등록 명령은 "사용자/(알 수 없음)" 으로 합산
+     */
+    public static Map<String, Long> snapshot() {
+        List<Map.Entry<String, Long>> entries = new ArrayList<>();
+        for (CommandRoutes<?> table : registry) {
+            table.getCounts().forEach((command, count) -> entries.add(Map.entry(table.name + "/" + command, count)));
+            if (table.getMisses() > 0) {
+                entries.add(Map.entry(table.name + "/(알 수 없음)", table.getMisses()));
+            }
+        }
+        entries.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : entries) {
+            result.put(entry.getKey(), entry.getValue());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    // 명령어 1개의 처리 경로
+    public static final class Route<R> {
+        private final String command;
+        private final CommandKind kind;
+        private final Function<Object, ? extends R> handler;
+        private final LatencyHistogram latency;
+
+        private Route(String command, CommandKind kind, Function<Object, ? extends R> handler, LatencyHistogram latency) {
+            this.command = command;
+            this.kind = kind;
+            this.handler = handler;
+            this.latency = latency;
+        }
+
+        public R invoke(Object payload) {
+            long start = System.nanoTime();
+            boolean error = true;
+            try {
+                R result = handler.apply(payload);
+                error = isError(result);
+                return result;
+            } finally {
+                latency.record(System.nanoTime() - start, error);
+            }
+        }
+
+        // 처리 결과가 실패인지 (null 은 컨트롤러가 400 등 오류 응답으로 바꾸므로 실패)
+        private static boolean isError(Object result) {
+            if (result == null) {
+                return true;
+            }
+            String code = null;
+            if (result instanceof BasicResponse response) {
+                code = response.code;
+            } else if (result instanceof LectureListResponse response) {
+                code = response.getStatus();
+            }
+            return code != null && !code.startsWith("2");
+        }
+
+        public String getCommand() {
+            return command;
+        }
+
+        public CommandKind getKind() {
+            return kind;
+        }
+
+        public long getCount() {
+            return latency.getCount();
+        }
+    }
+}
@@ -3,6 +3,19 @@ package deu.controller;
 import deu.controller.business.*;
 import deu.model.dto.request.command.*;
 import deu.model.dto.response.BasicResponse;
+import deu.moniter.LatencyHistogram;
+import deu.moniter.Metrics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 /**
  * [Facade Pattern 적용] 시스템의 통합 인터페이스 (System Controller)
@@ -24,8 +37,52 @@ public class SystemController {
     private final ReservationManagementController reservationManagementController = ReservationManagementController.getInstance(); 
     private final NotificationController notificationController = NotificationController.getInstance();
   
+    // 배치 요청 1건에 담을 수 있는 최대 명령 수
+    public static final int MAX_BATCH_SIZE = 64;
+
+    // 배치 안의 조회 명령을 동시에 실행하기 위한 가상 스레드 실행기
+    private static final ExecutorService batchExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("batch-", 0).factory());
+
+    // 요청 타입 → 하위 컨트롤러 위임 함수 (생성 시 한 번만 구성, 요청마다 instanceof 비교 없음)
+    // ※ 위임 함수는 호출 시점의 필드 값을 읽는다.
+    private final Map<Class<?>, Function<Object, Object>> routes = new HashMap<>();
+    // 요청 타입 → 명령 종류(조회/변경) 조회 함수 (하위 컨트롤러 라우팅 표에 등록된 값)
+    private final Map<Class<?>, Function<Object, CommandKind>> kinds = new HashMap<>();
+
     private static final SystemController instance = new SystemController();
-    public SystemController() {}
+    public SystemController() {
+        routes.put(UserCommandRequest.class, r -> userController.handle((UserCommandRequest) r));
+        routes.put(UserManagementCommandRequest.class, r -> userManagementController.handle((UserManagementCommandRequest) r));
+        routes.put(ReservationCommandRequest.class, r -> reservationController.handle((ReservationCommandRequest) r));
+        routes.put(ReservationManagementCommandRequest.class, r -> reservationManagementController.handle((ReservationManagementCommandRequest) r));
+        routes.put(LectureCommandRequest.class, r -> lectureController.handle((LectureCommandRequest) r));
+        routes.put(NotificationCommandRequest.class, r -> notificationController.handle((NotificationCommandRequest) r));
+        // 명령 종류는 생성 시점의 라우팅 표에서 조회 (표는 컨트롤러마다 한 번만 구성되고 바뀌지 않음)
+        CommandRoutes<?> userRoutes = userController.getRoutes();
+        CommandRoutes<?> userManagementRoutes = userManagementController.getRoutes();
+        CommandRoutes<?> reservationRoutes = reservationController.getRoutes();
+        CommandRoutes<?> reservationManagementRoutes = reservationManagementController.getRoutes();
+        CommandRoutes<?> lectureRoutes = lectureController.getRoutes();
+        CommandRoutes<?> notificationRoutes = notificationController.getRoutes();
+        kinds.put(UserCommandRequest.class, r -> userRoutes.kindOf(((UserCommandRequest) r).command));
+        kinds.put(UserManagementCommandRequest.class, r -> userManagementRoutes.kindOf(((UserManagementCommandRequest) r).command));
+        kinds.put(ReservationCommandRequest.class, r -> reservationRoutes.kindOf(((ReservationCommandRequest) r).command));
+        kinds.put(ReservationManagementCommandRequest.class, r -> reservationManagementRoutes.kindOf(((ReservationManagementCommandRequest) r).command));
+        kinds.put(LectureCommandRequest.class, r -> lectureRoutes.kindOf(((LectureCommandRequest) r).getCommand()));
+        kinds.put(NotificationCommandRequest.class, r -> notificationRoutes.kindOf(((NotificationCommandRequest) r).command));
+        kinds.put(BatchCommandRequest.class, r -> batchKind((BatchCommandRequest) r));
+        // 배치 요청 -> 담긴 요청들을 이 퍼사드로 다시 위임 (배치 전체 처리 시간 기록, 개별 명령은 각 라우팅 표에서 기록)
+        LatencyHistogram batchLatency = Metrics.getInstance().histogram("명령 배치");
+        routes.put(BatchCommandRequest.class, r -> {
+            long start = System.nanoTime();
+            try {
+                return handleBatch((BatchCommandRequest) r);
+            } finally {
+                batchLatency.recordSince(start);
+            }
+        });
+    }
     public static SystemController getInstance() { return instance; }
     
     /**
@@ -41,41 +98,100 @@ public class SystemController {
     
     public Object handle(Object request) {
         try {
-            // 사용자 관련 요청 (로그인, 로그아웃 등) -> UserController 위임
-            if (request instanceof UserCommandRequest r) {                
-                return userController.handle(r);
+            // 요청 타입으로 하위 컨트롤러(User, UserManagement, Reservation, ReservationManagement,
+            // Lecture, Notification) 또는 배치 처리로 위임
+            Function<Object, Object> route = request != null ? routes.get(request.getClass()) : null;
+            if (route != null) {
+                return route.apply(request);
             }
 
-            // 사용자 관리(admin) 요청 -> UserManagementController 위임
-            else if (request instanceof UserManagementCommandRequest r) {
-                return userManagementController.handle(r);
-            }
+            return new BasicResponse("405", "지원하지 않는 요청 타입");
+            
+        } catch (Exception e) {
+            e.printStackTrace(); // 로그 출력 (디버깅)
+            return new BasicResponse("500", "서버 처리 중 예외 발생: " + e.getMessage());
+        }
+    }
 
-            // 예약 요청 -> ReservationController 위임
-            else if (request instanceof ReservationCommandRequest r) {
-                return reservationController.handle(r);
-            }
+    /**
+     * 요청의 명령 종류 (수용 제어, 배치 처리에서 사용)
+     * - 요청 타입으로 하위 컨트롤러를 찾고, 그 라우팅 표에 명령어와 함께 등록된 종류를 반환
+     * - 알 수 없는 요청 타입이나 명령어는 안전하게 WRITE
+     */
+    public CommandKind kindOf(Object request) {
+        Function<Object, CommandKind> kind = request != null ? kinds.get(request.getClass()) : null;
+        return kind != null ? kind.apply(request) : CommandKind.WRITE;
+    }
 
-            // 예약 관리 요청 -> ReservationManagementController 위임
-            else if (request instanceof ReservationManagementCommandRequest r) {
-                return reservationManagementController.handle(r);
+    // 배치 요청은 담긴 요청 중 하나라도 WRITE(또는 중첩 배치)이면 WRITE
+    private CommandKind batchKind(BatchCommandRequest batch) {
+        if (batch.requests == null) {
+            return CommandKind.READ;
+        }
+        for (Object inner : batch.requests) {
+            if (inner instanceof BatchCommandRequest || kindOf(inner) == CommandKind.WRITE) {
+                return CommandKind.WRITE;
             }
+        }
+        return CommandKind.READ;
+    }
+
+    /**
+     * 배치 요청 처리
+     * - 연속된 조회(READ) 명령은 동시에 실행하고, 변경(WRITE) 명령은 앞선 명령이 모두 끝난 뒤 순서대로 실행
+     *   (예: [이름 조회, 주간 강의, 주간 예약, 알림 조회] → 앞의 3개 동시 실행 후 알림 조회)
+     * - 각 요청의 응답은 요청과 같은 위치에 담아 BasicResponse("200", List)로 반환
+     */
+    private Object handleBatch(BatchCommandRequest batch) {
+        List<Object> requests = batch.requests;
+        if (requests == null || requests.isEmpty()) {
+            return new BasicResponse("400", "배치 요청이 비어 있습니다.");
+        }
+        if (requests.size() > MAX_BATCH_SIZE) {
+            return new BasicResponse("400", "배치 요청은 최대 " + MAX_BATCH_SIZE + "개까지 가능합니다.");
+        }
 
-            // 강의 요청 -> LectureController 위임
-            else if (request instanceof LectureCommandRequest r) {
-                return lectureController.handle(r);
+        Object[] responses = new Object[requests.size()];
+        List<Integer> readGroup = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests.size(); i++) {
+                Object request = requests.get(i);
+                if (request instanceof BatchCommandRequest) {
+                    responses[i] = new BasicResponse("400", "배치 요청은 중첩할 수 없습니다.");
+                } else if (kindOf(request) == CommandKind.READ) {
+                    readGroup.add(i);
+                } else {
+                    runReadGroup(requests, readGroup, responses);
+                    responses[i] = handle(request);
+                }
             }
-            
-            // 알림 요청 -> NotificationController 위임
-            else if (request instanceof NotificationCommandRequest r) {
-                    return notificationController.handle(r);
+            runReadGroup(requests, readGroup, responses);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new BasicResponse("500", "배치 처리가 중단되었습니다.");
+        }
+
+        return new BasicResponse("200", new ArrayList<>(Arrays.asList(responses)));
+    }
+
+    // 모아 둔 조회 명령들을 동시에 실행 (마지막 1개는 현재 스레드에서 실행)
+    private void runReadGroup(List<Object> requests, List<Integer> group, Object[] responses) throws InterruptedException {
+        List<Future<?>> futures = new ArrayList<>(group.size());
+        for (int j = 0; j < group.size() - 1; j++) {
+            int index = group.get(j);
+            futures.add(batchExecutor.submit(() -> responses[index] = handle(requests.get(index))));
+        }
+        if (!group.isEmpty()) {
+            int last = group.get(group.size() - 1);
+            responses[last] = handle(requests.get(last));
+        }
+        for (int j = 0; j < futures.size(); j++) {
+            try {
+                futures.get(j).get();
+            } catch (ExecutionException e) {
+                responses[group.get(j)] = new BasicResponse("500", "서버 처리 중 예외 발생: " + e.getCause());
             }
-            
-            return new BasicResponse("405", "지원하지 않는 요청 타입");
-            
-        } catch (Exception e) {
-            e.printStackTrace(); // 로그 출력 (디버깅)
-            return new BasicResponse("500", "서버 처리 중 예외 발생: " + e.getMessage());
         }
+        group.clear();
     }
-}
\ No newline at end of file
+}
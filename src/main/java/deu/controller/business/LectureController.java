@@ -1,5 +1,6 @@
 package deu.controller.business;
 
+import deu.controller.CommandRoutes;
 import deu.model.dto.request.command.LectureCommandRequest;
 import deu.model.dto.request.data.lecture.LectureDateRequest;
 import deu.model.dto.request.data.lecture.LectureFilterRequest;
@@ -22,6 +23,18 @@ public class LectureController {
     //[수정] Service(조회용)와 Repository(CUD용)를 둘 다 가짐
     private final LectureService lectureService;
     private final LectureRepository lectureRepository;
+
+    // 명령어 → 처리 함수 (데이터 형식이 맞지 않으면 null 반환 → 400 응답)
+    private final CommandRoutes<BasicResponse> routes = new CommandRoutes<BasicResponse>("강의")
+            // --- [R] 조회 기능 (Service) ---
+            .read("주간 강의 조회", data -> data instanceof LectureRequest req ? (BasicResponse) handleReturnLectureOfWeek(req) : null)
+            .read("월간 강의 조회", data -> data instanceof LectureDateRequest req ? handleReturnLectureOfMonth(req) : null)
+            .read("일간 강의 조회", data -> data instanceof LectureDateRequest req ? handleReturnLectureOfDay(req) : null)
+            .read("강의실 강의 조회", data -> data instanceof LectureFilterRequest req ? (BasicResponse) handleFindLecturesByFilter(req) : null)
+            // --- [CUD] 관리 기능 (Repository) ---
+            .add("강의 추가", data -> data instanceof Lecture req ? handleAddLecture(req) : null)
+            .add("강의 수정", data -> data instanceof Lecture req ? handleUpdateLecture(req) : null)
+            .add("강의 삭제", data -> data instanceof String req ? handleDeleteLecture(req) : null);
     
     private LectureController() {
         // [수정] 생성자에서 인스턴스 할당
@@ -33,6 +46,11 @@ public class LectureController {
         return instance;
     }
     
+    // 명령어 라우팅 표 (명령 종류 조회용)
+    public CommandRoutes<BasicResponse> getRoutes() {
+        return routes;
+    }
+
     /**
      * 클라이언트 요청 분기 처리 (Dispatcher)
      */
@@ -46,45 +64,10 @@ public class LectureController {
                 return new BasicResponse("400", "명령어가 없습니다.");
             }
 
-            switch (command) {
-                // --- [R] 조회 기능 (Service) ---
-                case "주간 강의 조회":
-                    if (data instanceof LectureRequest req) {
-                        return (BasicResponse) handleReturnLectureOfWeek(req);
-                    }
-                    break;
-                case "월간 강의 조회":
-                    if (data instanceof LectureDateRequest req) {
-                        return lectureService.returnLectureOfMonth(req);
-                    }
-                    break;
-                case "일간 강의 조회":
-                    if (data instanceof LectureDateRequest req) {
-                        return lectureService.returnLectureOfDay(req);
-                    }
-                    break;
-                case "강의실 강의 조회": 
-                    if (data instanceof LectureFilterRequest req) {
-                        return (BasicResponse) handleFindLecturesByFilter(req);
-                    }
-                    break;
-
-                // --- [CUD] 관리 기능 (Repository) ---
-                case "강의 추가":
-                    if (data instanceof Lecture req) {
-                        return handleAddLecture(req);
-                    }
-                    break;
-                case "강의 수정":
-                    if (data instanceof Lecture req) {
-                        return handleUpdateLecture(req);
-                    }
-                    break;
-                case "강의 삭제":
-                    if (data instanceof String req) { 
-                        return handleDeleteLecture(req);
-                    }
-                    break;
+            CommandRoutes.Route<BasicResponse> route = routes.find(command);
+            BasicResponse response = route != null ? route.invoke(data) : null;
+            if (response != null) {
+                return response;
             }
         } catch (Exception e) {
             e.printStackTrace();
@@ -8,6 +8,7 @@ package deu.controller.business;
  *
  * @author scq37
  */
+import deu.controller.CommandRoutes;
 import deu.model.dto.request.command.NotificationCommandRequest;
 import deu.model.dto.response.BasicResponse;
 import deu.model.dto.response.NotificationDTO;
@@ -23,8 +24,18 @@ public class NotificationController {
 
     private final NotificationService notificationService = NotificationService.getInstance();
 
+    // 명령어 → 처리 함수 (payload 는 사용자 ID)
+    private final CommandRoutes<BasicResponse> routes = new CommandRoutes<BasicResponse>("알림")
+            .add("알림 조회", userId -> handleGetNotifications((String) userId))
+            .read("알림 전체 조회", userId -> handleGetAllNotifications((String) userId));
+
     private NotificationController() {}
 
+    // 명령어 라우팅 표 (명령 종류 조회용)
+    public CommandRoutes<BasicResponse> getRoutes() {
+        return routes;
+    }
+
     /**
      * [핵심] 클라이언트의 요청 객체(NotificationCommandRequest)를 받아 분기 처리
      * @param request 클라이언트가 보낸 명령 객체
@@ -40,13 +51,11 @@ public class NotificationController {
                  return new BasicResponse("400", "잘못된 데이터 형식입니다. (String ID 필요)");
             }
 
-            String userId = (String) payload;
-
-            return switch (command) {
-                case "알림 조회" -> handleGetNotifications(userId);
-                case "알림 전체 조회" -> handleGetAllNotifications(userId);
-                default -> new BasicResponse("400", "알 수 없는 알림 명령입니다: " + command);
-            };
+            CommandRoutes.Route<BasicResponse> route = routes.find(command);
+            if (route == null) {
+                return new BasicResponse("400", "알 수 없는 알림 명령입니다: " + command);
+            }
+            return route.invoke(payload);
 
         } catch (Exception e) {
             e.printStackTrace();
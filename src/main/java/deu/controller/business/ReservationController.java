@@ -1,7 +1,9 @@
 package deu.controller.business;
 
+import deu.controller.CommandRoutes;
 import deu.model.dto.request.command.ReservationCommandRequest;
 import deu.model.dto.request.data.reservation.DeleteRoomReservationRequest;
+import deu.model.dto.request.data.reservation.RecurringReservationRequest;
 import deu.model.dto.request.data.reservation.RoomReservationLocationRequest;
 import deu.model.dto.request.data.reservation.RoomReservationRequest;
 import deu.model.dto.response.BasicResponse;
@@ -18,11 +20,26 @@ public class ReservationController {
 
     private final ReservationService reservationService = ReservationService.getInstance();
 
+    // 명령어 → 처리 함수 (생성 시 한 번만 구성)
+    private final CommandRoutes<Object> routes = new CommandRoutes<Object>("예약")
+            .add("예약 요청", payload -> handleAddRoomReservation((RoomReservationRequest) payload))
+            .add("반복 예약 요청", payload -> handleAddRecurringReservation((RecurringReservationRequest) payload))
+            .add("예약 수정", payload -> handleModifyRoomReservation((RoomReservationRequest) payload))
+            .add("예약 삭제", payload -> handlDeleteRoomReservation((DeleteRoomReservationRequest) payload))
+            .read("사용자 예약 리스트 조회", payload -> handleUserRoomReservationList((String) payload))
+            .read("사용자 예약 배열 조회", payload -> handleWeekRoomReservationByUserNumber((String) payload))
+            .read("강의실 예약 배열 조회", payload -> handleWeekRoomReservationByLectureroom((RoomReservationLocationRequest) payload));
+
     // 예약 신청
     public BasicResponse handleAddRoomReservation(RoomReservationRequest payload) {
         return reservationService.createRoomReservation(payload);
     }
 
+    // 반복 예약 신청 (매주 같은 요일, 전체 회차 일괄 검사/저장)
+    public BasicResponse handleAddRecurringReservation(RecurringReservationRequest payload) {
+        return reservationService.createRecurringReservation(payload);
+    }
+
     // 개인별 예약 삭제 TODO: String number, String id를 감싸는 DTO 추가 해야됨, number 와 id에 해당하는 예약의 number가 동일하면삭제
     public BasicResponse handlDeleteRoomReservation(DeleteRoomReservationRequest payload) {
         return  reservationService.deleteRoomReservationFromUser(payload);
@@ -38,17 +55,18 @@ public class ReservationController {
         return reservationService.weekRoomReservationByUserNumber(payload);
     }
     
+    // 명령어 라우팅 표 (명령 종류 조회용)
+    public CommandRoutes<Object> getRoutes() {
+        return routes;
+    }
+
     // [추가] 퍼사드로부터 위임받은 요청 처리
     public Object handle(ReservationCommandRequest request) {
-        return switch (request.command) {
-            case "예약 요청" -> handleAddRoomReservation((RoomReservationRequest) request.payload);
-            case "예약 수정" -> handleModifyRoomReservation((RoomReservationRequest) request.payload);
-            case "예약 삭제" -> handlDeleteRoomReservation((DeleteRoomReservationRequest) request.payload);
-            case "사용자 예약 리스트 조회" -> handleUserRoomReservationList((String) request.payload);
-            case "사용자 예약 배열 조회" -> handleWeekRoomReservationByUserNumber((String) request.payload);
-            case "강의실 예약 배열 조회" -> handleWeekRoomReservationByLectureroom((RoomReservationLocationRequest) request.payload);
-            default -> new BasicResponse("404", "알 수 없는 예약 명령어");
-        };
+        CommandRoutes.Route<Object> route = routes.find(request.command);
+        if (route == null) {
+            return new BasicResponse("404", "알 수 없는 예약 명령어");
+        }
+        return route.invoke(request.payload);
     }
 
     // 어래 기능은 관리자에서도 동일하다.=======================================================================================
@@ -1,5 +1,7 @@
 package deu.controller.business;
 
+import deu.controller.CommandRoutes;
+import deu.model.dto.request.data.reservation.BulkReservationRequest;
 import deu.model.dto.request.data.reservation.DeleteRoomReservationRequest;
 import deu.model.dto.request.data.reservation.RoomReservationRequest;
 import deu.model.dto.response.BasicResponse;
@@ -17,6 +19,16 @@ public class ReservationManagementController {
 
     private final ReservationService reservationService = ReservationService.getInstance();
 
+    // 명령어 → 처리 함수 (생성 시 한 번만 구성)
+    private final CommandRoutes<BasicResponse> routes = new CommandRoutes<BasicResponse>("예약 관리")
+            .add("예약 수정", payload -> handleModifyRoomReservation((RoomReservationRequest) payload))
+            .add("예약 삭제", payload -> handleDeleteRoomReservation((DeleteRoomReservationRequest) payload))
+            .add("예약 상태 변경", payload -> handleChangeRoomReservationStatus((String) payload))
+            .add("예약 일괄 승인", payload -> handleApproveRoomReservations((BulkReservationRequest) payload))
+            .add("예약 일괄 삭제", payload -> handleDeleteRoomReservations((BulkReservationRequest) payload))
+            // "예약 대기 전체 조회"는 페이로드(입력값)가 필요 없는 메서드입니다.
+            .read("예약 대기 전체 조회", payload -> handleFindAllRoomReservation());
+
     // 예약 수정
     public BasicResponse handleModifyRoomReservation(RoomReservationRequest payload) {
         return reservationService.modifyRoomReservation(payload);
@@ -32,23 +44,35 @@ public class ReservationManagementController {
         return reservationService.changeRoomReservationStatus(payload);
     }
 
+    // 예약 일괄 승인 (ID 목록 또는 조건), 항목별 결과 반환
+    public BasicResponse handleApproveRoomReservations(BulkReservationRequest payload) {
+        return reservationService.approveRoomReservations(payload);
+    }
+
+    // 관리자 예약 일괄 삭제 (ID 목록 또는 조건), 항목별 결과 반환
+    public BasicResponse handleDeleteRoomReservations(BulkReservationRequest payload) {
+        return reservationService.deleteRoomReservationsFromManagement(payload);
+    }
+
     // 예약 상태가 "대기" 인 모든 예약 내역 반환
     public BasicResponse handleFindAllRoomReservation() {
         return reservationService.findAllRoomReservation();
     }
     
+    // 명령어 라우팅 표 (명령 종류 조회용)
+    public CommandRoutes<BasicResponse> getRoutes() {
+        return routes;
+    }
+
     /**
      * 퍼사드(SystemController)로부터 위임받은 요청을 처리하는 진입점
      */
     public BasicResponse handle(ReservationManagementCommandRequest request) {
-        return switch (request.command) {
-            case "예약 수정" -> handleModifyRoomReservation((RoomReservationRequest) request.payload);
-            case "예약 삭제" -> handleDeleteRoomReservation((DeleteRoomReservationRequest) request.payload);
-            case "예약 상태 변경" -> handleChangeRoomReservationStatus((String) request.payload);
-            // "예약 대기 전체 조회"는 페이로드(입력값)가 필요 없는 메서드입니다.
-            case "예약 대기 전체 조회" -> handleFindAllRoomReservation(); 
-            default -> new BasicResponse("404", "알 수 없는 예약 관리 명령어: " + request.command);
-        };
+        CommandRoutes.Route<BasicResponse> route = routes.find(request.command);
+        if (route == null) {
+            return new BasicResponse("404", "알 수 없는 예약 관리 명령어: " + request.command);
+        }
+        return route.invoke(request.payload);
     }
 
 }
@@ -1,5 +1,6 @@
 package deu.controller.business;
 
+import deu.controller.CommandRoutes;
 import deu.model.dto.request.data.user.FindUserNameRequest;
 import deu.model.dto.response.BasicResponse;
 import deu.model.dto.request.data.user.LoginRequest;
@@ -25,6 +26,14 @@ public class UserController {
     private final UserService userService = UserService.getInstance();
     private final List<String> userNumbers = new ArrayList<>(); // 로그인 사용자 고유번호 저장용
 
+    // 명령어 → 처리 함수 (생성 시 한 번만 구성)
+    private final CommandRoutes<Object> routes = new CommandRoutes<Object>("사용자")
+            .add("로그인", payload -> handleLogin((LoginRequest) payload))
+            .add("회원가입", payload -> handleSignup((SignupRequest) payload))
+            .add("로그아웃", payload -> handleLogout((LogoutRequest) payload))
+            .read("동시접속자", payload -> handleCurrentUser()) // 페이로드 불필요
+            .read("사용자 이름 반환", payload -> handleFindUserName((FindUserNameRequest) payload));
+
     // synchronized 는 이 메서드에 동시에 들어오지 못함: 첫 번째 스레드가 들어오면 락(lock)을 잡고, 다른 스레드들은 락이 풀릴 때까지 대기
     public synchronized Object handleLogin(LoginRequest payload) {
         if (userNumbers.contains(payload.number)) {
@@ -69,15 +78,17 @@ public class UserController {
         return userService.findUserName(payload);
     }
     
+    // 명령어 라우팅 표 (명령 종류 조회용)
+    public CommandRoutes<Object> getRoutes() {
+        return routes;
+    }
+
     //퍼사드(SystemController)로부터 넘어온 요청을 처리하는 진입점
     public Object handle(UserCommandRequest request) {
-        return switch (request.command) {
-            case "로그인" -> handleLogin((LoginRequest) request.payload);
-            case "회원가입" -> handleSignup((SignupRequest) request.payload);
-            case "로그아웃" -> handleLogout((LogoutRequest) request.payload);
-            case "동시접속자" -> handleCurrentUser(); // 페이로드 불필요
-            case "사용자 이름 반환" -> handleFindUserName((FindUserNameRequest) request.payload);
-            default -> new BasicResponse("404", "알 수 없는 사용자 명령어");
-        };
+        CommandRoutes.Route<Object> route = routes.find(request.command);
+        if (route == null) {
+            return new BasicResponse("404", "알 수 없는 사용자 명령어");
+        }
+        return route.invoke(request.payload);
     }
 }
\ No newline at end of file
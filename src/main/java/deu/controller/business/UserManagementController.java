@@ -1,5 +1,6 @@
 package deu.controller.business;
 
+import deu.controller.CommandRoutes;
 import deu.model.dto.request.command.UserManagementCommandRequest;
 import deu.model.dto.request.data.user.*;
 import deu.model.dto.response.BasicResponse;
@@ -17,6 +18,13 @@ public class UserManagementController {
 
     private final UserService userService = UserService.getInstance();
 
+    // 명령어 → 처리 함수 (생성 시 한 번만 구성)
+    private final CommandRoutes<Object> routes = new CommandRoutes<Object>("사용자 관리")
+            .add("사용자 수정", payload -> handleUpdateUser((UserDataModificationRequest) payload))
+            .add("사용자 삭제", payload -> handleDeleteUser((DeleteRequest) payload))
+            .read("사용자 조회", payload -> handleFindUser((FindRequest) payload))
+            .read("전체 사용자 조회", payload -> handleFindAllUsers());
+
     // 사용자 정보 수정 처리
     public Object handleUpdateUser(UserDataModificationRequest payload) {
         return userService.update(payload);
@@ -37,14 +45,17 @@ public class UserManagementController {
         return userService.findAll();
     }
     
+    // 명령어 라우팅 표 (명령 종류 조회용)
+    public CommandRoutes<Object> getRoutes() {
+        return routes;
+    }
+
     //퍼사드로부터 위임받은 요청 처리
     public Object handle(UserManagementCommandRequest request) {
-        return switch (request.command) {
-            case "사용자 수정" -> handleUpdateUser((UserDataModificationRequest) request.payload);
-            case "사용자 삭제" -> handleDeleteUser((DeleteRequest) request.payload);
-            case "사용자 조회" -> handleFindUser((FindRequest) request.payload);
-            case "전체 사용자 조회" -> handleFindAllUsers();
-            default -> new BasicResponse("404", "알 수 없는 사용자 관리 명령어");
-        };
+        CommandRoutes.Route<Object> route = routes.find(request.command);
+        if (route == null) {
+            return new BasicResponse("404", "알 수 없는 사용자 관리 명령어");
+        }
+        return route.invoke(request.payload);
     }
 }
\ No newline at end of file
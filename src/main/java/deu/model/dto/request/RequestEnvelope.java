@@ -0,0 +1,23 @@
+package deu.model.dto.request;
+
+import java.io.Serializable;
+
+/**
+ * 파이프라이닝용 요청 봉투
+ * - 한 연결에서 응답을 기다리지 않고 여러 요청을 연달아 보낼 때 사용한다.
+ * - requestId: 클라이언트가 정하는 요청 번호 (응답의 ResponseEnvelope.requestId 로 그대로 돌아옴)
+ * - request  : 기존 커맨드 요청 객체 (예: UserCommandRequest, NotificationCommandRequest)
+ *
+ * 봉투로 보낸 요청은 서버에서 동시에 처리되므로, 응답은 보낸 순서와 다르게 도착할 수 있다.
+ */
+public class RequestEnvelope implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public long requestId;
+    public Object request;
+
+    public RequestEnvelope(long requestId, Object request) {
+        this.requestId = requestId;
+        this.request = request;
+    }
+}
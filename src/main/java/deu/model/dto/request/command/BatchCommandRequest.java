@@ -0,0 +1,25 @@
+package deu.model.dto.request.command;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * [BatchCommandRequest 클래스]
+ * <p>
+ * 여러 개의 커맨드 요청(UserCommandRequest, LectureCommandRequest 등)을 한 번에 보내기 위한 DTO입니다.
+ * 화면 하나를 그리는 데 필요한 조회 요청들(사용자 이름, 주간 강의, 주간 예약, 알림)을
+ * 왕복 한 번으로 처리할 수 있습니다.
+ * </p>
+ *
+ * <p>응답은 BasicResponse("200", List) 이며, 리스트의 i번째 원소가 requests 의 i번째 요청에 대한 응답입니다.
+ * 연속된 조회 요청은 서버에서 동시에 처리되고, 변경 요청은 보낸 순서대로 처리됩니다.</p>
+ */
+public class BatchCommandRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public List<Object> requests;
+
+    public BatchCommandRequest(List<Object> requests) {
+        this.requests = requests;
+    }
+}
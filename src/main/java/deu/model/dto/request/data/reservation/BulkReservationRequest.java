@@ -0,0 +1,47 @@
+package deu.model.dto.request.data.reservation;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 관리자 예약 일괄 처리 대상 ("예약 일괄 승인" / "예약 일괄 삭제")
+ * - ids 가 있으면 그 예약들만 처리한다. (응답의 i번째 결과 = i번째 ID)
+ * - ids 가 비어 있으면 나머지 조건에 모두 맞는 예약을 처리한다. (비어 있는 조건은 무시, 조건이 하나도 없으면 거절)
+ *   예) status = "대기" 이면 대기 중인 모든 예약
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkReservationRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private List<String> ids;       // 예약 ID 목록
+
+    // --- 조건 (ids 가 비어 있을 때) ---
+    private String status;          // 상태 (예: "대기")
+    private String buildingName;
+    private String floor;
+    private String lectureRoom;
+    private String number;          // 예약자 학번/교번
+    private String fromDate;        // 기간 시작 (yyyy-MM-dd, 포함)
+    private String toDate;          // 기간 끝 (yyyy-MM-dd, 포함)
+
+    public BulkReservationRequest(List<String> ids) {
+        this.ids = ids;
+    }
+
+    public BulkReservationRequest(String status, String buildingName, String floor, String lectureRoom,
+                                  String number, String fromDate, String toDate) {
+        this.status = status;
+        this.buildingName = buildingName;
+        this.floor = floor;
+        this.lectureRoom = lectureRoom;
+        this.number = number;
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+    }
+}
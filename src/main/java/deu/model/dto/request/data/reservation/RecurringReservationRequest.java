@@ -0,0 +1,33 @@
+package deu.model.dto.request.data.reservation;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * 반복 예약 신청 ("반복 예약 요청")
+ * - reservation 의 날짜(date)부터 매주 같은 요일, 같은 강의실/시간으로 예약한다.
+ * - dayOfWeek 를 지정하면 시작 날짜 이후 첫 해당 요일부터 반복한다. (MONDAY ~ SUNDAY, 비우면 시작 날짜의 요일)
+ * - 반복 횟수(occurrences)와 마지막 날짜(untilDate) 중 하나 이상 지정, 둘 다 있으면 먼저 끝나는 쪽까지
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class RecurringReservationRequest implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private RoomReservationRequest reservation; // 첫 회차 기준 예약 (date = 시작 날짜)
+    private String dayOfWeek;                   // 반복 요일 (비우면 시작 날짜의 요일)
+    private int occurrences;                    // 반복 횟수 (0 이면 untilDate 까지)
+    private String untilDate;                   // 마지막 날짜 (yyyy-MM-dd, 포함)
+
+    public RecurringReservationRequest(RoomReservationRequest reservation, String dayOfWeek,
+                                       int occurrences, String untilDate) {
+        this.reservation = reservation;
+        this.dayOfWeek = dayOfWeek;
+        this.occurrences = occurrences;
+        this.untilDate = untilDate;
+    }
+}
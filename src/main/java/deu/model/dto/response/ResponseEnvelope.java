@@ -0,0 +1,20 @@
+package deu.model.dto.response;
+
+import java.io.Serializable;
+
+/**
+ * 파이프라이닝용 응답 봉투
+ * - requestId: 이 응답에 해당하는 RequestEnvelope 의 요청 번호
+ * - response : 요청 처리 결과 (기존 응답 객체 그대로)
+ */
+public class ResponseEnvelope implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    public long requestId;
+    public Object response;
+
+    public ResponseEnvelope(long requestId, Object response) {
+        this.requestId = requestId;
+        this.response = response;
+    }
+}
@@ -0,0 +1,256 @@
+package deu.moniter;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 비동기 로그 기록기 (LogManager 의 상태 객체들이 사용)
+ * - 요청 스레드는 로그 이벤트(시각, 수준, 메시지)를 링 버퍼에 넣기만 하고 바로 돌아간다.
+ *   시각 문자열 변환, 콘솔 출력, 파일 쓰기는 모두 기록 스레드(log-writer)에서 한다.
+ * - 기록 스레드는 쌓인 로그를 한 번에 모아 콘솔/파일에 쓴다. (출력 1회 = 로그 여러 줄)
+ * - 파일이 maxBytes 를 넘으면 server.log → server.log.1 → ... → server.log.{maxFiles} 순으로 밀어낸다.
+ * - 버퍼가 가득 차면 로그를 버리고 개수를 센다. 버린 로그가 생기면 다음 기록 때 그 수를 함께 남긴다.
+ *
+ * 설정 (JVM -D 옵션)
+ * server.logFile     : 로그 파일 경로, 빈 값이면 파일 기록 안 함 (기본 logs/server.log)
+ * server.logMaxBytes : 파일 1개 최대 크기 (기본 10MB)
+ * server.logMaxFiles : 보관할 이전 파일 수 (기본 5)
+ * server.logBuffer   : 링 버퍼 크기 (기본 8192)
+ */
+public class AsyncLogWriter {
+
+    private static final DateTimeFormatter CONSOLE_TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+    private static final int BATCH_SIZE = 512;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private static final AsyncLogWriter instance = createDefault();
+
+    // 로그 1건 (문자열 변환 전 원본)
+    private static final class LogEvent {
+        final long timeMillis;
+        final String level;     // DEBUG, INFO, ERROR ...
+        final boolean timestamped; // 콘솔에 시각 표시 여부 (상세 모드)
+        final String message;
+
+        LogEvent(long timeMillis, String level, boolean timestamped, String message) {
+            this.timeMillis = timeMillis;
+            this.level = level;
+            this.timestamped = timestamped;
+            this.message = message;
+        }
+    }
+
+    private final LogRingBuffer<LogEvent> buffer;
+    private final PrintStream console;
+    private final File file;
+    private final long maxBytes;
+    private final int maxFiles;
+
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile long written;      // 기록 스레드가 처리한 수 (appended 와 같아지면 모두 기록됨)
+    private volatile long reportedDropped; // 기록 스레드가 보고한 버린 로그 수
+    private OutputStream fileOut;       // 기록 스레드 전용
+    private long fileSize;              // 기록 스레드 전용
+    private volatile Thread writerThread;
+
+    /**
+     * @param filePath null 또는 빈 값이면 파일에 기록하지 않음
+     */
+    public AsyncLogWriter(int capacity, PrintStream console, String filePath, long maxBytes, int maxFiles) {
+        this.buffer = new LogRingBuffer<>(capacity);
+        this.console = console;
+        this.file = filePath == null || filePath.isBlank() ? null : new File(filePath);
+        this.maxBytes = Math.max(1024, maxBytes);
+        this.maxFiles = Math.max(1, maxFiles);
+    }
+
+    private static AsyncLogWriter createDefault() {
+        String defaultFile = System.getProperty("user.dir") + File.separator + "logs" + File.separator + "server.log";
+        AsyncLogWriter writer = new AsyncLogWriter(
+                Integer.getInteger("server.logBuffer", 8192),
+                System.out,
+                System.getProperty("server.logFile", defaultFile),
+                Long.getLong("server.logMaxBytes", 10L * 1024 * 1024),
+                Integer.getInteger("server.logMaxFiles", 5));
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> writer.flush(1000), "log-flush"));
+        return writer;
+    }
+
+    public static AsyncLogWriter getInstance() {
+        return instance;
+    }
+
+    // 기록 스레드 시작 (이미 시작했으면 무시)
+    public synchronized void start() {
+        if (writerThread != null) {
+            return;
+        }
+        Thread thread = new Thread(this::drainLoop, "log-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
+
+    /**
+     * 로그 1건 추가 (요청 스레드에서 호출, 대기 없음)
+     * @return 버퍼가 가득 차 버려졌으면 false
+     */
+    public boolean append(String level, boolean timestamped, String message) {
+        if (!buffer.offer(new LogEvent(System.currentTimeMillis(), level, timestamped, message))) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        appended.incrementAndGet();
+        return true;
+    }
+
+    // 버퍼가 가득 차 버려진 로그 수 (누적)
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // 아직 기록되지 않은 로그 수
+    public long getPendingCount() {
+        return appended.get() - written;
+    }
+
+    /**
+     * 지금까지 추가된 로그가 모두 기록될 때까지 대기
+     * @return 제한 시간 안에 모두 기록되면 true
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = appended.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (written < target || dropped.get() > reportedDropped) {
+            if (writerThread == null || System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(100_000);
+        }
+        return true;
+    }
+
+    private void drainLoop() {
+        StringBuilder consoleText = new StringBuilder();
+        StringBuilder fileText = new StringBuilder();
+        while (true) {
+            int count = 0;
+            LogEvent event;
+            while (count < BATCH_SIZE && (event = buffer.poll()) != null) {
+                format(event, consoleText, fileText);
+                count++;
+            }
+
+            long droppedNow = dropped.get();
+            if (droppedNow > reportedDropped) {
+                String notice = "[LOG] 로그 버퍼가 가득 차 " + (droppedNow - reportedDropped)
+                        + "건의 로그를 버렸습니다. (누적 " + droppedNow + "건)";
+                format(new LogEvent(System.currentTimeMillis(), "WARN", false, notice), consoleText, fileText);
+                reportedDropped = droppedNow;
+            }
+
+            if (consoleText.length() > 0 || fileText.length() > 0) {
+                writeBatch(consoleText, fileText);
+                consoleText.setLength(0);
+                fileText.setLength(0);
+            }
+            written += count;
+
+            if (count == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    private void format(LogEvent event, StringBuilder consoleText, StringBuilder fileText) {
+        LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochMilli(event.timeMillis), ZoneId.systemDefault());
+        if (console != null) {
+            if (event.timestamped) {
+                consoleText.append('[').append(event.level).append(' ').append(CONSOLE_TIME.format(time)).append("] ");
+            } else {
+                consoleText.append(' ');
+            }
+            consoleText.append(event.message).append(System.lineSeparator());
+        }
+        if (file != null) {
+            fileText.append(FILE_TIME.format(time)).append(' ').append(event.level).append(' ')
+                    .append(event.message).append(System.lineSeparator());
+        }
+    }
+
+    private void writeBatch(CharSequence consoleText, CharSequence fileText) {
+        if (console != null && consoleText.length() > 0) {
+            console.print(consoleText);
+            console.flush();
+        }
+        if (file != null && fileText.length() > 0) {
+            byte[] bytes = fileText.toString().getBytes(StandardCharsets.UTF_8);
+            try {
+                if (fileOut != null && fileSize + bytes.length > maxBytes) {
+                    rotate();
+                }
+                if (fileOut == null) {
+                    open();
+                }
+                fileOut.write(bytes);
+                fileOut.flush();
+                fileSize += bytes.length;
+            } catch (IOException e) {
+                if (console != null) {
+                    console.println(" [ERROR] 로그 파일 기록 실패: " + e.getMessage());
+                }
+                closeQuietly();
+            }
+        }
+    }
+
+    private void open() throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        fileOut = new FileOutputStream(file, true);
+        fileSize = file.length();
+    }
+
+    // server.log → server.log.1 → ... (가장 오래된 파일은 삭제)
+    private void rotate() throws IOException {
+        closeQuietly();
+        File oldest = new File(file.getPath() + "." + maxFiles);
+        if (oldest.exists() && !oldest.delete()) {
+            throw new IOException("이전 로그 파일 삭제 실패: " + oldest);
+        }
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            File from = new File(file.getPath() + "." + i);
+            if (from.exists()) {
+                from.renameTo(new File(file.getPath() + "." + (i + 1)));
+            }
+        }
+        file.renameTo(new File(file.getPath() + ".1"));
+    }
+
+    private void closeQuietly() {
+        if (fileOut != null) {
+            try {
+                fileOut.close();
+            } catch (IOException ignored) {
+            }
+            fileOut = null;
+        }
+    }
+}
@@ -9,8 +9,6 @@ package deu.moniter;
  * @author scq37
  */
 
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import deu.model.dto.request.command.UserCommandRequest;
 
 //ConcreteState(구체적 상태) - 실제 동작(로깅 여부 판단, 필터링)을 수행하는 곳. 여기에 if문이 있어야 
@@ -46,18 +44,26 @@ public class DebugState implements ServerState {
             }
         }
 
-        // (3) 소음이 아닐 때만 출력
+        // (3) 소음이 아닐 때만 출력 (시각 변환/출력은 기록 스레드에서)
         if (!isNoise) {
-            String time = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-            System.out.println("[DEBUG " + time + "] [요청 처리] " + clientIP + " : " + logType);
+            AsyncLogWriter.getInstance().append("DEBUG", true, "[요청 처리] " + clientIP + " : " + logType);
         }
     }
     
     @Override
     public void log(String message){
         // 시간 정보를 포함해서 모든 로그 출력
-        String time = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
-        System.out.println("[DEBUG " + time + "] " + message);
+        AsyncLogWriter.getInstance().append("DEBUG", true, message);
     }
-    
+
+    @Override
+    public void logAdmission(String message) {
+        AsyncLogWriter.getInstance().append("DEBUG", true, "[부하 제어] " + message + " | " + LogManager.getAdmissionStatus());
+    }
+
+    @Override
+    public boolean isVerbose() {
+        return true;
+    }
+
 }
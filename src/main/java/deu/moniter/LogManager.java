@@ -4,6 +4,8 @@
  */
 package deu.moniter;
 
+import java.util.function.Supplier;
+
 /**
  *
  * @author scq37
@@ -11,7 +13,11 @@ package deu.moniter;
 //Context 에 해당
 //관리자 모드
 public class LogManager {
-    private static ServerState state = new NormalState(); // 기본값
+    private static volatile ServerState state = new NormalState(); // 기본값
+
+    // 부하 제어(Admission) 현재 상태 조회 (서버 실행 시 AdmissionControl 이 등록)
+    private static final Supplier<String> NO_ADMISSION = () -> "부하 제어 미사용";
+    private static volatile Supplier<String> admissionStatus = NO_ADMISSION;
 
     public static void setState(ServerState newState) {
         state = newState;
@@ -26,4 +32,32 @@ public class LogManager {
     public static void log(String message) {
         state.log(message);
     }
+
+    // 상세 로그 (상세 모드가 아니면 메시지 문자열을 만들지 않음)
+    public static void debug(Supplier<String> message) {
+        ServerState current = state;
+        if (current.isVerbose()) {
+            current.log(message.get());
+        }
+    }
+
+    // 로그 버퍼가 가득 차 버려진 로그 수 (누적)
+    public static long getDroppedCount() {
+        return AsyncLogWriter.getInstance().getDroppedCount();
+    }
+
+    // 부하 제어 상태 변화 기록 (거절 시작/해제)
+    public static void logAdmission(String message) {
+        state.logAdmission(message);
+    }
+
+    // 부하 제어 상태 공급자 등록 (null 이면 미사용으로 되돌림)
+    public static void setAdmissionStatus(Supplier<String> supplier) {
+        admissionStatus = supplier != null ? supplier : NO_ADMISSION;
+    }
+
+    // 현재 부하 제어 상태 (실행 중/대기 중/거절 수)
+    public static String getAdmissionStatus() {
+        return admissionStatus.get();
+    }
 }
@@ -0,0 +1,71 @@
+package deu.moniter;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 잠금 없는(lock-free) 로그 링 버퍼 (여러 생산자 → 기록 스레드 1개)
+ * - 칸마다 순번(sequence)을 두어, 생산자는 CAS 로 자리를 잡고 값을 넣은 뒤 순번을 올려 공개한다.
+ * - 가득 차면 기다리지 않고 false 를 반환한다. (요청 스레드가 로그 때문에 멈추지 않도록)
+ * - poll() 은 기록 스레드 1개에서만 호출해야 한다.
+ */
+class LogRingBuffer<T> {
+
+    private final Object[] items;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 위치 (생산자 공유)
+    private long head;                                 // 다음에 꺼낼 위치 (기록 스레드 전용)
+
+    LogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1; // 2의 거듭제곱으로 올림
+        this.items = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(T item) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    items[index] = item;
+                    sequences.lazySet(index, position + 1); // 값 공개
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false; // 가득 참
+            } else {
+                position = tail.get(); // 다른 생산자가 먼저 가져감
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    T poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) {
+            return null; // 비어 있음 (또는 아직 공개 전)
+        }
+        T item = (T) items[index];
+        items[index] = null;
+        sequences.lazySet(index, head + items.length); // 다음 바퀴에서 다시 사용
+        head++;
+        return item;
+    }
+
+    // 꺼내지 않은 항목 수 (대략값)
+    int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    int capacity() {
+        return items.length;
+    }
+}
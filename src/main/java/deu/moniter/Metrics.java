@@ -0,0 +1,136 @@
+package deu.moniter;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 성능 지표 저장소 (싱글톤)
+ * - 이름별 LatencyHistogram 을 보관한다.
+ *   "명령 예약/예약 요청" : SystemController 가 라우팅한 명령 처리 시간 (CommandRoutes 에서 기록)
+ *   "저장소 예약 파일 저장" : 저장소 파일 저장/스캔 시간 (각 Repository 에서 기록)
+ * - report() 로 건수, 오류, 처리량, p50/p95/p99/max 표를 만들고,
+ *   startDump() 로 일정 간격마다 파일에 이어 쓴다.
+ */
+public class Metrics {
+
+    private static final Metrics instance = new Metrics();
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private volatile long startedAt = System.nanoTime();
+    private ScheduledExecutorService dumper;
+
+    private Metrics() {}
+
+    public static Metrics getInstance() {
+        return instance;
+    }
+
+    // 이름에 해당하는 히스토그램 (없으면 생성)
+    public LatencyHistogram histogram(String name) {
+        return histograms.computeIfAbsent(name, LatencyHistogram::new);
+    }
+
+    public List<LatencyHistogram> getHistograms() {
+        List<LatencyHistogram> list = new ArrayList<>(histograms.values());
+        list.sort(Comparator.comparing(LatencyHistogram::getName));
+        return list;
+    }
+
+    // 모든 지표 초기화 (처리량 기준 시각도 다시 시작)
+    public void reset() {
+        for (LatencyHistogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+        startedAt = System.nanoTime();
+    }
+
+    /**
+     * 지표 표 (기록이 있는 항목만, 이름순)
+     * - 처리량은 마지막 초기화 이후 평균 (건/초)
+     */
+    public String report() {
+        double elapsedSeconds = Math.max(1e-9, (System.nanoTime() - startedAt) / 1e9);
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== 성능 지표 (측정 %d초) ===%n", (long) elapsedSeconds));
+        sb.append(String.format("%-28s %8s %6s %9s %9s %9s %9s %9s%n",
+                "이름", "건수", "오류", "처리량/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+
+        boolean empty = true;
+        for (LatencyHistogram h : getHistograms()) {
+            long count = h.getCount();
+            if (count == 0) {
+                continue;
+            }
+            empty = false;
+            sb.append(String.format("%-28s %8d %6d %9.2f %9.3f %9.3f %9.3f %9.3f%n",
+                    h.getName(), count, h.getErrors(), count / elapsedSeconds,
+                    millis(h.percentile(0.50)), millis(h.percentile(0.95)),
+                    millis(h.percentile(0.99)), millis(h.getMaxNanos())));
+        }
+        if (empty) {
+            sb.append("(기록 없음)").append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 주기적으로 지표 표를 파일 끝에 추가 (데몬 스레드, 이미 실행 중이면 기존 작업을 교체)
+     * @param intervalSeconds 0 이하이면 실행하지 않음
+     */
+    public synchronized void startDump(String filePath, long intervalSeconds) {
+        stopDump();
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        dumper = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "metrics-dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumper.scheduleAtFixedRate(() -> dumpTo(filePath), intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    public synchronized void stopDump() {
+        if (dumper != null) {
+            dumper.shutdownNow();
+            dumper = null;
+        }
+    }
+
+    // 현재 지표 표를 파일 끝에 추가
+    public void dumpTo(String filePath) {
+        File file = new File(filePath);
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        try (Writer writer = new FileWriter(file, StandardCharsets.UTF_8, true)) {
+            writer.write("[" + LocalDateTime.now().format(TIME_FORMAT) + "]" + System.lineSeparator());
+            writer.write(report());
+            writer.write("부하 제어: " + LogManager.getAdmissionStatus() + System.lineSeparator());
+            writer.write("버려진 로그: " + LogManager.getDroppedCount() + "건" + System.lineSeparator());
+            writer.write(System.lineSeparator());
+        } catch (IOException e) {
+            LogManager.log("[ERROR] 성능 지표 파일 저장 실패: " + e.getMessage());
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -22,7 +22,13 @@ public class NormalState implements ServerState {
     public void log(String message){
         //[ERRor] 태그가 붙은 중요 매시지만 출력
         if (message.startsWith("[ERROR]") || message.contains("Exception")) {
-            System.out.println(" " + message);
+            AsyncLogWriter.getInstance().append("ERROR", false, message);
         }
     }
+
+    @Override
+    public void logAdmission(String message) {
+        // 요청 거절 시작/해제는 운영에 중요한 정보이므로 일반 모드에서도 출력
+        AsyncLogWriter.getInstance().append("WARN", false, "[ADMISSION] " + message);
+    }
 }
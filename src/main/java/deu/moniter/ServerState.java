@@ -15,4 +15,12 @@ public interface ServerState {
     void logRequest(String clientIP, Object request);
     
     void log(String message);
+
+    // 부하 제어(Admission) 상태 변화 (요청 거절 시작/해제 등)
+    void logAdmission(String message);
+
+    // 상세 로그(저장 완료 등)를 남기는 상태인지 (false 이면 LogManager.debug 의 메시지를 만들지도 않음)
+    default boolean isVerbose() {
+        return false;
+    }
 }
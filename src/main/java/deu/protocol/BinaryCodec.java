@@ -0,0 +1,579 @@
+package deu.protocol;
+
+import deu.model.dto.request.RequestEnvelope;
+import deu.model.dto.request.command.*;
+import deu.model.dto.request.data.lecture.LectureDateRequest;
+import deu.model.dto.request.data.lecture.LectureFilterRequest;
+import deu.model.dto.request.data.lecture.LectureRequest;
+import deu.model.dto.request.data.reservation.AccompanyingStudent;
+import deu.model.dto.request.data.reservation.BulkReservationRequest;
+import deu.model.dto.request.data.reservation.DeleteRoomReservationRequest;
+import deu.model.dto.request.data.reservation.RecurringReservationRequest;
+import deu.model.dto.request.data.reservation.RoomReservationLocationRequest;
+import deu.model.dto.request.data.reservation.RoomReservationRequest;
+import deu.model.dto.request.data.user.*;
+import deu.model.dto.response.BasicResponse;
+import deu.model.dto.response.CurrentResponse;
+import deu.model.dto.response.LectureListResponse;
+import deu.model.dto.response.NotificationDTO;
+import deu.model.dto.response.ResponseEnvelope;
+import deu.model.entity.Lecture;
+import deu.model.entity.RoomReservation;
+import deu.model.entity.User;
+import deu.model.enums.Semester;
+
+import java.io.*;
+import java.lang.reflect.Array;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청/응답 객체의 바이너리 인코딩 (직접 작성한 코덱)
+ * - 모든 값은 [1바이트 타입 태그][내용] 으로 기록된다.
+ * - DTO 필드는 선언 순서대로 태그 없이 기록하고, Object 타입 필드(payload, data)만 태그를 붙인다.
+ * - 태그가 없는 타입은 보내지 않는다. (쓰기는 NotSerializableException, 읽기는 IOException)
+ * - 읽을 때 잘못된 입력(모르는 태그, 필드 타입 불일치, MAX_DEPTH 를 넘는 중첩)은 모두 IOException 이다.
+ *   Java 직렬화로 감싸 보내던 방식(예전 9번 태그)은 임의 클래스를 역직렬화할 수 있어 없앴다.
+ *
+ * ※ 태그 번호와 필드 순서는 프로토콜의 일부이므로 바꾸지 말고, 새 타입은 새 번호로 추가할 것
+ */
+public final class BinaryCodec {
+
+    // --- 기본 타입 ---
+    static final int TAG_NULL = 0;
+    static final int TAG_STRING = 1;
+    static final int TAG_INT = 2;
+    static final int TAG_LONG = 3;
+    static final int TAG_TRUE = 4;
+    static final int TAG_FALSE = 5;
+    static final int TAG_DATE = 6;
+    static final int TAG_LIST = 7;
+    static final int TAG_ARRAY = 8;
+    // 9: 예전 Java 직렬화 감싸기 (더 이상 받지 않음, 번호 재사용 금지)
+    static final int TAG_MAP = 10;
+
+    // --- 커맨드 요청 ---
+    static final int TAG_USER_COMMAND = 20;
+    static final int TAG_USER_MANAGEMENT_COMMAND = 21;
+    static final int TAG_RESERVATION_COMMAND = 22;
+    static final int TAG_RESERVATION_MANAGEMENT_COMMAND = 23;
+    static final int TAG_LECTURE_COMMAND = 24;
+    static final int TAG_NOTIFICATION_COMMAND = 25;
+    static final int TAG_REQUEST_ENVELOPE = 26;
+    static final int TAG_BATCH_COMMAND = 27;
+
+    // --- 요청 데이터 ---
+    static final int TAG_LOGIN = 30;
+    static final int TAG_LOGOUT = 31;
+    static final int TAG_SIGNUP = 32;
+    static final int TAG_FIND_USER_NAME = 33;
+    static final int TAG_USER_MODIFICATION = 34;
+    static final int TAG_USER_DELETE = 35;
+    static final int TAG_USER_EXISTS = 36;
+    static final int TAG_USER_FIND = 37;
+    static final int TAG_LECTURE_REQUEST = 38;
+    static final int TAG_LECTURE_DATE = 39;
+    static final int TAG_LECTURE_FILTER = 40;
+    static final int TAG_RESERVATION_LOCATION = 41;
+    static final int TAG_RESERVATION_REQUEST = 42;
+    static final int TAG_RESERVATION_DELETE = 43;
+    static final int TAG_ACCOMPANYING_STUDENT = 44;
+    static final int TAG_RESERVATION_RECURRING = 45;
+    static final int TAG_RESERVATION_BULK = 46;
+
+    // --- 응답 / 엔티티 ---
+    static final int TAG_BASIC_RESPONSE = 60;
+    static final int TAG_CURRENT_RESPONSE = 61;
+    static final int TAG_LECTURE_LIST_RESPONSE = 62;
+    static final int TAG_NOTIFICATION = 63;
+    static final int TAG_ROOM_RESERVATION = 64;
+    static final int TAG_LECTURE = 65;
+    static final int TAG_USER = 66;
+    static final int TAG_RESPONSE_ENVELOPE = 67;
+
+    // 읽을 때 허용하는 중첩 깊이 (실제 요청/응답은 10단계 안쪽, 악의적인 깊은 중첩으로 스택이 넘치지 않도록)
+    static final int MAX_DEPTH = 32;
+
+    private BinaryCodec() {}
+
+    public static byte[] encode(Object value) throws IOException {
+        BinaryWriter out = new BinaryWriter();
+        writeValue(out, value);
+        return out.toByteArray();
+    }
+
+    public static Object decode(byte[] bytes) throws IOException {
+        return readValue(new BinaryReader(bytes));
+    }
+
+    // ===================================================================
+    // 쓰기
+    // ===================================================================
+
+    public static void writeValue(BinaryWriter out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof String s) {
+            out.writeByte(TAG_STRING);
+            out.writeString(s);
+        } else if (value instanceof Integer i) {
+            out.writeByte(TAG_INT);
+            out.writeSignedVarInt(i);
+        } else if (value instanceof Long l) {
+            out.writeByte(TAG_LONG);
+            out.writeSignedVarLong(l);
+        } else if (value instanceof Boolean b) {
+            out.writeByte(b ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof LocalDate d) {
+            out.writeByte(TAG_DATE);
+            out.writeSignedVarLong(d.toEpochDay());
+        } else if (value instanceof List<?> list) {
+            out.writeByte(TAG_LIST);
+            out.writeVarInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(TAG_MAP);
+            out.writeVarInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else if (value instanceof Object[] array && arrayBaseTag(array.getClass()) >= 0) {
+            writeArray(out, array);
+        } else if (!writeDto(out, value)) {
+            throw new NotSerializableException("태그가 없는 타입: " + value.getClass().getName());
+        }
+    }
+
+    /**
+     * 배열: [TAG_ARRAY][차원 수][기본 타입 태그][길이][원소...]
+     * - 주간 시간표(RoomReservation[7][13], Lecture[7][13])처럼 대부분 비어 있는 배열은 null 이 1바이트로 기록된다.
+     */
+    private static void writeArray(BinaryWriter out, Object[] array) throws IOException {
+        Class<?> type = array.getClass();
+        int dimensions = 0;
+        while (type.isArray()) {
+            dimensions++;
+            type = type.getComponentType();
+        }
+        out.writeByte(TAG_ARRAY);
+        out.writeVarInt(dimensions);
+        out.writeByte(arrayBaseTag(array.getClass()));
+        out.writeVarInt(array.length);
+        for (Object element : array) {
+            writeValue(out, element);
+        }
+    }
+
+    private static boolean writeDto(BinaryWriter out, Object value) throws IOException {
+        // --- 커맨드 요청 (command + payload) ---
+        if (value instanceof UserCommandRequest r) {
+            writeCommand(out, TAG_USER_COMMAND, r.command, r.payload);
+        } else if (value instanceof UserManagementCommandRequest r) {
+            writeCommand(out, TAG_USER_MANAGEMENT_COMMAND, r.command, r.payload);
+        } else if (value instanceof ReservationCommandRequest r) {
+            writeCommand(out, TAG_RESERVATION_COMMAND, r.command, r.payload);
+        } else if (value instanceof ReservationManagementCommandRequest r) {
+            writeCommand(out, TAG_RESERVATION_MANAGEMENT_COMMAND, r.command, r.payload);
+        } else if (value instanceof LectureCommandRequest r) {
+            writeCommand(out, TAG_LECTURE_COMMAND, r.getCommand(), r.getPayload());
+        } else if (value instanceof NotificationCommandRequest r) {
+            writeCommand(out, TAG_NOTIFICATION_COMMAND, r.command, r.payload);
+        } else if (value instanceof RequestEnvelope e) {
+            out.writeByte(TAG_REQUEST_ENVELOPE);
+            out.writeVarLong(e.requestId);
+            writeValue(out, e.request);
+        } else if (value instanceof BatchCommandRequest b) {
+            out.writeByte(TAG_BATCH_COMMAND);
+            writeValue(out, b.requests);
+        }
+
+        // --- 사용자 요청 데이터 ---
+        else if (value instanceof LoginRequest r) {
+            writeStrings(out, TAG_LOGIN, r.number, r.password);
+        } else if (value instanceof LogoutRequest r) {
+            writeStrings(out, TAG_LOGOUT, r.number, r.password);
+        } else if (value instanceof FindUserNameRequest r) {
+            writeStrings(out, TAG_FIND_USER_NAME, r.number, r.password);
+        } else if (value instanceof SignupRequest r) {
+            writeStrings(out, TAG_SIGNUP, r.number, r.password, r.name, r.major);
+        } else if (value instanceof UserDataModificationRequest r) {
+            writeStrings(out, TAG_USER_MODIFICATION, r.number, r.password, r.name, r.major);
+        } else if (value instanceof DeleteRequest r) {
+            writeStrings(out, TAG_USER_DELETE, r.number);
+        } else if (value instanceof ExistsRequest r) {
+            writeStrings(out, TAG_USER_EXISTS, r.number);
+        } else if (value instanceof FindRequest r) {
+            writeStrings(out, TAG_USER_FIND, r.number);
+        }
+
+        // --- 강의 요청 데이터 ---
+        else if (value instanceof LectureRequest r) {
+            writeStrings(out, TAG_LECTURE_REQUEST, r.building, r.floor, r.lectureroom);
+        } else if (value instanceof LectureDateRequest r) {
+            writeStrings(out, TAG_LECTURE_DATE, r.getBuilding(), r.getFloor(), r.getLectureroom());
+            writeValue(out, r.getTargetDate());
+        } else if (value instanceof LectureFilterRequest r) {
+            out.writeByte(TAG_LECTURE_FILTER);
+            writeValue(out, r.getYear());
+            out.writeString(r.getSemester());
+            out.writeString(r.getBuilding());
+            out.writeString(r.getFloor());
+            out.writeString(r.getLectureroom());
+        }
+
+        // --- 예약 요청 데이터 ---
+        else if (value instanceof RoomReservationLocationRequest r) {
+            writeStrings(out, TAG_RESERVATION_LOCATION, r.building, r.floor, r.lectureroom);
+        } else if (value instanceof RoomReservationRequest r) {
+            writeStrings(out, TAG_RESERVATION_REQUEST, r.getId(), r.getBuildingName(), r.getFloor(), r.getLectureRoom(),
+                    r.getTitle(), r.getDescription(), r.getDate(), r.getDayOfTheWeek(), r.getStartTime(), r.getEndTime(),
+                    r.getNumber(), r.getStatus(), r.getPurpose());
+            out.writeSignedVarInt(r.getAccompanyingStudentCount());
+            writeValue(out, r.getAccompanyingStudents());
+        } else if (value instanceof DeleteRoomReservationRequest r) {
+            writeStrings(out, TAG_RESERVATION_DELETE, r.getNumber(), r.getRoomReservationId(), r.getReason());
+        } else if (value instanceof AccompanyingStudent s) {
+            writeStrings(out, TAG_ACCOMPANYING_STUDENT, s.getStudentId(), s.getName());
+        } else if (value instanceof RecurringReservationRequest r) {
+            out.writeByte(TAG_RESERVATION_RECURRING);
+            writeValue(out, r.getReservation());
+            out.writeString(r.getDayOfWeek());
+            out.writeSignedVarInt(r.getOccurrences());
+            out.writeString(r.getUntilDate());
+        } else if (value instanceof BulkReservationRequest r) {
+            out.writeByte(TAG_RESERVATION_BULK);
+            writeValue(out, r.getIds());
+            out.writeString(r.getStatus());
+            out.writeString(r.getBuildingName());
+            out.writeString(r.getFloor());
+            out.writeString(r.getLectureRoom());
+            out.writeString(r.getNumber());
+            out.writeString(r.getFromDate());
+            out.writeString(r.getToDate());
+        }
+
+        // --- 응답 / 엔티티 ---
+        else if (value instanceof BasicResponse r) {
+            writeStrings(out, TAG_BASIC_RESPONSE, r.code);
+            writeValue(out, r.data);
+        } else if (value instanceof CurrentResponse r) {
+            out.writeByte(TAG_CURRENT_RESPONSE);
+            out.writeSignedVarInt(r.currentUserCount);
+        } else if (value instanceof LectureListResponse r) {
+            writeStrings(out, TAG_LECTURE_LIST_RESPONSE, r.getStatus(), r.getMessage());
+            writeValue(out, r.getLectures());
+            writeValue(out, r.getTotalCount());
+            writeValue(out, r.getYear());
+            out.writeString(r.getSemester());
+            out.writeString(r.getBuilding());
+            out.writeString(r.getFloor());
+            out.writeString(r.getLectureroom());
+        } else if (value instanceof NotificationDTO n) {
+            writeStrings(out, TAG_NOTIFICATION, n.getTitle(), n.getMessage());
+            out.writeSignedVarLong(n.getTimestamp());
+            out.writeBoolean(n.isRead());
+        } else if (value instanceof RoomReservation r) {
+            writeStrings(out, TAG_ROOM_RESERVATION, r.getId(), r.getBuildingName(), r.getFloor(), r.getLectureRoom(),
+                    r.getNumber(), r.getStatus(), r.getTitle(), r.getDescription(), r.getDate(), r.getDayOfTheWeek(),
+                    r.getStartTime(), r.getEndTime(), r.getPurpose());
+            out.writeSignedVarInt(r.getAccompanyingStudentCount());
+            writeValue(out, r.getAccompanyingStudents());
+            out.writeString(r.getCancellationReason());
+        } else if (value instanceof Lecture l) {
+            writeStrings(out, TAG_LECTURE, l.getId(), l.getTitle(), l.getLectureroom(), l.getBuilding(), l.getFloor(),
+                    l.getProfessor(), l.getDay(), l.getStartTime(), l.getEndTime());
+            writeValue(out, l.getYear());
+            out.writeString(l.getSemester() != null ? l.getSemester().name() : null);
+        } else if (value instanceof User u) {
+            writeStrings(out, TAG_USER, u.number, u.password, u.name, u.major);
+        } else if (value instanceof ResponseEnvelope e) {
+            out.writeByte(TAG_RESPONSE_ENVELOPE);
+            out.writeVarLong(e.requestId);
+            writeValue(out, e.response);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private static void writeCommand(BinaryWriter out, int tag, String command, Object payload) throws IOException {
+        out.writeByte(tag);
+        out.writeString(command);
+        writeValue(out, payload);
+    }
+
+    private static void writeStrings(BinaryWriter out, int tag, String... values) {
+        out.writeByte(tag);
+        for (String value : values) {
+            out.writeString(value);
+        }
+    }
+
+    // ===================================================================
+    // 읽기
+    // ===================================================================
+
+    public static Object readValue(BinaryReader in) throws IOException {
+        return readValue(in, 0);
+    }
+
+    // depth: 몇 겹 안쪽 값인지 (목록/맵/DTO 필드를 따라 들어갈 때마다 1 증가)
+    private static Object readValue(BinaryReader in, int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("값이 너무 깊게 중첩되어 있습니다. (최대 " + MAX_DEPTH + ")");
+        }
+        int tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL: return null;
+            case TAG_STRING: return in.readString();
+            case TAG_INT: return in.readSignedVarInt();
+            case TAG_LONG: return in.readSignedVarLong();
+            case TAG_TRUE: return Boolean.TRUE;
+            case TAG_FALSE: return Boolean.FALSE;
+            case TAG_DATE: {
+                long epochDay = in.readSignedVarLong();
+                try {
+                    return LocalDate.ofEpochDay(epochDay);
+                } catch (DateTimeException e) {
+                    throw new IOException("잘못된 날짜: " + epochDay);
+                }
+            }
+            case TAG_LIST: {
+                int size = checkCount(in, in.readVarInt());
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(in, depth + 1));
+                }
+                return list;
+            }
+            case TAG_ARRAY: return readArray(in, depth);
+            case TAG_MAP: {
+                int size = checkCount(in, in.readVarInt());
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(in, depth + 1), readValue(in, depth + 1));
+                }
+                return map;
+            }
+
+            // --- 커맨드 요청 ---
+            case TAG_USER_COMMAND: return new UserCommandRequest(in.readString(), readValue(in, depth + 1));
+            case TAG_USER_MANAGEMENT_COMMAND: return new UserManagementCommandRequest(in.readString(), readValue(in, depth + 1));
+            case TAG_RESERVATION_COMMAND: return new ReservationCommandRequest(in.readString(), readValue(in, depth + 1));
+            case TAG_RESERVATION_MANAGEMENT_COMMAND: return new ReservationManagementCommandRequest(in.readString(), readValue(in, depth + 1));
+            case TAG_LECTURE_COMMAND: return new LectureCommandRequest(in.readString(), readValue(in, depth + 1));
+            case TAG_NOTIFICATION_COMMAND: return new NotificationCommandRequest(in.readString(), readValue(in, depth + 1));
+            case TAG_REQUEST_ENVELOPE: return new RequestEnvelope(in.readVarLong(), readValue(in, depth + 1));
+            case TAG_BATCH_COMMAND: return new BatchCommandRequest(readList(in, depth + 1, Object.class));
+
+            // --- 사용자 요청 데이터 ---
+            case TAG_LOGIN: return new LoginRequest(in.readString(), in.readString());
+            case TAG_LOGOUT: return new LogoutRequest(in.readString(), in.readString());
+            case TAG_FIND_USER_NAME: return new FindUserNameRequest(in.readString(), in.readString());
+            case TAG_SIGNUP: return new SignupRequest(in.readString(), in.readString(), in.readString(), in.readString());
+            case TAG_USER_MODIFICATION: return new UserDataModificationRequest(in.readString(), in.readString(), in.readString(), in.readString());
+            case TAG_USER_DELETE: return new DeleteRequest(in.readString());
+            case TAG_USER_EXISTS: return new ExistsRequest(in.readString());
+            case TAG_USER_FIND: return new FindRequest(in.readString());
+
+            // --- 강의 요청 데이터 ---
+            case TAG_LECTURE_REQUEST: return new LectureRequest(in.readString(), in.readString(), in.readString());
+            case TAG_LECTURE_DATE: return new LectureDateRequest(in.readString(), in.readString(), in.readString(), readTyped(in, depth + 1, LocalDate.class));
+            case TAG_LECTURE_FILTER: return new LectureFilterRequest(readTyped(in, depth + 1, Integer.class), in.readString(), in.readString(), in.readString(), in.readString());
+
+            // --- 예약 요청 데이터 ---
+            case TAG_RESERVATION_LOCATION: return new RoomReservationLocationRequest(in.readString(), in.readString(), in.readString());
+            case TAG_RESERVATION_REQUEST: return readReservationRequest(in, depth);
+            case TAG_RESERVATION_DELETE: return new DeleteRoomReservationRequest(in.readString(), in.readString(), in.readString());
+            case TAG_ACCOMPANYING_STUDENT: return new AccompanyingStudent(in.readString(), in.readString());
+            case TAG_RESERVATION_RECURRING: return new RecurringReservationRequest(
+                    readTyped(in, depth + 1, RoomReservationRequest.class), in.readString(), in.readSignedVarInt(), in.readString());
+            case TAG_RESERVATION_BULK: {
+                List<String> ids = readList(in, depth + 1, String.class);
+                BulkReservationRequest r = new BulkReservationRequest(in.readString(), in.readString(), in.readString(),
+                        in.readString(), in.readString(), in.readString(), in.readString());
+                r.setIds(ids);
+                return r;
+            }
+
+            // --- 응답 / 엔티티 ---
+            case TAG_BASIC_RESPONSE: return new BasicResponse(in.readString(), readValue(in, depth + 1));
+            case TAG_CURRENT_RESPONSE: return new CurrentResponse(in.readSignedVarInt());
+            case TAG_LECTURE_LIST_RESPONSE: return readLectureListResponse(in, depth);
+            case TAG_NOTIFICATION: {
+                NotificationDTO n = new NotificationDTO(in.readString(), in.readString(), in.readSignedVarLong());
+                n.setRead(in.readBoolean());
+                return n;
+            }
+            case TAG_ROOM_RESERVATION: return readRoomReservation(in, depth);
+            case TAG_LECTURE: return readLecture(in, depth);
+            case TAG_USER: return new User(in.readString(), in.readString(), in.readString(), in.readString());
+            case TAG_RESPONSE_ENVELOPE: return new ResponseEnvelope(in.readVarLong(), readValue(in, depth + 1));
+
+            default:
+                throw new IOException("알 수 없는 타입 태그: " + tag);
+        }
+    }
+
+    private static Object readArray(BinaryReader in, int depth) throws IOException {
+        int dimensions = in.readVarInt();
+        if (dimensions < 1 || dimensions > 8) {
+            throw new IOException("잘못된 배열 차원: " + dimensions);
+        }
+        Class<?> componentType = arrayBaseClass(in.readByte());
+        for (int i = 1; i < dimensions; i++) {
+            componentType = componentType.arrayType();
+        }
+        int length = checkCount(in, in.readVarInt());
+        Object[] array = (Object[]) Array.newInstance(componentType, length);
+        for (int i = 0; i < length; i++) {
+            array[i] = readTyped(in, depth + 1, componentType);
+        }
+        return array;
+    }
+
+    private static RoomReservationRequest readReservationRequest(BinaryReader in, int depth) throws IOException {
+        RoomReservationRequest r = new RoomReservationRequest();
+        r.setId(in.readString());
+        r.setBuildingName(in.readString());
+        r.setFloor(in.readString());
+        r.setLectureRoom(in.readString());
+        r.setTitle(in.readString());
+        r.setDescription(in.readString());
+        r.setDate(in.readString());
+        r.setDayOfTheWeek(in.readString());
+        r.setStartTime(in.readString());
+        r.setEndTime(in.readString());
+        r.setNumber(in.readString());
+        r.setStatus(in.readString());
+        r.setPurpose(in.readString());
+        r.setAccompanyingStudentCount(in.readSignedVarInt());
+        r.setAccompanyingStudents(readList(in, depth + 1, AccompanyingStudent.class));
+        return r;
+    }
+
+    private static RoomReservation readRoomReservation(BinaryReader in, int depth) throws IOException {
+        RoomReservation r = new RoomReservation();
+        r.setId(in.readString());
+        r.setBuildingName(in.readString());
+        r.setFloor(in.readString());
+        r.setLectureRoom(in.readString());
+        r.setNumber(in.readString());
+        r.setStatus(in.readString());
+        r.setTitle(in.readString());
+        r.setDescription(in.readString());
+        r.setDate(in.readString());
+        r.setDayOfTheWeek(in.readString());
+        r.setStartTime(in.readString());
+        r.setEndTime(in.readString());
+        r.setPurpose(in.readString());
+        r.setAccompanyingStudentCount(in.readSignedVarInt());
+        r.setAccompanyingStudents(readList(in, depth + 1, AccompanyingStudent.class));
+        r.setCancellationReason(in.readString());
+        return r;
+    }
+
+    private static Lecture readLecture(BinaryReader in, int depth) throws IOException {
+        Lecture l = new Lecture();
+        l.setId(in.readString());
+        l.setTitle(in.readString());
+        l.setLectureroom(in.readString());
+        l.setBuilding(in.readString());
+        l.setFloor(in.readString());
+        l.setProfessor(in.readString());
+        l.setDay(in.readString());
+        l.setStartTime(in.readString());
+        l.setEndTime(in.readString());
+        l.setYear(readTyped(in, depth + 1, Integer.class));
+        String semester = in.readString();
+        try {
+            l.setSemester(semester != null ? Semester.valueOf(semester) : null);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("알 수 없는 학기: " + semester);
+        }
+        return l;
+    }
+
+    private static LectureListResponse readLectureListResponse(BinaryReader in, int depth) throws IOException {
+        LectureListResponse r = new LectureListResponse();
+        r.setStatus(in.readString());
+        r.setMessage(in.readString());
+        r.setLectures(readList(in, depth + 1, Lecture.class));
+        r.setTotalCount(readTyped(in, depth + 1, Integer.class));
+        r.setYear(readTyped(in, depth + 1, Integer.class));
+        r.setSemester(in.readString());
+        r.setBuilding(in.readString());
+        r.setFloor(in.readString());
+        r.setLectureroom(in.readString());
+        return r;
+    }
+
+    // 정해진 타입 자리의 값 (null 또는 그 타입이 아니면 IOException)
+    private static <T> T readTyped(BinaryReader in, int depth, Class<T> type) throws IOException {
+        Object value = readValue(in, depth);
+        if (value != null && !type.isInstance(value)) {
+            throw new IOException(type.getSimpleName() + " 자리에 다른 타입: " + value.getClass().getSimpleName());
+        }
+        return type.cast(value);
+    }
+
+    // 원소 타입이 정해진 목록 (null 원소는 허용, 목록이 아니거나 다른 타입 원소가 있으면 IOException)
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> readList(BinaryReader in, int depth, Class<T> elementType) throws IOException {
+        Object value = readValue(in, depth);
+        if (value == null) {
+            return null;
+        }
+        if (!(value instanceof List<?> list)) {
+            throw new IOException("목록 자리에 다른 타입: " + value.getClass().getSimpleName());
+        }
+        for (Object element : list) {
+            if (element != null && !elementType.isInstance(element)) {
+                throw new IOException(elementType.getSimpleName() + " 목록에 다른 타입: " + element.getClass().getSimpleName());
+            }
+        }
+        return (List<T>) list;
+    }
+
+    // 원소 1개는 최소 1바이트이므로 남은 바이트보다 많은 개수는 잘못된 데이터
+    private static int checkCount(BinaryReader in, int count) throws IOException {
+        if (count < 0 || count > in.remaining()) {
+            throw new IOException("잘못된 원소 개수: " + count);
+        }
+        return count;
+    }
+
+    // 배열의 최종 원소 타입 → 태그 (지원하지 않는 타입이면 -1)
+    private static int arrayBaseTag(Class<?> arrayType) {
+        Class<?> base = arrayType;
+        while (base.isArray()) {
+            base = base.getComponentType();
+        }
+        if (base == Object.class) return TAG_NULL;
+        if (base == String.class) return TAG_STRING;
+        if (base == RoomReservation.class) return TAG_ROOM_RESERVATION;
+        if (base == Lecture.class) return TAG_LECTURE;
+        if (base == NotificationDTO.class) return TAG_NOTIFICATION;
+        if (base == User.class) return TAG_USER;
+        return -1;
+    }
+
+    private static Class<?> arrayBaseClass(int tag) throws IOException {
+        return switch (tag) {
+            case TAG_NULL -> Object.class;
+            case TAG_STRING -> String.class;
+            case TAG_ROOM_RESERVATION -> RoomReservation.class;
+            case TAG_LECTURE -> Lecture.class;
+            case TAG_NOTIFICATION -> NotificationDTO.class;
+            case TAG_USER -> User.class;
+            default -> throw new IOException("지원하지 않는 배열 타입: " + tag);
+        };
+    }
+}
@@ -0,0 +1,106 @@
+package deu.protocol;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+
+/**
+ * 바이너리 통신 프로토콜 (버전 협상 + 길이 프레임)
+ *
+ * [연결 시작 - 협상]
+ *  클라이언트 → 서버 : "DEUB"(4바이트) + 희망 버전(1바이트)
+ *  서버 → 클라이언트 : "DEUB"(4바이트) + 사용할 버전(1바이트, 0 이면 거절 후 종료)
+ *  ※ 첫 바이트가 0xACED(Java 직렬화 스트림 헤더)이면 서버는 기존 ObjectStream 방식으로 처리한다.
+ *
+ * [이후 - 요청/응답]
+ *  [4바이트 길이(big-endian)][BinaryCodec 본문] 의 반복
+ */
+public final class BinaryProtocol {
+
+    public static final byte[] MAGIC = {'D', 'E', 'U', 'B'};
+    public static final int MAGIC_INT = 0x44455542;
+
+    // 현재 서버가 지원하는 최신 버전
+    public static final int VERSION = 1;
+
+    // 협상 메시지 크기 (매직 4바이트 + 버전 1바이트)
+    public static final int HELLO_SIZE = 5;
+
+    // 프레임 최대 크기 (FrameCodec 과 동일)
+    public static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    private BinaryProtocol() {}
+
+    // 클라이언트가 요청한 버전에 대해 서버가 사용할 버전 (지원 불가 시 0)
+    public static int negotiate(int requestedVersion) {
+        if (requestedVersion < 1) {
+            return 0;
+        }
+        return Math.min(requestedVersion, VERSION);
+    }
+
+    public static byte[] hello(int version) {
+        return new byte[]{MAGIC[0], MAGIC[1], MAGIC[2], MAGIC[3], (byte) version};
+    }
+
+    /**
+     * 협상 메시지를 읽고 버전을 반환한다.
+     * @throws IOException 매직 값이 다르면 (바이너리 프로토콜이 아닌 경우)
+     */
+    public static int readHello(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC_INT) {
+            throw new IOException("바이너리 프로토콜 매직 값이 아닙니다.");
+        }
+        return data.readUnsignedByte();
+    }
+
+    /**
+     * 클라이언트 측 협상: hello 를 보내고 서버가 정한 버전을 받는다.
+     * @throws IOException 서버가 거절한 경우
+     */
+    public static int clientHandshake(InputStream in, OutputStream out) throws IOException {
+        out.write(hello(VERSION));
+        out.flush();
+        int version = readHello(in);
+        if (version == 0) {
+            throw new IOException("서버가 프로토콜 버전을 거절했습니다.");
+        }
+        return version;
+    }
+
+    // 객체를 길이 헤더가 붙은 프레임으로 인코딩 (바로 채널에 쓸 수 있도록 flip된 상태로 반환)
+    public static ByteBuffer encode(Object value) throws IOException {
+        BinaryWriter out = new BinaryWriter();
+        out.skip(4); // 길이 자리 확보
+        BinaryCodec.writeValue(out, value);
+        out.putInt(0, out.size() - 4);
+        return ByteBuffer.wrap(out.buffer(), 0, out.size());
+    }
+
+    // 프레임 본문(길이 헤더 제외)을 객체로 디코딩
+    public static Object decode(byte[] body) throws IOException {
+        return BinaryCodec.decode(body);
+    }
+
+    public static int checkLength(int length) throws IOException {
+        if (length < 0 || length > MAX_FRAME_SIZE) {
+            throw new IOException("잘못된 프레임 길이: " + length);
+        }
+        return length;
+    }
+
+    // --- 블로킹 스트림용 헬퍼 ---
+
+    public static void writeFrame(OutputStream out, Object value) throws IOException {
+        ByteBuffer frame = encode(value);
+        out.write(frame.array(), 0, frame.limit());
+        out.flush();
+    }
+
+    public static Object readFrame(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] body = new byte[checkLength(data.readInt())];
+        data.readFully(body);
+        return decode(body);
+    }
+}
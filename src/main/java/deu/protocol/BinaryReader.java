@@ -0,0 +1,121 @@
+package deu.protocol;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 바이너리 프로토콜 기본 타입 읽기 도구 (BinaryWriter 의 역순)
+ * - 데이터가 모자라거나 형식이 잘못되면 IOException 을 던진다.
+ */
+public class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+    private final int limit;
+
+    // 지금까지 읽은 문자열 (BinaryWriter 의 문자열 번호와 순서가 같음)
+    private final List<String> strings = new ArrayList<>();
+
+    public BinaryReader(byte[] buffer) {
+        this(buffer, 0, buffer.length);
+    }
+
+    public BinaryReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    public int readByte() throws IOException {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    public int readInt() throws IOException {
+        require(4);
+        int value = ((buffer[position] & 0xFF) << 24)
+                | ((buffer[position + 1] & 0xFF) << 16)
+                | ((buffer[position + 2] & 0xFF) << 8)
+                | (buffer[position + 3] & 0xFF);
+        position += 4;
+        return value;
+    }
+
+    public int readVarInt() throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varint 형식");
+    }
+
+    public long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("잘못된 varlong 형식");
+    }
+
+    public int readSignedVarInt() throws IOException {
+        int raw = readVarInt();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public long readSignedVarLong() throws IOException {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    public String readString() throws IOException {
+        int header = readVarInt();
+        if (header == 0) {
+            return null;
+        }
+        if (header == 1) {
+            int index = readVarInt();
+            if (index < 0 || index >= strings.size()) {
+                throw new IOException("잘못된 문자열 참조: " + index);
+            }
+            return strings.get(index);
+        }
+        int length = header - 2;
+        require(length);
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        strings.add(value);
+        return value;
+    }
+
+    public byte[] readBytes(int length) throws IOException {
+        require(length);
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    public int remaining() {
+        return limit - position;
+    }
+
+    private void require(int length) throws IOException {
+        if (length < 0 || position + length > limit) {
+            throw new IOException("데이터가 부족합니다. (필요 " + length + "바이트, 남은 " + remaining() + "바이트)");
+        }
+    }
+}
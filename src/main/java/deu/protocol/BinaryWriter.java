@@ -0,0 +1,138 @@
+package deu.protocol;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 바이너리 프로토콜 기본 타입 쓰기 도구
+ * - 내부 byte[]를 필요할 때만 늘려 가며 사용한다. (스트림/박싱 객체를 만들지 않음)
+ * - 정수는 가변 길이(varint)로 기록해 작은 값은 1바이트로 표현한다.
+ * - 한 메시지 안에서 같은 문자열(건물명, 강의실, 상태 등)이 반복되면 두 번째부터는 번호만 기록한다.
+ */
+public class BinaryWriter {
+
+    private byte[] buffer;
+    private int position;
+
+    // 이미 기록한 문자열 → 번호 (첫 문자열을 기록할 때 생성)
+    private Map<String, Integer> strings;
+    private int stringCount;
+
+    public BinaryWriter() {
+        this(256);
+    }
+
+    public BinaryWriter(int initialCapacity) {
+        this.buffer = new byte[Math.max(16, initialCapacity)];
+    }
+
+    // 뒤에 채울 자리 확보 (프레임 길이 헤더 등)
+    public void skip(int length) {
+        ensure(length);
+        position += length;
+    }
+
+    public void writeByte(int value) {
+        ensure(1);
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeBoolean(boolean value) {
+        writeByte(value ? 1 : 0);
+    }
+
+    // 고정 4바이트 (big-endian)
+    public void writeInt(int value) {
+        ensure(4);
+        putInt(position, value);
+        position += 4;
+    }
+
+    public void putInt(int index, int value) {
+        buffer[index] = (byte) (value >>> 24);
+        buffer[index + 1] = (byte) (value >>> 16);
+        buffer[index + 2] = (byte) (value >>> 8);
+        buffer[index + 3] = (byte) value;
+    }
+
+    // 부호 없는 가변 길이 정수 (7비트 단위)
+    public void writeVarInt(int value) {
+        ensure(5);
+        while ((value & ~0x7F) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    public void writeVarLong(long value) {
+        ensure(10);
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+    }
+
+    // 부호 있는 정수 (ZigZag 변환 후 varint, 작은 음수도 1바이트)
+    public void writeSignedVarInt(int value) {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    public void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    /**
+     * 문자열 기록
+     * - null            : [0]
+     * - 앞에서 나온 문자열 : [1][번호 varint]
+     * - 새 문자열        : [길이+2 varint][UTF-8 바이트]
+     */
+    public void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        if (strings == null) {
+            strings = new HashMap<>();
+        }
+        Integer index = strings.putIfAbsent(value, stringCount);
+        if (index != null) {
+            writeVarInt(1);
+            writeVarInt(index);
+            return;
+        }
+        stringCount++;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 2);
+        writeBytes(bytes, 0, bytes.length);
+    }
+
+    public void writeBytes(byte[] bytes, int offset, int length) {
+        ensure(length);
+        System.arraycopy(bytes, offset, buffer, position, length);
+        position += length;
+    }
+
+    public int size() {
+        return position;
+    }
+
+    // 내부 버퍼 (0 ~ size() 범위만 유효)
+    public byte[] buffer() {
+        return buffer;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensure(int extra) {
+        if (position + extra > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package deu.repository;
+
+import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 파일 전체 저장 도구 (YAML 저장소, 알림 파일 공용)
+ * - 같은 폴더의 임시 파일(이름.tmp)에 쓴 뒤 원래 파일로 이름을 바꾼다. (원자적 교체)
+ *   저장 도중 프로세스가 죽어도 기존 파일은 그대로 남고, 남은 임시 파일은 다음 저장 때 덮어쓴다.
+ * - fsync 정책(FsyncPolicy)에 따라 임시 파일과 폴더를 디스크에 반영한다.
+ *
+ * 설정 (JVM -D 옵션)
+ * server.fsync         : always | interval | never (기본 always)
+ * server.fsyncInterval : interval 정책의 fsync 간격 ms (기본 1000)
+ */
+public class AtomicFileWriter {
+
+    private static final AtomicFileWriter instance = new AtomicFileWriter(
+            FsyncPolicy.fromString(System.getProperty("server.fsync")),
+            Long.getLong("server.fsyncInterval", 1000));
+
+    // 파일 내용 쓰기 (스트림은 호출한 쪽에서 닫지 않아도 됨)
+    public interface Content {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private final FsyncPolicy policy;
+    private final long intervalMillis;
+    private final Set<Path> pendingSync = ConcurrentHashMap.newKeySet(); // interval 정책: 아직 fsync 안 한 파일
+    private ScheduledExecutorService syncer;
+
+    public AtomicFileWriter(FsyncPolicy policy, long intervalMillis) {
+        this.policy = policy;
+        this.intervalMillis = Math.max(10, intervalMillis);
+    }
+
+    public static AtomicFileWriter getInstance() {
+        return instance;
+    }
+
+    public FsyncPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * 파일 내용을 원자적으로 교체 (fsync 는 정책에 따름)
+     * @throws IOException 쓰기/이름 변경 실패 (이 경우 기존 파일은 바뀌지 않음)
+     */
+    public void write(File target, Content content) throws IOException {
+        write(target, content, policy == FsyncPolicy.ALWAYS);
+    }
+
+    /**
+     * 파일 내용을 원자적으로 교체
+     * @param forceSync true 이면 정책과 관계없이 반환 전에 fsync (이 파일을 기준으로 다른 기록을 지우는 경우 등)
+     */
+    public void write(File target, Content content, boolean forceSync) throws IOException {
+        File parent = target.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        File temp = new File(target.getPath() + ".tmp");
+
+        try (FileOutputStream file = new FileOutputStream(temp);
+             BufferedOutputStream out = new BufferedOutputStream(file, 64 * 1024)) {
+            content.writeTo(out);
+            out.flush();
+            if (forceSync) {
+                file.getChannel().force(true);
+            }
+        } catch (IOException | RuntimeException e) {
+            temp.delete();
+            throw e;
+        }
+
+        try {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        if (forceSync) {
+            forceDirectory(parent); // 이름 변경 반영
+        } else if (policy == FsyncPolicy.INTERVAL) {
+            pendingSync.add(target.getAbsoluteFile().toPath());
+            startSyncer();
+        }
+    }
+
+    // interval 정책: 아직 fsync 하지 않은 파일 수
+    public int getPendingSyncCount() {
+        return pendingSync.size();
+    }
+
+    // interval 정책: 대기 중인 파일을 지금 fsync
+    public void syncPending() {
+        for (Path path : pendingSync) {
+            pendingSync.remove(path);
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                channel.force(true);
+                forceDirectory(path.toFile().getParentFile());
+            } catch (NoSuchFileException ignored) {
+                // 그 사이 삭제됨
+            } catch (IOException e) {
+                System.err.println("[AtomicFileWriter] fsync 실패: " + path + " (" + e.getMessage() + ")");
+            }
+        }
+    }
+
+    private synchronized void startSyncer() {
+        if (syncer != null) {
+            return;
+        }
+        syncer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "fsync-interval");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::syncPending, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(this::syncPending, "fsync-flush"));
+    }
+
+    // 폴더 fsync (이름 변경/생성 반영, 지원하지 않는 OS 에서는 무시)
+    private static void forceDirectory(File dir) {
+        if (dir == null) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(dir.toPath(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+}
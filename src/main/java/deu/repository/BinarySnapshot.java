@@ -0,0 +1,260 @@
+package deu.repository;
+
+import deu.model.entity.Lecture;
+import deu.model.entity.RoomReservation;
+import deu.model.entity.User;
+import deu.protocol.BinaryReader;
+import deu.protocol.BinaryWriter;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * 바이너리 스냅샷 파일 (예약 / 사용자 / 강의 목록 전체)
+ *
+ * 형식 (버전 2, 정수는 빅엔디언)
+ * [4] "DEUS"  [1] 버전  [1] 종류(Kind)  [1] 레코드 형식 버전(RecordCodec.VERSION)  [4] 묶음(chunk) 수  [4] 전체 레코드 수
+ * 묶음마다 [8] 시작 위치  [4] 길이  [4] 레코드 수  [4] CRC32   ← 목차
+ * 묶음 본문 ...
+ * - 묶음 본문은 레코드를 저장용 RecordCodec 으로 이어 붙인 것이다. (통신용 BinaryCodec 은 쓰지 않음, 묶음마다 문자열 번호표를 따로 사용)
+ * - 레코드 필드 순서는 머리의 레코드 형식 버전으로 정해지고, RecordCodec 이 지원하지 않는 버전이면 읽지 않는다.
+ * - 묶음끼리는 서로 독립이므로 읽을 때 여러 스레드에서 동시에 해석한 뒤 순서대로 합친다.
+ * - 버전/종류가 다르거나, CRC 가 맞지 않거나, 레코드를 해석할 수 없으면 IOException (YAML 등으로 대신 읽지 않음)
+ *
+ * ※ 파일 구성을 바꾸면 VERSION 을, 레코드 필드를 바꾸면 RecordCodec.VERSION 을 올릴 것
+ *   (버전 1 은 통신용 코덱으로 기록한 형식이며 더 이상 읽지 않음)
+ */
+public final class BinarySnapshot {
+
+    public static final int VERSION = 2;
+    public static final int DEFAULT_CHUNK_RECORDS = 8192;
+
+    private static final byte[] MAGIC = "DEUS".getBytes(StandardCharsets.US_ASCII);
+    private static final int HEADER_SIZE = 15;
+    private static final int INDEX_ENTRY_SIZE = 20;
+
+    // 스냅샷에 담는 엔티티 종류
+    public enum Kind {
+        RESERVATION(1, RoomReservation.class),
+        USER(2, User.class),
+        LECTURE(3, Lecture.class);
+
+        private final int code;
+        private final Class<?> type;
+
+        Kind(int code, Class<?> type) {
+            this.code = code;
+            this.type = type;
+        }
+
+        public Class<?> getType() {
+            return type;
+        }
+
+        static Kind fromCode(int code) throws IOException {
+            for (Kind kind : values()) {
+                if (kind.code == code) return kind;
+            }
+            throw new IOException("알 수 없는 스냅샷 종류: " + code);
+        }
+    }
+
+    private BinarySnapshot() {}
+
+    public static <T> void write(OutputStream out, Kind kind, List<T> records) throws IOException {
+        write(out, kind, records, DEFAULT_CHUNK_RECORDS);
+    }
+
+    /**
+     * 목록 전체를 스냅샷 형식으로 기록 (묶음 인코딩은 병렬로)
+     * @param chunkRecords 묶음 하나에 넣을 레코드 수
+     */
+    public static <T> void write(OutputStream out, Kind kind, List<T> records, int chunkRecords) throws IOException {
+        int perChunk = Math.max(1, chunkRecords);
+        int chunkCount = (records.size() + perChunk - 1) / perChunk;
+
+        BinaryWriter[] chunks = new BinaryWriter[chunkCount];
+        try {
+            IntStream.range(0, chunkCount).parallel().forEach(i -> {
+                BinaryWriter chunk = new BinaryWriter(perChunk * 64);
+                int end = Math.min(records.size(), (i + 1) * perChunk);
+                try {
+                    for (int r = i * perChunk; r < end; r++) {
+                        Object record = records.get(r);
+                        if (!kind.type.isInstance(record)) {
+                            throw new IOException("스냅샷 종류와 다른 객체: " + record);
+                        }
+                        writeRecord(chunk, kind, record);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                chunks[i] = chunk;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE + chunkCount * INDEX_ENTRY_SIZE);
+        header.put(MAGIC).put((byte) VERSION).put((byte) kind.code).put((byte) RecordCodec.VERSION)
+                .putInt(chunkCount).putInt(records.size());
+        long offset = header.capacity();
+        for (int i = 0; i < chunkCount; i++) {
+            int length = chunks[i].size();
+            int end = Math.min(records.size(), (i + 1) * perChunk);
+            header.putLong(offset).putInt(length).putInt(end - i * perChunk).putInt(crc(chunks[i].buffer(), 0, length));
+            offset += length;
+        }
+        out.write(header.array());
+        for (BinaryWriter chunk : chunks) {
+            out.write(chunk.buffer(), 0, chunk.size());
+        }
+    }
+
+    // 바이너리 스냅샷 파일인지 (앞 4바이트 확인)
+    public static boolean isSnapshot(File file) {
+        if (!file.isFile() || file.length() < HEADER_SIZE) {
+            return false;
+        }
+        try (InputStream in = new FileInputStream(file)) {
+            return Arrays.equals(in.readNBytes(MAGIC.length), MAGIC);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // 파일 종류 (헤더만 확인)
+    public static Kind readKind(File file) throws IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            byte[] header = in.readNBytes(HEADER_SIZE);
+            ByteBuffer buffer = ByteBuffer.wrap(header);
+            Kind kind = parseHeader(buffer, header.length);
+            RecordCodec.checkVersion(buffer.get() & 0xFF);
+            return kind;
+        }
+    }
+
+    /**
+     * 스냅샷 파일 읽기 (묶음별 병렬 해석)
+     * @throws IOException 형식/버전/종류가 다르거나 CRC 가 맞지 않거나 레코드를 해석할 수 없을 때
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> read(File file, Kind kind) throws IOException {
+        byte[] data = Files.readAllBytes(file.toPath());
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        Kind actual = parseHeader(buffer, data.length);
+        if (actual != kind) {
+            throw new IOException("스냅샷 종류 불일치: " + actual + " (기대값 " + kind + ")");
+        }
+        int recordVersion = buffer.get() & 0xFF;
+        RecordCodec.checkVersion(recordVersion);
+        int chunkCount = buffer.getInt();
+        int total = buffer.getInt();
+        if (chunkCount < 0 || (long) HEADER_SIZE + (long) chunkCount * INDEX_ENTRY_SIZE > data.length) {
+            throw new IOException("스냅샷 목차가 손상되었습니다.");
+        }
+
+        long[] offsets = new long[chunkCount];
+        int[] lengths = new int[chunkCount];
+        int[] counts = new int[chunkCount];
+        int[] crcs = new int[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            offsets[i] = buffer.getLong();
+            lengths[i] = buffer.getInt();
+            counts[i] = buffer.getInt();
+            crcs[i] = buffer.getInt();
+            if (offsets[i] < 0 || lengths[i] < 0 || offsets[i] + lengths[i] > data.length) {
+                throw new IOException("스냅샷 묶음 " + i + " 위치가 파일 범위를 벗어납니다.");
+            }
+        }
+
+        Object[][] decoded = new Object[chunkCount][];
+        try {
+            IntStream.range(0, chunkCount).parallel().forEach(i -> {
+                try {
+                    int offset = (int) offsets[i];
+                    if (crc(data, offset, lengths[i]) != crcs[i]) {
+                        throw new IOException("스냅샷 묶음 " + i + " CRC 불일치");
+                    }
+                    if (counts[i] < 0 || counts[i] > lengths[i]) {
+                        throw new IOException("스냅샷 묶음 " + i + " 레코드 수가 잘못되었습니다: " + counts[i]);
+                    }
+                    BinaryReader in = new BinaryReader(data, offset, lengths[i]);
+                    Object[] records = new Object[counts[i]];
+                    try {
+                        for (int r = 0; r < records.length; r++) {
+                            records[r] = readRecord(in, kind, recordVersion);
+                        }
+                    } catch (IOException | RuntimeException e) {
+                        throw new IOException("스냅샷 묶음 " + i + " 레코드를 해석할 수 없습니다: " + e.getMessage(), e);
+                    }
+                    if (in.remaining() != 0) {
+                        throw new IOException("스냅샷 묶음 " + i + " 끝에 해석하지 않은 " + in.remaining() + "바이트가 있습니다.");
+                    }
+                    decoded[i] = records;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        List<T> result = new ArrayList<>(Math.max(0, total));
+        for (Object[] records : decoded) {
+            for (Object record : records) {
+                result.add((T) record);
+            }
+        }
+        if (result.size() != total) {
+            throw new IOException("스냅샷 레코드 수 불일치: " + result.size() + " (기대값 " + total + ")");
+        }
+        return result;
+    }
+
+    private static void writeRecord(BinaryWriter out, Kind kind, Object record) {
+        switch (kind) {
+            case RESERVATION -> RecordCodec.writeReservation(out, (RoomReservation) record);
+            case USER -> RecordCodec.writeUser(out, (User) record);
+            case LECTURE -> RecordCodec.writeLecture(out, (Lecture) record);
+        }
+    }
+
+    private static Object readRecord(BinaryReader in, Kind kind, int version) throws IOException {
+        return switch (kind) {
+            case RESERVATION -> RecordCodec.readReservation(in, version);
+            case USER -> RecordCodec.readUser(in, version);
+            case LECTURE -> RecordCodec.readLecture(in, version);
+        };
+    }
+
+    // 머리의 매직/버전/종류 확인 (레코드 형식 버전은 호출한 쪽에서 이어서 읽음)
+    private static Kind parseHeader(ByteBuffer buffer, int length) throws IOException {
+        if (length < HEADER_SIZE) {
+            throw new IOException("스냅샷 파일이 너무 짧습니다.");
+        }
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("바이너리 스냅샷 파일이 아닙니다.");
+        }
+        int version = buffer.get() & 0xFF;
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전: " + version);
+        }
+        return Kind.fromCode(buffer.get() & 0xFF);
+    }
+
+    private static int crc(byte[] data, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+        return (int) crc.getValue();
+    }
+}
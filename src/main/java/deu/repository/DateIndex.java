@@ -0,0 +1,98 @@
+package deu.repository;
+
+import deu.model.entity.RoomReservation;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * 날짜 순 예약 색인: 날짜 → 예약
+ * - 예약의 date("yyyy-MM-dd")는 색인에 넣을 때 한 번만 해석하고, 해석한 날짜를 ID 별로 기억한다.
+ * - 기간 조회는 기간 안의 날짜만 방문한다. (날짜가 같으면 저장 순서)
+ * - 날짜를 해석할 수 없는 예약은 어떤 기간 조회에도 포함되지 않는다. (기존 LocalDate.parse 실패 시 제외와 동일)
+ * ※ 스레드 안전하지 않음 (ReservationRepository 의 읽기/쓰기 잠금 안에서만 사용)
+ */
+final class DateIndex {
+
+    private final TreeMap<LocalDate, LinkedHashMap<String, RoomReservation>> byDate = new TreeMap<>();
+    private final Map<String, LocalDate> dates = new HashMap<>(); // ID → 해석한 날짜
+
+    static LocalDate parse(String date) {
+        if (date == null) return null;
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    // 추가 (같은 ID가 있으면 먼저 뺌)
+    void add(RoomReservation reservation) {
+        remove(reservation.getId());
+        LocalDate date = parse(reservation.getDate());
+        if (date == null) {
+            return;
+        }
+        byDate.computeIfAbsent(date, d -> new LinkedHashMap<>()).put(reservation.getId(), reservation);
+        dates.put(reservation.getId(), date);
+    }
+
+    // ID로 제거 (넣을 때 해석한 날짜 기준)
+    void remove(String id) {
+        LocalDate date = dates.remove(id);
+        if (date == null) {
+            return;
+        }
+        Map<String, RoomReservation> reservations = byDate.get(date);
+        reservations.remove(id);
+        if (reservations.isEmpty()) {
+            byDate.remove(date);
+        }
+    }
+
+    void clear() {
+        byDate.clear();
+        dates.clear();
+    }
+
+    // 색인에 넣을 때 해석한 날짜 (해석 실패/없으면 null)
+    LocalDate dateOf(String id) {
+        return dates.get(id);
+    }
+
+    // from ~ to (양 끝 포함) 기간의 예약 (날짜 순)
+    List<RoomReservation> find(LocalDate from, LocalDate to) {
+        List<RoomReservation> result = new ArrayList<>();
+        if (from.isAfter(to)) {
+            return result;
+        }
+        NavigableMap<LocalDate, LinkedHashMap<String, RoomReservation>> window = byDate.subMap(from, true, to, true);
+        for (Map<String, RoomReservation> reservations : window.values()) {
+            result.addAll(reservations.values());
+        }
+        return result;
+    }
+
+    // 색인된 예약 수 (점검용)
+    int size() {
+        return dates.size();
+    }
+
+    // 색인에 이 객체가 현재 날짜 그대로 들어 있는지 (점검용, 날짜를 해석할 수 없는 예약은 없어야 맞음)
+    boolean contains(RoomReservation reservation) {
+        LocalDate date = parse(reservation.getDate());
+        LocalDate indexed = dates.get(reservation.getId());
+        if (date == null) {
+            return indexed == null;
+        }
+        Map<String, RoomReservation> reservations = byDate.get(date);
+        return date.equals(indexed) && reservations != null && reservations.get(reservation.getId()) == reservation;
+    }
+}
@@ -0,0 +1,32 @@
+package deu.repository;
+
+/**
+ * 예약 변경의 디스크 반영 시점 (server.durability)
+ * - SYNC  : 변경 로그가 디스크에 반영(fsync)된 뒤에 응답 (서버가 죽어도 응답한 변경은 남음)
+ * - ASYNC : 메모리 반영 + 기록 대기열에 넣은 직후 응답 (디스크 반영은 기록 스레드가 곧이어 처리,
+ *           비정상 종료 시 마지막 수 ms 의 변경이 사라질 수 있음)
+ */
+public enum Durability {
+    SYNC("동기 (디스크 반영 후 응답)"),
+    ASYNC("비동기 (대기열 등록 후 응답)");
+
+    private final String label;
+
+    Durability(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    // 문자열로부터 enum 변환 (잘못된 값이면 기본값 SYNC)
+    public static Durability fromString(String value) {
+        if (value == null) return SYNC;
+        try {
+            return Durability.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return SYNC;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package deu.repository;
+
+/**
+ * 파일 저장 시 디스크 반영(fsync) 정책 (server.fsync)
+ * - ALWAYS   : 저장할 때마다 파일과 폴더를 fsync (전원이 꺼져도 마지막 저장 내용 유지, 가장 느림)
+ * - INTERVAL : 저장은 바로 끝내고, 백그라운드에서 server.fsyncInterval(ms)마다 모아서 fsync
+ *              (전원이 꺼지면 마지막 간격 동안의 저장이 사라질 수 있음)
+ * - NEVER    : fsync 하지 않음 (운영체제에 맡김, 가장 빠름)
+ * ※ 어느 정책이든 임시 파일 → 이름 변경으로 교체하므로, 프로세스가 저장 도중 죽어도 파일이 반쯤 쓰인 채로 남지 않는다.
+ */
+public enum FsyncPolicy {
+    ALWAYS("저장마다"),
+    INTERVAL("주기적"),
+    NEVER("안 함");
+
+    private final String label;
+
+    FsyncPolicy(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    // 문자열로부터 enum 변환 (잘못된 값이면 기본값 ALWAYS)
+    public static FsyncPolicy fromString(String value) {
+        if (value == null) return ALWAYS;
+        try {
+            return FsyncPolicy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ALWAYS;
+        }
+    }
+}
@@ -2,6 +2,9 @@ package deu.repository;
 
 import deu.model.entity.Lecture;
 import deu.model.enums.Semester;
+import deu.moniter.LatencyHistogram;
+import deu.moniter.LogManager;
+import deu.moniter.Metrics;
 import lombok.Getter;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
@@ -10,8 +13,11 @@ import org.yaml.snakeyaml.representer.Representer;
 
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Collections;
 
@@ -23,6 +29,9 @@ import java.util.Collections;
  * @since 2025.05.16
  */
 public class LectureRepository {
+    // 성능 지표 (파일 저장 시간)
+    private static final LatencyHistogram SAVE_TIME = Metrics.getInstance().histogram("저장소 강의 파일 저장");
+
     // 외부에서 접근하는 싱글톤 인스턴스
     // Singleton instance
     @Getter
@@ -30,6 +39,18 @@ public class LectureRepository {
 
     // 강의 리스트(기존)
     private final List<Lecture> lectureList = new ArrayList<>();
+
+    // (건물, 층, 강의실) → 요일별 교시 시간표 + 교시 비트
+    // 강의 목록이 바뀌면 버리고(null) 다음 조회 때 한 번에 다시 만든다.
+    private Map<RoomKey, Timetable> timetables;
+
+    private record RoomKey(String building, String floor, String lectureroom) {}
+
+    // 강의실 주간 시간표 [요일(월=0 ~ 일=6)][교시(0=9시 ~ 12=21시)]
+    private static final class Timetable {
+        private final Lecture[][] cells = new Lecture[7][TimeGrid.PERIODS];
+        private final int[] masks = new int[7];
+    }
     
     //연도,학기 기본값 설정
     private static final int DEFAULT_YEAR = 2025;
@@ -37,6 +58,10 @@ public class LectureRepository {
 
     // YAML 파일 경로 (JAR 또는 IDE 실행 경로 기준)
     private final String FILE_PATH = System.getProperty("user.dir") + File.separator + "data" + File.separator + "lectures.yaml";
+    private final String BIN_PATH = System.getProperty("user.dir") + File.separator + "data" + File.separator + "lectures.bin";
+
+    // 저장 형식 (server.snapshotFormat, 기본 YAML)
+    private final SnapshotFormat format = SnapshotFormat.configured();
 
     // SnakeYAML 객체
     private final Yaml yaml;
@@ -74,7 +99,7 @@ public class LectureRepository {
 
     // 파일 저장
     private synchronized void saveAllToFile() {
-        File file = new File(FILE_PATH);
+        File file = new File(format == SnapshotFormat.BINARY ? BIN_PATH : FILE_PATH);
         File parentDir = file.getParentFile();
 
         if (!parentDir.exists()) {
@@ -86,19 +111,78 @@ public class LectureRepository {
             }
         }
 
-        try (Writer writer = new FileWriter(file)) {
-            LectureWrapper wrapper = new LectureWrapper();
-            wrapper.lectures = lectureList;
-            yaml.dump(wrapper, writer);
-            System.out.println("[LectureRepository] 파일 저장 완료: " + file.getAbsolutePath());
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            if (format == SnapshotFormat.BINARY) {
+                AtomicFileWriter.getInstance().write(file,
+                        out -> BinarySnapshot.write(out, BinarySnapshot.Kind.LECTURE, lectureList));
+            } else {
+                LectureWrapper wrapper = new LectureWrapper();
+                wrapper.lectures = lectureList;
+                AtomicFileWriter.getInstance().write(file, out -> {
+                    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                    yaml.dump(wrapper, writer);
+                    writer.flush();
+                });
+            }
+            LogManager.debug(() -> "[LectureRepository] 파일 저장 완료: " + file.getAbsolutePath());
         } catch (IOException e) {
+            failed = true;
             System.err.println("[LectureRepository] 파일 저장 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            SAVE_TIME.record(System.nanoTime() - start, failed);
         }
     }
 
     // 파일에서 불러오기
     private synchronized void loadAllFromFile() {
+        // 바이너리 형식: lectures.bin 이 있으면 바로 읽고(읽지 못하면 예외), 없으면 YAML 을 읽은 뒤 변환 저장
+        File binFile = new File(BIN_PATH);
+        boolean fromBinary = false;
+        if (format == SnapshotFormat.BINARY && binFile.exists()) {
+            try {
+                List<Lecture> loaded = BinarySnapshot.read(binFile, BinarySnapshot.Kind.LECTURE);
+                lectureList.clear();
+                lectureList.addAll(loaded);
+                fromBinary = true;
+                System.out.println("[LectureRepository] 파일 로딩 완료: " + binFile.getAbsolutePath());
+                System.out.println("[LectureRepository] 불러온 강의 수: " + lectureList.size());
+            } catch (IOException e) {
+                // YAML 로 대신 읽으면 바이너리에만 저장된 변경이 사라지므로 시작을 멈춤
+                System.err.println("[LectureRepository] 바이너리 파일 로딩 실패, 서버를 시작하지 않습니다: " + e.getMessage());
+                throw new UncheckedIOException("강의 파일(" + BIN_PATH + ") 로딩 실패: " + e.getMessage(), e);
+            }
+        }
+        if (!fromBinary) {
+            loadYamlFile();
+        }
+        timetables = null;
+        
+        //누락 필드 보정(연도,학기)
+        boolean patched = false;
+        for (Lecture l : lectureList) {
+            if (l.getYear() == null || l.getYear() == 0) {
+                l.setYear(DEFAULT_YEAR);
+                patched = true;
+            }
+            if (l.getSemester() == null) {
+                l.setSemester(DEFAULT_SEMESTER);
+                patched = true;
+            }
+        }
+        if (patched) {
+            System.out.println("[LectureRepository] 누락된 year/semester 보정 후 파일에 반영합니다.");
+            saveAllToFile(); // 기존 YAML을 덮어써서 year/semester가 추가되도록 함
+        } else if (format == SnapshotFormat.BINARY && !fromBinary && new File(FILE_PATH).exists()) {
+            System.out.println("[LectureRepository] YAML 파일을 바이너리 형식으로 변환합니다: " + binFile.getAbsolutePath());
+            saveAllToFile();
+        }
+    }
+
+    // YAML 파일에서 불러오기 (없으면 resources에서 복사)
+    private void loadYamlFile() {
         File file = new File(FILE_PATH);
 
         if (!file.exists()) {
@@ -151,23 +235,6 @@ public class LectureRepository {
             System.err.println("[LectureRepository] 파일 로딩 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
         }
-        
-        //누락 필드 보정(연도,학기)
-        boolean patched = false;
-        for (Lecture l : lectureList) {
-            if (l.getYear() == null || l.getYear() == 0) {
-                l.setYear(DEFAULT_YEAR);
-                patched = true;
-            }
-            if (l.getSemester() == null) {
-                l.setSemester(DEFAULT_SEMESTER);
-                patched = true;
-            }
-        }
-        if (patched) {
-            System.out.println("[LectureRepository] 누락된 year/semester 보정 후 파일에 반영합니다.");
-            saveAllToFile(); // 기존 YAML을 덮어써서 year/semester가 추가되도록 함
-        }
     }
 
      public synchronized String save(Lecture lecture) {
@@ -196,6 +263,7 @@ public class LectureRepository {
     
     // 내부적으로만 쓰는 삭제 로직 (파일 저장은 안 함)
     private boolean deleteByIdInternal(String id) {
+            timetables = null; // 시간표는 다음 조회 때 다시 만듦 (save 도 이곳을 거침)
             return lectureList.removeIf(l -> l.getId().equals(id));      
     }
 
@@ -214,6 +282,51 @@ public class LectureRepository {
         return new ArrayList<>(lectureList);
     }
 
+    /**
+     * 강의실 주간 시간표 (연도/학기 구분 없이 모든 강의, 복사본)
+     * - [요일(월=0 ~ 일=6)][교시(0=9시 ~ 12=21시)], 강의 시간과 겹치는 교시마다 강의를 넣는다. (같은 칸이면 목록에서 뒤의 강의)
+     * - 층 또는 강의실이 비어 있으면(전체 조건) null 을 반환하므로 목록에서 직접 찾아야 한다.
+     */
+    public synchronized Lecture[][] findWeeklyTimetable(String building, String floor, String lectureroom) {
+        if (floor == null || floor.isEmpty() || lectureroom == null || lectureroom.isEmpty()) {
+            return null;
+        }
+        Lecture[][] copy = new Lecture[7][];
+        Timetable timetable = timetables().get(new RoomKey(building, floor, lectureroom));
+        for (int day = 0; day < 7; day++) {
+            copy[day] = timetable == null ? new Lecture[TimeGrid.PERIODS] : timetable.cells[day].clone();
+        }
+        return copy;
+    }
+
+    // 강의실 요일(월=0 ~ 일=6)에 강의가 있는 교시 비트 (비트 p = 9+p 시 교시)
+    public synchronized int lectureMask(String building, String floor, String lectureroom, int dayIndex) {
+        Timetable timetable = timetables().get(new RoomKey(building, floor, lectureroom));
+        return timetable == null || dayIndex < 0 || dayIndex >= 7 ? 0 : timetable.masks[dayIndex];
+    }
+
+    // 시간표가 없으면 강의 목록에서 한 번에 만듦 (잠금 안에서 호출)
+    private Map<RoomKey, Timetable> timetables() {
+        if (timetables == null) {
+            Map<RoomKey, Timetable> built = new HashMap<>();
+            for (Lecture l : lectureList) {
+                int day = convertDayToIndex(l.getDay());
+                int mask = TimeGrid.mask(l.getStartTime(), l.getEndTime());
+                if (l.getBuilding() == null || day < 0 || mask == 0) {
+                    continue;
+                }
+                Timetable timetable = built.computeIfAbsent(
+                        new RoomKey(l.getBuilding(), l.getFloor(), l.getLectureroom()), k -> new Timetable());
+                timetable.masks[day] |= mask;
+                for (int bits = mask; bits != 0; bits &= bits - 1) {
+                    timetable.cells[day][Integer.numberOfTrailingZeros(bits)] = l;
+                }
+            }
+            timetables = built;
+        }
+        return timetables;
+    }
+
     // 강의명 + 교수명으로 ID 조회
     public synchronized Optional<String> findIdByLectureNameAndProfessor(String title, String professor) {
         return lectureList.stream()
@@ -0,0 +1,146 @@
+package deu.repository;
+
+import deu.model.entity.RoomReservation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 강의실 하루 점유 색인: (건물, 층, 강의실, 날짜) → 교시 비트 + 교시별 예약 수 + 예약
+ * - 교시는 TimeGrid (9시부터 1시간 단위 13교시), 예약 시간 [시작, 종료) 와 겹치는 교시를 모두 점유로 본다.
+ * - '삭제됨'/'취소됨' 예약은 넣지 않는다. (주간 예약 조회와 같은 기준, 정원 검사의 시간대 색인과는 별개)
+ * - "빈 시간인지" 는 비트 AND 한 번, "몇 명이 쓰는지" 는 교시별 예약 수, 주간 시간표는 날짜별 예약 목록으로 바로 답한다.
+ * - 예약이 어느 강의실/날짜에 어떤 교시로 들어갔는지 ID 별로 기억하므로, 제거할 때 예약 객체 값이 바뀌었어도 건수가 틀어지지 않는다.
+ * ※ 스레드 안전하지 않음 (ReservationRepository 의 읽기/쓰기 잠금 안에서만 사용)
+ */
+final class OccupancyIndex {
+
+    record DayKey(String building, String floor, String room, String date) {}
+
+    // 강의실 하루
+    private static final class Day {
+        private final DayKey key;
+        private final LinkedHashMap<String, RoomReservation> reservations = new LinkedHashMap<>();
+        private final int[] counts = new int[TimeGrid.PERIODS];
+        private int mask;
+
+        private Day(DayKey key) {
+            this.key = key;
+        }
+    }
+
+    // 색인에 넣을 때의 위치/교시
+    private record Entry(RoomReservation reservation, Day day, int mask) {}
+
+    private final Map<DayKey, Day> days = new HashMap<>();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    static boolean occupies(RoomReservation reservation) {
+        return !"삭제됨".equals(reservation.getStatus()) && !"취소됨".equals(reservation.getStatus());
+    }
+
+    static DayKey keyOf(RoomReservation reservation) {
+        return new DayKey(reservation.getBuildingName(), reservation.getFloor(),
+                reservation.getLectureRoom(), reservation.getDate());
+    }
+
+    // 추가 (같은 ID가 있으면 먼저 뺌)
+    void add(RoomReservation reservation) {
+        remove(reservation.getId());
+        if (!occupies(reservation)) {
+            return;
+        }
+        DayKey key = keyOf(reservation);
+        Day day = days.computeIfAbsent(key, Day::new);
+        int mask = TimeGrid.mask(reservation.getStartTime(), reservation.getEndTime());
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            day.counts[Integer.numberOfTrailingZeros(bits)]++;
+        }
+        day.mask |= mask;
+        day.reservations.put(reservation.getId(), reservation);
+        entries.put(reservation.getId(), new Entry(reservation, day, mask));
+    }
+
+    // ID로 제거 (넣을 때 기록한 강의실/날짜/교시 기준)
+    void remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        Day day = entry.day();
+        day.reservations.remove(id);
+        for (int bits = entry.mask(); bits != 0; bits &= bits - 1) {
+            int p = Integer.numberOfTrailingZeros(bits);
+            if (--day.counts[p] == 0) {
+                day.mask &= ~(1 << p);
+            }
+        }
+        if (day.reservations.isEmpty()) {
+            days.remove(day.key);
+        }
+    }
+
+    void clear() {
+        days.clear();
+        entries.clear();
+    }
+
+    // 점유 교시 비트 (비트 p = 9+p 시 교시)
+    int mask(DayKey key) {
+        Day day = days.get(key);
+        return day == null ? 0 : day.mask;
+    }
+
+    // 교시의 예약 수
+    int count(DayKey key, int period) {
+        Day day = days.get(key);
+        return day == null || period < 0 || period >= TimeGrid.PERIODS ? 0 : day.counts[period];
+    }
+
+    // 강의실 하루 예약 (목록 순서)
+    List<RoomReservation> find(DayKey key) {
+        Day day = days.get(key);
+        return day == null ? new ArrayList<>() : new ArrayList<>(day.reservations.values());
+    }
+
+    // 색인된 예약 수 (점검용)
+    int size() {
+        return entries.size();
+    }
+
+    // 색인에 이 객체가 현재 상태 그대로 들어 있는지 (들어가지 않아야 하는 예약이면 빠져 있는지, 점검용)
+    boolean contains(RoomReservation reservation) {
+        Entry entry = entries.get(reservation.getId());
+        if (!occupies(reservation)) {
+            return entry == null;
+        }
+        return entry != null
+                && entry.reservation() == reservation
+                && entry.day().key.equals(keyOf(reservation))
+                && entry.mask() == TimeGrid.mask(reservation.getStartTime(), reservation.getEndTime());
+    }
+
+    // 교시별 예약 수와 비트가 하루의 예약과 일치하는지 (점검용)
+    boolean countsMatch() {
+        for (Day day : days.values()) {
+            int[] counts = new int[TimeGrid.PERIODS];
+            for (RoomReservation reservation : day.reservations.values()) {
+                Entry entry = entries.get(reservation.getId());
+                if (entry == null || entry.day() != day) return false;
+                for (int bits = entry.mask(); bits != 0; bits &= bits - 1) {
+                    counts[Integer.numberOfTrailingZeros(bits)]++;
+                }
+            }
+            int mask = 0;
+            for (int p = 0; p < TimeGrid.PERIODS; p++) {
+                if (counts[p] != day.counts[p]) return false;
+                if (counts[p] > 0) mask |= 1 << p;
+            }
+            if (mask != day.mask) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,173 @@
+package deu.repository;
+
+import deu.model.entity.RoomReservation;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 사용자별 예약 사용량 집계: 학번 → 날짜 → (예약 시간 합계(분), 예약 수, 시작 시간별 예약 수)
+ * - 예약 신청의 하루 시간 제한(120/180분), 7일 최대 5회, 본인 중복 검사를 목록 순회 없이 바로 답한다.
+ * - '삭제됨'/'취소됨' 예약은 집계하지 않는다. 상태가 바뀌어 덮어쓰면 이전 값을 빼고 새 값을 더한다.
+ * - 예약이 어느 사용자/날짜에 몇 분으로 들어갔는지 ID 별로 기억하므로, 제거할 때 예약 객체 값이 바뀌었어도 합계가 틀어지지 않는다.
+ * - 날짜는 문자열("yyyy-MM-dd") 그대로 키로 쓰고, 시작/종료 시간은 넣을 때 한 번만 해석한다.
+ *   해석할 수 없는 예약은 해석 오류와 함께 기록해 두고, 그 날짜의 합계를 물으면 그 오류를 던진다. (0분으로 세지 않음)
+ * ※ 스레드 안전하지 않음 (ReservationRepository 의 읽기/쓰기 잠금 안에서만 사용)
+ */
+final class QuotaIndex {
+
+    // 사용자 하루 합계
+    private static final class Day {
+        private int minutes;
+        private int count;
+        private final Map<String, Integer> starts = new HashMap<>(); // 시작 시간 → 예약 수
+        private final Map<String, RuntimeException> invalid = new LinkedHashMap<>(); // 시간을 해석할 수 없는 예약 ID → 해석 오류
+
+        private boolean isEmpty() {
+            return count == 0;
+        }
+    }
+
+    // 집계에 넣을 때의 위치/값
+    private record Entry(String user, String date, String startTime, int minutes, RuntimeException timeError) {}
+
+    private final Map<String, Map<String, Day>> byUser = new HashMap<>();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    static boolean counts(RoomReservation reservation) {
+        return !"삭제됨".equals(reservation.getStatus()) && !"취소됨".equals(reservation.getStatus());
+    }
+
+    // 예약 시간(분), 시작/종료 시간을 해석할 수 없으면 DateTimeParseException / NullPointerException
+    static int minutesOf(RoomReservation reservation) {
+        return (int) ChronoUnit.MINUTES.between(
+                LocalTime.parse(reservation.getStartTime()), LocalTime.parse(reservation.getEndTime()));
+    }
+
+    // 추가 (같은 ID가 있으면 먼저 뺌, user 는 정규화한 학번)
+    void add(String user, RoomReservation reservation) {
+        remove(reservation.getId());
+        if (user == null || reservation.getDate() == null || !counts(reservation)) {
+            return;
+        }
+        int minutes = 0;
+        RuntimeException timeError = null;
+        try {
+            minutes = minutesOf(reservation);
+        } catch (DateTimeParseException | NullPointerException e) {
+            timeError = e;
+        }
+        Entry entry = new Entry(user, reservation.getDate(), reservation.getStartTime(), minutes, timeError);
+        Day day = byUser.computeIfAbsent(user, k -> new HashMap<>()).computeIfAbsent(entry.date(), k -> new Day());
+        day.minutes += entry.minutes();
+        if (timeError != null) {
+            day.invalid.put(reservation.getId(), timeError);
+        }
+        day.count++;
+        day.starts.merge(String.valueOf(entry.startTime()), 1, Integer::sum);
+        entries.put(reservation.getId(), entry);
+    }
+
+    // ID로 제거 (넣을 때 기록한 값 기준)
+    void remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        Map<String, Day> days = byUser.get(entry.user());
+        Day day = days.get(entry.date());
+        day.minutes -= entry.minutes();
+        day.count--;
+        day.invalid.remove(id);
+        day.starts.computeIfPresent(String.valueOf(entry.startTime()), (k, n) -> n == 1 ? null : n - 1);
+        if (day.isEmpty()) {
+            days.remove(entry.date());
+            if (days.isEmpty()) {
+                byUser.remove(entry.user());
+            }
+        }
+    }
+
+    void clear() {
+        byUser.clear();
+        entries.clear();
+    }
+
+    // 사용자의 그 날짜 예약 시간 합계(분)
+    // 시간을 해석할 수 없는 예약이 있으면 그 해석 오류를 던진다. (목록을 직접 합산하던 때와 같은 예외)
+    int minutes(String user, String date) {
+        Day day = day(user, date);
+        if (day == null) {
+            return 0;
+        }
+        if (!day.invalid.isEmpty()) {
+            throw day.invalid.values().iterator().next();
+        }
+        return day.minutes;
+    }
+
+    // 사용자의 그 날짜 예약 수
+    int count(String user, String date) {
+        Day day = day(user, date);
+        return day == null ? 0 : day.count;
+    }
+
+    // 사용자의 그 날짜/시작 시간 예약이 있는지
+    boolean hasStart(String user, String date, String startTime) {
+        Day day = day(user, date);
+        return day != null && day.starts.containsKey(String.valueOf(startTime));
+    }
+
+    private Day day(String user, String date) {
+        Map<String, Day> days = byUser.get(user);
+        return days == null ? null : days.get(date);
+    }
+
+    // 집계된 예약 수 (점검용)
+    int size() {
+        return entries.size();
+    }
+
+    // expected(처음부터 다시 계산한 집계)와 다른 사용자/날짜 목록 (같으면 빈 목록)
+    List<String> diff(QuotaIndex expected) {
+        List<String> differences = new ArrayList<>();
+        TreeSet<String> users = new TreeSet<>(byUser.keySet());
+        users.addAll(expected.byUser.keySet());
+        for (String user : users) {
+            TreeSet<String> dates = new TreeSet<>(byUser.getOrDefault(user, Map.of()).keySet());
+            dates.addAll(expected.byUser.getOrDefault(user, Map.of()).keySet());
+            for (String date : dates) {
+                Day actual = day(user, date);
+                Day rebuilt = expected.day(user, date);
+                int actualMinutes = actual == null ? 0 : actual.minutes;
+                int actualCount = actual == null ? 0 : actual.count;
+                Map<String, Integer> actualStarts = actual == null ? Map.of() : actual.starts;
+                int rebuiltMinutes = rebuilt == null ? 0 : rebuilt.minutes;
+                int rebuiltCount = rebuilt == null ? 0 : rebuilt.count;
+                Map<String, Integer> rebuiltStarts = rebuilt == null ? Map.of() : rebuilt.starts;
+                Set<String> actualInvalid = actual == null ? Set.of() : actual.invalid.keySet();
+                Set<String> rebuiltInvalid = rebuilt == null ? Set.of() : rebuilt.invalid.keySet();
+                if (actualMinutes != rebuiltMinutes || actualCount != rebuiltCount
+                        || !Objects.equals(actualStarts, rebuiltStarts) || !actualInvalid.equals(rebuiltInvalid)) {
+                    differences.add(String.format("%s %s: 시간 %d분/%d건 %s → 재계산 %d분/%d건 %s",
+                            user, date, actualMinutes, actualCount, new TreeMap<>(actualStarts),
+                            rebuiltMinutes, rebuiltCount, new TreeMap<>(rebuiltStarts)));
+                }
+            }
+        }
+        if (entries.size() != expected.entries.size()) {
+            differences.add(String.format("집계된 예약 수 %d건 → 재계산 %d건", entries.size(), expected.entries.size()));
+        }
+        return differences;
+    }
+}
@@ -0,0 +1,154 @@
+package deu.repository;
+
+import deu.model.dto.request.data.reservation.AccompanyingStudent;
+import deu.model.entity.Lecture;
+import deu.model.entity.RoomReservation;
+import deu.model.entity.User;
+import deu.model.enums.Semester;
+import deu.protocol.BinaryReader;
+import deu.protocol.BinaryWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저장 파일(변경 로그, 바이너리 스냅샷)용 엔티티 인코딩
+ * - 통신용 BinaryCodec 과 분리된 형식이다. (통신 태그/필드가 바뀌어도 저장 파일은 영향을 받지 않음)
+ * - 타입 태그 없이 엔티티 필드를 VERSION 에 정해진 순서대로 기록한다. 기본 타입(문자열, varint)은 BinaryWriter/BinaryReader 를 그대로 쓴다.
+ * - 읽을 때는 파일에 기록된 버전을 받아 그 버전의 순서대로 해석하고, 모르는 버전이면 IOException.
+ *
+ * 버전 1
+ * - RoomReservation: id, buildingName, floor, lectureRoom, number, status, title, description, date,
+ *   dayOfTheWeek, startTime, endTime, purpose (문자열), accompanyingStudentCount (signed varint),
+ *   accompanyingStudents (목록), cancellationReason (문자열)
+ * - 목록: [개수+1 varint, null 이면 0][원소...], AccompanyingStudent: studentId, name
+ * - User: number, password, name, major
+ * - Lecture: id, title, lectureroom, building, floor, professor, day, startTime, endTime (문자열),
+ *   year ([1바이트 있음 여부][signed varint]), semester (enum 이름 문자열)
+ *
+ * ※ 필드를 추가/변경하면 VERSION 을 올리고, 이전 버전 읽기를 유지할 것
+ */
+final class RecordCodec {
+
+    static final int VERSION = 1;
+
+    private RecordCodec() {}
+
+    static void writeReservation(BinaryWriter out, RoomReservation r) {
+        out.writeString(r.getId());
+        out.writeString(r.getBuildingName());
+        out.writeString(r.getFloor());
+        out.writeString(r.getLectureRoom());
+        out.writeString(r.getNumber());
+        out.writeString(r.getStatus());
+        out.writeString(r.getTitle());
+        out.writeString(r.getDescription());
+        out.writeString(r.getDate());
+        out.writeString(r.getDayOfTheWeek());
+        out.writeString(r.getStartTime());
+        out.writeString(r.getEndTime());
+        out.writeString(r.getPurpose());
+        out.writeSignedVarInt(r.getAccompanyingStudentCount());
+        List<AccompanyingStudent> students = r.getAccompanyingStudents();
+        out.writeVarInt(students == null ? 0 : students.size() + 1);
+        if (students != null) {
+            for (AccompanyingStudent s : students) {
+                out.writeString(s.getStudentId());
+                out.writeString(s.getName());
+            }
+        }
+        out.writeString(r.getCancellationReason());
+    }
+
+    static RoomReservation readReservation(BinaryReader in, int version) throws IOException {
+        checkVersion(version);
+        RoomReservation r = new RoomReservation();
+        r.setId(in.readString());
+        r.setBuildingName(in.readString());
+        r.setFloor(in.readString());
+        r.setLectureRoom(in.readString());
+        r.setNumber(in.readString());
+        r.setStatus(in.readString());
+        r.setTitle(in.readString());
+        r.setDescription(in.readString());
+        r.setDate(in.readString());
+        r.setDayOfTheWeek(in.readString());
+        r.setStartTime(in.readString());
+        r.setEndTime(in.readString());
+        r.setPurpose(in.readString());
+        r.setAccompanyingStudentCount(in.readSignedVarInt());
+        int count = in.readVarInt();
+        if (count < 0 || count - 1 > in.remaining()) {
+            throw new IOException("잘못된 동반 학생 수: " + (count - 1));
+        }
+        if (count > 0) {
+            List<AccompanyingStudent> students = new ArrayList<>(count - 1);
+            for (int i = 1; i < count; i++) {
+                students.add(new AccompanyingStudent(in.readString(), in.readString()));
+            }
+            r.setAccompanyingStudents(students);
+        } else {
+            r.setAccompanyingStudents(null);
+        }
+        r.setCancellationReason(in.readString());
+        return r;
+    }
+
+    static void writeUser(BinaryWriter out, User u) {
+        out.writeString(u.number);
+        out.writeString(u.password);
+        out.writeString(u.name);
+        out.writeString(u.major);
+    }
+
+    static User readUser(BinaryReader in, int version) throws IOException {
+        checkVersion(version);
+        return new User(in.readString(), in.readString(), in.readString(), in.readString());
+    }
+
+    static void writeLecture(BinaryWriter out, Lecture l) {
+        out.writeString(l.getId());
+        out.writeString(l.getTitle());
+        out.writeString(l.getLectureroom());
+        out.writeString(l.getBuilding());
+        out.writeString(l.getFloor());
+        out.writeString(l.getProfessor());
+        out.writeString(l.getDay());
+        out.writeString(l.getStartTime());
+        out.writeString(l.getEndTime());
+        out.writeBoolean(l.getYear() != null);
+        if (l.getYear() != null) {
+            out.writeSignedVarInt(l.getYear());
+        }
+        out.writeString(l.getSemester() != null ? l.getSemester().name() : null);
+    }
+
+    static Lecture readLecture(BinaryReader in, int version) throws IOException {
+        checkVersion(version);
+        Lecture l = new Lecture();
+        l.setId(in.readString());
+        l.setTitle(in.readString());
+        l.setLectureroom(in.readString());
+        l.setBuilding(in.readString());
+        l.setFloor(in.readString());
+        l.setProfessor(in.readString());
+        l.setDay(in.readString());
+        l.setStartTime(in.readString());
+        l.setEndTime(in.readString());
+        l.setYear(in.readBoolean() ? in.readSignedVarInt() : null);
+        String semester = in.readString();
+        try {
+            l.setSemester(semester != null ? Semester.valueOf(semester) : null);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("알 수 없는 학기: " + semester);
+        }
+        return l;
+    }
+
+    static void checkVersion(int version) throws IOException {
+        if (version < 1 || version > VERSION) {
+            throw new IOException("지원하지 않는 저장 형식 버전: " + version + " (지원 1~" + VERSION + ")");
+        }
+    }
+}
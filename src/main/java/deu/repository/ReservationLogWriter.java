@@ -0,0 +1,348 @@
+package deu.repository;
+
+import deu.model.entity.RoomReservation;
+import deu.moniter.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 예약 변경 로그 기록 스레드 (group commit / write-behind)
+ * - 요청 스레드는 변경을 기록 대기열에 넣고 번호(ticket)를 받는다. (디스크 I/O 없음)
+ * - 기록 스레드(reservation-writer) 하나가 대기열에 쌓인 변경을 한 번에 꺼내 로그에 추가하고
+ *   fsync 는 묶음당 1번만 한다. (동시에 들어온 예약 여러 건이 디스크 반영 1번을 공유)
+ * - SYNC 모드의 요청 스레드는 저장소 잠금을 놓은 뒤 awaitDurable(ticket) 으로 자기 변경이 반영될 때까지 기다린다.
+ * - 스냅샷 저장처럼 로그 파일을 직접 다루는 작업은 runTask 로 넘겨 기록 스레드에서 순서대로 실행한다.
+ * - 대기열이 가득 차면 submit 이 기다린다. (기록이 밀릴 때 요청 속도를 늦추는 역할)
+ * - 로그 추가/fsync 에 실패한 변경은 스냅샷 저장(FlushListener)으로 대신 반영한 뒤에야 완료로 알린다.
+ *   스냅샷 저장도 실패하면 그 번호들은 실패로 완료되어 awaitDurable 이 UncheckedIOException 을 던진다.
+ */
+class ReservationLogWriter {
+
+    private static final int MAX_BATCH = 1024;
+    // 기억해 둘 실패 구간 수 (요청 스레드는 완료 직후 깨어나 확인하므로 오래된 구간은 버림)
+    private static final int MAX_FAILURES = 1024;
+
+    // 기록 스레드에서 실행할 작업
+    interface Task {
+        void run() throws IOException;
+    }
+
+    // 대기열에 넣은 작업 (await: 끝날 때까지 대기, 작업에서 난 오류는 그대로 던짐)
+    interface PendingTask {
+        void await() throws IOException;
+    }
+
+    // 묶음 기록이 끝날 때마다 호출 (failed: 로그 기록/반영 실패 여부, true 이면 스냅샷을 fsync 까지 저장해야 함)
+    interface FlushListener {
+        void afterFlush(boolean failed) throws IOException;
+    }
+
+    private static final class Entry {
+        final long ticket;
+        final byte type;                 // ReservationWal.SAVE / DELETE, 작업이면 0
+        final RoomReservation reservation;
+        final String id;
+        final Task task;
+        volatile boolean done;
+        volatile IOException error;
+
+        Entry(long ticket, byte type, RoomReservation reservation, String id, Task task) {
+            this.ticket = ticket;
+            this.type = type;
+            this.reservation = reservation;
+            this.id = id;
+            this.task = task;
+        }
+    }
+
+    private final ReservationWal wal;
+    private final Durability durability;
+    private final FlushListener listener; // 로그 압축 확인 (저장소에서 스냅샷 저장)
+    private final LatencyHistogram flushTime;
+    private final BlockingQueue<Entry> queue;
+
+    // 기록에 실패한 번호 구간 (마지막 번호 → 구간), 요청 스레드가 자기 번호의 실패 여부를 확인 (lock 으로 보호)
+    private record Failure(long first, IOException error) {}
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition progressed = lock.newCondition();
+    private final TreeMap<Long, Failure> failures = new TreeMap<>();
+    private long lastTicket;              // 마지막으로 발급한 번호 (submit 에서만 변경)
+    private volatile long durableTicket;  // 디스크 반영이 끝난 마지막 번호
+    private volatile Thread thread;
+
+    ReservationLogWriter(ReservationWal wal, Durability durability, int capacity,
+                         FlushListener listener, LatencyHistogram flushTime) {
+        this.wal = wal;
+        this.durability = durability;
+        this.listener = listener;
+        this.flushTime = flushTime;
+        this.queue = new ArrayBlockingQueue<>(Math.max(16, capacity));
+    }
+
+    synchronized void start() {
+        if (thread != null) {
+            return;
+        }
+        Thread writer = new Thread(this::writeLoop, "reservation-writer");
+        writer.setDaemon(true);
+        thread = writer;
+        writer.start();
+    }
+
+    Durability getDurability() {
+        return durability;
+    }
+
+    // 기록 대기 중인 변경 수
+    int getPendingCount() {
+        return queue.size();
+    }
+
+    long submitSave(RoomReservation reservation) {
+        return enqueue(ReservationWal.SAVE, reservation, null, null).ticket;
+    }
+
+    long submitDelete(String id) {
+        return enqueue(ReservationWal.DELETE, null, id, null).ticket;
+    }
+
+    /**
+     * 앞서 넣은 변경을 모두 기록한 뒤 작업을 실행하고, 끝날 때까지 대기
+     * @throws IOException 작업에서 발생한 오류
+     */
+    void runTask(Task task) throws IOException {
+        submitTask(task).await();
+    }
+
+    // 작업을 대기열에 넣기만 하고 반환 (호출한 쪽의 잠금 안에서 순서를 정한 뒤, 잠금 밖에서 await 로 기다리기 위함)
+    PendingTask submitTask(Task task) {
+        Entry entry = enqueue((byte) 0, null, null, task);
+        return () -> {
+            lock.lock();
+            try {
+                while (!entry.done) {
+                    progressed.awaitUninterruptibly();
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (entry.error != null) {
+                throw entry.error;
+            }
+        };
+    }
+
+    /**
+     * SYNC 모드: 해당 번호까지 디스크에 반영될 때까지 대기 (ASYNC 모드는 바로 반환)
+     * @throws UncheckedIOException 이 번호의 변경을 로그에도 스냅샷에도 기록하지 못했을 때
+     */
+    void awaitDurable(long ticket) {
+        if (durability == Durability.ASYNC) {
+            return;
+        }
+        awaitTicket(ticket, Long.MAX_VALUE);
+        IOException error = failureOf(ticket);
+        if (error != null) {
+            throw new UncheckedIOException("예약 변경을 디스크에 기록하지 못했습니다: " + error.getMessage(), error);
+        }
+    }
+
+    // 번호의 기록 실패 원인 (성공했으면 null)
+    private IOException failureOf(long ticket) {
+        lock.lock();
+        try {
+            Map.Entry<Long, Failure> entry = failures.ceilingEntry(ticket);
+            return entry != null && entry.getValue().first() <= ticket ? entry.getValue().error() : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지금까지 넣은 변경이 모두 반영될 때까지 대기 (종료 시 사용)
+     * @return 제한 시간 안에 모두 반영되면 true
+     */
+    boolean flush(long timeoutMillis) {
+        long target;
+        synchronized (this) {
+            target = lastTicket;
+        }
+        return awaitTicket(target, TimeUnit.MILLISECONDS.toNanos(timeoutMillis));
+    }
+
+    private boolean awaitTicket(long ticket, long timeoutNanos) {
+        if (durableTicket >= ticket) {
+            return true;
+        }
+        long remaining = timeoutNanos;
+        lock.lock();
+        try {
+            while (durableTicket < ticket) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = progressed.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return durableTicket >= ticket;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 번호 발급과 대기열 등록을 함께 해서 번호 순서 = 대기열 순서가 되도록 함
+    private synchronized Entry enqueue(byte type, RoomReservation reservation, String id, Task task) {
+        Entry entry = new Entry(++lastTicket, type, reservation, id, task);
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(entry);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        return entry;
+    }
+
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(MAX_BATCH);
+        while (true) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue; // 데몬 스레드이므로 종료하지 않음
+            }
+            queue.drainTo(batch, MAX_BATCH - 1);
+
+            long start = System.nanoTime();
+            long first = 0;          // 로그에 추가했지만 아직 반영을 확인하지 않은 첫 번호
+            long last = 0;           // 로그에 추가했지만 아직 반영을 확인하지 않은 마지막 번호
+            IOException error = null; // 로그 추가 중 첫 오류
+            boolean failed = false;
+            for (Entry entry : batch) {
+                if (entry.task != null) {
+                    failed |= settle(first, last, error);
+                    first = last = 0;
+                    error = null;
+                    try {
+                        entry.task.run();
+                    } catch (IOException | RuntimeException e) {
+                        entry.error = e instanceof IOException ? (IOException) e : new IOException(e);
+                    }
+                    complete(entry.ticket, entry);
+                    continue;
+                }
+                try {
+                    if (entry.type == ReservationWal.SAVE) {
+                        wal.appendSave(entry.reservation);
+                    } else {
+                        wal.appendDelete(entry.id);
+                    }
+                } catch (IOException e) {
+                    System.err.println("[ReservationRepository] 변경 로그 기록 실패: " + e.getMessage());
+                    if (error == null) {
+                        error = e;
+                    }
+                }
+                if (first == 0) {
+                    first = entry.ticket;
+                }
+                last = entry.ticket;
+            }
+            failed |= settle(first, last, error);
+            flushTime.record(System.nanoTime() - start, failed);
+            batch.clear();
+
+            // 로그가 충분히 쌓이면 스냅샷으로 합침 (실패한 묶음은 settle 에서 이미 스냅샷을 저장함)
+            if (!failed) {
+                try {
+                    listener.afterFlush(false);
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("[ReservationRepository] 스냅샷 저장 실패: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * 번호 first~last 의 변경을 디스크에 반영한 뒤 대기 중인 요청 스레드를 깨움
+     * - 로그 추가(error) 또는 fsync 에 실패하면 스냅샷 저장으로 대신 반영하고,
+     *   스냅샷 저장까지 실패하면 그 번호들을 실패로 완료한다.
+     * @return 로그 기록/반영에 실패했으면 true
+     */
+    private boolean settle(long first, long last, IOException error) {
+        if (last == 0) {
+            return false;
+        }
+        if (error == null) {
+            try {
+                wal.sync();
+            } catch (IOException e) {
+                System.err.println("[ReservationRepository] 변경 로그 디스크 반영 실패: " + e.getMessage());
+                error = e;
+            }
+        }
+        if (error == null) {
+            complete(last, null);
+            return false;
+        }
+
+        IOException unresolved = error;
+        try {
+            listener.afterFlush(true); // 메모리의 예약 전체를 스냅샷으로 저장 (fsync 후 로그 비움)
+            unresolved = null;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("[ReservationRepository] 스냅샷 저장 실패: " + e.getMessage());
+            error.addSuppressed(e);
+        }
+        if (unresolved != null) {
+            fail(first, last, unresolved);
+        }
+        complete(last, null);
+        return true;
+    }
+
+    private void fail(long first, long last, IOException error) {
+        lock.lock();
+        try {
+            failures.put(last, new Failure(first, error));
+            if (failures.size() > MAX_FAILURES) {
+                failures.pollFirstEntry();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void complete(long ticket, Entry task) {
+        lock.lock();
+        try {
+            if (ticket > durableTicket) {
+                durableTicket = ticket;
+            }
+            if (task != null) {
+                task.done = true;
+            }
+            progressed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
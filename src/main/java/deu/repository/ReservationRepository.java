@@ -1,18 +1,36 @@
 package deu.repository;
 
 import deu.model.entity.RoomReservation;
+import deu.moniter.LatencyHistogram;
+import deu.moniter.Metrics;
 import lombok.Getter;
 import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.nodes.Tag;
 import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Collections;
 import java.util.Optional;
-
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 예약 저장소
+ * - 스냅샷(reservations.yaml 또는 .bin) + 변경 로그(reservations.wal), 시작 시 스냅샷을 읽고 로그를 재생한다.
+ * - 목록(byId)과 조회용 색인은 읽기/쓰기 잠금(lock)으로 보호하고, 변경은 this 모니터 안에서 메모리 반영 + 기록 대기열 등록만 한다.
+ *   파일 기록/fsync/스냅샷 저장은 기록 스레드(ReservationLogWriter)가 대기열 순서대로 하므로 변경을 막지 않는다.
+ * ※ 색인에 넣은 예약의 ID/학번은 바꾸지 말 것 (바꿀 때는 toBuilder 로 새 객체를 만들어 save)
+ */
 public class ReservationRepository {
 
     private static final String FILE_PATH =
@@ -20,12 +38,60 @@ public class ReservationRepository {
                     + File.separator + "data"
                     + File.separator + "reservations.yaml";
 
+    private static final String BIN_PATH =
+            System.getProperty("user.dir")
+                    + File.separator + "data"
+                    + File.separator + "reservations.bin";
+
+    private static final String WAL_PATH =
+            System.getProperty("user.dir")
+                    + File.separator + "data"
+                    + File.separator + "reservations.wal";
+
+    // 스냅샷을 새로 쓰기 전까지 쌓을 최소 로그 레코드 수
+    private static final int COMPACT_RECORDS = Math.max(1, Integer.getInteger("server.walCompactRecords", 1000));
+
+    private static final SnapshotFormat FORMAT = SnapshotFormat.configured();
+    private static final Durability DURABILITY = Durability.fromString(System.getProperty("server.durability"));
+    private static final int WRITE_QUEUE = Integer.getInteger("server.persistQueue", 4096);
+
+    // 성능 지표 (파일 저장 / 스캔 시간)
+    private static final LatencyHistogram SAVE_TIME = Metrics.getInstance().histogram("저장소 예약 파일 저장");
+    private static final LatencyHistogram WAL_TIME = Metrics.getInstance().histogram("저장소 예약 로그 기록");
+    private static final LatencyHistogram FIND_ALL_TIME = Metrics.getInstance().histogram("저장소 예약 전체 복사");
+    private static final LatencyHistogram FIND_BY_USER_TIME = Metrics.getInstance().histogram("저장소 예약 사용자 조회");
+    private static final LatencyHistogram FIND_BY_ID_TIME = Metrics.getInstance().histogram("저장소 예약 ID 조회");
+    private static final LatencyHistogram DUPLICATE_TIME = Metrics.getInstance().histogram("저장소 예약 중복 조회");
+    private static final LatencyHistogram RANGE_TIME = Metrics.getInstance().histogram("저장소 예약 기간 조회");
+    private static final LatencyHistogram SLOT_TIME = Metrics.getInstance().histogram("저장소 예약 시간대 조회");
+    private static final LatencyHistogram QUOTA_TIME = Metrics.getInstance().histogram("저장소 예약 사용량 조회");
+    private static final LatencyHistogram OCCUPANCY_TIME = Metrics.getInstance().histogram("저장소 예약 강의실 점유 조회");
+
     @Getter
     private static final ReservationRepository instance = new ReservationRepository();
 
     //private final List<RoomReservation> roomReservationList = new ArrayList<>();
-    private final List<RoomReservation> roomReservationList = Collections.synchronizedList(new ArrayList<>());
+    //private final List<RoomReservation> roomReservationList = Collections.synchronizedList(new ArrayList<>());
+    // 예약 목록과 색인은 lock 으로 보호 (조회는 읽기 잠금으로 동시에, 변경은 쓰기 잠금)
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 백업 파일 쓰기 순서용 (예약 변경의 this 모니터와 별개)
+    private final Object backupMonitor = new Object();
+    // 예약 목록: ID → 예약 (넣은 순서 유지, 덮어쓰면 목록 끝으로)
+    private final LinkedHashMap<String, RoomReservation> byId = new LinkedHashMap<>();
+    // 정규화한 학번(앞뒤 공백 제거, 소문자) → (ID → 예약), 목록과 같은 순서 유지
+    private final Map<String, LinkedHashMap<String, RoomReservation>> byUser = new HashMap<>();
+    // (건물, 층, 강의실, 날짜, 시작 시간) → 예약 + 유효 건수
+    private final SlotIndex slots = new SlotIndex();
+    // 날짜 → 예약 (날짜는 넣을 때 한 번만 해석)
+    private final DateIndex dates = new DateIndex();
+    // 학번 → 날짜 → 예약 시간 합계/예약 수 ('삭제됨'/'취소됨' 제외, 예약 신청 제한 검사용)
+    private final QuotaIndex quotas = new QuotaIndex();
+    // (건물, 층, 강의실, 날짜) → 교시 점유 비트 + 교시별 예약 수 ('삭제됨'/'취소됨' 제외, 빈 시간 확인/주간 시간표용)
+    private final OccupancyIndex occupancy = new OccupancyIndex();
     private final Yaml yaml;
+    private final ReservationWal wal = new ReservationWal(new File(WAL_PATH));
+    private final ReservationLogWriter writer =
+            new ReservationLogWriter(wal, DURABILITY, WRITE_QUEUE, this::compactIfNeeded, WAL_TIME);
 
     // Wrapper 클래스 (YAML 상단에 키 유지)
     public static class RoomReservationWrapper {
@@ -42,10 +108,41 @@ public class ReservationRepository {
         representer.addClassTag(RoomReservationWrapper.class, Tag.MAP);
         representer.addClassTag(RoomReservation.class, Tag.MAP);
 
-        this.yaml = new Yaml(representer, options);
+        // 기본 읽기 제한(3MB)으로는 예약 약 9천 건 이상의 파일을 읽지 못하므로 제한을 풂
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(Integer.MAX_VALUE);
+
+        this.yaml = new Yaml(new Constructor(loaderOptions), representer, options, loaderOptions);
 
         createDataDirectoryIfNeeded();
         loadFromFile();
+
+        // 스냅샷이 없거나 재생한 로그가 있으면 바로 스냅샷으로 합침
+        // (바이너리 형식인데 .bin 이 없으면 여기서 YAML 스냅샷을 변환 저장)
+        if (!snapshotFile().exists() || wal.getRecordCount() > 0) {
+            try {
+                writeSnapshot();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+
+        writer.start();
+        // async 모드에서 대기열에 남은 변경을 종료 전에 기록
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> writer.flush(2000), "reservation-flush"));
+    }
+
+    public Durability getDurability() {
+        return writer.getDurability();
+    }
+
+    public SnapshotFormat getSnapshotFormat() {
+        return FORMAT;
+    }
+
+    // 현재 형식의 스냅샷 파일
+    private static File snapshotFile() {
+        return new File(FORMAT == SnapshotFormat.BINARY ? BIN_PATH : FILE_PATH);
     }
 
     // 디렉토리 생성
@@ -63,14 +160,64 @@ public class ReservationRepository {
 //        saveToFile();
 //    }
     //수정
-    public synchronized void save(RoomReservation reservation) {
-        //기존에 같은 ID가 있다면 제거 (덮어쓰기 효과)
-        synchronized (roomReservationList) {
-            roomReservationList.removeIf(r -> r.getId().equals(reservation.getId()));
-            roomReservationList.add(reservation);
+    public void save(RoomReservation reservation) {
+        //디스크 반영 대기 (sync 모드, 로그와 스냅샷 모두 기록하지 못하면 UncheckedIOException)
+        awaitDurable(insert(reservation));
+    }
+
+    /**
+     * 메모리 반영 + 변경 로그 기록 대기열 등록까지만 하고 기록 번호(ticket)를 반환 (디스크 반영은 기다리지 않음)
+     * - 호출한 쪽이 다른 잠금(예: 예약 신청 잠금)을 잡고 있을 때, 그 잠금을 놓은 뒤 awaitDurable(ticket) 으로 기다리기 위함
+     * - 반환 전에 이 예약은 조회/색인에 이미 반영되어 있다.
+     */
+    public long insert(RoomReservation reservation) {
+        synchronized (this) {
+            //기존에 같은 ID가 있다면 제거 (덮어쓰기 효과, 색인으로 바로 찾음)
+            lock.writeLock().lock();
+            try {
+                index(reservation);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            //변경 로그 기록 대기열에 등록
+            return writer.submitSave(reservation);
         }
-        //파일에 저장
-        saveToFile();
+    }
+
+    // 여러 건 일괄 저장 (같은 ID는 덮어쓰기, 디스크 반영은 마지막에 한 번만)
+    public void saveAll(Collection<RoomReservation> reservations) {
+        awaitDurable(insertAll(reservations));
+    }
+
+    // 여러 건 메모리 반영 + 기록 대기열 등록 후 마지막 기록 번호 반환 (insert 의 일괄 버전, 빈 목록이면 0)
+    public long insertAll(Collection<RoomReservation> reservations) {
+        // 목록 안에서 ID가 겹치면 마지막 것만 저장 (save 를 차례로 부른 것과 같은 결과)
+        Map<String, RoomReservation> batch = new LinkedHashMap<>();
+        for (RoomReservation reservation : reservations) {
+            batch.remove(reservation.getId());
+            batch.put(reservation.getId(), reservation);
+        }
+        long ticket = 0;
+        synchronized (this) {
+            lock.writeLock().lock();
+            try {
+                for (RoomReservation reservation : batch.values()) {
+                    index(reservation);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            for (RoomReservation reservation : batch.values()) {
+                ticket = writer.submitSave(reservation);
+            }
+        }
+        return ticket;
+    }
+
+    // insert/insertAll 이 반환한 기록 번호까지 디스크 반영 대기 (sync 모드만, 잠금을 잡지 않은 상태에서 호출)
+    // 로그와 스냅샷 모두 기록하지 못하면 UncheckedIOException
+    public void awaitDurable(long ticket) {
+        writer.awaitDurable(ticket);
     }
 
 //    //예약 삭제 (객체 기준)
@@ -79,11 +226,23 @@ public class ReservationRepository {
 //        saveToFile();
 //    }
     //[수정]예약 삭제 (객체 기준) + synchronized
-    public synchronized void delete(RoomReservation reservation) {
-        synchronized (roomReservationList) {
-            roomReservationList.remove(reservation);
+    public void delete(RoomReservation reservation) {
+        long ticket = 0;
+        synchronized (this) {
+            boolean removed;
+            lock.writeLock().lock();
+            try {
+                // 색인에 같은 객체가 있을 때만 삭제 (기존 remove 와 같은 기준)
+                removed = byId.get(reservation.getId()) == reservation;
+                if (removed) {
+                    unindex(reservation);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (removed) ticket = writer.submitDelete(reservation.getId());
         }
-        saveToFile();
+        writer.awaitDurable(ticket);
     }
 
 //    // 예약 ID로 삭제
@@ -93,12 +252,23 @@ public class ReservationRepository {
 //        return result;
 //    }
     //[수정] 예약 ID로 삭제 + synchronized
-    public synchronized boolean deleteById(String id) {
+    public boolean deleteById(String id) {
         boolean result;
-        synchronized (roomReservationList) {
-            result = roomReservationList.removeIf(r -> r.getId().equals(id));
+        long ticket = 0;
+        synchronized (this) {
+            lock.writeLock().lock();
+            try {
+                RoomReservation removed = byId.get(id);
+                result = removed != null;
+                if (result) {
+                    unindex(removed);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (result) ticket = writer.submitDelete(id);
         }
-        if (result) saveToFile();
+        writer.awaitDurable(ticket);
         return result;
     }
 
@@ -109,13 +279,15 @@ public class ReservationRepository {
 //                .findFirst()
 //                .orElse(null);
 //    }
-    //[수정] 예약 ID로 조회 + synchronized
-    public synchronized RoomReservation findById(String id) {
-        synchronized (roomReservationList) {
-            return roomReservationList.stream()
-                    .filter(r -> r.getId().equals(id))
-                    .findFirst()
-                    .orElse(null);
+    //[수정] 예약 ID로 조회 + 읽기 잠금
+    public RoomReservation findById(String id) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return byId.get(id);
+        } finally {
+            lock.readLock().unlock();
+            FIND_BY_ID_TIME.recordSince(start);
         }
     }
 
@@ -135,20 +307,59 @@ public class ReservationRepository {
 //        }
 //        return results;
 //    }
-    //[수정] 사용자 ID로 전체 예약 조회 + synchronized
-    public synchronized List<RoomReservation> findByUser(String userId) {
+    //[수정] 사용자 ID로 전체 예약 조회 + 읽기 잠금
+    // 학번 색인에서 해당 사용자의 예약만 복사 (대소문자/앞뒤 공백 무시, 목록 순서 유지)
+    public List<RoomReservation> findByUser(String userId) {
         if (userId == null) return new ArrayList<>();
-        String target = userId.trim().toLowerCase();
+        String target = userKey(userId);
+
+        long start = System.nanoTime();
+        List<RoomReservation> results;
+        lock.readLock().lock();
+        try {
+            Map<String, RoomReservation> reservations = byUser.get(target);
+            results = reservations == null ? new ArrayList<>() : new ArrayList<>(reservations.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+        FIND_BY_USER_TIME.recordSince(start);
+        return results;
+    }
+
+    // 기간(from ~ to, 양 끝 포함) 안의 예약 (상태 무관, 날짜 순)
+    public List<RoomReservation> findByDateRange(LocalDate from, LocalDate to) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return dates.find(from, to);
+        } finally {
+            lock.readLock().unlock();
+            RANGE_TIME.recordSince(start);
+        }
+    }
 
+    // 사용자의 기간(from ~ to, 양 끝 포함) 안 예약 (상태 무관, 목록 순서)
+    // 사용자 색인에서 꺼낸 뒤 미리 해석해 둔 날짜로 거름 (날짜 문자열을 다시 해석하지 않음)
+    public List<RoomReservation> findByUserAndDateRange(String userId, LocalDate from, LocalDate to) {
         List<RoomReservation> results = new ArrayList<>();
-        synchronized (roomReservationList) {
-            for (RoomReservation r : roomReservationList) {
-                if (r.getNumber() != null &&
-                        r.getNumber().trim().toLowerCase().equals(target)) {
-                    results.add(r);
+        if (userId == null) return results;
+
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            Map<String, RoomReservation> reservations = byUser.get(userKey(userId));
+            if (reservations != null) {
+                for (RoomReservation reservation : reservations.values()) {
+                    LocalDate date = dates.dateOf(reservation.getId());
+                    if (date != null && !date.isBefore(from) && !date.isAfter(to)) {
+                        results.add(reservation);
+                    }
                 }
             }
+        } finally {
+            lock.readLock().unlock();
         }
+        RANGE_TIME.recordSince(start);
         return results;
     }
 
@@ -156,12 +367,17 @@ public class ReservationRepository {
 //    public List<RoomReservation> findAll() {
 //        return new ArrayList<>(roomReservationList);
 //    }
-    //[수정] 모든 예약 반환 (loadFromFile 삭제!) + synchronized
-    public synchronized List<RoomReservation> findAll() {
+    //[수정] 모든 예약 반환 (loadFromFile 삭제!) + 읽기 잠금
+    public List<RoomReservation> findAll() {
         // loadFromFile(); //[삭제]이 줄이 버그의 원인 (데이터 꼬임 유발)
         
-        synchronized (roomReservationList) {
-            return new ArrayList<>(roomReservationList); // 복사본 반환
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(byId.values()); // 복사본 반환
+        } finally {
+            lock.readLock().unlock();
+            FIND_ALL_TIME.recordSince(start);
         }
     }
 
@@ -177,23 +393,139 @@ public class ReservationRepository {
 //        return false;
 //    }
    //[수정] 중복 체크 (상태가 '취소'이거나 '거절'인 예약은 중복 검사에서 제외)
-    public synchronized boolean isDuplicate(String date, String startTime, String lectureRoom) {
-        synchronized (roomReservationList) {
-            for (RoomReservation r : roomReservationList) {
-                // 1. 이미 취소되었거나 거절된 예약은 건너뜀 (즉, 해당 시간 예약 가능)
-                if ("취소".equals(r.getStatus()) || "거절".equals(r.getStatus())) {
-                    continue;
-                }
+    // 시간대 색인의 유효 건수로 판단 (날짜, 시간, 강의실이 같고 취소/거절이 아닌 예약이 있으면 중복)
+    public boolean isDuplicate(String date, String startTime, String lectureRoom) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return slots.hasActive(lectureRoom, date, startTime);
+        } finally {
+            lock.readLock().unlock();
+            DUPLICATE_TIME.recordSince(start);
+        }
+    }
 
-                // 2. 날짜, 시간, 강의실이 겹치는지 확인
-                if (r.getDate().equals(date)
-                        && r.getStartTime().equals(startTime)
-                        && r.getLectureRoom().equals(lectureRoom)) {
-                    return true; // 중복됨
-                }
+    // 강의실 시간대(건물, 층, 강의실, 날짜, 시작 시간이 모두 같은)의 예약 목록 (상태 무관, 목록 순서)
+    public List<RoomReservation> findBySlot(String buildingName, String floor, String lectureRoom,
+                                            String date, String startTime) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return slots.find(new SlotIndex.SlotKey(buildingName, floor, lectureRoom, date, startTime));
+        } finally {
+            lock.readLock().unlock();
+            SLOT_TIME.recordSince(start);
+        }
+    }
+
+    // 강의실 시간대의 '삭제됨' 제외 예약 수
+    public int countLiveInSlot(String buildingName, String floor, String lectureRoom,
+                               String date, String startTime) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return slots.liveCount(new SlotIndex.SlotKey(buildingName, floor, lectureRoom, date, startTime));
+        } finally {
+            lock.readLock().unlock();
+            SLOT_TIME.recordSince(start);
+        }
+    }
+
+    // 건물/층과 관계없이 강의실, 날짜, 시작 시간이 같은 '삭제됨' 제외 예약 수
+    public int countLiveInRoomSlot(String lectureRoom, String date, String startTime) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return slots.liveCount(lectureRoom, date, startTime);
+        } finally {
+            lock.readLock().unlock();
+            SLOT_TIME.recordSince(start);
+        }
+    }
+
+    // 강의실 하루 점유 교시 비트 ('삭제됨'/'취소됨' 제외, 비트 p = 9+p 시 ~ 10+p 시)
+    public int occupancyMask(String buildingName, String floor, String lectureRoom, String date) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return occupancy.mask(new OccupancyIndex.DayKey(buildingName, floor, lectureRoom, date));
+        } finally {
+            lock.readLock().unlock();
+            OCCUPANCY_TIME.recordSince(start);
+        }
+    }
+
+    // 강의실 교시(0 = 9시 ~ 12 = 21시)를 쓰는 예약 수 ('삭제됨'/'취소됨' 제외)
+    public int countOccupying(String buildingName, String floor, String lectureRoom, String date, int period) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return occupancy.count(new OccupancyIndex.DayKey(buildingName, floor, lectureRoom, date), period);
+        } finally {
+            lock.readLock().unlock();
+            OCCUPANCY_TIME.recordSince(start);
+        }
+    }
+
+    // 강의실이 그 날짜 시작 ~ 종료 시간에 비어 있는지 (겹치는 교시에 예약이 하나도 없으면 true, 시간을 해석할 수 없으면 false)
+    public boolean isRoomFree(String buildingName, String floor, String lectureRoom,
+                              String date, String startTime, String endTime) {
+        int wanted = TimeGrid.mask(startTime, endTime);
+        return wanted != 0 && (occupancyMask(buildingName, floor, lectureRoom, date) & wanted) == 0;
+    }
+
+    // 강의실 하루 예약 ('삭제됨'/'취소됨' 제외, 목록 순서)
+    public List<RoomReservation> findByRoomAndDate(String buildingName, String floor, String lectureRoom, String date) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return occupancy.find(new OccupancyIndex.DayKey(buildingName, floor, lectureRoom, date));
+        } finally {
+            lock.readLock().unlock();
+            OCCUPANCY_TIME.recordSince(start);
+        }
+    }
+
+    // 사용자의 그 날짜 예약 시간 합계(분, '삭제됨'/'취소됨' 제외)
+    // 시작/종료 시간을 해석할 수 없는 예약이 있으면 0분으로 세지 않고 그 해석 오류(DateTimeParseException 등)를 던진다.
+    public int bookedMinutes(String userId, String date) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return quotas.minutes(userKey(userId), date);
+        } finally {
+            lock.readLock().unlock();
+            QUOTA_TIME.recordSince(start);
+        }
+    }
+
+    // 사용자의 기간(from ~ to, 양 끝 포함) 안 예약 수 ('삭제됨'/'취소됨' 제외, 날짜별 합계를 더함)
+    public int countBookings(String userId, LocalDate from, LocalDate to) {
+        long start = System.nanoTime();
+        String user = userKey(userId);
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+                count += quotas.count(user, date.toString());
             }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+            QUOTA_TIME.recordSince(start);
+        }
+    }
+
+    // 사용자의 같은 날짜/시작 시간 예약이 있는지 ('삭제됨'/'취소됨' 제외)
+    public boolean hasBookingAt(String userId, String date, String startTime) {
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            return quotas.hasStart(userKey(userId), date, startTime);
+        } finally {
+            lock.readLock().unlock();
+            QUOTA_TIME.recordSince(start);
         }
-        return false;
     }
 
 //    // 전체 저장
@@ -208,18 +540,79 @@ public class ReservationRepository {
 //            e.printStackTrace();
 //        }
 //    }
-    //[수정] 전체 저장 + synchronized
-    public synchronized void saveToFile() {
+    //[수정] 전체 저장
+    // 스냅샷 저장 (기록 스레드에서 앞선 변경을 모두 기록한 뒤 실행, 기다리는 동안 모니터를 잡지 않으므로 저장/삭제는 계속 진행)
+    public void saveToFile() {
+        try {
+            writer.runTask(this::writeSnapshot);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // 스냅샷 저장: 임시 파일에 쓴 뒤 교체하고, 성공하면 변경 로그를 비운다. (압축, 기록 스레드 또는 시작 시에만 호출)
+    // 로그를 비우기 전에 스냅샷이 디스크에 있어야 하므로 fsync 정책과 관계없이 항상 fsync 한다.
+    private void writeSnapshot() throws IOException {
         createDataDirectoryIfNeeded();
 
-        try (Writer writer = new FileWriter(FILE_PATH)) {
-            RoomReservationWrapper wrapper = new RoomReservationWrapper();
-            synchronized (roomReservationList) {
-                wrapper.reservations = new ArrayList<>(roomReservationList);
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            List<RoomReservation> snapshot;
+            lock.readLock().lock();
+            try {
+                snapshot = new ArrayList<>(byId.values());
+            } finally {
+                lock.readLock().unlock();
             }
-            yaml.dump(wrapper, writer);
+            if (FORMAT == SnapshotFormat.BINARY) {
+                AtomicFileWriter.getInstance().write(snapshotFile(),
+                        out -> BinarySnapshot.write(out, BinarySnapshot.Kind.RESERVATION, snapshot), true);
+            } else {
+                AtomicFileWriter.getInstance().write(snapshotFile(), out -> writeYaml(out, snapshot), true);
+            }
+            wal.reset();
         } catch (IOException e) {
-            e.printStackTrace();
+            failed = true;
+            throw e;
+        } finally {
+            SAVE_TIME.record(System.nanoTime() - start, failed);
+        }
+    }
+
+    private void writeYaml(OutputStream out, List<RoomReservation> reservations) throws IOException {
+        RoomReservationWrapper wrapper = new RoomReservationWrapper();
+        wrapper.reservations = reservations;
+        Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+        yaml.dump(wrapper, writer);
+        writer.flush();
+    }
+
+    // 예약 목록 파일 읽기 (YAML 또는 바이너리 스냅샷, 앞 4바이트로 구분)
+    private List<RoomReservation> readReservations(File file) throws IOException {
+        if (BinarySnapshot.isSnapshot(file)) {
+            return BinarySnapshot.read(file, BinarySnapshot.Kind.RESERVATION);
+        }
+        try (InputStream input = new FileInputStream(file)) {
+            RoomReservationWrapper wrapper = yaml.loadAs(input, RoomReservationWrapper.class);
+            return wrapper != null && wrapper.reservations != null ? wrapper.reservations : new ArrayList<>();
+        }
+    }
+
+    // 기록 스레드가 변경 묶음을 기록한 뒤 호출: 기록에 실패했거나 로그가 충분히 쌓였으면 스냅샷으로 압축
+    private void compactIfNeeded(boolean failed) throws IOException {
+        if (failed) {
+            System.err.println("[ReservationRepository] 변경 로그 기록 실패, 전체 저장으로 대체");
+        }
+        int size;
+        lock.readLock().lock();
+        try {
+            size = byId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (failed || wal.getRecordCount() >= Math.max(COMPACT_RECORDS, size)) {
+            writeSnapshot();
         }
     }
 //
@@ -238,71 +631,250 @@ public class ReservationRepository {
 //            e.printStackTrace();
 //        }
 //    }
-    //[수정] 초기 로딩 + synchronized
-    private synchronized void loadFromFile() {
-        File file = new File(FILE_PATH);
-        if (!file.exists()) return;
+    //[수정] 초기 로딩
+    // 스냅샷을 읽은 뒤 변경 로그를 재생 (생성자 또는 기록 스레드에서만 호출, 저장소 잠금을 잡지 않음)
+    private void loadFromFile() {
+        // ID → 예약 (재생 시 ID 검색을 위해 잠시 사용, 순서 유지)
+        Map<String, RoomReservation> loaded = new LinkedHashMap<>();
+        // 바이너리 형식인데 .bin 이 아직 없으면 YAML 스냅샷을 읽음 (생성자에서 .bin 으로 변환 저장)
+        File file = snapshotFile();
+        if (!file.exists()) {
+            file = new File(FILE_PATH);
+        }
+        if (file.exists()) {
+            try {
+                for (RoomReservation reservation : readReservations(file)) {
+                    loaded.put(reservation.getId(), reservation);
+                }
+            } catch (IOException e) {
+                // 빈 목록으로 시작하면 다음 스냅샷이 기존 예약을 덮어쓰므로 시작을 멈춤
+                System.err.println("[ReservationRepository] 예약 파일 로딩 실패, 서버를 시작하지 않습니다: " + e.getMessage());
+                throw new UncheckedIOException("예약 파일(" + file.getPath() + ") 로딩 실패: " + e.getMessage(), e);
+            }
+        }
 
-        try (InputStream input = new FileInputStream(file)) {
-            RoomReservationWrapper wrapper = yaml.loadAs(input, RoomReservationWrapper.class);
-            synchronized (roomReservationList) {
-                if (wrapper != null && wrapper.reservations != null) {
-                    roomReservationList.clear();
-                    roomReservationList.addAll(wrapper.reservations);
+        try {
+            int replayed = wal.replay(new ReservationWal.Replayer() {
+                @Override
+                public void save(RoomReservation reservation) {
+                    loaded.remove(reservation.getId()); // 덮어쓴 예약은 목록 끝으로 (save 와 동일)
+                    loaded.put(reservation.getId(), reservation);
+                }
+
+                @Override
+                public void delete(String id) {
+                    loaded.remove(id);
+                }
+            });
+            if (replayed > 0) {
+                System.out.println("[ReservationRepository] 변경 로그 재생: " + replayed + "건");
+            }
+        } catch (IOException e) {
+            // 로그를 버리고 시작하면 기록된 변경이 사라지므로 시작을 멈춤 (파일은 그대로 두고 원인을 알림)
+            System.err.println("[ReservationRepository] 변경 로그 재생 실패, 서버를 시작하지 않습니다: " + e.getMessage());
+            throw new UncheckedIOException("변경 로그(" + WAL_PATH + ") 재생 실패: " + e.getMessage(), e);
+        }
+
+        replaceAll(loaded.values());
+    }
+
+    // 학번 색인 키 (앞뒤 공백 제거 + 소문자, 학번이 없으면 null)
+    private static String userKey(String number) {
+        return number == null ? null : number.trim().toLowerCase();
+    }
+
+    // 목록 끝에 추가하고, 같은 ID로 들어 있던 이전 예약은 목록과 색인에서 빼서 반환 (쓰기 잠금 안에서 호출)
+    private RoomReservation index(RoomReservation reservation) {
+        RoomReservation previous = byId.remove(reservation.getId()); // 덮어쓰면 목록 끝으로 (기존 목록 remove + add 와 같은 순서)
+        byId.put(reservation.getId(), reservation);
+        if (previous != null) {
+            unindexSecondary(previous);
+        }
+        String user = userKey(reservation.getNumber());
+        if (user != null) {
+            byUser.computeIfAbsent(user, k -> new LinkedHashMap<>()).put(reservation.getId(), reservation);
+        }
+        slots.add(reservation); // 같은 ID의 이전 예약은 시간대/날짜/사용량 색인이 직접 뺌
+        dates.add(reservation);
+        quotas.add(user, reservation);
+        occupancy.add(reservation);
+        return previous;
+    }
+
+    // 목록과 색인에서 제거 (쓰기 잠금 안에서 호출)
+    private void unindex(RoomReservation reservation) {
+        byId.remove(reservation.getId(), reservation);
+        unindexSecondary(reservation);
+        slots.remove(reservation.getId());
+        dates.remove(reservation.getId());
+        quotas.remove(reservation.getId());
+        occupancy.remove(reservation.getId());
+    }
+
+    private void unindexSecondary(RoomReservation reservation) {
+        String user = userKey(reservation.getNumber());
+        if (user == null) {
+            return;
+        }
+        Map<String, RoomReservation> reservations = byUser.get(user);
+        if (reservations != null && reservations.remove(reservation.getId(), reservation) && reservations.isEmpty()) {
+            byUser.remove(user);
+        }
+    }
+
+    // 목록과 색인을 통째로 교체 (로딩/복구/전체 삭제)
+    private void replaceAll(Collection<RoomReservation> reservations) {
+        lock.writeLock().lock();
+        try {
+            byId.clear();
+            byUser.clear();
+            slots.clear();
+            dates.clear();
+            quotas.clear();
+            occupancy.clear();
+            for (RoomReservation reservation : reservations) {
+                index(reservation); // 같은 ID는 마지막 것만 유지
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 색인이 목록과 정확히 일치하는지 (테스트/점검용)
+    boolean isIndexConsistent() {
+        lock.readLock().lock();
+        try {
+            if (slots.size() != byId.size() || !slots.countsMatch() || !occupancy.countsMatch()) {
+                return false;
+            }
+            int withUser = 0;
+            int withDate = 0;
+            int occupying = 0;
+            for (Map.Entry<String, RoomReservation> entry : byId.entrySet()) {
+                RoomReservation reservation = entry.getValue();
+                if (!entry.getKey().equals(reservation.getId())
+                        || !slots.contains(reservation)
+                        || !dates.contains(reservation)
+                        || !occupancy.contains(reservation)) {
+                    return false;
+                }
+                if (OccupancyIndex.occupies(reservation)) {
+                    occupying++;
                 }
+                if (DateIndex.parse(reservation.getDate()) != null) {
+                    withDate++;
+                }
+                String user = userKey(reservation.getNumber());
+                if (user != null) {
+                    Map<String, RoomReservation> reservations = byUser.get(user);
+                    if (reservations == null || reservations.get(reservation.getId()) != reservation) {
+                        return false;
+                    }
+                    withUser++;
+                }
+            }
+            int indexed = 0;
+            for (Map<String, RoomReservation> reservations : byUser.values()) {
+                indexed += reservations.size();
             }
+            return indexed == withUser && dates.size() == withDate && occupancy.size() == occupying
+                    && quotas.diff(rebuildQuotas()).isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 목록에서 사용량 집계를 처음부터 다시 계산 (잠금 안에서 호출)
+    private QuotaIndex rebuildQuotas() {
+        QuotaIndex rebuilt = new QuotaIndex();
+        for (RoomReservation reservation : byId.values()) {
+            rebuilt.add(userKey(reservation.getNumber()), reservation);
+        }
+        return rebuilt;
+    }
+
+    /**
+     * 사용량 집계 점검: 예약 목록에서 집계를 처음부터 다시 계산해 현재 집계와 비교한다.
+     * 다른 곳이 있으면 다시 계산한 값으로 바꾸고, 다른 사용자/날짜 목록을 반환한다. (같으면 빈 목록)
+     */
+    public List<String> verifyQuotas() {
+        lock.writeLock().lock();
+        try {
+            QuotaIndex rebuilt = rebuildQuotas();
+            List<String> differences = quotas.diff(rebuilt);
+            if (!differences.isEmpty()) {
+                quotas.clear();
+                for (RoomReservation reservation : byId.values()) {
+                    quotas.add(userKey(reservation.getNumber()), reservation);
+                }
+            }
+            return differences;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    //전체 삭제
+    public void clear() {
+        try {
+            replaceAndSnapshot(Collections.emptyList());
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
 
-    //전체 삭제 + synchronized
-    public synchronized void clear() {
-        synchronized (roomReservationList) {
-            roomReservationList.clear();
+    // 목록 교체 + 스냅샷 저장 (전체 삭제/복구)
+    // 메모리 교체와 스냅샷 작업 등록은 모니터 안에서 함께 해 변경 로그 순서와 맞추고, 파일 저장은 모니터 밖에서 기다린다.
+    private void replaceAndSnapshot(Collection<RoomReservation> reservations) throws IOException {
+        ReservationLogWriter.PendingTask snapshot;
+        synchronized (this) {
+            replaceAll(reservations);
+            snapshot = writer.submitTask(this::writeSnapshot);
         }
-        saveToFile();
+        snapshot.await();
     }
 
     // ==================================================================================================
-    // 🔥 백업 기능: reservations.yaml → 지정된 backup 파일로 복사
+    // 🔥 백업 기능: 현재 예약 목록 → 지정된 backup 파일 (스냅샷 형식과 관계없이 YAML)
     // ==================================================================================================
     public boolean exportBackup(String backupFilePath) {
-        File source = new File(FILE_PATH);
+        saveToFile(); // 변경 로그까지 반영된 스냅샷으로 백업
         File target = new File(backupFilePath);
 
-        try {
-            // 폴더 없으면 생성
-            if (target.getParentFile() != null) {
-                target.getParentFile().mkdirs();
-            }
-
-            try (InputStream in = new FileInputStream(source);
-                 OutputStream out = new FileOutputStream(target)) {
+        // 백업 파일 쓰기끼리만 차례로 (예약 변경은 막지 않음)
+        synchronized (backupMonitor) {
+            try {
+                // 폴더 없으면 생성
+                if (target.getParentFile() != null) {
+                    target.getParentFile().mkdirs();
+                }
 
-                byte[] buffer = new byte[1024];
-                int length;
+                List<RoomReservation> snapshot;
+                lock.readLock().lock();
+                try {
+                    snapshot = new ArrayList<>(byId.values());
+                } finally {
+                    lock.readLock().unlock();
+                }
+                try (OutputStream out = new BufferedOutputStream(new FileOutputStream(target))) {
+                    writeYaml(out, snapshot);
 
-                while ((length = in.read(buffer)) > 0) {
-                    out.write(buffer, 0, length);
+                    System.out.println("[ReservationRepository] 백업 성공 → " + backupFilePath);
+                    return true;
                 }
 
-                System.out.println("[ReservationRepository] 백업 성공 → " + backupFilePath);
-                return true;
+            } catch (Exception e) {
+                System.err.println("[ReservationRepository] 백업 실패: " + e.getMessage());
+                return false;
             }
-
-        } catch (Exception e) {
-            System.err.println("[ReservationRepository] 백업 실패: " + e.getMessage());
-            return false;
         }
     }
 
     // ==================================================================================================
-    // 🔥 복구 기능: backup 파일 → reservations.yaml 덮어쓰기 + 메모리 재로딩
+    // 🔥 복구 기능: backup 파일(YAML 또는 바이너리) → 메모리 교체 + 스냅샷 덮어쓰기
     // ==================================================================================================
     public boolean importBackup(String backupFilePath) {
         File source = new File(backupFilePath);
-        File target = new File(FILE_PATH);
 
         try {
             if (!source.exists()) {
@@ -310,19 +882,9 @@ public class ReservationRepository {
                 return false;
             }
 
-            try (InputStream in = new FileInputStream(source);
-                 OutputStream out = new FileOutputStream(target)) {
-
-                byte[] buffer = new byte[1024];
-                int length;
-
-                while ((length = in.read(buffer)) > 0) {
-                    out.write(buffer, 0, length);
-                }
-            }
-
-            // 복구 후 메모리 재로딩
-            loadFromFile();
+            // 백업 파일은 모니터 밖에서 읽고, 메모리 교체 뒤 현재 형식으로 스냅샷을 새로 써서 이전 변경 로그는 버림
+            List<RoomReservation> restored = readReservations(source);
+            replaceAndSnapshot(restored);
             System.out.println("[ReservationRepository] 복구 성공 ← " + backupFilePath);
             return true;
 
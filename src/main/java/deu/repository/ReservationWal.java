@@ -0,0 +1,249 @@
+package deu.repository;
+
+import deu.model.entity.RoomReservation;
+import deu.protocol.BinaryReader;
+import deu.protocol.BinaryWriter;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * 예약 변경 로그 (append-only write-ahead log)
+ * - 예약 저장/삭제 1건마다 레코드 1개를 파일 끝에 추가한다. (전체 파일을 다시 쓰지 않음)
+ * - 파일 머리: "DEUW" + 1바이트 저장 형식 버전 (RecordCodec.VERSION, 파일이 비어 있을 때 첫 기록과 함께 씀)
+ * - 레코드 형식: [4바이트 본문 길이][4바이트 CRC32][1바이트 종류][본문]
+ *   저장(SAVE) 본문 = RecordCodec 으로 인코딩한 RoomReservation, 삭제(DELETE) 본문 = 예약 ID (UTF-8)
+ *   (통신용 BinaryCodec 은 쓰지 않음)
+ * - 재생(replay) 중 마지막 레코드가 끝까지 기록되지 않았거나 CRC 가 맞지 않으면 (기록 도중 종료된 경우)
+ *   그 앞까지만 반영하고 파일을 잘라낸다.
+ * - 그 밖의 손상(중간 레코드의 CRC 불일치, 잘못된 길이, CRC 는 맞는데 해석할 수 없는 레코드, 모르는 머리/버전)은
+ *   잘라내지 않고 IOException 으로 알린다. (뒤의 변경을 조용히 버리지 않도록 서버 시작을 멈춤)
+ * - 스냅샷(reservations.yaml)을 새로 쓴 뒤에는 reset() 으로 로그를 비운다. (ReservationRepository 가 관리)
+ */
+class ReservationWal implements Closeable {
+
+    static final byte SAVE = 1;
+    static final byte DELETE = 2;
+
+    private static final byte[] MAGIC = {'D', 'E', 'U', 'W'};
+    private static final int FILE_HEADER_SIZE = MAGIC.length + 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int MAX_RECORD_SIZE = 16 * 1024 * 1024;
+
+    // 재생 시 레코드를 반영할 대상
+    interface Replayer {
+        void save(RoomReservation reservation);
+
+        void delete(String id);
+    }
+
+    private final File file;
+    private FileChannel channel; // 첫 기록 때 연다
+    private long records;        // 마지막 reset 이후 레코드 수
+    private long bytes;          // 현재 파일 크기
+
+    ReservationWal(File file) {
+        this.file = file;
+    }
+
+    /**
+     * 로그의 레코드를 순서대로 반영
+     * @return 반영한 레코드 수
+     * @throws IOException 잘라낼 수 없는 손상이 있을 때 (마지막 레코드가 아닌 곳의 손상, 해석 실패, 모르는 형식)
+     */
+    synchronized int replay(Replayer replayer) throws IOException {
+        closeChannel();
+        records = 0;
+        bytes = 0;
+        if (!file.exists()) {
+            return 0;
+        }
+
+        long fileLength = file.length();
+        long valid = 0;
+        int count = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            byte[] header = in.readNBytes(FILE_HEADER_SIZE);
+            if (header.length == FILE_HEADER_SIZE) {
+                if (!Arrays.equals(Arrays.copyOf(header, MAGIC.length), MAGIC)) {
+                    throw new IOException("예약 변경 로그 형식이 아닙니다: " + file.getName());
+                }
+                int version = header[MAGIC.length] & 0xFF;
+                RecordCodec.checkVersion(version);
+                valid = FILE_HEADER_SIZE;
+
+                while (true) {
+                    int length;
+                    int crc;
+                    byte[] body;
+                    try {
+                        length = in.readInt();
+                        crc = in.readInt();
+                        if (length < 0 || length > MAX_RECORD_SIZE) {
+                            throw new IOException("잘못된 레코드 길이 " + length + " (위치 " + valid + ")");
+                        }
+                        body = new byte[length + 1];
+                        in.readFully(body);
+                    } catch (EOFException e) {
+                        break; // 마지막 레코드가 끝까지 기록되지 않음
+                    }
+                    long end = valid + HEADER_SIZE + body.length;
+                    if (crc != checksum(body, body.length)) {
+                        if (end == fileLength) {
+                            break; // 마지막 레코드가 기록 도중 끊김
+                        }
+                        throw new IOException("레코드 CRC 불일치 (위치 " + valid + ", 뒤에 " + (fileLength - end) + "바이트 남음)");
+                    }
+                    apply(body, version, valid, replayer);
+                    valid = end;
+                    count++;
+                }
+            }
+            // 머리(5바이트)도 다 쓰지 못하고 끝난 파일은 레코드가 없으므로 비움
+        }
+
+        if (valid < fileLength) {
+            System.err.println("[ReservationWal] 끝까지 기록되지 않은 마지막 레코드를 잘라냅니다: "
+                    + (fileLength - valid) + "바이트 (" + file.getName() + ")");
+            try (FileChannel truncate = FileChannel.open(file.toPath(), StandardOpenOption.WRITE)) {
+                truncate.truncate(valid);
+                truncate.force(true);
+            }
+        }
+        records = count;
+        bytes = valid;
+        return count;
+    }
+
+    // CRC 가 맞는 레코드 반영 (해석할 수 없으면 기록 형식 오류이므로 IOException)
+    private static void apply(byte[] body, int version, long position, Replayer replayer) throws IOException {
+        if (body[0] == SAVE) {
+            RoomReservation reservation;
+            try {
+                BinaryReader in = new BinaryReader(body, 1, body.length - 1);
+                reservation = RecordCodec.readReservation(in, version);
+                if (in.remaining() != 0) {
+                    throw new IOException("레코드 끝에 " + in.remaining() + "바이트가 남음");
+                }
+            } catch (IOException | RuntimeException e) {
+                throw new IOException("예약 저장 레코드를 해석할 수 없습니다 (위치 " + position + "): " + e.getMessage(), e);
+            }
+            replayer.save(reservation);
+        } else if (body[0] == DELETE) {
+            replayer.delete(new String(body, 1, body.length - 1, StandardCharsets.UTF_8));
+        } else {
+            throw new IOException("알 수 없는 레코드 종류 " + body[0] + " (위치 " + position + ")");
+        }
+    }
+
+    // 예약 저장 레코드 추가 (sync() 전까지는 디스크 반영이 보장되지 않음)
+    synchronized void appendSave(RoomReservation reservation) throws IOException {
+        BinaryWriter out = new BinaryWriter();
+        out.skip(HEADER_SIZE);
+        out.writeByte(SAVE);
+        RecordCodec.writeReservation(out, reservation);
+        write(out);
+    }
+
+    // 예약 삭제 레코드 추가
+    synchronized void appendDelete(String id) throws IOException {
+        BinaryWriter out = new BinaryWriter();
+        out.skip(HEADER_SIZE);
+        out.writeByte(DELETE);
+        byte[] idBytes = id.getBytes(StandardCharsets.UTF_8);
+        out.writeBytes(idBytes, 0, idBytes.length);
+        write(out);
+    }
+
+    private void write(BinaryWriter out) throws IOException {
+        byte[] buffer = out.buffer();
+        int size = out.size();
+        int bodyLength = size - HEADER_SIZE;
+        out.putInt(0, bodyLength - 1); // 종류 1바이트 제외
+        out.putInt(4, checksum(buffer, HEADER_SIZE, bodyLength));
+
+        FileChannel ch = channel();
+        if (ch.position() == 0) {
+            writeFully(ch, fileHeader()); // 빈 파일(처음 또는 reset 직후)이면 머리부터
+            bytes += FILE_HEADER_SIZE;
+        }
+        writeFully(ch, ByteBuffer.wrap(buffer, 0, size));
+        records++;
+        bytes += size;
+    }
+
+    private static ByteBuffer fileHeader() {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        header.put(MAGIC).put((byte) RecordCodec.VERSION).flip();
+        return header;
+    }
+
+    private static void writeFully(FileChannel ch, ByteBuffer data) throws IOException {
+        while (data.hasRemaining()) {
+            ch.write(data);
+        }
+    }
+
+    // 지금까지 추가한 레코드를 디스크에 강제 반영 (fsync)
+    synchronized void sync() throws IOException {
+        if (channel != null) {
+            channel.force(false);
+        }
+    }
+
+    // 로그 비우기 (스냅샷 저장 직후 호출)
+    synchronized void reset() throws IOException {
+        FileChannel ch = channel();
+        ch.truncate(0);
+        ch.force(true);
+        records = 0;
+        bytes = 0;
+    }
+
+    synchronized long getRecordCount() {
+        return records;
+    }
+
+    synchronized long getByteCount() {
+        return bytes;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        closeChannel();
+    }
+
+    private FileChannel channel() throws IOException {
+        if (channel == null || !channel.isOpen()) {
+            File parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null && !parent.exists()) {
+                parent.mkdirs();
+            }
+            channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            channel.position(channel.size());
+        }
+        return channel;
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private static int checksum(byte[] data, int length) {
+        return checksum(data, 0, length);
+    }
+
+    private static int checksum(byte[] data, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(data, offset, length);
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,162 @@
+package deu.repository;
+
+import deu.model.entity.RoomReservation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 강의실 시간대 색인: (건물, 층, 강의실, 날짜, 시작 시간) → 예약
+ * - 시간대마다 예약과 함께 유효 건수를 유지한다.
+ *   live   : '삭제됨' 이 아닌 예약 수 (정원 검사, 세미나 규칙)
+ *   active : '취소'/'거절' 이 아닌 예약 수 (isDuplicate)
+ * - 건물/층 없이 강의실/날짜/시작 시간만 보는 검사를 위해 (강의실, 날짜, 시작 시간) → 시간대 목록도 유지한다.
+ * - 예약이 어느 시간대에 어떤 상태로 들어갔는지 ID 별로 기억하므로, 제거할 때 예약 객체 값이 바뀌었어도 건수가 틀어지지 않는다.
+ * ※ 스레드 안전하지 않음 (ReservationRepository 의 읽기/쓰기 잠금 안에서만 사용)
+ */
+final class SlotIndex {
+
+    record SlotKey(String building, String floor, String room, String date, String startTime) {}
+
+    private record RoomSlotKey(String room, String date, String startTime) {}
+
+    // 시간대 하나
+    private static final class Slot {
+        private final SlotKey key;
+        private final LinkedHashMap<String, RoomReservation> reservations = new LinkedHashMap<>();
+        private int live;
+        private int active;
+
+        private Slot(SlotKey key) {
+            this.key = key;
+        }
+    }
+
+    // 색인에 넣을 때의 위치/상태
+    private record Entry(RoomReservation reservation, Slot slot, boolean live, boolean active) {}
+
+    private final Map<SlotKey, Slot> slots = new HashMap<>();
+    private final Map<RoomSlotKey, List<Slot>> byRoom = new HashMap<>();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    static boolean isLive(RoomReservation reservation) {
+        return !"삭제됨".equals(reservation.getStatus());
+    }
+
+    static boolean isActive(RoomReservation reservation) {
+        return !"취소".equals(reservation.getStatus()) && !"거절".equals(reservation.getStatus());
+    }
+
+    // 추가 (같은 ID가 있으면 먼저 뺌)
+    void add(RoomReservation reservation) {
+        remove(reservation.getId());
+
+        SlotKey key = new SlotKey(reservation.getBuildingName(), reservation.getFloor(),
+                reservation.getLectureRoom(), reservation.getDate(), reservation.getStartTime());
+        Slot slot = slots.get(key);
+        if (slot == null) {
+            slot = new Slot(key);
+            slots.put(key, slot);
+            byRoom.computeIfAbsent(new RoomSlotKey(key.room(), key.date(), key.startTime()), k -> new ArrayList<>(1))
+                    .add(slot);
+        }
+
+        Entry entry = new Entry(reservation, slot, isLive(reservation), isActive(reservation));
+        slot.reservations.put(reservation.getId(), reservation);
+        if (entry.live()) slot.live++;
+        if (entry.active()) slot.active++;
+        entries.put(reservation.getId(), entry);
+    }
+
+    // ID로 제거 (넣을 때 기록한 시간대/상태 기준)
+    void remove(String id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        Slot slot = entry.slot();
+        slot.reservations.remove(id);
+        if (entry.live()) slot.live--;
+        if (entry.active()) slot.active--;
+
+        if (slot.reservations.isEmpty()) {
+            slots.remove(slot.key);
+            RoomSlotKey roomKey = new RoomSlotKey(slot.key.room(), slot.key.date(), slot.key.startTime());
+            List<Slot> sameRoom = byRoom.get(roomKey);
+            sameRoom.remove(slot);
+            if (sameRoom.isEmpty()) {
+                byRoom.remove(roomKey);
+            }
+        }
+    }
+
+    void clear() {
+        slots.clear();
+        byRoom.clear();
+        entries.clear();
+    }
+
+    // 시간대의 예약 (목록 순서)
+    List<RoomReservation> find(SlotKey key) {
+        Slot slot = slots.get(key);
+        return slot == null ? new ArrayList<>() : new ArrayList<>(slot.reservations.values());
+    }
+
+    // 시간대의 '삭제됨' 제외 예약 수
+    int liveCount(SlotKey key) {
+        Slot slot = slots.get(key);
+        return slot == null ? 0 : slot.live;
+    }
+
+    // 건물/층과 관계없이 강의실/날짜/시작 시간이 같은 '삭제됨' 제외 예약 수
+    int liveCount(String room, String date, String startTime) {
+        int count = 0;
+        for (Slot slot : byRoom.getOrDefault(new RoomSlotKey(room, date, startTime), List.of())) {
+            count += slot.live;
+        }
+        return count;
+    }
+
+    // 건물/층과 관계없이 강의실/날짜/시작 시간이 같은 '취소'/'거절' 제외 예약이 있는지
+    boolean hasActive(String room, String date, String startTime) {
+        for (Slot slot : byRoom.getOrDefault(new RoomSlotKey(room, date, startTime), List.of())) {
+            if (slot.active > 0) return true;
+        }
+        return false;
+    }
+
+    // 색인된 예약 수 (점검용)
+    int size() {
+        return entries.size();
+    }
+
+    // 색인에 이 객체가 현재 상태 그대로 들어 있는지 (점검용)
+    boolean contains(RoomReservation reservation) {
+        Entry entry = entries.get(reservation.getId());
+        return entry != null
+                && entry.reservation() == reservation
+                && entry.live() == isLive(reservation)
+                && entry.active() == isActive(reservation)
+                && entry.slot().key.equals(new SlotKey(reservation.getBuildingName(), reservation.getFloor(),
+                        reservation.getLectureRoom(), reservation.getDate(), reservation.getStartTime()));
+    }
+
+    // 건수가 시간대의 예약과 일치하는지 (점검용)
+    boolean countsMatch() {
+        for (Slot slot : slots.values()) {
+            int live = 0;
+            int active = 0;
+            for (RoomReservation reservation : slot.reservations.values()) {
+                Entry entry = entries.get(reservation.getId());
+                if (entry == null || entry.slot() != slot) return false;
+                if (entry.live()) live++;
+                if (entry.active()) active++;
+            }
+            if (live != slot.live || active != slot.active) return false;
+        }
+        return true;
+    }
+}
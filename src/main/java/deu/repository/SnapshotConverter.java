@@ -0,0 +1,146 @@
+package deu.repository;
+
+import deu.model.entity.Lecture;
+import deu.model.entity.RoomReservation;
+import deu.model.entity.User;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.representer.Representer;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * YAML ↔ 바이너리 스냅샷 변환 도구 (서버를 내린 상태에서 실행)
+ * - 입력 파일이 바이너리 스냅샷이면 YAML 로, YAML 이면 바이너리 스냅샷으로 변환한다.
+ * - YAML 구조는 각 저장소 파일과 같다. (reservations: / users: / lectures: 목록)
+ *
+ * 사용법: java -cp DeuLectureRoomServer-1.0.0.jar deu.repository.SnapshotConverter
+ *         <reservations|users|lectures> <입력 파일> <출력 파일>
+ * ※ 예약은 변경 로그(reservations.wal)를 따로 합치지 않으므로, 서버를 정상 종료한 뒤(스냅샷에 합쳐진 뒤) 변환할 것
+ */
+public class SnapshotConverter {
+
+    private SnapshotConverter() {}
+
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println("사용법: SnapshotConverter <reservations|users|lectures> <입력 파일> <출력 파일>");
+            System.exit(1);
+        }
+        try {
+            String result = convert(args[0], new File(args[1]), new File(args[2]));
+            System.out.println("[SnapshotConverter] " + result);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("[SnapshotConverter] 변환 실패: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * 파일 변환 (방향은 입력 파일 형식으로 결정)
+     * @return 변환 결과 요약
+     */
+    public static String convert(String type, File input, File output) throws IOException {
+        BinarySnapshot.Kind kind = kindOf(type);
+        if (!input.isFile()) {
+            throw new FileNotFoundException("입력 파일이 없습니다: " + input.getPath());
+        }
+        Yaml yaml = createYaml(kind);
+        List<?> records = read(kind, input);
+
+        if (BinarySnapshot.isSnapshot(input)) {
+            Object wrapper = wrap(kind, records);
+            AtomicFileWriter.getInstance().write(output, out -> {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                yaml.dump(wrapper, writer);
+                writer.flush();
+            }, true);
+            return "바이너리 → YAML " + records.size() + "건: " + output.getPath();
+        }
+
+        AtomicFileWriter.getInstance().write(output, out -> BinarySnapshot.write(out, kind, records), true);
+        return "YAML → 바이너리 " + records.size() + "건: " + output.getPath();
+    }
+
+    // 목록 파일 읽기 (YAML 또는 바이너리 스냅샷, 앞 4바이트로 구분)
+    public static List<?> read(BinarySnapshot.Kind kind, File input) throws IOException {
+        if (BinarySnapshot.isSnapshot(input)) {
+            return BinarySnapshot.read(input, kind);
+        }
+        try (InputStream in = new BufferedInputStream(new FileInputStream(input))) {
+            return unwrap(createYaml(kind).loadAs(in, wrapperType(kind)));
+        }
+    }
+
+    private static BinarySnapshot.Kind kindOf(String type) {
+        return switch (type.trim().toLowerCase()) {
+            case "reservations", "reservation" -> BinarySnapshot.Kind.RESERVATION;
+            case "users", "user" -> BinarySnapshot.Kind.USER;
+            case "lectures", "lecture" -> BinarySnapshot.Kind.LECTURE;
+            default -> throw new IllegalArgumentException("알 수 없는 종류: " + type + " (reservations|users|lectures)");
+        };
+    }
+
+    // 저장소와 같은 설정의 YAML (클래스 태그 제거, 큰 파일 허용)
+    private static Yaml createYaml(BinarySnapshot.Kind kind) {
+        DumperOptions options = new DumperOptions();
+        options.setPrettyFlow(true);
+        options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+
+        Representer representer = new Representer(options);
+        representer.getPropertyUtils().setSkipMissingProperties(true);
+        representer.addClassTag(wrapperType(kind), Tag.MAP);
+        representer.addClassTag(kind.getType(), Tag.MAP);
+
+        LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(Integer.MAX_VALUE);
+        return new Yaml(new Constructor(loaderOptions), representer, options, loaderOptions);
+    }
+
+    private static Class<?> wrapperType(BinarySnapshot.Kind kind) {
+        return switch (kind) {
+            case RESERVATION -> ReservationRepository.RoomReservationWrapper.class;
+            case USER -> UserRepository.UserWrapper.class;
+            case LECTURE -> LectureRepository.LectureWrapper.class;
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object wrap(BinarySnapshot.Kind kind, List<?> records) {
+        switch (kind) {
+            case RESERVATION: {
+                ReservationRepository.RoomReservationWrapper wrapper = new ReservationRepository.RoomReservationWrapper();
+                wrapper.reservations = (List<RoomReservation>) records;
+                return wrapper;
+            }
+            case USER: {
+                UserRepository.UserWrapper wrapper = new UserRepository.UserWrapper();
+                wrapper.users = (List<User>) records;
+                return wrapper;
+            }
+            default: {
+                LectureRepository.LectureWrapper wrapper = new LectureRepository.LectureWrapper();
+                wrapper.lectures = (List<Lecture>) records;
+                return wrapper;
+            }
+        }
+    }
+
+    private static List<?> unwrap(Object wrapper) {
+        List<?> records = null;
+        if (wrapper instanceof ReservationRepository.RoomReservationWrapper w) {
+            records = w.reservations;
+        } else if (wrapper instanceof UserRepository.UserWrapper w) {
+            records = w.users;
+        } else if (wrapper instanceof LectureRepository.LectureWrapper w) {
+            records = w.lectures;
+        }
+        return records != null ? records : new ArrayList<>();
+    }
+}
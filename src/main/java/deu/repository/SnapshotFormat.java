@@ -0,0 +1,39 @@
+package deu.repository;
+
+/**
+ * 저장소 스냅샷 파일 형식 (server.snapshotFormat)
+ * - YAML   : 기존 형식 (reservations.yaml, users.yaml, lectures.yaml), 사람이 읽고 고칠 수 있음
+ * - BINARY : BinarySnapshot 형식 (reservations.bin, users.bin, lectures.bin), 읽기/쓰기가 빠름
+ * ※ BINARY 인데 .bin 파일이 없으면 YAML 파일을 읽은 뒤 바로 .bin 으로 저장한다. (자동 변환)
+ */
+public enum SnapshotFormat {
+    YAML("YAML"),
+    BINARY("바이너리");
+
+    private static final SnapshotFormat configured = fromString(System.getProperty("server.snapshotFormat"));
+
+    private final String label;
+
+    SnapshotFormat(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    // JVM 옵션으로 지정한 형식
+    public static SnapshotFormat configured() {
+        return configured;
+    }
+
+    // 문자열로부터 enum 변환 (잘못된 값이면 기본값 YAML)
+    public static SnapshotFormat fromString(String value) {
+        if (value == null) return YAML;
+        try {
+            return SnapshotFormat.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return YAML;
+        }
+    }
+}
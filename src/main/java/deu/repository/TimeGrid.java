@@ -0,0 +1,40 @@
+package deu.repository;
+
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 시간표 격자: 9시부터 1시간 단위 13교시 (9~10, 10~11, ..., 21~22)
+ * - 교시 p 는 비트 (1 << p) 로 나타낸다. (하루 = int 하나)
+ * - 시간 구간 [시작, 종료) 와 겹치는 교시를 모두 켠다. (StartA < EndB AND EndA > StartB, LectureService 와 같은 규칙)
+ */
+final class TimeGrid {
+
+    static final int FIRST_HOUR = 9;
+    static final int PERIODS = 13;
+    static final int ALL = (1 << PERIODS) - 1;
+
+    private TimeGrid() {
+    }
+
+    // 시작/종료 시간("HH:mm")과 겹치는 교시 비트 (해석할 수 없거나 격자 밖이면 0)
+    static int mask(String startTime, String endTime) {
+        LocalTime start;
+        LocalTime end;
+        try {
+            start = LocalTime.parse(startTime);
+            end = LocalTime.parse(endTime);
+        } catch (DateTimeParseException | NullPointerException e) {
+            return 0;
+        }
+        int mask = 0;
+        for (int p = 0; p < PERIODS; p++) {
+            LocalTime periodStart = LocalTime.of(FIRST_HOUR + p, 0);
+            LocalTime periodEnd = periodStart.plusHours(1);
+            if (start.isBefore(periodEnd) && end.isAfter(periodStart)) {
+                mask |= 1 << p;
+            }
+        }
+        return mask;
+    }
+}
@@ -2,6 +2,9 @@ package deu.repository;
 
 import deu.model.dto.response.BasicResponse;
 import deu.model.entity.User;
+import deu.moniter.LatencyHistogram;
+import deu.moniter.LogManager;
+import deu.moniter.Metrics;
 import lombok.Getter;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.Yaml;
@@ -10,6 +13,7 @@ import org.yaml.snakeyaml.nodes.Tag;
 import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -18,6 +22,9 @@ import java.util.List;
  * 싱글톤 패턴을 사용하며, 파일이 없을 경우 resources에서 복사하여 생성한다.
  */
 public class UserRepository {
+    // 성능 지표 (파일 저장 시간)
+    private static final LatencyHistogram SAVE_TIME = Metrics.getInstance().histogram("저장소 사용자 파일 저장");
+
     // 외부에서 접근하는 싱글톤 메서드
     // 싱글톤 인스턴스
     @Getter
@@ -28,6 +35,10 @@ public class UserRepository {
 
     // 사용자 데이터 파일 경로
     private final String FILE_PATH = System.getProperty("user.dir") + File.separator + "data" + File.separator + "users.yaml";
+    private final String BIN_PATH = System.getProperty("user.dir") + File.separator + "data" + File.separator + "users.bin";
+
+    // 저장 형식 (server.snapshotFormat, 기본 YAML)
+    private final SnapshotFormat format = SnapshotFormat.configured();
 
     // YAML 객체
     private final Yaml yaml;
@@ -63,7 +74,7 @@ public class UserRepository {
 
     // 모든 사용자 정보를 파일에 저장
     private void saveAllToFile() {
-        File file = new File(FILE_PATH);
+        File file = new File(format == SnapshotFormat.BINARY ? BIN_PATH : FILE_PATH);
         File parentDir = file.getParentFile();
 
         // 디렉토리 없으면 생성
@@ -76,20 +87,51 @@ public class UserRepository {
             }
         }
 
-        // 사용자 리스트를 YAML 형식으로 파일에 저장
-        try (Writer writer = new FileWriter(file)) {
-            UserWrapper wrapper = new UserWrapper();
-            wrapper.users = users;
-            yaml.dump(wrapper, writer);
-            System.out.println("[UserRepository] 파일 저장 완료: " + file.getAbsolutePath());
+        // 사용자 리스트를 YAML(또는 바이너리) 형식으로 파일에 저장
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            if (format == SnapshotFormat.BINARY) {
+                AtomicFileWriter.getInstance().write(file,
+                        out -> BinarySnapshot.write(out, BinarySnapshot.Kind.USER, users));
+            } else {
+                UserWrapper wrapper = new UserWrapper();
+                wrapper.users = users;
+                AtomicFileWriter.getInstance().write(file, out -> {
+                    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                    yaml.dump(wrapper, writer);
+                    writer.flush();
+                });
+            }
+            LogManager.debug(() -> "[UserRepository] 파일 저장 완료: " + file.getAbsolutePath());
         } catch (IOException e) {
+            failed = true;
             System.err.println("[UserRepository] 파일 저장 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
+        } finally {
+            SAVE_TIME.record(System.nanoTime() - start, failed);
         }
     }
 
     // 파일에서 사용자 정보 로딩 (없으면 resources에서 복사)
     private void loadAllFromFile() {
+        // 바이너리 형식: users.bin 이 있으면 바로 읽고(읽지 못하면 예외), 없으면 아래에서 YAML 을 읽은 뒤 변환 저장
+        File binFile = new File(BIN_PATH);
+        if (format == SnapshotFormat.BINARY && binFile.exists()) {
+            try {
+                List<User> loaded = BinarySnapshot.read(binFile, BinarySnapshot.Kind.USER);
+                users.clear();
+                users.addAll(loaded);
+                System.out.println("[UserRepository] 파일 로딩 완료: " + binFile.getAbsolutePath());
+                System.out.println("[UserRepository] 불러온 사용자 수: " + users.size());
+                return;
+            } catch (IOException e) {
+                // YAML 로 대신 읽으면 바이너리에만 저장된 변경이 사라지므로 시작을 멈춤
+                System.err.println("[UserRepository] 바이너리 파일 로딩 실패, 서버를 시작하지 않습니다: " + e.getMessage());
+                throw new UncheckedIOException("사용자 파일(" + BIN_PATH + ") 로딩 실패: " + e.getMessage(), e);
+            }
+        }
+
         File file = new File(FILE_PATH);
 
         // 파일이 없으면 resources에서 복사 시도
@@ -145,6 +187,11 @@ public class UserRepository {
             System.err.println("[UserRepository] 파일 로딩 중 오류 발생: " + e.getMessage());
             e.printStackTrace();
         }
+
+        if (format == SnapshotFormat.BINARY) {
+            System.out.println("[UserRepository] YAML 파일을 바이너리 형식으로 변환합니다: " + binFile.getAbsolutePath());
+            saveAllToFile();
+        }
     }
 
     // 사용자 인증 (학번 + 비밀번호)
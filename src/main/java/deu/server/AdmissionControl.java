@@ -0,0 +1,146 @@
+package deu.server;
+
+import deu.controller.CommandKind;
+import deu.controller.SystemController;
+import deu.model.dto.response.BasicResponse;
+import deu.moniter.LogManager;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 요청 수용 제어 (ClientHandler / NioServer 와 SystemController 사이)
+ * - 조회(READ)와 변경(WRITE) 명령을 따로 세어, 종류별 동시 실행 수를 제한한다.
+ * - 한도에 도달하면 정해진 길이의 대기열에서 최대 queueTimeout 만큼 기다리고,
+ *   대기열도 가득 찼거나 시간 안에 자리가 나지 않으면 즉시 503 으로 거절한다.
+ * - 변경 요청이 대기 중이면 조회 요청은 줄을 서지 않고 바로 거절한다. (예약 요청 우선, 주간 배열 조회 먼저 차단)
+ * - 거절 시작/해제는 LogManager.logAdmission 으로, 현재 상태는 LogManager.getAdmissionStatus 로 확인할 수 있다.
+ */
+public class AdmissionControl {
+
+    public static final String REJECT_CODE = "503";
+    public static final String REJECT_MESSAGE = "서버 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.";
+
+    private final Lane readLane;
+    private final Lane writeLane;
+    private final long queueTimeoutMillis;
+    // 요청 → 명령 종류 (라우팅 표에 등록된 값)
+    private final Function<Object, CommandKind> classifier;
+
+    public AdmissionControl(int readLimit, int readQueue, int writeLimit, int writeQueue, long queueTimeoutMillis) {
+        this(readLimit, readQueue, writeLimit, writeQueue, queueTimeoutMillis,
+                request -> SystemController.getInstance().kindOf(request));
+    }
+
+    public AdmissionControl(int readLimit, int readQueue, int writeLimit, int writeQueue, long queueTimeoutMillis,
+                            Function<Object, CommandKind> classifier) {
+        this.readLane = new Lane("조회", readLimit, readQueue);
+        this.writeLane = new Lane("변경", writeLimit, writeQueue);
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.classifier = classifier;
+    }
+
+    public static AdmissionControl create(ServerConfig config) {
+        return new AdmissionControl(config.getReadLimit(), config.getReadQueue(),
+                config.getWriteLimit(), config.getWriteQueue(), config.getQueueTimeoutMillis());
+    }
+
+    // 요청 처리기 앞에 수용 제어를 붙인 처리기 반환
+    public Function<Object, Object> wrap(Function<Object, Object> handler) {
+        return request -> handle(request, handler);
+    }
+
+    public Object handle(Object request, Function<Object, Object> handler) {
+        Lane lane = classifier.apply(request) == CommandKind.READ ? readLane : writeLane;
+        if (!admit(lane)) {
+            return new BasicResponse(REJECT_CODE, REJECT_MESSAGE);
+        }
+        try {
+            return handler.apply(request);
+        } finally {
+            lane.permits.release();
+        }
+    }
+
+    private boolean admit(Lane lane) {
+        // 변경 요청이 밀려 있으면 조회는 바로 거절
+        if (lane == readLane && writeLane.waiting.get() > 0) {
+            return lane.reject();
+        }
+        if (lane.permits.tryAcquire()) {
+            lane.admitted();
+            return true;
+        }
+        if (lane.waiting.incrementAndGet() > lane.queueLimit) {
+            lane.waiting.decrementAndGet();
+            return lane.reject();
+        }
+        try {
+            if (lane.permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                lane.admitted();
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lane.waiting.decrementAndGet();
+        }
+        return lane.reject();
+    }
+
+    // 현재 상태 (예: "조회 실행 3/64 대기 0/64 거절 0 | 변경 실행 1/16 대기 0/256 거절 0")
+    public String getStatus() {
+        return readLane.status() + " | " + writeLane.status();
+    }
+
+    public long getRejectedCount() {
+        return readLane.rejected.get() + writeLane.rejected.get();
+    }
+
+    // 명령 종류별 동시 실행 한도 + 대기열
+    private static class Lane {
+        final String name;
+        final int limit;
+        final int queueLimit;
+        final Semaphore permits;
+        final AtomicInteger waiting = new AtomicInteger();
+        final AtomicLong rejected = new AtomicLong();
+        final AtomicBoolean shedding = new AtomicBoolean(false);
+
+        Lane(String name, int limit, int queueLimit) {
+            this.name = name;
+            this.limit = Math.max(1, limit);
+            this.queueLimit = Math.max(0, queueLimit);
+            this.permits = new Semaphore(this.limit);
+        }
+
+        // 거절 상태였다가 다시 받기 시작하면 해제 기록
+        void admitted() {
+            if (shedding.get() && waiting.get() == 0 && shedding.compareAndSet(true, false)) {
+                LogManager.logAdmission(name + " 요청 거절 해제 (누적 거절 " + rejected.get() + "건)");
+            }
+        }
+
+        boolean reject() {
+            rejected.incrementAndGet();
+            if (shedding.compareAndSet(false, true)) {
+                LogManager.logAdmission(name + " 요청 거절 시작 (실행 " + running() + "/" + limit
+                        + ", 대기 " + waiting.get() + "/" + queueLimit + ")");
+            }
+            return false;
+        }
+
+        int running() {
+            return limit - permits.availablePermits();
+        }
+
+        String status() {
+            return name + " 실행 " + running() + "/" + limit + " 대기 " + waiting.get() + "/" + queueLimit
+                    + " 거절 " + rejected.get();
+        }
+    }
+}
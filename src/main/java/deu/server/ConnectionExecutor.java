@@ -0,0 +1,100 @@
+package deu.server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 수락된 연결(ClientHandler)을 실행하는 실행기
+ * - ClientHandler는 세션 내내 readObject()에서 블로킹되므로,
+ *   연결 수만큼 스레드가 필요하다. 가상 스레드를 쓰면 대기 중인 연결이 OS 스레드를 점유하지 않는다.
+ * - maxConnections 개수만큼의 허가(permit)로 동시 연결 수를 제한한다.
+ *   허가가 모두 소진되면 accept 루프가 대기하고, 새 연결은 OS의 backlog에 쌓인다.
+ * - POOLED 모드는 연결 하나가 세션 내내 풀 스레드 하나를 점유하므로 허가 수를 min(maxConnections, poolSize) 로 줄인다.
+ *   (풀보다 많이 받으면 초과 연결은 accept 된 채 실행기 대기열에서 응답 없이 기다리게 됨)
+ */
+public class ConnectionExecutor implements AutoCloseable {
+
+    private final ConnectionMode mode;
+    private final ExecutorService executor; // THREAD 모드에서는 null
+    private final Semaphore permits;
+    private final int maxConnections;
+    private final AtomicInteger activeConnections = new AtomicInteger();
+
+    public ConnectionExecutor(ConnectionMode mode, int maxConnections, int poolSize) {
+        this.mode = mode;
+        this.maxConnections = mode == ConnectionMode.POOLED ? Math.min(maxConnections, poolSize) : maxConnections;
+        this.permits = new Semaphore(this.maxConnections);
+        this.executor = switch (mode) {
+            case VIRTUAL -> Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name("client-v-", 0).factory());
+            case POOLED -> Executors.newFixedThreadPool(poolSize,
+                    Thread.ofPlatform().name("client-p-", 0).daemon(true).factory());
+            case THREAD -> null;
+        };
+    }
+
+    public static ConnectionExecutor create(ServerConfig config) {
+        return new ConnectionExecutor(config.getMode(), config.getMaxConnections(), config.getPoolSize());
+    }
+
+    /**
+     * 연결을 하나 더 받을 자리가 날 때까지 대기한다. (accept 전에 호출해 초과 연결이 OS backlog 에서 기다리도록)
+     * - 허가를 잡는 쪽은 accept 루프 하나뿐이므로, 여기서 확인한 빈자리는 바로 다음 execute 까지 유지된다.
+     */
+    public void awaitCapacity() throws InterruptedException {
+        permits.acquire();
+        permits.release();
+    }
+
+    /**
+     * 연결 처리 작업을 실행한다. 동시 연결 수가 한도에 도달했으면 자리가 날 때까지 대기한다.
+     */
+    public void execute(Runnable handler) throws InterruptedException {
+        permits.acquire();
+
+        Runnable task = () -> {
+            activeConnections.incrementAndGet();
+            try {
+                handler.run();
+            } finally {
+                activeConnections.decrementAndGet();
+                permits.release();
+            }
+        };
+
+        try {
+            if (executor == null) {
+                new Thread(task).start();
+            } else {
+                executor.execute(task);
+            }
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    public ConnectionMode getMode() {
+        return mode;
+    }
+
+    // 실제 동시 연결 한도 (POOLED 모드는 풀 크기 이하)
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    // 현재 처리 중인 연결 수
+    public int getActiveConnections() {
+        return activeConnections.get();
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package deu.server;
+
+/**
+ * 클라이언트 연결(ClientHandler)을 어떤 스레드에서 실행할지 결정하는 모드
+ * - VIRTUAL : 연결마다 가상 스레드 1개 (대기 중인 연결이 많아도 OS 스레드를 점유하지 않음)
+ * - POOLED  : 크기가 고정된 플랫폼 스레드 풀 (가상 스레드를 쓸 수 없는 환경의 대안)
+ * - THREAD  : 기존 방식, 연결마다 new Thread()
+ */
+public enum ConnectionMode {
+    VIRTUAL("가상 스레드"),
+    POOLED("플랫폼 스레드 풀"),
+    THREAD("연결당 스레드");
+
+    private final String label;
+
+    ConnectionMode(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    // 메뉴에서 순서대로 전환할 때 사용
+    public ConnectionMode next() {
+        ConnectionMode[] all = values();
+        return all[(ordinal() + 1) % all.length];
+    }
+
+    // 문자열로부터 enum 변환 (잘못된 값이면 기본값 VIRTUAL)
+    public static ConnectionMode fromString(String value) {
+        if (value == null) return VIRTUAL;
+        try {
+            return ConnectionMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return VIRTUAL;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package deu.server;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+
+/**
+ * NIO 엔진에서 사용하는 프레임 형식
+ * - [4바이트 길이(big-endian)][본문]
+ * - 본문은 요청/응답 객체 1개를 독립적으로 직렬화한 바이트 (프레임마다 새 ObjectOutputStream 사용)
+ *
+ * 기존 ObjectOutputStream 세션은 객체 사이의 경계가 없고 앞선 객체를 역참조하기 때문에
+ * 블로킹 없이 잘라낼 수 없다. 그래서 NIO 엔진은 길이를 앞에 붙인 프레임으로 주고받는다.
+ */
+public final class FrameCodec {
+
+    // 프레임 최대 크기 (비정상 길이 값으로 메모리를 과도하게 잡는 것을 방지)
+    public static final int MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+    /**
+     * 역직렬화 허용 목록 (네트워크에서 받은 바이트로 임의 클래스를 만들지 않도록)
+     * - 요청/응답 DTO, 엔티티, enum(deu.model 아래), java.time / java.util 타입, 기본 값 타입만 허용하고 나머지는 거절
+     * - 중첩 깊이, 배열 길이, 객체 참조 수, 읽는 바이트 수도 제한 (BinaryCodec.MAX_DEPTH 와 같은 깊이)
+     */
+    public static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=32;maxarray=1000000;maxrefs=4000000;maxbytes=" + MAX_FRAME_SIZE
+                    + ";deu.model.**;java.time.*;java.util.*"
+                    + ";java.lang.String;java.lang.Number;java.lang.Integer;java.lang.Long;java.lang.Boolean;java.lang.Enum"
+                    + ";!*");
+
+    private FrameCodec() {}
+
+    // 객체를 길이 헤더가 붙은 프레임으로 인코딩 (바로 채널에 쓸 수 있도록 flip된 상태로 반환)
+    public static ByteBuffer encode(Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        bytes.write(new byte[4]); // 길이 자리 확보
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(value);
+        }
+        ByteBuffer frame = ByteBuffer.wrap(bytes.toByteArray());
+        frame.putInt(0, frame.capacity() - 4);
+        return frame;
+    }
+
+    // 프레임 본문(길이 헤더 제외)을 객체로 디코딩 (FILTER 에 걸리면 InvalidClassException)
+    public static Object decode(byte[] body) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(body))) {
+            in.setObjectInputFilter(FILTER);
+            return in.readObject();
+        }
+    }
+
+    // 길이 값 검증
+    public static int checkLength(int length) throws IOException {
+        if (length < 0 || length > MAX_FRAME_SIZE) {
+            throw new IOException("잘못된 프레임 길이: " + length);
+        }
+        return length;
+    }
+
+    // --- 블로킹 스트림용 헬퍼 (클라이언트, 테스트에서 사용) ---
+
+    public static void writeFrame(OutputStream out, Object value) throws IOException {
+        ByteBuffer frame = encode(value);
+        out.write(frame.array(), 0, frame.limit());
+        out.flush();
+    }
+
+    public static Object readFrame(InputStream in) throws IOException, ClassNotFoundException {
+        DataInputStream data = new DataInputStream(in);
+        byte[] body = new byte[checkLength(data.readInt())];
+        data.readFully(body);
+        return decode(body);
+    }
+}
@@ -0,0 +1,161 @@
+package deu.server;
+
+import deu.protocol.BinaryProtocol;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * NIO 엔진의 연결 1개에 대한 상태
+ * - 유휴 연결은 버퍼를 갖지 않는다. (읽기는 셀렉터 스레드의 공용 버퍼를 사용하고,
+ *   프레임이 중간에 잘린 경우에만 남은 바이트를 partial 버퍼에 보관)
+ * - 한 연결의 요청은 도착한 순서대로 하나씩 처리되고, 응답도 같은 순서로 나간다.
+ * - 첫 4바이트가 바이너리 프로토콜 매직("DEUB")이면 버전 협상 후 바이너리 본문을,
+ *   아니면 기존처럼 Java 직렬화 본문을 사용한다.
+ */
+class NioConnection {
+
+    final SocketChannel channel;
+    final String clientIP;
+    SelectionKey key;
+    RequestPipeline pipeline;
+
+    // 아직 완성되지 않은 프레임의 바이트 (셀렉터 스레드 전용)
+    private ByteBuffer partial;
+
+    // 처리 대기 중인 요청 프레임 본문 / 처리 중 여부 (작업 스레드 1개만 처리하도록)
+    final Queue<byte[]> pendingRequests = new ConcurrentLinkedQueue<>();
+    final AtomicBoolean processing = new AtomicBoolean(false);
+
+    // 전송 대기 중인 응답 프레임
+    final Queue<ByteBuffer> writeQueue = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean closedFlag = new AtomicBoolean(false);
+
+    // 협상된 본문 형식 (첫 바이트가 도착하기 전에는 null) / 바이너리 협상 거절 여부
+    volatile WireFormat format;
+    boolean rejected;
+
+    NioConnection(SocketChannel channel, String clientIP) {
+        this.channel = channel;
+        this.clientIP = clientIP;
+    }
+
+    /**
+     * 새로 읽은 바이트(flip된 상태)에서 완성된 프레임 본문을 꺼내 전달한다.
+     * 프레임이 덜 도착했으면 남은 바이트만 보관한다.
+     * @return 협상 응답을 writeQueue 에 넣었으면 true (셀렉터 스레드가 바로 전송해야 함)
+     */
+    boolean onBytes(ByteBuffer input, Consumer<byte[]> frameConsumer) throws IOException {
+        ByteBuffer source = input;
+        if (partial != null) {
+            partial = ensureCapacity(partial, input.remaining());
+            partial.put(input);
+            partial.flip();
+            source = partial;
+        }
+
+        boolean replied = false;
+        if (format == null && source.remaining() >= 4) {
+            replied = negotiate(source);
+        }
+
+        while (format != null && !rejected && source.remaining() >= 4) {
+            int length = FrameCodec.checkLength(source.getInt(source.position()));
+            if (source.remaining() < 4 + length) {
+                break;
+            }
+            source.position(source.position() + 4);
+            byte[] body = new byte[length];
+            source.get(body);
+            frameConsumer.accept(body);
+        }
+
+        // 남은 바이트 보관 (없으면 버퍼 해제)
+        if (!source.hasRemaining() || rejected) {
+            partial = null;
+        } else if (source == partial) {
+            partial.compact();
+        } else {
+            int needed = (format != null && source.remaining() >= 4)
+                    ? 4 + source.getInt(source.position()) : BinaryProtocol.HELLO_SIZE;
+            partial = ByteBuffer.allocate(Math.max(needed, source.remaining()));
+            partial.put(source);
+        }
+        return replied;
+    }
+
+    // 첫 바이트로 본문 형식 결정 (바이너리면 "DEUB"+버전을 소비하고 협상 응답을 대기열에 넣음)
+    private boolean negotiate(ByteBuffer source) {
+        if (source.getInt(source.position()) != BinaryProtocol.MAGIC_INT) {
+            format = WireFormat.SERIALIZED;
+            return false;
+        }
+        if (source.remaining() < BinaryProtocol.HELLO_SIZE) {
+            return false; // 버전 바이트가 아직 도착하지 않음
+        }
+        source.position(source.position() + 4);
+        int version = BinaryProtocol.negotiate(source.get() & 0xFF);
+        writeQueue.add(ByteBuffer.wrap(BinaryProtocol.hello(version)));
+        format = WireFormat.BINARY;
+        rejected = version == 0;
+        return true;
+    }
+
+    // 쓰기 모드의 버퍼에 extra 바이트를 더 넣을 수 있도록 확장
+    private static ByteBuffer ensureCapacity(ByteBuffer buffer, int extra) {
+        if (buffer.remaining() >= extra) {
+            return buffer;
+        }
+        ByteBuffer bigger = ByteBuffer.allocate(Math.max(buffer.capacity() * 2, buffer.position() + extra));
+        buffer.flip();
+        bigger.put(buffer);
+        return bigger;
+    }
+
+    /**
+     * 대기 중인 응답을 가능한 만큼 전송한다.
+     * @return 모두 전송했으면 true, 소켓 버퍼가 가득 차서 남았으면 false
+     */
+    boolean flushWrites() throws IOException {
+        ByteBuffer head;
+        while ((head = writeQueue.peek()) != null) {
+            channel.write(head);
+            if (head.hasRemaining()) {
+                return false;
+            }
+            writeQueue.poll();
+        }
+        return true;
+    }
+
+    boolean isClosed() {
+        return closedFlag.get();
+    }
+
+    /**
+     * 연결 종료 (여러 스레드에서 호출될 수 있음)
+     * @return 이번 호출로 종료되었으면 true, 이미 종료된 연결이면 false
+     */
+    boolean close() {
+        if (!closedFlag.compareAndSet(false, true)) {
+            return false;
+        }
+        if (key != null) {
+            key.cancel();
+        }
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+        pendingRequests.clear();
+        writeQueue.clear();
+        return true;
+    }
+}
@@ -0,0 +1,292 @@
+package deu.server;
+
+import deu.moniter.LogManager;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * NIO(Selector) 기반 서버 엔진
+ * - 셀렉터 스레드 1개가 accept/read/write를 모두 논블로킹으로 처리한다.
+ * - 읽은 바이트에서 완성된 요청 프레임(FrameCodec / BinaryProtocol)만 작업 스레드 풀로 넘겨
+ *   역직렬화 → 요청 처리(SystemController.handle) → 응답 직렬화를 수행한다.
+ * - 연결마다 스레드를 점유하지 않으므로, 유휴 연결 수가 늘어나도 스레드 수는 변하지 않는다.
+ * - 봉투(RequestEnvelope)로 온 요청은 RequestPipeline 이 동시에 처리하고 끝나는 순서대로 응답한다.
+ * - 연결 수가 maxConnections 에 도달하면 accept 관심을 끄고(새 연결은 OS backlog 에서 대기), 연결이 닫혀 자리가 나면 다시 켠다.
+ *   (블로킹 모드의 ConnectionExecutor 와 같은 server.maxConnections 한도)
+ */
+public class NioServer implements Runnable, AutoCloseable {
+
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final ExecutorService workers;
+    private final Function<Object, Object> requestHandler;
+    private final int maxInFlight;
+    private final int maxConnections;
+    private final SelectionKey acceptKey;
+
+    // 작업 스레드가 응답을 넣은 뒤 쓰기 관심(OP_WRITE)을 등록해 달라고 요청한 연결들
+    private final Queue<NioConnection> pendingWrites = new ConcurrentLinkedQueue<>();
+
+    // 셀렉터 스레드 전용 읽기 버퍼 (모든 연결이 공유)
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private volatile boolean acceptPaused = false;
+    private volatile boolean running = true;
+    private volatile boolean started = false;
+
+    public NioServer(int port, int workerThreads, Function<Object, Object> requestHandler) throws IOException {
+        this(port, workerThreads, RequestPipeline.DEFAULT_MAX_IN_FLIGHT, Integer.MAX_VALUE, requestHandler);
+    }
+
+    public NioServer(int port, int workerThreads, int maxInFlight, int maxConnections,
+                     Function<Object, Object> requestHandler) throws IOException {
+        this.requestHandler = requestHandler;
+        this.maxInFlight = maxInFlight;
+        this.maxConnections = Math.max(1, maxConnections);
+        this.workers = Executors.newFixedThreadPool(workerThreads,
+                Thread.ofPlatform().name("nio-worker-", 0).daemon(true).factory());
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        this.serverChannel.bind(new InetSocketAddress(port), 1024);
+        this.serverChannel.configureBlocking(false);
+        this.acceptKey = this.serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    // 실제로 바인딩된 포트 (port=0 으로 생성한 경우 확인용)
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    // 현재 연결 수
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    @Override
+    public void run() {
+        started = true;
+        try {
+            while (running) {
+                selector.select();
+                registerPendingWrites();
+                resumeAcceptIfRoom();
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+
+                    NioConnection connection = (NioConnection) key.attachment();
+                    try {
+                        if (key.isReadable()) {
+                            read(connection);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            write(connection);
+                        }
+                    } catch (IOException e) {
+                        closeConnection(connection);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            if (running) {
+                LogManager.log("[ERROR] NIO 서버 셀렉터 오류: " + e.getMessage());
+            }
+        } finally {
+            closeResources();
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while (true) {
+            // 한도에 도달하면 더 받지 않고 accept 관심을 끔 (자리가 나면 resumeAcceptIfRoom 에서 다시 켬)
+            if (connectionCount.get() >= maxConnections) {
+                acceptPaused = true;
+                acceptKey.interestOps(0);
+                resumeAcceptIfRoom(); // 표시 직전에 닫힌 연결이 있으면 바로 다시 켬
+                return;
+            }
+            if ((channel = serverChannel.accept()) == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+
+            SocketAddress remote = channel.getRemoteAddress();
+            String clientIP = (remote instanceof InetSocketAddress inet && inet.getAddress() != null)
+                    ? inet.getAddress().getHostAddress() : "Unknown";
+
+            NioConnection connection = new NioConnection(channel, clientIP);
+            connection.pipeline = newPipeline(connection);
+            connection.key = channel.register(selector, SelectionKey.OP_READ, connection);
+            connectionCount.incrementAndGet();
+        }
+    }
+
+    // 셀렉터 스레드에서 accept 관심 복구 (연결이 닫혀 한도 아래로 내려간 경우)
+    private void resumeAcceptIfRoom() {
+        if (acceptPaused && connectionCount.get() < maxConnections && acceptKey.isValid()) {
+            acceptPaused = false;
+            acceptKey.interestOps(SelectionKey.OP_ACCEPT);
+        }
+    }
+
+    private void read(NioConnection connection) throws IOException {
+        readBuffer.clear();
+        int read = connection.channel.read(readBuffer);
+        if (read < 0) {
+            closeConnection(connection);
+            return;
+        }
+        readBuffer.flip();
+        boolean replied = connection.onBytes(readBuffer, body -> {
+            connection.pendingRequests.add(body);
+            schedule(connection);
+        });
+
+        // 프로토콜 협상 응답은 셀렉터 스레드에서 바로 전송 (거절한 경우 응답 후 종료)
+        if (replied) {
+            boolean flushed = connection.flushWrites();
+            if (connection.rejected) {
+                closeConnection(connection);
+            } else if (!flushed) {
+                connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+            }
+        }
+    }
+
+    private void write(NioConnection connection) throws IOException {
+        if (connection.flushWrites()) {
+            connection.key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    // 셀렉터 스레드에서 쓰기 관심 등록 (SelectionKey 조작은 셀렉터 스레드에서만 수행)
+    private void registerPendingWrites() {
+        NioConnection connection;
+        while ((connection = pendingWrites.poll()) != null) {
+            if (connection.isClosed() || !connection.key.isValid()) {
+                continue;
+            }
+            try {
+                // 바로 보낼 수 있으면 보내고, 남은 경우에만 OP_WRITE 등록
+                if (!connection.flushWrites()) {
+                    connection.key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                }
+            } catch (IOException e) {
+                closeConnection(connection);
+            }
+        }
+    }
+
+    // 연결별 파이프라인: 응답은 전송 대기열에 넣고 셀렉터 스레드를 깨워 OP_WRITE 처리를 맡긴다.
+    private RequestPipeline newPipeline(NioConnection connection) {
+        return new RequestPipeline(request -> {
+            LogManager.logRequest(connection.clientIP, request);
+            return requestHandler.apply(request);
+        }, response -> {
+            if (connection.isClosed()) {
+                return;
+            }
+            connection.writeQueue.add(connection.format.encode(response));
+            pendingWrites.add(connection);
+            selector.wakeup();
+        }, e -> closeConnection(connection), maxInFlight);
+    }
+
+    // 연결의 요청 처리를 작업 스레드에 예약 (한 연결은 동시에 하나의 작업 스레드만 처리)
+    private void schedule(NioConnection connection) {
+        if (connection.processing.compareAndSet(false, true)) {
+            workers.execute(() -> process(connection));
+        }
+    }
+
+    // 작업 스레드: 대기 중인 요청을 순서대로 꺼내 파이프라인에 넘김 (일반 요청은 여기서 바로 처리)
+    // Error 가 나도 연결을 닫고 processing 을 풀어, 열린 채 다시 예약되지 않는 연결이 남지 않도록 한다.
+    private void process(NioConnection connection) {
+        try {
+            byte[] body;
+            while ((body = connection.pendingRequests.poll()) != null) {
+                if (connection.isClosed()) {
+                    return;
+                }
+                try {
+                    connection.pipeline.submit(connection.format.decode(body));
+                } catch (Exception e) {
+                    LogManager.log("[ERROR] NIO 요청 처리 오류 (" + connection.clientIP + "): " + e.getMessage());
+                    closeConnection(connection);
+                    return;
+                }
+            }
+        } catch (Throwable t) {
+            LogManager.log("[ERROR] NIO 요청 처리 중 심각한 오류 (" + connection.clientIP + "): " + t);
+            closeConnection(connection);
+            throw t;
+        } finally {
+            connection.processing.set(false);
+        }
+
+        // 처리 완료 직후 새로 도착한 요청이 있으면 다시 예약
+        if (!connection.pendingRequests.isEmpty()) {
+            schedule(connection);
+        }
+    }
+
+    private void closeConnection(NioConnection connection) {
+        if (connection.close()) {
+            connectionCount.decrementAndGet();
+            if (acceptPaused) {
+                selector.wakeup(); // 작업 스레드에서 닫힌 경우에도 셀렉터 스레드가 accept 를 다시 켜도록
+            }
+        }
+    }
+
+    // 서버 종료 요청 (실제 자원 정리는 셀렉터 스레드가 루프를 빠져나오면서 수행)
+    @Override
+    public void close() {
+        running = false;
+        workers.shutdownNow();
+        if (started) {
+            selector.wakeup();
+        } else {
+            closeResources();
+        }
+    }
+
+    private void closeResources() {
+        try {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof NioConnection connection) {
+                    closeConnection(connection);
+                }
+            }
+            serverChannel.close();
+            selector.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
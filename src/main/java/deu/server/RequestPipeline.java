@@ -0,0 +1,81 @@
+package deu.server;
+
+import deu.model.dto.request.RequestEnvelope;
+import deu.model.dto.response.ResponseEnvelope;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 연결 1개의 요청 파이프라이닝 처리기
+ * - RequestEnvelope(요청 번호 포함)로 온 요청은 가상 스레드에서 동시에 처리하고,
+ *   끝나는 순서대로 같은 번호의 ResponseEnvelope 로 응답한다.
+ * - 봉투 없이 온 일반 요청은 기존처럼 받은 스레드에서 바로 처리한다. (요청-응답 순서 유지)
+ * - 연결당 동시 처리 수는 maxInFlight 로 제한한다. 한도에 도달하면 받은 스레드가 직접 처리하므로
+ *   그동안 다음 요청을 읽지 않게 되어 자연스럽게 속도가 조절된다.
+ */
+public class RequestPipeline {
+
+    // 연결당 동시 처리 요청 수 기본값
+    public static final int DEFAULT_MAX_IN_FLIGHT = 32;
+
+    // 응답 전송 (여러 스레드에서 동시에 호출되므로 구현체가 동기화해야 함)
+    @FunctionalInterface
+    public interface ResponseSink {
+        void send(Object response) throws IOException;
+    }
+
+    private static final ExecutorService executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("pipeline-", 0).factory());
+
+    private final Function<Object, Object> requestHandler;
+    private final ResponseSink sink;
+    private final Consumer<IOException> onSendFailure;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    public RequestPipeline(Function<Object, Object> requestHandler, ResponseSink sink,
+                           Consumer<IOException> onSendFailure, int maxInFlight) {
+        this.requestHandler = requestHandler;
+        this.sink = sink;
+        this.onSendFailure = onSendFailure;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.inFlight = new Semaphore(this.maxInFlight);
+    }
+
+    /**
+     * 수신한 요청 1건 처리
+     * @throws IOException 받은 스레드에서 직접 처리한 응답을 보내지 못한 경우
+     */
+    public void submit(Object request) throws IOException {
+        if (request instanceof RequestEnvelope envelope && inFlight.tryAcquire()) {
+            executor.execute(() -> {
+                try {
+                    sink.send(process(envelope));
+                } catch (IOException e) {
+                    onSendFailure.accept(e);
+                } finally {
+                    inFlight.release();
+                }
+            });
+            return;
+        }
+        sink.send(process(request));
+    }
+
+    // 현재 처리 중인 봉투 요청 수
+    public int getInFlight() {
+        return maxInFlight - inFlight.availablePermits();
+    }
+
+    private Object process(Object request) {
+        if (request instanceof RequestEnvelope envelope) {
+            return new ResponseEnvelope(envelope.requestId, requestHandler.apply(envelope.request));
+        }
+        return requestHandler.apply(request);
+    }
+}
@@ -0,0 +1,146 @@
+package deu.server;
+
+import java.io.File;
+
+/**
+ * 서버 실행 설정값
+ * - JVM 옵션(-D)으로 덮어쓸 수 있다.
+ *   예) java -Dserver.mode=pooled -Dserver.poolSize=100 -jar DeuLectureRoomServer-1.0.0.jar
+ *
+ * server.port           : 서버 포트 (기본 9999)
+ * server.engine         : blocking | nio (기본 blocking)
+ * server.mode           : virtual | pooled | thread (기본 virtual, blocking 엔진에서 사용)
+ * server.maxConnections : 동시에 처리할 최대 연결 수 (기본 10000, 초과 시 accept 대기)
+ * server.poolSize       : pooled 모드의 플랫폼 스레드 수 (기본 200)
+ * server.workerThreads  : nio 엔진의 요청 처리 스레드 수 (기본 CPU 코어 수 x 2)
+ * server.maxInFlight    : 연결당 동시에 처리할 파이프라이닝 요청 수 (기본 32)
+ * server.readLimit      : 동시에 실행할 조회 명령 수 (기본 CPU 코어 수 x 8)
+ * server.readQueue      : 조회 명령 대기열 길이 (기본 64)
+ * server.writeLimit     : 동시에 실행할 변경 명령 수 (기본 16)
+ * server.writeQueue     : 변경 명령 대기열 길이 (기본 256)
+ * server.queueTimeout   : 대기열에서 기다리는 최대 시간 ms, 초과 시 503 응답 (기본 500)
+ * server.metricsFile    : 성능 지표를 주기적으로 기록할 파일 (기본 logs/metrics.log)
+ * server.metricsInterval: 성능 지표 기록 간격 초, 0 이면 기록 안 함 (기본 60)
+ */
+public class ServerConfig {
+
+    private final int port;
+    private ServerEngine engine;
+    private ConnectionMode mode;
+    private final int maxConnections;
+    private final int poolSize;
+    private final int workerThreads;
+    private final int maxInFlight;
+    private final int readLimit;
+    private final int readQueue;
+    private final int writeLimit;
+    private final int writeQueue;
+    private final long queueTimeoutMillis;
+    private final String metricsFile;
+    private final long metricsIntervalSeconds;
+
+    public ServerConfig(int port, ServerEngine engine, ConnectionMode mode,
+                        int maxConnections, int poolSize, int workerThreads, int maxInFlight,
+                        int readLimit, int readQueue, int writeLimit, int writeQueue, long queueTimeoutMillis,
+                        String metricsFile, long metricsIntervalSeconds) {
+        this.port = port;
+        this.engine = engine;
+        this.mode = mode;
+        this.maxConnections = maxConnections;
+        this.poolSize = poolSize;
+        this.workerThreads = workerThreads;
+        this.maxInFlight = maxInFlight;
+        this.readLimit = readLimit;
+        this.readQueue = readQueue;
+        this.writeLimit = writeLimit;
+        this.writeQueue = writeQueue;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.metricsFile = metricsFile;
+        this.metricsIntervalSeconds = metricsIntervalSeconds;
+    }
+
+    // 시스템 프로퍼티에서 설정 읽기
+    public static ServerConfig fromSystemProperties() {
+        return new ServerConfig(
+                Integer.getInteger("server.port", 9999),
+                ServerEngine.fromString(System.getProperty("server.engine")),
+                ConnectionMode.fromString(System.getProperty("server.mode")),
+                Integer.getInteger("server.maxConnections", 10_000),
+                Integer.getInteger("server.poolSize", 200),
+                Integer.getInteger("server.workerThreads", Runtime.getRuntime().availableProcessors() * 2),
+                Integer.getInteger("server.maxInFlight", RequestPipeline.DEFAULT_MAX_IN_FLIGHT),
+                Integer.getInteger("server.readLimit", Runtime.getRuntime().availableProcessors() * 8),
+                Integer.getInteger("server.readQueue", 64),
+                Integer.getInteger("server.writeLimit", 16),
+                Integer.getInteger("server.writeQueue", 256),
+                Long.getLong("server.queueTimeout", 500),
+                System.getProperty("server.metricsFile",
+                        System.getProperty("user.dir") + File.separator + "logs" + File.separator + "metrics.log"),
+                Long.getLong("server.metricsInterval", 60)
+        );
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public ServerEngine getEngine() {
+        return engine;
+    }
+
+    public void setEngine(ServerEngine engine) {
+        this.engine = engine;
+    }
+
+    public ConnectionMode getMode() {
+        return mode;
+    }
+
+    public void setMode(ConnectionMode mode) {
+        this.mode = mode;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public int getReadLimit() {
+        return readLimit;
+    }
+
+    public int getReadQueue() {
+        return readQueue;
+    }
+
+    public int getWriteLimit() {
+        return writeLimit;
+    }
+
+    public int getWriteQueue() {
+        return writeQueue;
+    }
+
+    public long getQueueTimeoutMillis() {
+        return queueTimeoutMillis;
+    }
+
+    public String getMetricsFile() {
+        return metricsFile;
+    }
+
+    public long getMetricsIntervalSeconds() {
+        return metricsIntervalSeconds;
+    }
+}
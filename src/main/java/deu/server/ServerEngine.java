@@ -0,0 +1,36 @@
+package deu.server;
+
+/**
+ * 서버 엔진 종류
+ * - BLOCKING : ServerSocket.accept() 루프 + 연결마다 ClientHandler (ObjectInputStream/ObjectOutputStream 세션)
+ * - NIO      : Selector 하나로 모든 소켓을 감시하고, 완성된 요청 프레임만 작업 스레드 풀에 넘김
+ *              (연결 수만큼 스레드가 필요하지 않으므로 수만 개의 동시 연결을 유지할 수 있음)
+ */
+public enum ServerEngine {
+    BLOCKING("블로킹 소켓"),
+    NIO("NIO 셀렉터");
+
+    private final String label;
+
+    ServerEngine(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public ServerEngine next() {
+        return this == BLOCKING ? NIO : BLOCKING;
+    }
+
+    // 문자열로부터 enum 변환 (잘못된 값이면 기본값 BLOCKING)
+    public static ServerEngine fromString(String value) {
+        if (value == null) return BLOCKING;
+        try {
+            return ServerEngine.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return BLOCKING;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package deu.server;
+
+import deu.protocol.BinaryProtocol;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * NIO 엔진에서 연결마다 협상된 프레임 본문 형식
+ * - 프레임 구조([4바이트 길이][본문])는 같고 본문 인코딩만 다르다.
+ */
+public enum WireFormat {
+    SERIALIZED("Java 직렬화"),
+    BINARY("바이너리");
+
+    private final String label;
+
+    WireFormat(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public ByteBuffer encode(Object value) throws IOException {
+        return this == BINARY ? BinaryProtocol.encode(value) : FrameCodec.encode(value);
+    }
+
+    public Object decode(byte[] body) throws IOException, ClassNotFoundException {
+        return this == BINARY ? BinaryProtocol.decode(body) : FrameCodec.decode(body);
+    }
+}
@@ -45,6 +45,15 @@ public class LectureService {
             return new BasicResponse("404", "파일에서 강의 정보를 불러오지 못했습니다.");
         }
 
+        // 강의실을 지정했으면 저장소의 요일별 시간표에서 오늘부터 7일 순서로 가져옴 (전체 조건이면 아래에서 목록 검색)
+        Lecture[][] timetable = LectureRepository.getInstance().findWeeklyTimetable(building, floor, lectureroom);
+        if (timetable != null) {
+            for (int i = 0; i < 7; i++) {
+                schedule[i] = timetable[orderedDays[i].getIndex()];
+            }
+            return new BasicResponse("200", schedule);
+        }
+
         // 4. 강의 목록 중 대상 강의실에 해당하는 강의만 필터링하고 시간표에 배치
         for (Lecture lec : lectures) {
             // 유효한 강의인지 (null 여부, 강의실/건물/층 일치, 요일/시간 존재 여부 등)
@@ -100,6 +109,17 @@ public class LectureService {
         
         // [날짜(0~30)][교시(0~12)]
         Lecture[][] monthlySchedule = new Lecture[daysInMonth][13];
+
+        // 강의실을 지정했으면 저장소의 요일별 시간표를 날짜마다 복사
+        Lecture[][] timetable = LectureRepository.getInstance().findWeeklyTimetable(
+                payload.getBuilding(), payload.getFloor(), payload.getLectureroom());
+        if (timetable != null) {
+            for (int day = 1; day <= daysInMonth; day++) {
+                monthlySchedule[day - 1] = timetable[yearMonth.atDay(day).getDayOfWeek().getValue() - 1].clone();
+            }
+            return new BasicResponse("200", monthlySchedule);
+        }
+
         List<Lecture> lectures = LectureRepository.getInstance().findAll();
         
         // 1일 ~ 말일까지 순회
@@ -122,6 +142,13 @@ public class LectureService {
         // 요청받은 날짜의 요일 확인
         DayOfWeek targetDay = convertToDayOfWeekEnum(payload.getTargetDate().getDayOfWeek().name());
         Lecture[] dailySchedule = new Lecture[13];
+
+        Lecture[][] timetable = LectureRepository.getInstance().findWeeklyTimetable(
+                payload.getBuilding(), payload.getFloor(), payload.getLectureroom());
+        if (timetable != null) {
+            return new BasicResponse("200", timetable[payload.getTargetDate().getDayOfWeek().getValue() - 1]);
+        }
+
         List<Lecture> lectures = LectureRepository.getInstance().findAll();
         
         for (Lecture lec : lectures) {
@@ -9,6 +9,10 @@ package deu.service;
  * @author scq37
  */
 import deu.model.dto.response.NotificationDTO;
+import deu.moniter.LatencyHistogram;
+import deu.moniter.LogManager;
+import deu.moniter.Metrics;
+import deu.repository.AtomicFileWriter;
 
 import java.io.*;
 import java.util.ArrayList;
@@ -22,6 +26,9 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class NotificationService {
 
+    // 성능 지표 (파일 저장 시간)
+    private static final LatencyHistogram SAVE_TIME = Metrics.getInstance().histogram("저장소 알림 파일 저장");
+
     private static final NotificationService instance = new NotificationService();
     
     // 저장 파일 경로
@@ -51,7 +58,21 @@ public class NotificationService {
         List<NotificationDTO> list = notificationDatabase.computeIfAbsent(userId, k -> new ArrayList<>());
         list.add(notification);
         saveToFile(); // 변경 사항 즉시 저장
-        System.out.println("[NotificationService] " + userId + "에게 알림 저장됨: " + notification.getTitle());
+        LogManager.debug(() -> "[NotificationService] " + userId + "에게 알림 저장됨: " + notification.getTitle());
+    }
+
+    /**
+     * 여러 사용자에게 알림을 한 번에 추가하고 파일에 한 번만 저장합니다. (관리자 일괄 처리용)
+     * @param notifications Key: 사용자 ID, Value: 추가할 알림들
+     */
+    public synchronized void addNotifications(Map<String, List<NotificationDTO>> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        notifications.forEach((userId, added) ->
+                notificationDatabase.computeIfAbsent(userId, k -> new ArrayList<>()).addAll(added));
+        saveToFile();
+        LogManager.debug(() -> "[NotificationService] 사용자 " + notifications.size() + "명에게 알림 일괄 저장됨");
     }
 
     /**
@@ -108,10 +129,19 @@ public class NotificationService {
             parent.mkdirs();
         }
 
-        try (ObjectOutputStream oos = new ObjectOutputStream(new FileOutputStream(file))) {
-            oos.writeObject(notificationDatabase);
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            AtomicFileWriter.getInstance().write(file, out -> {
+                ObjectOutputStream oos = new ObjectOutputStream(out);
+                oos.writeObject(notificationDatabase);
+                oos.flush();
+            });
         } catch (IOException e) {
+            failed = true;
             System.err.println("[NotificationService] 파일 저장 실패: " + e.getMessage());
+        } finally {
+            SAVE_TIME.record(System.nanoTime() - start, failed);
         }
     }
 
@@ -0,0 +1,109 @@
+package deu.service;
+
+import deu.model.entity.RoomReservation;
+import deu.moniter.LatencyHistogram;
+import deu.moniter.Metrics;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 예약 신청 잠금 (줄무늬 잠금, striped lock)
+ * - 예약 신청의 검사(정원, 하루 시간, 7일 횟수, 본인 중복, 세미나 규칙)와 저장을 한 단계로 묶는다.
+ *   검사 후 저장 전에 다른 신청이 끼어들어 마지막 자리가 두 번 팔리는 일을 막기 위함.
+ * - 강의실 시간대(강의실, 날짜, 시작 시간)와 신청자 학번을 고정 개수 잠금 중 한 칸씩에 대응시킨다.
+ *   같은 시간대나 같은 신청자의 신청만 서로 기다리고, 관계없는 강의실 신청은 동시에 진행된다.
+ *   (시간대 잠금 → 정원/세미나 규칙, 신청자 잠금 → 하루 시간/7일 횟수/본인 중복)
+ * - 건물/층은 키에서 뺀다. 강의실 기준 검사(CapacityReservationPolicy, isDuplicate)까지 덮도록 넓게 잡음.
+ * - 잠글 칸은 항상 번호가 작은 쪽부터 잡으므로 신청끼리 교착되지 않는다. (반복 예약은 회차 수만큼, 관리자 일괄 처리는 대상 예약 수만큼 칸을 함께 잡음)
+ */
+final class ReservationLocks {
+
+    static final int DEFAULT_STRIPES = 1024;
+
+    private static final LatencyHistogram WAIT_TIME = Metrics.getInstance().histogram("예약 신청 잠금 대기");
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    ReservationLocks() {
+        this(DEFAULT_STRIPES);
+    }
+
+    // stripes 는 2의 거듭제곱으로 올림
+    ReservationLocks(int stripes) {
+        int size = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    // 잡은 잠금 (try-with-resources 로 해제)
+    interface Held extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    // 강의실 시간대 + 신청자 잠금
+    Held lock(String lectureRoom, String date, String startTime, String number) {
+        return lockStripes(new int[]{slotStripe(lectureRoom, date, startTime), userStripe(number)});
+    }
+
+    // 같은 강의실/시작 시간의 여러 날짜(반복 예약 회차) + 신청자 잠금
+    Held lockAll(String lectureRoom, List<String> dates, String startTime, String number) {
+        int[] indices = new int[dates.size() + 1];
+        for (int i = 0; i < dates.size(); i++) {
+            indices[i] = slotStripe(lectureRoom, dates.get(i), startTime);
+        }
+        indices[dates.size()] = userStripe(number);
+        return lockStripes(indices);
+    }
+
+    // 기존 예약 여러 건의 강의실 시간대 + 예약자 잠금 (관리자 일괄 처리)
+    Held lockReservations(Collection<RoomReservation> reservations) {
+        int[] indices = new int[reservations.size() * 2];
+        int i = 0;
+        for (RoomReservation r : reservations) {
+            indices[i++] = slotStripe(r.getLectureRoom(), r.getDate(), r.getStartTime());
+            indices[i++] = userStripe(r.getNumber());
+        }
+        return lockStripes(indices);
+    }
+
+    // 번호 순서로 (겹치는 칸은 한 번만) 잠금
+    private Held lockStripes(int[] indices) {
+        int[] order = Arrays.stream(indices).distinct().sorted().toArray();
+        long start = System.nanoTime();
+        for (int index : order) {
+            stripes[index].lock();
+        }
+        WAIT_TIME.recordSince(start);
+
+        return () -> {
+            for (int i = order.length - 1; i >= 0; i--) {
+                stripes[order[i]].unlock();
+            }
+        };
+    }
+
+    int slotStripe(String lectureRoom, String date, String startTime) {
+        return spread(Objects.hash(lectureRoom, date, startTime));
+    }
+
+    int userStripe(String number) {
+        return spread(number == null ? 0 : number.trim().toLowerCase().hashCode());
+    }
+
+    int size() {
+        return stripes.length;
+    }
+
+    private int spread(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,87 @@
+package deu.service;
+
+import deu.model.dto.request.data.reservation.RecurringReservationRequest;
+import deu.model.dto.request.data.reservation.RoomReservationRequest;
+import deu.model.enums.DayOfWeek;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 반복 예약 규칙 펼치기 (매주 같은 요일)
+ * - 시작 날짜(첫 해당 요일)부터 7일 간격으로 반복 횟수 또는 마지막 날짜까지 날짜 목록을 만든다.
+ * - 회차별 예약 요청은 기준 요청을 복사해 날짜(와 요일을 지정한 경우 요일 표기)만 바꾼다.
+ * - 한 번에 만들 수 있는 회차는 MAX_OCCURRENCES (한 학기 16주 + 여유)
+ */
+final class ReservationSeries {
+
+    static final int MAX_OCCURRENCES = 26;
+
+    private ReservationSeries() {
+    }
+
+    /**
+     * 반복 날짜 목록
+     * @throws IllegalArgumentException 규칙이 잘못되었거나 회차가 없거나 너무 많을 때 (메시지는 응답에 그대로 사용)
+     */
+    static List<LocalDate> dates(RecurringReservationRequest request) {
+        RoomReservationRequest base = request.getReservation();
+        if (base == null) {
+            throw new IllegalArgumentException("반복할 예약 정보가 없습니다.");
+        }
+        LocalDate start = parse(base.getDate(), "시작 날짜");
+        LocalDate until = request.getUntilDate() == null || request.getUntilDate().isBlank()
+                ? null : parse(request.getUntilDate(), "마지막 날짜");
+        int occurrences = request.getOccurrences();
+        if (occurrences < 0 || (occurrences == 0 && until == null)) {
+            throw new IllegalArgumentException("반복 횟수 또는 마지막 날짜를 지정해야 합니다.");
+        }
+
+        if (request.getDayOfWeek() != null && !request.getDayOfWeek().isBlank()) {
+            DayOfWeek day = DayOfWeek.fromString(request.getDayOfWeek().trim());
+            if (day == null) {
+                throw new IllegalArgumentException("반복 요일 형식이 올바르지 않습니다. (MONDAY ~ SUNDAY)");
+            }
+            start = start.with(TemporalAdjusters.nextOrSame(java.time.DayOfWeek.of(day.getIndex() + 1)));
+        }
+
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = start; occurrences == 0 || dates.size() < occurrences; date = date.plusWeeks(1)) {
+            if (until != null && date.isAfter(until)) {
+                break;
+            }
+            if (dates.size() == MAX_OCCURRENCES) {
+                throw new IllegalArgumentException("반복 예약은 최대 " + MAX_OCCURRENCES + "회까지 가능합니다.");
+            }
+            dates.add(date);
+        }
+        if (dates.isEmpty()) {
+            throw new IllegalArgumentException("반복 기간 안에 예약할 날짜가 없습니다.");
+        }
+        return dates;
+    }
+
+    // 기준 요청을 복사해 회차 날짜로 바꾼 예약 요청
+    static RoomReservationRequest occurrence(RecurringReservationRequest request, LocalDate date) {
+        RoomReservationRequest base = request.getReservation();
+        RoomReservationRequest copy = new RoomReservationRequest(base.getBuildingName(), base.getFloor(),
+                base.getLectureRoom(), base.getTitle(), base.getDescription(), date.toString(),
+                base.getDayOfTheWeek(), base.getStartTime(), base.getEndTime(), base.getNumber(),
+                base.getPurpose(), base.getAccompanyingStudentCount(), base.getAccompanyingStudents());
+        if (request.getDayOfWeek() != null && !request.getDayOfWeek().isBlank()) {
+            copy.setDayOfTheWeek(request.getDayOfWeek().trim()); // 요일을 지정했으면 그 표기를 그대로 사용
+        }
+        return copy;
+    }
+
+    private static LocalDate parse(String date, String name) {
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalArgumentException(name + " 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+        }
+    }
+}
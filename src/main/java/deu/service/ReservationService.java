@@ -1,6 +1,8 @@
 package deu.service;
 
+import deu.model.dto.request.data.reservation.BulkReservationRequest;
 import deu.model.dto.request.data.reservation.DeleteRoomReservationRequest;
+import deu.model.dto.request.data.reservation.RecurringReservationRequest;
 import deu.model.dto.request.data.reservation.RoomReservationLocationRequest;
 import deu.model.dto.request.data.reservation.RoomReservationRequest;
 import deu.model.dto.response.BasicResponse;
@@ -20,8 +22,16 @@ import lombok.Getter;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 public class ReservationService {
 
@@ -31,6 +41,9 @@ public class ReservationService {
     // [Refactor] 테스트 용이성을 위해 Repository를 멤버 변수로 선언 (HEAD 반영)
     private ReservationRepository reservationRepository;
 
+    // 예약 신청 검사 ~ 저장 잠금 (강의실 시간대 / 신청자 단위)
+    private final ReservationLocks admissionLocks = new ReservationLocks();
+
     private ReservationService() {
         // 생성 시점에 싱글톤 Repository를 할당
         this.reservationRepository = ReservationRepository.getInstance();
@@ -78,92 +91,192 @@ public class ReservationService {
                 return new BasicResponse("403", ex.getMessage());
             }
 
-            // [Feature] 2. 정원(capacity) 정책: 정원의 50% 초과 시 예약 불가 (Remote 반영)
+            // 검사 ~ 저장을 한 단계로: 같은 강의실 시간대 / 같은 신청자의 신청은 차례로 처리 (ReservationLocks)
+            long ticket;
+            ReservationLocks.Held held = admissionLocks.lock(
+                    payload.getLectureRoom(), payload.getDate(), payload.getStartTime(), number);
             try {
-                RoomCapacityRepository capacityRepo = RoomCapacityRepository.getInstance();
-                int capacity = capacityRepo.getCapacity(
-                        payload.getBuildingName(),
-                        payload.getFloor(),
-                        payload.getLectureRoom()
-                );
-
-                if (capacity > 0) {
-                    int limit = (int) Math.ceil(capacity * 0.5);
-
-                    List<RoomReservation> existing = repo.findAll().stream()
-                            .filter(r -> r.getBuildingName().equals(payload.getBuildingName()))
-                            .filter(r -> r.getFloor().equals(payload.getFloor()))
-                            .filter(r -> r.getLectureRoom().equals(payload.getLectureRoom()))
-                            .filter(r -> r.getDate().equals(payload.getDate()))
-                            .filter(r -> r.getStartTime().equals(payload.getStartTime()))
-                            .filter(r -> !"삭제됨".equals(r.getStatus()))
-                            .toList();
-
-                    if (existing.size() >= limit) {
-                        return new BasicResponse("403", "정원의 50%(" + limit + "명)를 초과하여 예약할 수 없습니다.");
-                    }
+                BasicResponse rejected = checkAdmission(payload, number, lower.startsWith("p"), 0);
+                if (rejected != null) {
+                    return rejected;
                 }
-            } catch (Exception ex) {
-                return new BasicResponse("500", "정원 검증 오류: " + ex.getMessage());
+
+                // 저장 (강의실 중복 방지 로직은 Remote 정책에 따라 제거됨)
+                // 잠금 안에서 메모리에 반영하므로 다음 신청의 검사에는 이 예약이 반영되어 있음
+                ticket = repo.insert(roomReservation);
+            } finally {
+                held.close();
             }
+            // 디스크 반영은 잠금을 놓은 뒤 기다림 (같은 시간대의 다음 신청이 fsync 를 기다리지 않도록)
+            repo.awaitDurable(ticket);
 
-            // [Feature] 3. 하루 시간 제한 검사 (Remote 반영)
-            List<RoomReservation> todays = repo.findByUser(number).stream()
-                    .filter(r -> r.getDate().equals(payload.getDate()))
-                    .filter(r -> !"삭제됨".equals(r.getStatus()) && !"취소됨".equals(r.getStatus()))
-                    .toList();
-
-            int usedMinutes = 0;
-            for (RoomReservation r : todays) {
-                LocalTime s = LocalTime.parse(r.getStartTime());
-                LocalTime e = LocalTime.parse(r.getEndTime());
-                usedMinutes += (int) ChronoUnit.MINUTES.between(s, e);
+        // [추가] 예약 신청 이력 저장 (History)
+        String notiTitle = "예약 신청";
+        String notiMsg = String.format("[%s %s호] %s %s 예약이 신청되었습니다.", 
+            roomReservation.getBuildingName(), roomReservation.getLectureRoom(), 
+            roomReservation.getDate(), roomReservation.getStartTime());
+        saveNotification(roomReservation, notiTitle, notiMsg);
+            
+        return new BasicResponse("200", "예약이 완료되었습니다.");
+
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new BasicResponse("500", "서버 오류: " + e.getMessage());
+        }
+    }
+
+    // 반복 예약 신청 (매주 같은 요일/강의실/시간)
+    // - 회차를 서버에서 펼쳐 모든 회차를 정책/정원/사용량 규칙으로 검사하고, 모두 통과해야 한 번에 저장 (하나라도 걸리면 아무것도 저장 안 함)
+    // - 저장은 insertAll 1번 (디스크 반영 대기는 잠금을 놓은 뒤 1번), 알림은 요약 1건
+    public BasicResponse createRecurringReservation(RecurringReservationRequest request) {
+        try {
+            List<LocalDate> dates;
+            try {
+                dates = ReservationSeries.dates(request);
+            } catch (IllegalArgumentException ex) {
+                return new BasicResponse("400", ex.getMessage());
             }
+            RoomReservationRequest base = request.getReservation();
 
-            int newMinutes = (int) ChronoUnit.MINUTES.between(
-                    LocalTime.parse(payload.getStartTime()),
-                    LocalTime.parse(payload.getEndTime())
-            );
+            String number = base.getNumber() == null ? "" : base.getNumber().trim();
+            String lower = number.toLowerCase();
 
-            int limitMinutes = lower.startsWith("p") ? 180 : 120;
-            if (usedMinutes + newMinutes > limitMinutes) {
-                return new BasicResponse("403", lower.startsWith("p")
-                        ? "교수님은 하루 최대 3시간까지 예약 가능합니다."
-                        : "학생은 하루 최대 2시간까지 예약 가능합니다.");
+            // 사용자 타입에 따른 정책 및 초기 상태 (예약 신청과 동일)
+            ReservationPolicy policy;
+            String initialStatus;
+            if (lower.startsWith("p")) {
+                policy = new ProfessorReservationPolicy();
+                initialStatus = "승인";
+            } else if (lower.startsWith("s")) {
+                policy = new StudentReservationPolicy();
+                initialStatus = "대기";
+            } else {
+                return new BasicResponse("400", "사용자 번호 형식이 올바르지 않습니다. (S**** / P****)");
             }
 
-            // [Feature] 4. 7일간 최대 5회 검사 (Remote 반영)
-            LocalDate today = LocalDate.now();
-            LocalDate maxDate = today.plusDays(6);
-
-            long countWithin7Days = repo.findByUser(number).stream()
-                    .filter(r -> {
-                        try {
-                            LocalDate d = LocalDate.parse(r.getDate());
-                            return !d.isBefore(today) && !d.isAfter(maxDate);
-                        } catch (Exception e) {
-                            return false;
-                        }
-                    })
-                    .filter(r -> !"삭제됨".equals(r.getStatus()) && !"취소됨".equals(r.getStatus()))
-                    .count();
-
-            if (countWithin7Days >= 5) {
-                return new BasicResponse("403", "오늘부터 7일간 최대 5회까지만 예약 가능합니다.");
+            // 회차별 요청/예약 생성 + 정책 검사 (저장소를 보지 않으므로 잠금 밖에서)
+            List<RoomReservationRequest> occurrences = new ArrayList<>(dates.size());
+            List<RoomReservation> reservations = new ArrayList<>(dates.size());
+            for (LocalDate date : dates) {
+                RoomReservationRequest occurrence = ReservationSeries.occurrence(request, date);
+                try {
+                    policy.validate(occurrence);
+                } catch (Exception ex) {
+                    return new BasicResponse("403", date + ": " + ex.getMessage());
+                }
+                occurrences.add(occurrence);
+                // 빌더는 예약 객체 1개를 채우므로 회차마다 새로 만듦
+                RoomReservationDirector director = new RoomReservationDirector(new DefaultRoomReservationBuilder());
+                reservations.add(director.construct(occurrence, number, initialStatus));
             }
 
-            // [Feature] 5. 동일 사용자 중복 예약 방지 (Remote 반영)
-            for (RoomReservation r : repo.findByUser(number)) {
-                if ("취소됨".equals(r.getStatus()) || "삭제됨".equals(r.getStatus())) {
-                     continue;
+            // 모든 회차의 강의실 시간대 + 신청자를 잠그고 검사 ~ 저장
+            LocalDate today = LocalDate.now();
+            LocalDate weekEnd = today.plusDays(6);
+            List<String> dateStrings = dates.stream().map(LocalDate::toString).toList();
+            long ticket;
+            ReservationLocks.Held held = admissionLocks.lockAll(
+                    base.getLectureRoom(), dateStrings, base.getStartTime(), number);
+            try {
+                int pendingThisWeek = 0;
+                for (RoomReservationRequest occurrence : occurrences) {
+                    BasicResponse rejected = checkAdmission(occurrence, number, lower.startsWith("p"), pendingThisWeek);
+                    if (rejected != null) {
+                        return new BasicResponse(rejected.code, occurrence.getDate() + ": " + rejected.data);
+                    }
+                    LocalDate date = LocalDate.parse(occurrence.getDate());
+                    if (!date.isBefore(today) && !date.isAfter(weekEnd)) {
+                        pendingThisWeek++;
+                    }
                 }
-                if (r.getDate().equals(payload.getDate())
-                        && r.getStartTime().equals(payload.getStartTime())) {
-                    return new BasicResponse("409", "이미 해당 시간에 본인의 예약이 존재합니다.");
+
+                ticket = this.reservationRepository.insertAll(reservations);
+            } finally {
+                held.close();
+            }
+            // 디스크 반영은 잠금을 놓은 뒤 한 번만 기다림
+            this.reservationRepository.awaitDurable(ticket);
+
+            // 예약 신청 이력 저장 (회차별이 아닌 요약 1건)
+            RoomReservation first = reservations.get(0);
+            String notiMsg = String.format("[%s %s호] %s ~ %s 매주 %s %s 예약 %d건이 신청되었습니다.",
+                    first.getBuildingName(), first.getLectureRoom(), dateStrings.get(0),
+                    dateStrings.get(dateStrings.size() - 1), first.getDayOfTheWeek(), first.getStartTime(),
+                    reservations.size());
+            saveNotification(first, "반복 예약 신청", notiMsg);
+
+            return new BasicResponse("200", "반복 예약 " + reservations.size() + "건이 완료되었습니다.");
+
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new BasicResponse("500", "서버 오류: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 예약 신청 검사: 정원 50%, 하루 시간 제한, 7일간 최대 5회, 본인 중복, 세미나/보강 규칙 (이 순서로)
+     * - 통과하면 null, 걸리면 거절 응답을 반환한다.
+     * - ReservationLocks 잠금 안에서 호출해야 검사 결과가 저장까지 유지된다.
+     * @param pendingThisWeek 같은 신청(반복 예약)에서 먼저 검사를 통과한 오늘부터 7일 안 회차 수
+     */
+    private BasicResponse checkAdmission(RoomReservationRequest payload, String number, boolean professor,
+                                         int pendingThisWeek) {
+        ReservationRepository repo = this.reservationRepository;
+
+        // [Feature] 2. 정원(capacity) 정책: 정원의 50% 초과 시 예약 불가 (Remote 반영)
+        try {
+            RoomCapacityRepository capacityRepo = RoomCapacityRepository.getInstance();
+            int capacity = capacityRepo.getCapacity(
+                    payload.getBuildingName(),
+                    payload.getFloor(),
+                    payload.getLectureRoom()
+            );
+
+            if (capacity > 0) {
+                int limit = (int) Math.ceil(capacity * 0.5);
+
+                // 같은 강의실 시간대의 '삭제됨' 제외 예약 수 (시간대 색인 조회)
+                int existing = repo.countLiveInSlot(
+                        payload.getBuildingName(), payload.getFloor(), payload.getLectureRoom(),
+                        payload.getDate(), payload.getStartTime());
+
+                if (existing >= limit) {
+                    return new BasicResponse("403", "정원의 50%(" + limit + "명)를 초과하여 예약할 수 없습니다.");
                 }
             }
-           // [Feature] 5-1. 세미나/보강 목적 예약 시 교수 기존 예약 여부 검사 (Builder Pattern 적용)
-            try {
+        } catch (Exception ex) {
+            return new BasicResponse("500", "정원 검증 오류: " + ex.getMessage());
+        }
+
+        // 하루 사용 시간, 7일 예약 수, 본인 중복을 저장소의 사용자별 사용량 집계에서 바로 읽음
+        UserReservationContext mine = UserReservationContext.of(
+                repo, number, payload.getDate(), payload.getStartTime(), LocalDate.now());
+
+        // [Feature] 3. 하루 시간 제한 검사 (Remote 반영)
+        int newMinutes = (int) ChronoUnit.MINUTES.between(
+                LocalTime.parse(payload.getStartTime()),
+                LocalTime.parse(payload.getEndTime())
+        );
+
+        int limitMinutes = professor ? 180 : 120;
+        if (mine.getUsedMinutes() + newMinutes > limitMinutes) {
+            return new BasicResponse("403", professor
+                    ? "교수님은 하루 최대 3시간까지 예약 가능합니다."
+                    : "학생은 하루 최대 2시간까지 예약 가능합니다.");
+        }
+
+        // [Feature] 4. 7일간 최대 5회 검사 (Remote 반영)
+        if (mine.getWeeklyCount() + pendingThisWeek >= 5) {
+            return new BasicResponse("403", "오늘부터 7일간 최대 5회까지만 예약 가능합니다.");
+        }
+
+        // [Feature] 5. 동일 사용자 중복 예약 방지 (Remote 반영)
+        if (mine.hasSlotCollision()) {
+            return new BasicResponse("409", "이미 해당 시간에 본인의 예약이 존재합니다.");
+        }
+
+        // [Feature] 5-1. 세미나/보강 목적 예약 시 교수 기존 예약 여부 검사 (Builder Pattern 적용)
+        try {
             SeminarReservationRuleBuilder
             .withRepository(repo)
             .buildingName(payload.getBuildingName())
@@ -175,28 +288,10 @@ public class ReservationService {
             .requesterNumber(number)
             .validate();
         } catch (IllegalStateException ex) {
-             return new BasicResponse("403", ex.getMessage());
+            return new BasicResponse("403", ex.getMessage());
         }
 
-
-        // 저장 (강의실 중복 방지 로직은 Remote 정책에 따라 제거됨)
-        repo.save(roomReservation);
-        
-        // [추가] 예약 신청 이력 저장 (History)
-        String notiTitle = "예약 신청";
-        String notiMsg = String.format("[%s %s호] %s %s 예약이 신청되었습니다.", 
-            roomReservation.getBuildingName(), roomReservation.getLectureRoom(), 
-            roomReservation.getDate(), roomReservation.getStartTime());
-        saveNotification(roomReservation, notiTitle, notiMsg);
-            
-        repo.saveToFile(); // [Refactor] 파일 저장 명시
-            
-        return new BasicResponse("200", "예약이 완료되었습니다.");
-
-        } catch (Exception e) {
-            e.printStackTrace();
-            return new BasicResponse("500", "서버 오류: " + e.getMessage());
-        }
+        return null;
     }
 
     // 개인별 예약 취소 (HEAD 로직 유지)
@@ -233,8 +328,6 @@ public class ReservationService {
         String notiMsg = String.format("[%s %s호] 사용자 요청에 의해 예약이 취소되었습니다.", 
             target.getBuildingName(), target.getLectureRoom());
         saveNotification(cancelledReservation, notiTitle, notiMsg);
-        
-        repo.saveToFile();
 
 //        repo.deleteById(payload.roomReservationId);
 //        repo.saveToFile();
@@ -249,15 +342,9 @@ public class ReservationService {
         DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
         // [Refactor] 멤버 변수 사용 (HEAD) + 로직 (Remote) 병합
-        List<RoomReservation> list = this.reservationRepository.findByUser(payload).stream()
-                .filter(r -> {
-                    try {
-                        LocalDate d = LocalDate.parse(r.getDate(), fmt);
-                        return !d.isBefore(today) && !d.isAfter(today.plusDays(6));
-                    } catch (Exception e) {
-                        return false;
-                    }
-                })
+        // 오늘부터 7일 안의 예약만 조회 (저장소 날짜 색인 사용)
+        List<RoomReservation> list = this.reservationRepository
+                .findByUserAndDateRange(payload, today, today.plusDays(6)).stream()
                 // [수정] 취소/삭제된 예약은 조회에서 제외
                 .filter(r -> !"삭제됨".equals(r.getStatus()) && !"취소됨".equals(r.getStatus()))
                 .toList();
@@ -280,17 +367,9 @@ public class ReservationService {
     public BasicResponse getReservationsByUser(String payload) {
         LocalDate today = LocalDate.now();
         LocalDate end = today.plusDays(6);
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-        List<RoomReservation> list = this.reservationRepository.findByUser(payload).stream()
-                .filter(r -> {
-                    try {
-                        LocalDate d = LocalDate.parse(r.getDate(), fmt);
-                        return !d.isBefore(today) && !d.isAfter(end);
-                    } catch (Exception e) {
-                        return false;
-                    }
-                })
+        // 오늘부터 7일 안의 예약만 조회 (저장소 날짜 색인 사용)
+        List<RoomReservation> list = this.reservationRepository.findByUserAndDateRange(payload, today, end).stream()
                 // [수정] 취소/삭제된 예약은 조회에서 제외
                 .filter(r -> !"삭제됨".equals(r.getStatus()) && !"취소됨".equals(r.getStatus()))
                 .toList();
@@ -333,8 +412,6 @@ public class ReservationService {
                     original.getLectureRoom(), original.getDate(), original.getStartTime(), original.getEndTime());
             saveNotification(original, title, message);
 
-            repo.saveToFile();
-
             return new BasicResponse("200", "예약이 수정되었습니다.");
         } catch (Exception e) {
             e.printStackTrace();
@@ -346,32 +423,20 @@ public class ReservationService {
     public BasicResponse weekRoomReservationByLectureroom(RoomReservationLocationRequest payload) {
         RoomReservation[][] schedule = new RoomReservation[7][13];
         LocalDate today = LocalDate.now();
-        DateTimeFormatter fmt = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
-        List<RoomReservation> list = this.reservationRepository.findAll().stream()
-                .filter(r -> r.getBuildingName().equals(payload.building)
-                && r.getFloor().equals(payload.floor)
-                && r.getLectureRoom().equals(payload.lectureroom))
-                .filter(r -> {
-                    try {
-                        LocalDate d = LocalDate.parse(r.getDate(), fmt);
-                        return !d.isBefore(today) && !d.isAfter(today.plusDays(6));
-                    } catch (Exception e) {
-                        return false;
+        // 오늘부터 7일, 날짜마다 그 강의실의 예약만 방문 (저장소 강의실 점유 색인 사용)
+        // [수정] 취소/삭제된 예약은 조회에서 제외 (점유 색인에 들어가지 않음)
+        for (int di = 0; di < 7; di++) {
+            String date = today.plusDays(di).toString();
+            for (RoomReservation r : this.reservationRepository.findByRoomAndDate(
+                    payload.building, payload.floor, payload.lectureroom, date)) {
+                try {
+                    int pi = Integer.parseInt(r.getStartTime().split(":")[0]) - 9;
+                    if (pi >= 0 && pi < 13) {
+                        schedule[di][pi] = r;
                     }
-                })
-                // [수정] 취소/삭제된 예약은 조회에서 제외
-                .filter(r -> !"삭제됨".equals(r.getStatus()) && !"취소됨".equals(r.getStatus()))
-                .toList();
-
-        for (RoomReservation r : list) {
-            try {
-                int di = (int) ChronoUnit.DAYS.between(today, LocalDate.parse(r.getDate(), fmt));
-                int pi = Integer.parseInt(r.getStartTime().split(":")[0]) - 9;
-                if (di >= 0 && di < 7 && pi >= 0 && pi < 13) {
-                    schedule[di][pi] = r;
+                } catch (Exception ignored) {
                 }
-            } catch (Exception ignored) {
             }
         }
 
@@ -402,7 +467,6 @@ public class ReservationService {
                 target.getLectureRoom(), target.getDate(), target.getStartTime(), target.getEndTime());
         saveNotification(target, title, message);
 
-        this.reservationRepository.saveToFile();
         return new BasicResponse("200", "예약이 '삭제됨' 상태로 변경되었습니다.");
     }
 
@@ -431,11 +495,178 @@ public class ReservationService {
                 target.getLectureRoom(), target.getDate(), target.getStartTime(), target.getEndTime());
         saveNotification(target, title, message);
 
-        this.reservationRepository.saveToFile();
-
         return new BasicResponse("200", "예약 상태가 승인으로 변경되었습니다.");
     }
 
+    // 관리자 예약 일괄 승인 (ID 목록 또는 조건, 예: 대기 중인 모든 예약)
+    public BasicResponse approveRoomReservations(BulkReservationRequest payload) {
+        return applyBulk(payload, "승인", target -> {
+            if ("승인".equals(target.getStatus())) {
+                return "이미 승인된 예약입니다.";
+            }
+            if ("삭제됨".equals(target.getStatus()) || "취소됨".equals(target.getStatus())) {
+                return "삭제/취소된 예약은 승인할 수 없습니다.";
+            }
+            return null;
+        }, "예약 상태가 승인으로 변경되었습니다.", "예약 승인", "승인되었습니다.");
+    }
+
+    // 관리자 예약 일괄 삭제 (Soft Delete, ID 목록 또는 조건)
+    public BasicResponse deleteRoomReservationsFromManagement(BulkReservationRequest payload) {
+        return applyBulk(payload, "삭제됨",
+                target -> "삭제됨".equals(target.getStatus()) ? "이미 삭제된 예약입니다." : null,
+                "예약이 '삭제됨' 상태로 변경되었습니다.", "예약 취소", "(관리자에 의해) 취소되었습니다.");
+    }
+
+    /**
+     * 일괄 상태 변경 공통 처리
+     * - 응답 data 는 항목별 결과 목록 (i번째 = i번째 대상, data 는 "예약ID: 메시지"), 걸린 항목이 있어도 나머지는 처리한다.
+     * - 대상 전체의 신청 잠금(강의실 시간대 + 예약자)을 잡고 각 예약을 다시 읽어, 그 사이 상태가 바뀐 예약은 409 로 건너뛴다.
+     * - 저장은 insertAll 1번 (디스크 반영 대기는 잠금을 놓은 뒤 1번), 알림은 사용자별 요약 1건씩 모아 파일 저장 1번
+     * @param reject 변경할 수 없으면 사유, 가능하면 null
+     */
+    private BasicResponse applyBulk(BulkReservationRequest payload, String newStatus,
+                                    Function<RoomReservation, String> reject, String doneMessage,
+                                    String notiTitle, String notiVerb) {
+        try {
+            List<String> ids = new ArrayList<>();
+            Map<String, RoomReservation> found = new LinkedHashMap<>();
+            if (payload.getIds() != null && !payload.getIds().isEmpty()) {
+                ids.addAll(payload.getIds());
+            } else {
+                List<RoomReservation> matched;
+                try {
+                    matched = findByCondition(payload);
+                } catch (IllegalArgumentException ex) {
+                    return new BasicResponse("400", ex.getMessage());
+                }
+                for (RoomReservation r : matched) {
+                    ids.add(r.getId());
+                    found.put(r.getId(), r);
+                }
+            }
+
+            // 잠글 대상 (ID 목록이면 잠금 밖에서 먼저 조회, 없는 ID는 아래에서 404)
+            for (String id : ids) {
+                if (id != null && !id.isBlank() && !found.containsKey(id)) {
+                    RoomReservation target = this.reservationRepository.findById(id);
+                    if (target != null) found.put(id, target);
+                }
+            }
+
+            List<BasicResponse> results = new ArrayList<>(ids.size());
+            List<RoomReservation> changed = new ArrayList<>();
+            Set<String> seen = new HashSet<>();
+            // 대상 전체의 강의실 시간대 + 예약자를 잠그고 다시 읽은 뒤 변경 (신청 검사와 끼어들지 않도록, ReservationLocks)
+            long ticket = 0;
+            ReservationLocks.Held held = admissionLocks.lockReservations(found.values());
+            try {
+                for (String id : ids) {
+                    if (id == null || id.isBlank()) {
+                        results.add(new BasicResponse("404", id + ": 예약을 찾을 수 없습니다."));
+                        continue;
+                    }
+                    if (!seen.add(id)) {
+                        results.add(new BasicResponse("409", id + ": 목록에 중복된 예약 ID입니다."));
+                        continue;
+                    }
+                    RoomReservation before = found.get(id);
+                    RoomReservation target = this.reservationRepository.findById(id);
+                    if (target == null) {
+                        results.add(new BasicResponse("404", id + ": 예약을 찾을 수 없습니다."));
+                        continue;
+                    }
+                    // 잠금 전에 읽은 뒤 상태나 잠근 칸(강의실 시간대/예약자)이 바뀌었으면 건너뜀
+                    if (before == null || changedSince(before, target)) {
+                        results.add(new BasicResponse("409", id + ": 처리 중 예약이 변경되었습니다. 다시 시도해 주세요."));
+                        continue;
+                    }
+                    String reason = reject.apply(target);
+                    if (reason != null) {
+                        results.add(new BasicResponse("409", id + ": " + reason));
+                        continue;
+                    }
+                    changed.add(target.toBuilder().status(newStatus).build());
+                    results.add(new BasicResponse("200", id + ": " + doneMessage));
+                }
+                if (!changed.isEmpty()) {
+                    ticket = this.reservationRepository.insertAll(changed);
+                }
+            } finally {
+                held.close();
+            }
+
+            if (!changed.isEmpty()) {
+                // 디스크 반영은 잠금을 놓은 뒤 한 번만 기다림
+                this.reservationRepository.awaitDurable(ticket);
+                saveNotifications(changed, notiTitle, notiVerb);
+            }
+
+            return new BasicResponse("200", results);
+
+        } catch (Exception e) {
+            e.printStackTrace();
+            return new BasicResponse("500", "서버 오류: " + e.getMessage());
+        }
+    }
+
+    // 잠금 전에 읽은 예약과 비교해 상태 또는 잠금 키(강의실, 날짜, 시작 시간, 예약자)가 바뀌었는지
+    private static boolean changedSince(RoomReservation before, RoomReservation current) {
+        return !Objects.equals(before.getStatus(), current.getStatus())
+                || !Objects.equals(before.getLectureRoom(), current.getLectureRoom())
+                || !Objects.equals(before.getDate(), current.getDate())
+                || !Objects.equals(before.getStartTime(), current.getStartTime())
+                || !Objects.equals(before.getNumber(), current.getNumber());
+    }
+
+    // 일괄 처리 조건에 맞는 예약 (비어 있는 조건은 무시, 조건이 하나도 없으면 IllegalArgumentException)
+    private List<RoomReservation> findByCondition(BulkReservationRequest c) {
+        if (isBlank(c.getStatus()) && isBlank(c.getBuildingName()) && isBlank(c.getFloor())
+                && isBlank(c.getLectureRoom()) && isBlank(c.getNumber())
+                && isBlank(c.getFromDate()) && isBlank(c.getToDate())) {
+            throw new IllegalArgumentException("처리할 예약 ID 목록 또는 조건을 지정해야 합니다.");
+        }
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = isBlank(c.getFromDate()) ? null : LocalDate.parse(c.getFromDate().trim());
+            to = isBlank(c.getToDate()) ? null : LocalDate.parse(c.getToDate().trim());
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("기간 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+        }
+
+        // 기간이 모두 있으면 날짜 색인으로 좁힘
+        List<RoomReservation> candidates = from != null && to != null
+                ? this.reservationRepository.findByDateRange(from, to)
+                : this.reservationRepository.findAll();
+        return candidates.stream()
+                .filter(r -> matches(c.getStatus(), r.getStatus())
+                        && matches(c.getBuildingName(), r.getBuildingName())
+                        && matches(c.getFloor(), r.getFloor())
+                        && matches(c.getLectureRoom(), r.getLectureRoom())
+                        && matches(c.getNumber(), r.getNumber()))
+                .filter(r -> {
+                    if (from == null && to == null) {
+                        return true;
+                    }
+                    try {
+                        LocalDate date = LocalDate.parse(r.getDate());
+                        return (from == null || !date.isBefore(from)) && (to == null || !date.isAfter(to));
+                    } catch (Exception ex) {
+                        return false;
+                    }
+                })
+                .toList();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static boolean matches(String condition, String value) {
+        return isBlank(condition) || condition.trim().equals(value);
+    }
+
     // 예약 상태가 "대기" 인 모든 예약 내역 반환
     public BasicResponse findAllRoomReservation() {
         List<RoomReservation> list = this.reservationRepository.findAll().stream()
@@ -467,6 +698,37 @@ public class ReservationService {
             System.err.println("[ReservationService] 알림 저장 오류: " + e.getMessage());
         }
     }
+    // 일괄 처리 알림: 사용자별로 묶어 요약 1건씩, 파일 저장은 한 번
+    private void saveNotifications(List<RoomReservation> reservations, String title, String verb) {
+        try {
+            Map<String, List<RoomReservation>> byUser = new LinkedHashMap<>();
+            for (RoomReservation r : reservations) {
+                if (r.getNumber() != null && !r.getNumber().isBlank()) {
+                    byUser.computeIfAbsent(r.getNumber(), k -> new ArrayList<>()).add(r);
+                }
+            }
+
+            long now = System.currentTimeMillis();
+            Map<String, List<NotificationDTO>> notifications = new LinkedHashMap<>();
+            byUser.forEach((userId, list) -> {
+                List<String> slots = list.stream()
+                        .map(r -> String.format("[%s, %s] %s~%s",
+                                r.getLectureRoom(), r.getDate(), r.getStartTime(), r.getEndTime()))
+                        .toList();
+                // 1건이면 단건 처리와 같은 문구
+                String message = slots.size() == 1
+                        ? slots.get(0) + " 예약이 " + verb
+                        : "예약 " + slots.size() + "건이 " + verb + " " + String.join(", ", slots);
+                notifications.put(userId, List.of(new NotificationDTO(title, message, now)));
+            });
+
+            NotificationService.getInstance().addNotifications(notifications);
+
+        } catch (Exception e) {
+            System.err.println("[ReservationService] 알림 저장 오류: " + e.getMessage());
+        }
+    }
+
         // ======================================================================================================
     // 세미나/보강 목적 예약 제한 규칙 Builder
     //   - 사용자가 세미나/보강(purpose)에 체크/입력한 경우에만 동작
@@ -537,12 +799,8 @@ public class ReservationService {
                 return;
             }
 
-            for (RoomReservation existing : repo.findAll()) {
-                if (!equalsOrNullSafe(buildingName, existing.getBuildingName())) continue;
-                if (!equalsOrNullSafe(floor, existing.getFloor())) continue;
-                if (!equalsOrNullSafe(lectureRoom, existing.getLectureRoom())) continue;
-                if (!equalsOrNullSafe(date, existing.getDate())) continue;
-                if (!equalsOrNullSafe(startTime, existing.getStartTime())) continue;
+            // 같은 강의실 시간대의 예약만 조회 (시간대 색인)
+            for (RoomReservation existing : repo.findBySlot(buildingName, floor, lectureRoom, date, startTime)) {
                 if ("삭제됨".equals(existing.getStatus())) continue;
 
                 String existingNumber = existing.getNumber();
@@ -558,11 +816,6 @@ public class ReservationService {
                 }
             }
         }
-
-        private boolean equalsOrNullSafe(String a, String b) {
-            if (a == null) return b == null;
-            return a.equals(b);
-        }
     }
 
     /**
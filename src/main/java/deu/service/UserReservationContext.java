@@ -0,0 +1,47 @@
+package deu.service;
+
+import deu.repository.ReservationRepository;
+
+import java.time.LocalDate;
+
+/**
+ * 예약 신청 시 신청자 기준 검사 값 (저장소의 사용자별 사용량 집계에서 바로 읽음)
+ * - usedMinutes  : 신청 날짜에 이미 예약한 시간(분)        → 하루 시간 제한
+ * - weeklyCount  : 오늘부터 7일 안의 예약 수                → 7일간 최대 횟수
+ * - slotCollision: 같은 날짜/시작 시간의 본인 예약이 있는지 → 본인 중복 예약
+ * 모두 '삭제됨'/'취소됨' 예약은 제외한다. (집계는 저장/취소/삭제 때마다 저장소가 갱신)
+ * 신청 날짜에 시간을 해석할 수 없는 본인 예약이 있으면 of 가 그 해석 오류를 그대로 던진다. (신청은 기존과 같이 500)
+ */
+final class UserReservationContext {
+
+    private final int usedMinutes;
+    private final int weeklyCount;
+    private final boolean slotCollision;
+
+    private UserReservationContext(int usedMinutes, int weeklyCount, boolean slotCollision) {
+        this.usedMinutes = usedMinutes;
+        this.weeklyCount = weeklyCount;
+        this.slotCollision = slotCollision;
+    }
+
+    // 신청자의 집계 값 조회 (예약 목록을 순회하지 않음)
+    static UserReservationContext of(ReservationRepository repo, String number, String date, String startTime,
+                                     LocalDate today) {
+        return new UserReservationContext(
+                repo.bookedMinutes(number, date),
+                repo.countBookings(number, today, today.plusDays(6)),
+                repo.hasBookingAt(number, date, startTime));
+    }
+
+    int getUsedMinutes() {
+        return usedMinutes;
+    }
+
+    int getWeeklyCount() {
+        return weeklyCount;
+    }
+
+    boolean hasSlotCollision() {
+        return slotCollision;
+    }
+}
@@ -2,9 +2,6 @@ package deu.service.policy;
 
 import deu.repository.ReservationRepository;
 import deu.model.dto.request.data.reservation.RoomReservationRequest;
-import deu.model.entity.RoomReservation;
-
-import java.util.List;
 
 public class CapacityReservationPolicy implements ReservationPolicy {
 
@@ -16,15 +13,9 @@ public class CapacityReservationPolicy implements ReservationPolicy {
 
         ReservationRepository repo = ReservationRepository.getInstance();
 
-        // 같은 날짜 + 같은 시간 + 같은 강의실의 예약자 조회
-        List<RoomReservation> list = repo.findAll().stream()
-                .filter(r -> r.getDate().equals(payload.getDate()))
-                .filter(r -> r.getStartTime().equals(payload.getStartTime()))
-                .filter(r -> r.getLectureRoom().equals(payload.getLectureRoom()))
-                .filter(r -> !"삭제됨".equals(r.getStatus())) // 삭제된 예약은 제외
-                .toList();
-
-        int currentPeople = list.size();     // 현재 예약된 사람 수
+        // 같은 날짜 + 같은 시간 + 같은 강의실의 예약자 수 (삭제된 예약은 제외, 시간대 색인 조회)
+        int currentPeople = repo.countLiveInRoomSlot(
+                payload.getLectureRoom(), payload.getDate(), payload.getStartTime());     // 현재 예약된 사람 수
         int limitPeople = (int) Math.ceil(MAX_PEOPLE * LIMIT_PERCENT); // 50% (=> 2명)
 
         if (currentPeople >= limitPeople) {
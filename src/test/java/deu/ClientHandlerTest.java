@@ -0,0 +1,110 @@
+package deu;
+
+import deu.model.dto.request.RequestEnvelope;
+import deu.model.dto.request.command.UserCommandRequest;
+import deu.model.dto.response.CurrentResponse;
+import deu.model.dto.response.ResponseEnvelope;
+import deu.protocol.BinaryProtocol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ClientHandler 프로토콜 협상 검증 테스트
+ * - 기존 ObjectStream 클라이언트와 바이너리 프로토콜 클라이언트가 같은 포트에서 모두 동작해야 한다.
+ */
+public class ClientHandlerTest {
+
+    private ServerSocket serverSocket;
+    private Thread acceptor;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        acceptor = Thread.ofPlatform().daemon(true).start(() -> {
+            try {
+                while (!serverSocket.isClosed()) {
+                    Thread.ofVirtual().start(new ClientHandler(serverSocket.accept()));
+                }
+            } catch (Exception ignored) {
+                // 소켓 종료 시 루프 탈출
+            }
+        });
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        serverSocket.close();
+        acceptor.join(1000);
+    }
+
+    private Socket connect() throws Exception {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), serverSocket.getLocalPort());
+        socket.setSoTimeout(5000);
+        return socket;
+    }
+
+    @Test
+    @DisplayName("기존 ObjectStream 클라이언트는 그대로 동작해야 한다")
+    void testLegacyObjectStreamClient() throws Exception {
+        try (Socket socket = connect()) {
+            ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream());
+            out.flush();
+            ObjectInputStream in = new ObjectInputStream(socket.getInputStream());
+
+            for (int i = 0; i < 3; i++) {
+                out.writeObject(new UserCommandRequest("동시접속자", null));
+                out.flush();
+                assertInstanceOf(CurrentResponse.class, in.readObject());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("바이너리 프로토콜 클라이언트는 협상 후 바이너리 프레임으로 통신해야 한다")
+    void testBinaryProtocolClient() throws Exception {
+        try (Socket socket = connect()) {
+            assertEquals(BinaryProtocol.VERSION,
+                    BinaryProtocol.clientHandshake(socket.getInputStream(), socket.getOutputStream()));
+
+            for (int i = 0; i < 3; i++) {
+                BinaryProtocol.writeFrame(socket.getOutputStream(), new UserCommandRequest("동시접속자", null));
+                assertInstanceOf(CurrentResponse.class, BinaryProtocol.readFrame(socket.getInputStream()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("봉투 요청을 응답 없이 연달아 보내도 모든 요청 번호에 대한 응답을 받아야 한다")
+    void testPipelinedRequests() throws Exception {
+        try (Socket socket = connect()) {
+            ObjectOutputStream out = new ObjectOutputStream(socket.getOutputStream());
+            out.flush();
+            ObjectInputStream in = new ObjectInputStream(socket.getInputStream());
+
+            for (long id = 1; id <= 50; id++) {
+                out.writeObject(new RequestEnvelope(id, new UserCommandRequest("동시접속자", null)));
+            }
+            out.flush();
+
+            Set<Long> received = new HashSet<>();
+            for (int i = 0; i < 50; i++) {
+                ResponseEnvelope response = (ResponseEnvelope) in.readObject();
+                assertInstanceOf(CurrentResponse.class, response.response);
+                received.add(response.requestId);
+            }
+            assertEquals(50, received.size());
+        }
+    }
+}
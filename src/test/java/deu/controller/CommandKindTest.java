@@ -0,0 +1,50 @@
+package deu.controller;
+
+import deu.model.dto.request.command.BatchCommandRequest;
+import deu.model.dto.request.command.LectureCommandRequest;
+import deu.model.dto.request.command.NotificationCommandRequest;
+import deu.model.dto.request.command.ReservationCommandRequest;
+import deu.model.dto.request.command.UserCommandRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 명령 종류(읽기/쓰기) 분류 검증 테스트 (컨트롤러 라우팅 표에 등록된 값 조회)
+ */
+public class CommandKindTest {
+
+    private final SystemController controller = SystemController.getInstance();
+
+    @Test
+    @DisplayName("조회 명령은 READ 로 분류되어야 한다")
+    void testReadCommands() {
+        assertEquals(CommandKind.READ, controller.kindOf(new UserCommandRequest("동시접속자", null)));
+        assertEquals(CommandKind.READ, controller.kindOf(new LectureCommandRequest("주간 강의 조회", null)));
+        assertEquals(CommandKind.READ, controller.kindOf(new ReservationCommandRequest("사용자 예약 배열 조회", "S2023001")));
+        assertEquals(CommandKind.READ, controller.kindOf(new NotificationCommandRequest("알림 전체 조회", "S2023001")));
+    }
+
+    @Test
+    @DisplayName("변경 명령, 읽음 처리가 있는 알림 조회, 알 수 없는 요청은 WRITE 로 분류되어야 한다")
+    void testWriteCommands() {
+        assertEquals(CommandKind.WRITE, controller.kindOf(new UserCommandRequest("로그인", null)));
+        assertEquals(CommandKind.WRITE, controller.kindOf(new ReservationCommandRequest("예약 요청", null)));
+        assertEquals(CommandKind.WRITE, controller.kindOf(new NotificationCommandRequest("알림 조회", "S2023001")));
+        assertEquals(CommandKind.WRITE, controller.kindOf(new UserCommandRequest(null, null)));
+        assertEquals(CommandKind.WRITE, controller.kindOf("알 수 없는 요청"));
+        assertEquals(CommandKind.WRITE, controller.kindOf(new UserCommandRequest("없는 명령", null)));
+    }
+
+    @Test
+    @DisplayName("배치 요청은 담긴 요청이 모두 조회일 때만 READ 로 분류되어야 한다")
+    void testBatchCommands() {
+        assertEquals(CommandKind.READ, controller.kindOf(new BatchCommandRequest(List.of(
+                new UserCommandRequest("동시접속자", null), new LectureCommandRequest("주간 강의 조회", null)))));
+        assertEquals(CommandKind.WRITE, controller.kindOf(new BatchCommandRequest(List.of(
+                new UserCommandRequest("동시접속자", null), new NotificationCommandRequest("알림 조회", "S2023001")))));
+    }
+}
@@ -0,0 +1,106 @@
+package deu.controller;
+
+import deu.model.dto.response.BasicResponse;
+import deu.model.dto.response.LectureListResponse;
+import deu.moniter.LatencyHistogram;
+import deu.moniter.Metrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 명령어 라우팅 표(CommandRoutes) 검증 테스트
+ */
+public class CommandRoutesTest {
+
+    @Test
+    @DisplayName("등록된 명령어는 해당 처리 함수로 전달되고 호출 횟수가 기록되어야 한다")
+    void testRouteInvokesHandlerAndCounts() {
+        CommandRoutes<String> routes = new CommandRoutes<String>("테스트-호출")
+                .add("인사", payload -> "안녕 " + payload)
+                .add("종료", payload -> "bye");
+
+        assertEquals("안녕 홍길동", routes.find("인사").invoke("홍길동"));
+        assertEquals("안녕 김철수", routes.find("인사").invoke("김철수"));
+        assertEquals("bye", routes.find("종료").invoke(null));
+
+        assertEquals(2, routes.find("인사").getCount());
+        assertEquals(Long.valueOf(2), routes.getCounts().get("인사"));
+        assertEquals(Long.valueOf(1), routes.getCounts().get("종료"));
+    }
+
+    @Test
+    @DisplayName("read 로 등록한 명령은 READ, add 로 등록한 명령과 미등록 명령은 WRITE 여야 한다")
+    void testKindRecordedAtRegistration() {
+        CommandRoutes<String> routes = new CommandRoutes<String>("테스트-종류")
+                .read("조회", payload -> "r")
+                .add("변경", payload -> "w");
+
+        assertEquals(CommandKind.READ, routes.kindOf("조회"));
+        assertEquals(CommandKind.READ, routes.find("조회").getKind());
+        assertEquals(CommandKind.WRITE, routes.kindOf("변경"));
+        assertEquals(CommandKind.WRITE, routes.kindOf("없는 명령"));
+        assertEquals(CommandKind.WRITE, routes.kindOf(null));
+        assertEquals(0, routes.getMisses());
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 명령어나 null 은 null 을 반환하고 미등록 요청으로 집계되어야 한다")
+    void testUnknownCommandIsMiss() {
+        CommandRoutes<String> routes = new CommandRoutes<String>("테스트-미등록")
+                .add("인사", payload -> "안녕");
+
+        assertNull(routes.find("없는 명령"));
+        assertNull(routes.find(null));
+        assertEquals(2, routes.getMisses());
+    }
+
+    @Test
+    @DisplayName("null 결과와 2xx 가 아닌 응답은 오류로 집계되어야 한다")
+    void testNullAndFailureResultsCountAsErrors() {
+        CommandRoutes<Object> routes = new CommandRoutes<Object>("테스트-오류")
+                .add("명령", payload -> switch ((String) payload) {
+                    case "null" -> null;
+                    case "400" -> new BasicResponse("400", "잘못된 요청");
+                    case "강의 오류" -> LectureListResponse.error("500", "조회 실패");
+                    case "강의" -> LectureListResponse.ok(List.of());
+                    default -> new BasicResponse("200", "OK");
+                });
+        for (String payload : List.of("null", "400", "강의 오류", "강의", "200")) {
+            routes.find("명령").invoke(payload);
+        }
+
+        LatencyHistogram histogram = Metrics.getInstance().histogram("명령 테스트-오류/명령");
+        assertEquals(5, histogram.getCount());
+        assertEquals(3, histogram.getErrors());
+    }
+
+    @Test
+    @DisplayName("전체 통계는 '표 이름/명령어' 형식으로 호출 많은 순서대로 모여야 한다")
+    void testSnapshotAggregatesAllTables() {
+        CommandRoutes<String> routes = new CommandRoutes<String>("테스트-통계")
+                .add("적음", payload -> "a")
+                .add("많음", payload -> "b");
+        routes.find("적음").invoke(null);
+        for (int i = 0; i < 3; i++) {
+            routes.find("많음").invoke(null);
+        }
+        routes.find("없음");
+
+        Map<String, Long> snapshot = CommandRoutes.snapshot();
+
+        assertEquals(Long.valueOf(3), snapshot.get("테스트-통계/많음"));
+        assertEquals(Long.valueOf(1), snapshot.get("테스트-통계/적음"));
+        assertEquals(Long.valueOf(1), snapshot.get("테스트-통계/(알 수 없음)"));
+
+        long previous = Long.MAX_VALUE;
+        for (long count : snapshot.values()) {
+            assertTrue(count <= previous, "호출 많은 순으로 정렬되어야 합니다.");
+            previous = count;
+        }
+    }
+}
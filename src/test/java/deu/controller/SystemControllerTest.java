@@ -8,9 +8,13 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import deu.controller.business.UserController;
 import deu.controller.business.UserManagementController;
+import deu.model.dto.request.command.BatchCommandRequest;
 import deu.model.dto.request.command.LectureCommandRequest;
 import deu.model.dto.request.command.NotificationCommandRequest;
 import deu.model.dto.request.command.ReservationCommandRequest;
@@ -25,6 +29,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.MethodOrderer;
 import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.mockito.InOrder;
+import org.mockito.stubbing.Answer;
 
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class SystemControllerTest {
@@ -188,4 +194,82 @@ public class SystemControllerTest {
         assertTrue(((String)result.data).contains("DB 터짐"));
         System.out.println("-> Then: 500 에러 코드 및 메시지 확인 완료 (Pass)");
     }
-}
\ No newline at end of file
+
+    // --- [8] 배치 요청 테스트 ---
+    @Test
+    @Order(8)
+    @DisplayName("BatchCommandRequest -> 조회 명령은 동시에 실행되고 응답은 요청 순서대로 반환")
+    void test_batch_reads_in_parallel() {
+        System.out.println("\n=== [Test 8] 배치 요청(조회 동시 실행) 테스트 ===");
+
+        // 3개의 조회가 모두 동시에 실행 중이어야 latch 가 0이 됨 (순차 실행이면 대기 시간 초과)
+        CountDownLatch allStarted = new CountDownLatch(3);
+        Answer<Object> waitForOthers = invocation -> {
+            allStarted.countDown();
+            boolean parallel = allStarted.await(5, TimeUnit.SECONDS);
+            return new BasicResponse(parallel ? "200" : "408", invocation.getArgument(0));
+        };
+        when(mockUser.handle(any(UserCommandRequest.class))).thenAnswer(waitForOthers);
+        when(mockLecture.handle(any(LectureCommandRequest.class))).thenAnswer(waitForOthers);
+        when(mockReservation.handle(any(ReservationCommandRequest.class))).thenAnswer(waitForOthers);
+
+        UserCommandRequest name = new UserCommandRequest("사용자 이름 반환", null);
+        LectureCommandRequest lectures = new LectureCommandRequest("주간 강의 조회", null);
+        ReservationCommandRequest reservations = new ReservationCommandRequest("사용자 예약 배열 조회", "S2023001");
+        System.out.println("-> Given: 조회 요청 3개를 담은 배치 준비 완료");
+
+        BasicResponse result = (BasicResponse) systemController.handle(
+                new BatchCommandRequest(List.of(name, lectures, reservations)));
+        System.out.println("-> When: SystemController.handle(배치) 실행");
+
+        assertEquals("200", result.code);
+        List<?> responses = (List<?>) result.data;
+        assertEquals(3, responses.size());
+        Object[] expected = {name, lectures, reservations};
+        for (int i = 0; i < 3; i++) {
+            BasicResponse response = (BasicResponse) responses.get(i);
+            assertEquals("200", response.code, "조회 명령이 동시에 실행되지 않았습니다.");
+            assertSame(expected[i], response.data);
+        }
+        System.out.println("-> Then: 동시 실행 및 응답 순서 확인됨 (Pass)");
+    }
+
+    @Test
+    @Order(9)
+    @DisplayName("BatchCommandRequest -> 변경 명령은 앞뒤 명령과 순서를 지켜 실행")
+    void test_batch_write_keeps_order() {
+        System.out.println("\n=== [Test 9] 배치 요청(변경 순서 보장) 테스트 ===");
+
+        UserCommandRequest before = new UserCommandRequest("동시접속자", null);
+        ReservationCommandRequest write = new ReservationCommandRequest("예약 요청", null);
+        LectureCommandRequest after = new LectureCommandRequest("주간 강의 조회", null);
+        when(mockUser.handle(before)).thenReturn(new BasicResponse("200", "before"));
+        when(mockReservation.handle(write)).thenReturn(new BasicResponse("200", "write"));
+        when(mockLecture.handle(after)).thenReturn(new BasicResponse("200", "after"));
+
+        BasicResponse result = (BasicResponse) systemController.handle(
+                new BatchCommandRequest(List.of(before, write, after)));
+
+        InOrder inOrder = inOrder(mockUser, mockReservation, mockLecture);
+        inOrder.verify(mockUser).handle(before);
+        inOrder.verify(mockReservation).handle(write);
+        inOrder.verify(mockLecture).handle(after);
+
+        List<?> responses = (List<?>) result.data;
+        assertEquals("write", ((BasicResponse) responses.get(1)).data);
+        System.out.println("-> Then: 조회 → 변경 → 조회 순서로 실행됨 (Pass)");
+    }
+
+    @Test
+    @Order(10)
+    @DisplayName("[예외] 중첩 배치와 빈 배치는 400 응답")
+    void test_batch_invalid() {
+        BasicResponse empty = (BasicResponse) systemController.handle(new BatchCommandRequest(List.of()));
+        assertEquals("400", empty.code);
+
+        BasicResponse nested = (BasicResponse) systemController.handle(new BatchCommandRequest(
+                List.of(new BatchCommandRequest(List.of()))));
+        assertEquals("200", nested.code);
+        assertEquals("400", ((BasicResponse) ((List<?>) nested.data).get(0)).code);
+    }
+}
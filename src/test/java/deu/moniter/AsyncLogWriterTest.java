@@ -0,0 +1,104 @@
+package deu.moniter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 비동기 로그 기록기(AsyncLogWriter) 검증 테스트
+ */
+public class AsyncLogWriterTest {
+
+    private File tempLogFile() throws Exception {
+        File dir = Files.createTempDirectory("logtest").toFile();
+        dir.deleteOnExit();
+        return new File(dir, "server.log");
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 남긴 로그가 스레드별 순서대로 파일에 모두 기록되어야 한다")
+    void testWritesAllLogsInOrder() throws Exception {
+        File file = tempLogFile();
+        AsyncLogWriter writer = new AsyncLogWriter(1024, null, file.getPath(), 10L * 1024 * 1024, 3);
+        writer.start();
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            final int id = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    while (!writer.append("INFO", false, "T" + id + "-" + i)) {
+                        Thread.yield(); // 버퍼가 가득 차면 잠시 양보 후 재시도
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(writer.flush(5000));
+
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(800, lines.size());
+        int[] next = new int[threads.length];
+        for (String line : lines) {
+            String message = line.substring(line.lastIndexOf(' ') + 1);
+            int id = message.charAt(1) - '0';
+            assertEquals("T" + id + "-" + next[id], message);
+            next[id]++;
+        }
+        assertEquals(0, writer.getPendingCount());
+    }
+
+    @Test
+    @DisplayName("파일이 최대 크기를 넘으면 이전 파일(.1)로 밀어내야 한다")
+    void testRotatesWhenFileIsFull() throws Exception {
+        File file = tempLogFile();
+        AsyncLogWriter writer = new AsyncLogWriter(64, null, file.getPath(), 1024, 2);
+        writer.start();
+
+        String message = "x".repeat(100);
+        for (int i = 0; i < 40; i++) {
+            writer.append("INFO", false, message);
+            assertTrue(writer.flush(5000)); // 한 줄씩 기록되도록 매번 대기
+        }
+
+        File rotated = new File(file.getPath() + ".1");
+        assertTrue(rotated.exists());
+        assertTrue(new File(file.getPath() + ".2").exists());
+        assertFalse(new File(file.getPath() + ".3").exists()); // maxFiles = 2
+        assertTrue(file.length() <= 1024);
+        assertTrue(rotated.length() <= 1024);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 로그를 버리고, 버린 건수를 로그로 남겨야 한다")
+    void testCountsDroppedLogs() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PrintStream console = new PrintStream(out, true, StandardCharsets.UTF_8);
+        AsyncLogWriter writer = new AsyncLogWriter(4, console, null, 1024, 1);
+
+        // 기록 스레드 시작 전이므로 4건 이후는 버려짐
+        for (int i = 0; i < 6; i++) {
+            writer.append("INFO", false, "message-" + i);
+        }
+        assertEquals(2, writer.getDroppedCount());
+
+        writer.start();
+        assertTrue(writer.flush(5000));
+
+        String text = out.toString(StandardCharsets.UTF_8);
+        assertTrue(text.contains("message-3"), text);
+        assertFalse(text.contains("message-4"), text);
+        assertTrue(text.contains("2건의 로그를 버렸습니다"), text);
+    }
+}
@@ -0,0 +1,66 @@
+package deu.moniter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 처리 시간 히스토그램(LatencyHistogram) 검증 테스트
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("백분위 값은 실제 값과 약 6% 이내로 일치해야 한다")
+    void testPercentilesWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram("테스트");
+        // 1ms ~ 1000ms 를 1ms 간격으로 1건씩
+        for (int ms = 1; ms <= 1000; ms++) {
+            histogram.record(ms * 1_000_000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertWithin(500_000_000L, histogram.percentile(0.50));
+        assertWithin(950_000_000L, histogram.percentile(0.95));
+        assertWithin(990_000_000L, histogram.percentile(0.99));
+        assertEquals(1_000_000_000L, histogram.getMaxNanos());
+        assertEquals(1_000_000_000L, histogram.percentile(1.0));
+    }
+
+    @Test
+    @DisplayName("칸 번호와 상한값은 모든 범위에서 서로 맞아야 한다")
+    void testBucketBounds() {
+        long[] values = {0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789L, Long.MAX_VALUE};
+        for (long value : values) {
+            int index = LatencyHistogram.indexOf(value);
+            assertTrue(LatencyHistogram.upperBound(index) >= value, "상한값이 값보다 작습니다: " + value);
+            if (index > 0) {
+                assertTrue(LatencyHistogram.upperBound(index - 1) < value, "이전 칸에 들어가야 합니다: " + value);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("오류 수를 따로 세고, 초기화하면 모든 값이 0 이 되어야 한다")
+    void testErrorsAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram("테스트");
+        histogram.record(1000, false);
+        histogram.record(2000, true);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(1, histogram.getErrors());
+        assertEquals(1500.0, histogram.getMeanNanos(), 0.001);
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getErrors());
+        assertEquals(0, histogram.getMaxNanos());
+        assertEquals(0, histogram.percentile(0.99));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected * 0.0625,
+                "기대값 " + expected + " 과(와) 차이가 큽니다: " + actual);
+    }
+}
@@ -0,0 +1,48 @@
+package deu.moniter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 성능 지표 저장소(Metrics) 검증 테스트
+ */
+public class MetricsTest {
+
+    private final Metrics metrics = Metrics.getInstance();
+
+    @Test
+    @DisplayName("같은 이름은 같은 히스토그램을 반환하고, 기록된 항목이 지표 표에 나와야 한다")
+    void testReportContainsRecordedHistogram() {
+        LatencyHistogram histogram = metrics.histogram("테스트 지표/조회");
+        assertSame(histogram, metrics.histogram("테스트 지표/조회"));
+
+        histogram.record(2_000_000L, false);
+        histogram.record(4_000_000L, true);
+
+        String report = metrics.report();
+        assertTrue(report.contains("테스트 지표/조회"), report);
+        assertTrue(report.contains("p99(ms)"), report);
+    }
+
+    @Test
+    @DisplayName("지표 표를 파일 끝에 이어서 기록해야 한다")
+    void testDumpAppendsToFile() throws Exception {
+        metrics.histogram("테스트 지표/저장").record(1_000_000L);
+        File file = File.createTempFile("metrics", ".log");
+        file.deleteOnExit();
+
+        metrics.dumpTo(file.getPath());
+        metrics.dumpTo(file.getPath());
+
+        String content = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(2, content.split("=== 성능 지표", -1).length - 1, content);
+        assertTrue(content.contains("테스트 지표/저장"), content);
+        assertTrue(content.contains("부하 제어:"), content);
+    }
+}
@@ -0,0 +1,232 @@
+package deu.protocol;
+
+import deu.model.dto.request.command.BatchCommandRequest;
+import deu.model.dto.request.command.LectureCommandRequest;
+import deu.model.dto.request.command.ReservationCommandRequest;
+import deu.model.dto.request.command.ReservationManagementCommandRequest;
+import deu.model.dto.request.command.UserCommandRequest;
+import deu.model.dto.request.data.lecture.LectureDateRequest;
+import deu.model.dto.request.data.reservation.AccompanyingStudent;
+import deu.model.dto.request.data.reservation.BulkReservationRequest;
+import deu.model.dto.request.data.reservation.RecurringReservationRequest;
+import deu.model.dto.request.data.reservation.RoomReservationRequest;
+import deu.model.dto.request.data.user.LoginRequest;
+import deu.model.dto.response.BasicResponse;
+import deu.model.dto.response.CurrentResponse;
+import deu.model.dto.response.NotificationDTO;
+import deu.model.entity.Lecture;
+import deu.model.entity.RoomReservation;
+import deu.model.enums.Semester;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 바이너리 코덱(BinaryCodec / BinaryProtocol) 왕복 변환 검증 테스트
+ */
+public class BinaryCodecTest {
+
+    @SuppressWarnings("unchecked")
+    private static <T> T roundTrip(Object value) throws IOException {
+        return (T) BinaryCodec.decode(BinaryCodec.encode(value));
+    }
+
+    @Test
+    @DisplayName("커맨드 요청과 payload가 그대로 복원되어야 한다")
+    void testCommandRequestRoundTrip() throws Exception {
+        UserCommandRequest login = roundTrip(new UserCommandRequest("로그인", new LoginRequest("S2023001", "pw1234")));
+        assertEquals("로그인", login.command);
+        LoginRequest payload = (LoginRequest) login.payload;
+        assertEquals("S2023001", payload.number);
+        assertEquals("pw1234", payload.password);
+
+        RoomReservationRequest request = new RoomReservationRequest("정보관", "9", "912", "스터디", "설명",
+                "2026-10-20", "화요일", "10:00", "11:00", "S2023001", "스터디",
+                1, List.of(new AccompanyingStudent("S2023002", "홍길동")));
+        ReservationCommandRequest decoded = roundTrip(new ReservationCommandRequest("예약 요청", request));
+        RoomReservationRequest r = (RoomReservationRequest) decoded.payload;
+        assertEquals("912", r.getLectureRoom());
+        assertEquals("2026-10-20", r.getDate());
+        assertEquals("대기", r.getStatus());
+        assertNull(r.getId());
+        assertEquals(1, r.getAccompanyingStudentCount());
+        assertEquals("홍길동", r.getAccompanyingStudents().get(0).getName());
+
+        ReservationCommandRequest recurring = roundTrip(new ReservationCommandRequest("반복 예약 요청",
+                new RecurringReservationRequest(request, "TUESDAY", 8, "2026-12-15")));
+        RecurringReservationRequest rule = (RecurringReservationRequest) recurring.payload;
+        assertEquals("TUESDAY", rule.getDayOfWeek());
+        assertEquals(8, rule.getOccurrences());
+        assertEquals("2026-12-15", rule.getUntilDate());
+        assertEquals("912", rule.getReservation().getLectureRoom());
+
+        ReservationManagementCommandRequest bulk = roundTrip(new ReservationManagementCommandRequest("예약 일괄 승인",
+                new BulkReservationRequest("대기", "정보관", null, "912", null, "2026-11-01", "2026-11-30")));
+        BulkReservationRequest filter = (BulkReservationRequest) bulk.payload;
+        assertEquals("대기", filter.getStatus());
+        assertNull(filter.getFloor());
+        assertNull(filter.getIds());
+        assertEquals("2026-11-30", filter.getToDate());
+        ReservationManagementCommandRequest byIds = roundTrip(new ReservationManagementCommandRequest("예약 일괄 삭제",
+                new BulkReservationRequest(List.of("R1", "R2"))));
+        assertEquals(List.of("R1", "R2"), ((BulkReservationRequest) byIds.payload).getIds());
+
+        LectureCommandRequest lecture = roundTrip(new LectureCommandRequest("월별 강의 조회",
+                new LectureDateRequest("정보관", "9", "912", LocalDate.of(2026, 11, 1))));
+        assertEquals(LocalDate.of(2026, 11, 1), ((LectureDateRequest) lecture.getPayload()).getTargetDate());
+
+        BatchCommandRequest batch = roundTrip(new BatchCommandRequest(List.of(
+                new UserCommandRequest("동시접속자", null), new ReservationCommandRequest("사용자 예약 배열 조회", "S2023001"))));
+        assertEquals(2, batch.requests.size());
+        assertEquals("S2023001", ((ReservationCommandRequest) batch.requests.get(1)).payload);
+    }
+
+    @Test
+    @DisplayName("주간 시간표 배열은 타입과 빈 칸(null)을 유지해야 한다")
+    void testScheduleArrayRoundTrip() throws Exception {
+        RoomReservation[][] schedule = new RoomReservation[7][13];
+        schedule[1][2] = RoomReservation.builder()
+                .buildingName("정보관").floor("9").lectureRoom("912").number("S2023001")
+                .date("2026-10-20").startTime("11:00").endTime("12:00").status("승인").build();
+
+        BasicResponse response = roundTrip(new BasicResponse("200", schedule));
+        RoomReservation[][] decoded = (RoomReservation[][]) response.data;
+
+        assertEquals(7, decoded.length);
+        assertEquals(13, decoded[0].length);
+        assertNull(decoded[0][0]);
+        assertEquals(schedule[1][2].getId(), decoded[1][2].getId());
+        assertEquals("승인", decoded[1][2].getStatus());
+
+        Lecture lecture = new Lecture();
+        lecture.setTitle("자료구조");
+        lecture.setSemester(Semester.SECOND);
+        lecture.setYear(2026);
+        Lecture[][] lectures = new Lecture[7][13];
+        lectures[4][0] = lecture;
+        Lecture[][] decodedLectures = (Lecture[][]) ((BasicResponse) roundTrip(new BasicResponse("200", lectures))).data;
+        assertEquals("자료구조", decodedLectures[4][0].getTitle());
+        assertEquals(Semester.SECOND, decodedLectures[4][0].getSemester());
+        assertEquals(Integer.valueOf(2026), decodedLectures[4][0].getYear());
+    }
+
+    @Test
+    @DisplayName("목록/알림/기본 타입 응답이 복원되어야 한다")
+    void testResponseTypesRoundTrip() throws Exception {
+        NotificationDTO notification = new NotificationDTO("예약 승인", "[정보관 912] 예약이 승인되었습니다.", 1_700_000_000_000L);
+        notification.setRead(true);
+        BasicResponse response = roundTrip(new BasicResponse("200", List.of(notification)));
+        NotificationDTO decoded = (NotificationDTO) ((List<?>) response.data).get(0);
+        assertEquals("예약 승인", decoded.getTitle());
+        assertEquals(1_700_000_000_000L, decoded.getTimestamp());
+        assertTrue(decoded.isRead());
+
+        assertEquals(3, ((CurrentResponse) roundTrip(new CurrentResponse(3))).currentUserCount);
+        assertEquals(Integer.valueOf(-42), roundTrip(-42));
+        assertEquals(Boolean.FALSE, roundTrip(false));
+        assertNull(roundTrip(null));
+    }
+
+    @Test
+    @DisplayName("Map 은 순서를 유지해서 전달되고, 태그가 없는 타입은 Java 직렬화로 감싸지 않고 거절되어야 한다")
+    void testMapAndUnknownType() throws Exception {
+        Map<String, Integer> map = new HashMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        BasicResponse response = roundTrip(new BasicResponse("200", map));
+        assertEquals(map, response.data);
+
+        assertThrows(NotSerializableException.class, () -> BinaryCodec.encode(new BasicResponse("200", new StringBuilder("x"))));
+        assertThrows(NotSerializableException.class, () -> BinaryCodec.encode(UUID.randomUUID()));
+
+        // 예전 Java 직렬화 태그(9)는 읽지 않는다
+        byte[] legacy = {9, 4, (byte) 0xAC, (byte) 0xED, 0, 5};
+        assertThrows(IOException.class, () -> BinaryCodec.decode(legacy));
+    }
+
+    @Test
+    @DisplayName("잘린 데이터나 알 수 없는 태그는 IOException 이어야 한다")
+    void testMalformedInput() throws Exception {
+        byte[] bytes = BinaryCodec.encode(new UserCommandRequest("로그인", new LoginRequest("S2023001", "pw")));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+
+        assertThrows(IOException.class, () -> BinaryCodec.decode(truncated));
+        assertThrows(IOException.class, () -> BinaryCodec.decode(new byte[]{(byte) 250}));
+    }
+
+    @Test
+    @DisplayName("깊은 중첩, 필드 타입 불일치, 모르는 학기도 IOException 이어야 한다 (StackOverflowError/ClassCastException 아님)")
+    void testHostileInput() throws Exception {
+        // 목록 태그만 10만 겹
+        byte[] nested = new byte[200_000];
+        for (int i = 0; i < nested.length; i += 2) {
+            nested[i] = BinaryCodec.TAG_LIST;
+            nested[i + 1] = 1;
+        }
+        IOException deep = assertThrows(IOException.class, () -> BinaryCodec.decode(nested));
+        assertTrue(deep.getMessage().contains("중첩"));
+
+        // 강의 연도 자리에 문자열
+        BinaryWriter lecture = new BinaryWriter();
+        lecture.writeByte(BinaryCodec.TAG_LECTURE);
+        for (int i = 0; i < 9; i++) lecture.writeString("x");
+        lecture.writeByte(BinaryCodec.TAG_STRING);
+        lecture.writeString("2026");
+        lecture.writeString(null);
+        assertThrows(IOException.class, () -> BinaryCodec.decode(lecture.toByteArray()));
+
+        // 모르는 학기
+        BinaryWriter semester = new BinaryWriter();
+        semester.writeByte(BinaryCodec.TAG_LECTURE);
+        for (int i = 0; i < 9; i++) semester.writeString("x");
+        semester.writeByte(BinaryCodec.TAG_NULL);
+        semester.writeString("THIRD");
+        assertThrows(IOException.class, () -> BinaryCodec.decode(semester.toByteArray()));
+
+        // 일괄 요청 목록 자리에 문자열, 일괄 처리 ID 목록에 숫자
+        BinaryWriter batch = new BinaryWriter();
+        batch.writeByte(BinaryCodec.TAG_BATCH_COMMAND);
+        batch.writeByte(BinaryCodec.TAG_STRING);
+        batch.writeString("목록 아님");
+        assertThrows(IOException.class, () -> BinaryCodec.decode(batch.toByteArray()));
+
+        BinaryWriter bulk = new BinaryWriter();
+        bulk.writeByte(BinaryCodec.TAG_RESERVATION_BULK);
+        BinaryCodec.writeValue(bulk, List.of(1, 2));
+        for (int i = 0; i < 7; i++) bulk.writeString(null);
+        assertThrows(IOException.class, () -> BinaryCodec.decode(bulk.toByteArray()));
+
+        // 적당한 깊이의 정상 중첩은 그대로 읽음
+        Object ok = List.of(List.of(List.of("a")));
+        assertEquals(ok, BinaryCodec.decode(BinaryCodec.encode(ok)));
+    }
+
+    @Test
+    @DisplayName("협상 메시지와 프레임을 스트림으로 주고받을 수 있어야 한다")
+    void testHandshakeAndFrames() throws Exception {
+        assertEquals(BinaryProtocol.VERSION, BinaryProtocol.negotiate(BinaryProtocol.VERSION + 5));
+        assertEquals(0, BinaryProtocol.negotiate(0));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(BinaryProtocol.hello(1));
+        BinaryProtocol.writeFrame(out, new UserCommandRequest("동시접속자", null));
+
+        ByteArrayInputStream in = new ByteArrayInputStream(out.toByteArray());
+        assertEquals(1, BinaryProtocol.readHello(in));
+        UserCommandRequest request = (UserCommandRequest) BinaryProtocol.readFrame(in);
+        assertEquals("동시접속자", request.command);
+        assertNull(request.payload);
+    }
+}
@@ -0,0 +1,75 @@
+package deu.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 원자적 파일 저장(AtomicFileWriter) 검증 테스트
+ */
+public class AtomicFileWriterTest {
+
+    private File file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        File dir = Files.createTempDirectory("atomictest").toFile();
+        dir.deleteOnExit();
+        file = new File(dir, "data.yaml");
+        file.deleteOnExit();
+    }
+
+    private String read() throws IOException {
+        return Files.readString(file.toPath(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("저장하면 파일 내용이 교체되고 임시 파일이 남지 않아야 한다")
+    void testWriteReplacesContent() throws Exception {
+        AtomicFileWriter writer = new AtomicFileWriter(FsyncPolicy.ALWAYS, 1000);
+        writer.write(file, out -> out.write("첫 번째".getBytes(StandardCharsets.UTF_8)));
+        writer.write(file, out -> out.write("두 번째".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("두 번째", read());
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+    }
+
+    @Test
+    @DisplayName("저장 도중 오류가 나면 기존 파일이 그대로 남아야 한다")
+    void testFailedWriteKeepsOriginal() throws Exception {
+        AtomicFileWriter writer = new AtomicFileWriter(FsyncPolicy.ALWAYS, 1000);
+        writer.write(file, out -> out.write("원본".getBytes(StandardCharsets.UTF_8)));
+
+        IOException error = assertThrows(IOException.class, () -> writer.write(file, out -> {
+            out.write("반쯤 쓰인 내용".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("디스크 가득 참");
+        }));
+
+        assertEquals("디스크 가득 참", error.getMessage());
+        assertEquals("원본", read());
+        assertFalse(new File(file.getPath() + ".tmp").exists());
+    }
+
+    @Test
+    @DisplayName("interval 정책은 fsync 를 미뤘다가 모아서 하고, never 정책은 fsync 대상을 남기지 않아야 한다")
+    void testIntervalPolicyDefersSync() throws Exception {
+        AtomicFileWriter interval = new AtomicFileWriter(FsyncPolicy.INTERVAL, 60_000);
+        interval.write(file, out -> out.write(1));
+        interval.write(file, out -> out.write(2));
+        assertEquals(1, interval.getPendingSyncCount()); // 같은 파일은 한 번만
+        interval.syncPending();
+        assertEquals(0, interval.getPendingSyncCount());
+
+        AtomicFileWriter never = new AtomicFileWriter(FsyncPolicy.NEVER, 1000);
+        never.write(file, out -> out.write(3));
+        assertEquals(0, never.getPendingSyncCount());
+        assertArrayEquals(new byte[]{3}, Files.readAllBytes(file.toPath()));
+    }
+}
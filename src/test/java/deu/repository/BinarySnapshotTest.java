@@ -0,0 +1,156 @@
+package deu.repository;
+
+import deu.model.entity.Lecture;
+import deu.model.entity.RoomReservation;
+import deu.model.entity.User;
+import deu.model.enums.Semester;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 바이너리 스냅샷(BinarySnapshot) 검증 테스트
+ */
+public class BinarySnapshotTest {
+
+    private File file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        File dir = Files.createTempDirectory("snapshottest").toFile();
+        dir.deleteOnExit();
+        file = new File(dir, "data.bin");
+        file.deleteOnExit();
+    }
+
+    private <T> void write(BinarySnapshot.Kind kind, List<T> records, int chunkRecords) throws IOException {
+        try (OutputStream out = new FileOutputStream(file)) {
+            BinarySnapshot.write(out, kind, records, chunkRecords);
+        }
+    }
+
+    @Test
+    @DisplayName("예약/사용자/강의 목록이 여러 묶음에 나뉘어도 순서대로 복원되어야 한다")
+    void testRoundTripAcrossChunks() throws Exception {
+        List<RoomReservation> reservations = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            reservations.add(RoomReservation.builder()
+                    .id("R" + i).number("S" + (i % 3)).lectureRoom("912")
+                    .date("2026-10-" + (10 + i % 5)).startTime("09:00").endTime("09:50")
+                    .status(i % 2 == 0 ? "승인" : "대기").build());
+        }
+        write(BinarySnapshot.Kind.RESERVATION, reservations, 4); // 7개 묶음 (마지막은 1건)
+
+        assertTrue(BinarySnapshot.isSnapshot(file));
+        assertEquals(BinarySnapshot.Kind.RESERVATION, BinarySnapshot.readKind(file));
+        List<RoomReservation> decoded = BinarySnapshot.read(file, BinarySnapshot.Kind.RESERVATION);
+        assertEquals(25, decoded.size());
+        for (int i = 0; i < 25; i++) {
+            assertEquals("R" + i, decoded.get(i).getId());
+            assertEquals(reservations.get(i).getStatus(), decoded.get(i).getStatus());
+        }
+
+        write(BinarySnapshot.Kind.USER, List.of(new User("S1", "pw", "홍길동", "컴퓨터공학과")), 4);
+        User user = BinarySnapshot.<User>read(file, BinarySnapshot.Kind.USER).get(0);
+        assertEquals("홍길동", user.name);
+        assertEquals("컴퓨터공학과", user.major);
+
+        Lecture lecture = new Lecture();
+        lecture.setId("L1");
+        lecture.setTitle("자료구조");
+        lecture.setYear(2026);
+        lecture.setSemester(Semester.SECOND);
+        write(BinarySnapshot.Kind.LECTURE, List.of(lecture), 4);
+        Lecture decodedLecture = BinarySnapshot.<Lecture>read(file, BinarySnapshot.Kind.LECTURE).get(0);
+        assertEquals("자료구조", decodedLecture.getTitle());
+        assertEquals(Semester.SECOND, decodedLecture.getSemester());
+        assertEquals(Integer.valueOf(2026), decodedLecture.getYear());
+
+        Lecture empty = new Lecture(); // 연도/학기 없음
+        empty.setId("L2");
+        write(BinarySnapshot.Kind.LECTURE, List.of(empty), 4);
+        Lecture decodedEmpty = BinarySnapshot.<Lecture>read(file, BinarySnapshot.Kind.LECTURE).get(0);
+        assertEquals("L2", decodedEmpty.getId());
+        assertNull(decodedEmpty.getYear());
+        assertNull(decodedEmpty.getSemester());
+
+        write(BinarySnapshot.Kind.LECTURE, new ArrayList<Lecture>(), 4);
+        assertTrue(BinarySnapshot.read(file, BinarySnapshot.Kind.LECTURE).isEmpty());
+    }
+
+    @Test
+    @DisplayName("묶음 내용이 손상되면 CRC 검사에서 IOException 이 발생해야 한다")
+    void testCorruptChunkRejected() throws Exception {
+        List<RoomReservation> reservations = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            reservations.add(RoomReservation.builder().id("R" + i).title("세미나").build());
+        }
+        write(BinarySnapshot.Kind.RESERVATION, reservations, 4);
+
+        byte[] data = Files.readAllBytes(file.toPath());
+        data[data.length - 2] ^= 0x5A; // 마지막 묶음 본문 변조
+        Files.write(file.toPath(), data);
+
+        IOException error = assertThrows(IOException.class,
+                () -> BinarySnapshot.read(file, BinarySnapshot.Kind.RESERVATION));
+        assertTrue(error.getMessage().contains("CRC"));
+    }
+
+    @Test
+    @DisplayName("다른 종류/버전의 파일이나 YAML 파일은 읽지 않아야 한다")
+    void testWrongKindOrVersionRejected() throws Exception {
+        write(BinarySnapshot.Kind.USER, List.of(new User("S1", "pw", "홍길동", "컴퓨터공학과")), 4);
+        assertThrows(IOException.class, () -> BinarySnapshot.read(file, BinarySnapshot.Kind.RESERVATION));
+
+        byte[] data = Files.readAllBytes(file.toPath());
+        data[4] = (byte) (BinarySnapshot.VERSION + 1);
+        Files.write(file.toPath(), data);
+        IOException error = assertThrows(IOException.class, () -> BinarySnapshot.read(file, BinarySnapshot.Kind.USER));
+        assertTrue(error.getMessage().contains("버전"));
+
+        // 레코드 형식 버전 (머리 7번째 바이트)
+        write(BinarySnapshot.Kind.USER, List.of(new User("S1", "pw", "홍길동", "컴퓨터공학과")), 4);
+        data = Files.readAllBytes(file.toPath());
+        data[6] = (byte) (RecordCodec.VERSION + 1);
+        Files.write(file.toPath(), data);
+        error = assertThrows(IOException.class, () -> BinarySnapshot.read(file, BinarySnapshot.Kind.USER));
+        assertTrue(error.getMessage().contains("버전"));
+
+        Files.writeString(file.toPath(), "users:\n- number: S1\n");
+        assertFalse(BinarySnapshot.isSnapshot(file));
+        assertThrows(IOException.class, () -> BinarySnapshot.read(file, BinarySnapshot.Kind.USER));
+    }
+
+    @Test
+    @DisplayName("CRC 는 맞지만 레코드를 해석할 수 없는 묶음이면 IOException 이 발생해야 한다")
+    void testUndecodableChunkRejected() throws Exception {
+        List<User> users = List.of(new User("S1", "pw", "홍길동", "컴퓨터공학과"), new User("S2", "pw", "김철수", "경영학과"));
+        write(BinarySnapshot.Kind.USER, users, 4);
+        byte[] original = Files.readAllBytes(file.toPath());
+        int countAt = 15 + 8 + 4; // 첫 번째 목차 항목의 레코드 수 (목차는 CRC 대상이 아님)
+
+        // 레코드 수가 실제보다 많으면 묶음 끝을 넘어 읽음
+        byte[] data = original.clone();
+        data[countAt + 3] = 3;
+        Files.write(file.toPath(), data);
+        IOException error = assertThrows(IOException.class, () -> BinarySnapshot.read(file, BinarySnapshot.Kind.USER));
+        assertTrue(error.getMessage().contains("해석할 수 없습니다"), error.getMessage());
+
+        // 레코드 수가 실제보다 적으면 남는 바이트가 있음
+        data = original.clone();
+        data[countAt + 3] = 1;
+        Files.write(file.toPath(), data);
+        error = assertThrows(IOException.class, () -> BinarySnapshot.read(file, BinarySnapshot.Kind.USER));
+        assertTrue(error.getMessage().contains("해석하지 않은"), error.getMessage());
+    }
+}
@@ -96,6 +96,27 @@ class LectureRepositoryTest {
         assertTrue(all.stream().anyMatch(l -> l.getId().equals(TEST_ID_3)));
     }
 
+    @DisplayName("강의실 주간 시간표가 강의 저장/삭제를 바로 반영하는지 확인")
+    @Test
+    @Order(7)
+    void test7_weeklyTimetable_followsSaveAndDelete() {
+        Lecture lec = createDummyLecture(TEST_ID_1);
+        lec.setDay("화");
+        repo.save(lec);
+
+        Lecture[][] timetable = repo.findWeeklyTimetable("테스트관", "1층", "A101");
+        assertEquals(TEST_ID_1, timetable[1][1].getId(), "화요일 10시 교시");
+        assertEquals(TEST_ID_1, timetable[1][2].getId(), "11:15 종료 → 11시 교시 포함");
+        assertNull(timetable[1][3]);
+        assertNull(timetable[0][1]);
+        assertEquals(0b110, repo.lectureMask("테스트관", "1층", "A101", 1));
+        assertNull(repo.findWeeklyTimetable("테스트관", "", "A101"), "층을 비우면 전체 조건");
+
+        repo.deleteById(TEST_ID_1);
+        assertNull(repo.findWeeklyTimetable("테스트관", "1층", "A101")[1][1]);
+        assertEquals(0, repo.lectureMask("테스트관", "1층", "A101", 1));
+    }
+
     private Lecture createDummyLecture(String id) {
         Lecture lec = new Lecture();
         lec.setId(id);
@@ -0,0 +1,222 @@
+package deu.repository;
+
+import deu.model.entity.RoomReservation;
+import deu.moniter.LatencyHistogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 변경 로그 기록 스레드(ReservationLogWriter) 검증 테스트
+ */
+public class ReservationLogWriterTest {
+
+    private File file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        File dir = Files.createTempDirectory("writertest").toFile();
+        dir.deleteOnExit();
+        file = new File(dir, "reservations.wal");
+        file.deleteOnExit();
+    }
+
+    private RoomReservation reservation(String id) {
+        return RoomReservation.builder()
+                .id(id)
+                .buildingName("정보관")
+                .floor("9")
+                .lectureRoom("911")
+                .number("S2023001")
+                .date("2025-06-01")
+                .startTime("10:00")
+                .endTime("11:00")
+                .build();
+    }
+
+    // 로그를 재생해 남아 있는 예약 ID 목록
+    private Set<String> replayIds() throws IOException {
+        Set<String> ids = new HashSet<>();
+        try (ReservationWal wal = new ReservationWal(file)) {
+            wal.replay(new ReservationWal.Replayer() {
+                @Override
+                public void save(RoomReservation reservation) {
+                    ids.add(reservation.getId());
+                }
+
+                @Override
+                public void delete(String id) {
+                    ids.remove(id);
+                }
+            });
+        }
+        return ids;
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 저장 요청은 묶어서 기록하고, sync 모드는 기록이 끝난 뒤에 돌아와야 한다")
+    void testConcurrentSavesAreGroupCommitted() throws Exception {
+        ReservationWal wal = new ReservationWal(file);
+        LatencyHistogram flushes = new LatencyHistogram("테스트 로그 기록");
+        AtomicBoolean first = new AtomicBoolean(true);
+        ReservationLogWriter writer = new ReservationLogWriter(wal, Durability.SYNC, 256, failed -> {
+            if (first.getAndSet(false)) {
+                try {
+                    Thread.sleep(200); // 첫 묶음 기록 중에 나머지 요청이 쌓이도록
+                } catch (InterruptedException ignored) {
+                }
+            }
+        }, flushes);
+        writer.start();
+
+        int threads = 32;
+        CountDownLatch ready = new CountDownLatch(threads);
+        AtomicLong notDurable = new AtomicLong();
+        Thread[] workers = new Thread[threads];
+        for (int i = 0; i < threads; i++) {
+            final String id = "R" + i;
+            workers[i] = new Thread(() -> {
+                ready.countDown();
+                long ticket = writer.submitSave(reservation(id));
+                writer.awaitDurable(ticket);
+                if (wal.getRecordCount() == 0) {
+                    notDurable.incrementAndGet();
+                }
+            });
+            workers[i].start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        assertEquals(0, notDurable.get());
+        assertEquals(threads, replayIds().size());
+        assertTrue(flushes.getCount() < threads / 2, "묶음 수: " + flushes.getCount());
+        wal.close();
+    }
+
+    @Test
+    @DisplayName("async 모드는 기록을 기다리지 않고, flush 로 남은 변경을 모두 기록할 수 있어야 한다")
+    void testAsyncDoesNotWait() throws Exception {
+        ReservationWal wal = new ReservationWal(file);
+        ReservationLogWriter writer = new ReservationLogWriter(wal, Durability.ASYNC, 64, failed -> {
+        }, new LatencyHistogram("테스트 로그 기록"));
+
+        // 기록 스레드 시작 전이므로 sync 라면 여기서 멈춤
+        writer.awaitDurable(writer.submitSave(reservation("A")));
+        writer.awaitDurable(writer.submitSave(reservation("B")));
+        writer.awaitDurable(writer.submitDelete("A"));
+        assertEquals(3, writer.getPendingCount());
+        assertFalse(writer.flush(50));
+
+        writer.start();
+        assertTrue(writer.flush(5000));
+        assertEquals(Set.of("B"), replayIds());
+        wal.close();
+    }
+
+    @Test
+    @DisplayName("작업은 앞서 등록한 변경을 기록한 뒤 실행되고, 작업의 오류는 호출한 쪽으로 전달되어야 한다")
+    void testTaskRunsAfterPendingRecords() throws Exception {
+        ReservationWal wal = new ReservationWal(file);
+        ReservationLogWriter writer = new ReservationLogWriter(wal, Durability.ASYNC, 64, failed -> {
+        }, new LatencyHistogram("테스트 로그 기록"));
+        writer.start();
+
+        writer.submitSave(reservation("A"));
+        writer.submitSave(reservation("B"));
+        AtomicLong seen = new AtomicLong();
+        writer.runTask(() -> seen.set(wal.getRecordCount()));
+        assertEquals(2, seen.get());
+
+        IOException error = assertThrows(IOException.class, () -> writer.runTask(() -> {
+            throw new IOException("디스크 가득 참");
+        }));
+        assertEquals("디스크 가득 참", error.getMessage());
+        wal.close();
+    }
+
+    @Test
+    @DisplayName("submitTask 는 작업을 기다리지 않고 돌아오고, 작업이 도는 동안에도 변경을 등록할 수 있어야 한다")
+    void testSubmittedTaskDoesNotBlockSubmitters() throws Exception {
+        ReservationWal wal = new ReservationWal(file);
+        ReservationLogWriter writer = new ReservationLogWriter(wal, Durability.SYNC, 64, failed -> {
+        }, new LatencyHistogram("테스트 로그 기록"));
+        writer.start();
+
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ReservationLogWriter.PendingTask snapshot = writer.submitTask(() -> {
+            running.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        running.await();
+
+        // 작업(스냅샷 저장 흉내)이 끝나지 않았어도 변경 등록은 바로 돌아옴
+        long ticket = writer.submitSave(reservation("A"));
+        release.countDown();
+        snapshot.await();
+        writer.awaitDurable(ticket);
+        assertEquals(Set.of("A"), replayIds());
+        wal.close();
+    }
+
+    @Test
+    @DisplayName("로그 기록에 실패한 변경은 스냅샷 저장이 끝난 뒤 완료되고, 스냅샷도 실패하면 awaitDurable 이 예외를 던져야 한다")
+    void testFailedAppendFallsBackToSnapshotOrFails() throws Exception {
+        AtomicBoolean appendFails = new AtomicBoolean(true);
+        ReservationWal wal = new ReservationWal(file) {
+            @Override
+            synchronized void appendSave(RoomReservation reservation) throws IOException {
+                if (appendFails.get()) {
+                    throw new IOException("디스크 가득 참");
+                }
+                super.appendSave(reservation);
+            }
+        };
+        AtomicBoolean snapshotFails = new AtomicBoolean(false);
+        AtomicLong snapshots = new AtomicLong();
+        ReservationLogWriter writer = new ReservationLogWriter(wal, Durability.SYNC, 64, failed -> {
+            if (!failed) {
+                return;
+            }
+            if (snapshotFails.get()) {
+                throw new IOException("스냅샷 저장 실패");
+            }
+            snapshots.incrementAndGet();
+        }, new LatencyHistogram("테스트 로그 기록"));
+        writer.start();
+
+        // 스냅샷으로 대신 반영되면 정상 완료
+        writer.awaitDurable(writer.submitSave(reservation("A")));
+        assertEquals(1, snapshots.get());
+
+        // 스냅샷도 실패하면 그 변경을 기다리던 요청에 오류 전달
+        snapshotFails.set(true);
+        long failedTicket = writer.submitSave(reservation("B"));
+        UncheckedIOException error = assertThrows(UncheckedIOException.class, () -> writer.awaitDurable(failedTicket));
+        assertEquals("디스크 가득 참", error.getCause().getMessage());
+
+        // 다음 변경은 다시 정상 기록
+        appendFails.set(false);
+        writer.awaitDurable(writer.submitSave(reservation("C")));
+        assertEquals(Set.of("C"), replayIds());
+        wal.close();
+    }
+}
@@ -4,7 +4,12 @@ import deu.model.entity.RoomReservation;
 import org.junit.jupiter.api.*;
 
 import java.io.File;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -62,6 +67,44 @@ public class ReservationRepositoryTest {
         assertEquals(2, results.size());
     }
 
+    @Test
+    @DisplayName("사용자 색인: 학번 대소문자/공백 무시, 상태 변경 덮어쓰기 후에도 최신 예약만 반환")
+    void testFindByUserFollowsOverwrite() {
+        RoomReservation mine = createSampleReservation(" s131 ", "2025-05-30", "10:00", "909");
+        RoomReservation other = createSampleReservation("S132", "2025-05-30", "11:00", "909");
+        repository.save(mine);
+        repository.save(other);
+
+        RoomReservation approved = mine.toBuilder().status("승인").build();
+        repository.save(approved);
+
+        List<RoomReservation> results = repository.findByUser("S131");
+        assertEquals(1, results.size());
+        assertSame(approved, results.get(0));
+        assertEquals("승인", results.get(0).getStatus());
+        assertEquals(1, repository.findByUser("s132").size());
+
+        repository.deleteById(approved.getId());
+        assertTrue(repository.findByUser("S131").isEmpty());
+        assertEquals(1, repository.findByUser("S132").size());
+        assertTrue(repository.findByUser(null).isEmpty());
+        assertTrue(repository.isIndexConsistent());
+    }
+
+    @Test
+    @DisplayName("여러 예약 일괄 저장 (같은 ID는 덮어쓰기)")
+    void testSaveAll() {
+        RoomReservation first = createSampleReservation("S128", "2025-05-27", "10:00", "906");
+        repository.save(first);
+
+        RoomReservation updated = first.toBuilder().status("승인").build();
+        RoomReservation second = createSampleReservation("S128", "2025-05-27", "11:00", "906");
+        repository.saveAll(List.of(updated, second));
+
+        assertEquals(2, repository.findByUser("S128").size());
+        assertEquals("승인", repository.findById(first.getId()).getStatus());
+    }
+
     @Test
     @DisplayName("예약 ID로 삭제 기능")
     void testDeleteById() {
@@ -73,6 +116,57 @@ public class ReservationRepositoryTest {
         assertNull(repository.findById(res.getId()));
     }
 
+    @Test
+    @DisplayName("덮어쓰기/삭제 후에도 ID 색인이 목록과 일치")
+    void testIdIndexFollowsMutations() {
+        RoomReservation first = createSampleReservation("S129", "2025-05-28", "10:00", "907");
+        RoomReservation second = createSampleReservation("S129", "2025-05-28", "11:00", "907");
+        repository.saveAll(List.of(first, second));
+
+        RoomReservation updated = first.toBuilder().status("승인").build();
+        repository.save(updated);
+        assertSame(updated, repository.findById(first.getId()));
+        assertEquals(List.of(second, updated), repository.findAll()); // 덮어쓴 예약은 목록 끝으로
+
+        repository.delete(first); // 이미 교체된 객체는 삭제되지 않음
+        assertSame(updated, repository.findById(first.getId()));
+
+        repository.delete(updated);
+        assertNull(repository.findById(first.getId()));
+        assertFalse(repository.deleteById(first.getId()));
+        assertTrue(repository.isIndexConsistent());
+    }
+
+    @Test
+    @DisplayName("백업 복구 후 ID 색인이 복구된 목록과 일치")
+    void testIdIndexConsistentAfterRestore() throws Exception {
+        RoomReservation kept = createSampleReservation("S130", "2025-05-29", "10:00", "908");
+        repository.save(kept);
+        File backup = File.createTempFile("reservation-backup", ".yaml");
+        backup.deleteOnExit();
+        assertTrue(repository.exportBackup(backup.getPath()));
+
+        // 백업 이후 변경: 새 예약 추가, 기존 예약 삭제
+        RoomReservation added = createSampleReservation("S130", "2025-05-29", "11:00", "908");
+        repository.save(added);
+        repository.deleteById(kept.getId());
+
+        assertTrue(repository.importBackup(backup.getPath()));
+
+        assertTrue(repository.isIndexConsistent());
+        assertEquals(1, repository.findAll().size());
+        assertNotNull(repository.findById(kept.getId()));
+        assertNull(repository.findById(added.getId()));
+        assertFalse(repository.deleteById(added.getId()));
+
+        // 복구된 객체로도 삭제/저장이 색인을 통해 동작
+        RoomReservation restored = repository.findById(kept.getId());
+        repository.save(restored.toBuilder().status("승인").build());
+        assertEquals(1, repository.findAll().size());
+        assertEquals("승인", repository.findById(kept.getId()).getStatus());
+        assertTrue(repository.isIndexConsistent());
+    }
+
     @Test
     @DisplayName("예약 중복 체크")
     void testIsDuplicate() {
@@ -81,6 +175,202 @@ public class ReservationRepositoryTest {
         assertFalse(repository.isDuplicate("2025-05-26", "16:00", "905"));
     }
 
+    @Test
+    @DisplayName("시간대 색인: 상태 변경/삭제에 따라 유효 건수와 중복 여부가 바로 반영")
+    void testSlotIndexCounts() {
+        RoomReservation first = createSampleReservation("S133", "2025-05-31", "15:00", "910");
+        RoomReservation second = createSampleReservation("S134", "2025-05-31", "15:00", "910");
+        repository.saveAll(List.of(first, second));
+
+        assertEquals(2, repository.countLiveInSlot("정보관", "9", "910", "2025-05-31", "15:00"));
+        assertEquals(2, repository.countLiveInRoomSlot("910", "2025-05-31", "15:00"));
+        assertEquals(0, repository.countLiveInSlot("공학관", "9", "910", "2025-05-31", "15:00"));
+        assertEquals(2, repository.findBySlot("정보관", "9", "910", "2025-05-31", "15:00").size());
+
+        // '삭제됨' 은 정원 건수에서 빠지지만 시간대 목록에는 남음
+        repository.save(first.toBuilder().status("삭제됨").build());
+        assertEquals(1, repository.countLiveInSlot("정보관", "9", "910", "2025-05-31", "15:00"));
+        assertEquals(2, repository.findBySlot("정보관", "9", "910", "2025-05-31", "15:00").size());
+        assertTrue(repository.isDuplicate("2025-05-31", "15:00", "910"));
+
+        // '취소'/'거절' 만 남으면 중복이 아님
+        repository.save(second.toBuilder().status("취소").build());
+        repository.save(first.toBuilder().status("거절").build());
+        assertFalse(repository.isDuplicate("2025-05-31", "15:00", "910"));
+
+        // 시간 변경 덮어쓰기는 이전 시간대에서 빠짐
+        repository.save(second.toBuilder().startTime("16:00").status("대기").build());
+        assertEquals(1, repository.findBySlot("정보관", "9", "910", "2025-05-31", "15:00").size());
+        assertEquals(1, repository.countLiveInRoomSlot("910", "2025-05-31", "16:00"));
+
+        repository.deleteById(second.getId());
+        assertEquals(0, repository.countLiveInRoomSlot("910", "2025-05-31", "16:00"));
+        assertTrue(repository.isIndexConsistent());
+    }
+
+    @Test
+    @DisplayName("날짜 색인: 기간 조회는 기간 안의 예약만 날짜 순으로, 날짜 변경/삭제도 반영")
+    void testDateRangeIndex() {
+        RoomReservation late = createSampleReservation("S135", "2025-06-05", "10:00", "911");
+        RoomReservation early = createSampleReservation("S135", "2025-06-02", "10:00", "911");
+        RoomReservation outside = createSampleReservation("S136", "2025-06-09", "10:00", "911");
+        RoomReservation invalid = createSampleReservation("S135", "6월 3일", "10:00", "911");
+        repository.saveAll(List.of(late, early, outside, invalid));
+
+        LocalDate from = LocalDate.of(2025, 6, 1);
+        LocalDate to = LocalDate.of(2025, 6, 7);
+        List<RoomReservation> window = repository.findByDateRange(from, to);
+        assertEquals(List.of(early.getId(), late.getId()), window.stream().map(RoomReservation::getId).toList());
+        assertEquals(2, repository.findByUserAndDateRange("s135", from, to).size());
+        assertTrue(repository.findByUserAndDateRange("S136", from, to).isEmpty());
+
+        // 날짜를 옮기면 이전 날짜에서 빠짐
+        repository.save(outside.toBuilder().date("2025-06-07").build());
+        assertEquals(3, repository.findByDateRange(from, to).size());
+        assertEquals(1, repository.findByUserAndDateRange("S136", from, to).size());
+
+        repository.deleteById(late.getId());
+        assertEquals(2, repository.findByDateRange(from, to).size());
+        assertTrue(repository.findByDateRange(to, from).isEmpty());
+        assertTrue(repository.isIndexConsistent());
+    }
+
+    @Test
+    @DisplayName("사용량 집계: 저장/취소/삭제됨/삭제에 따라 하루 시간과 예약 수가 바로 바뀌고, 재계산 점검과 일치")
+    void testQuotaCounters() {
+        RoomReservation morning = createSampleReservation("S137", "2025-06-10", "09:00", "912")
+                .toBuilder().endTime("10:30").build();
+        RoomReservation noon = createSampleReservation("S137", "2025-06-10", "12:00", "913")
+                .toBuilder().endTime("13:00").build();
+        RoomReservation nextDay = createSampleReservation("S137", "2025-06-11", "09:00", "912")
+                .toBuilder().endTime("10:00").build();
+        repository.saveAll(List.of(morning, noon, nextDay));
+
+        assertEquals(150, repository.bookedMinutes("s137", "2025-06-10"));
+        assertEquals(3, repository.countBookings("S137", LocalDate.of(2025, 6, 10), LocalDate.of(2025, 6, 16)));
+        assertTrue(repository.hasBookingAt("S137", "2025-06-10", "12:00"));
+
+        repository.save(noon.toBuilder().status("취소됨").build());
+        repository.save(nextDay.toBuilder().status("삭제됨").build());
+        assertEquals(90, repository.bookedMinutes("S137", "2025-06-10"));
+        assertEquals(1, repository.countBookings("S137", LocalDate.of(2025, 6, 10), LocalDate.of(2025, 6, 16)));
+        assertFalse(repository.hasBookingAt("S137", "2025-06-10", "12:00"));
+
+        // 시간 변경 덮어쓰기 후 삭제
+        repository.save(morning.toBuilder().startTime("10:00").endTime("11:00").build());
+        assertEquals(60, repository.bookedMinutes("S137", "2025-06-10"));
+        assertTrue(repository.hasBookingAt("S137", "2025-06-10", "10:00"));
+        assertFalse(repository.hasBookingAt("S137", "2025-06-10", "09:00"));
+        repository.deleteById(morning.getId());
+        assertEquals(0, repository.bookedMinutes("S137", "2025-06-10"));
+
+        assertTrue(repository.verifyQuotas().isEmpty());
+        assertTrue(repository.isIndexConsistent());
+
+        // 시간을 해석할 수 없는 예약은 0분으로 세지 않고 해석 오류를 그대로 던짐 (신청은 기존과 같이 500)
+        RoomReservation broken = createSampleReservation("S137", "2025-06-10", "9시", "914");
+        repository.save(broken);
+        assertThrows(DateTimeParseException.class, () -> repository.bookedMinutes("S137", "2025-06-10"));
+        assertEquals(0, repository.bookedMinutes("S137", "2025-06-11"));
+        assertTrue(repository.verifyQuotas().isEmpty());
+        repository.save(broken.toBuilder().startTime("09:00").endTime("09:50").build());
+        assertEquals(50, repository.bookedMinutes("S137", "2025-06-10"));
+
+        // 집계가 어긋나면 점검에서 사용자/날짜별로 보고
+        QuotaIndex actual = new QuotaIndex();
+        QuotaIndex rebuilt = new QuotaIndex();
+        actual.add("s138", createSampleReservation("S138", "2025-06-12", "09:00", "912"));
+        List<String> differences = actual.diff(rebuilt);
+        assertFalse(differences.isEmpty());
+        assertTrue(differences.get(0).startsWith("s138 2025-06-12"));
+    }
+
+    @Test
+    @DisplayName("강의실 점유 비트: 겹치는 교시 비트/교시별 예약 수가 저장/취소/삭제에 따라 바로 바뀜")
+    void testOccupancyBitmap() {
+        RoomReservation first = createSampleReservation("S140", "2025-06-10", "13:00", "912")
+                .toBuilder().endTime("14:30").build();   // 4, 5교시
+        RoomReservation second = createSampleReservation("S141", "2025-06-10", "14:00", "912")
+                .toBuilder().endTime("15:00").build();   // 5교시
+        RoomReservation otherRoom = createSampleReservation("S141", "2025-06-10", "09:00", "913")
+                .toBuilder().endTime("10:00").build();
+        repository.saveAll(List.of(first, second, otherRoom));
+
+        assertEquals(0b110000, repository.occupancyMask("정보관", "9", "912", "2025-06-10"));
+        assertEquals(1, repository.countOccupying("정보관", "9", "912", "2025-06-10", 4));
+        assertEquals(2, repository.countOccupying("정보관", "9", "912", "2025-06-10", 5));
+        assertFalse(repository.isRoomFree("정보관", "9", "912", "2025-06-10", "14:30", "15:30"));
+        assertTrue(repository.isRoomFree("정보관", "9", "912", "2025-06-10", "15:00", "16:00"));
+        assertTrue(repository.isRoomFree("정보관", "9", "912", "2025-06-11", "13:00", "14:00"));
+        assertEquals(List.of(first.getId(), second.getId()),
+                repository.findByRoomAndDate("정보관", "9", "912", "2025-06-10").stream().map(RoomReservation::getId).toList());
+
+        // 취소되면 점유에서 빠지고, 같은 교시를 쓰는 다른 예약이 있으면 비트는 유지
+        repository.save(first.toBuilder().status("취소됨").build());
+        assertEquals(0b100000, repository.occupancyMask("정보관", "9", "912", "2025-06-10"));
+        assertEquals(1, repository.countOccupying("정보관", "9", "912", "2025-06-10", 5));
+        assertTrue(repository.isRoomFree("정보관", "9", "912", "2025-06-10", "13:00", "14:00"));
+
+        repository.deleteById(second.getId());
+        assertEquals(0, repository.occupancyMask("정보관", "9", "912", "2025-06-10"));
+        assertTrue(repository.findByRoomAndDate("정보관", "9", "912", "2025-06-10").isEmpty());
+        assertEquals(0b1, repository.occupancyMask("정보관", "9", "913", "2025-06-10"));
+        assertTrue(repository.isIndexConsistent());
+    }
+
+    @Test
+    @DisplayName("읽기/쓰기 잠금:쓰기 1개와 조회 여러 개가 동시에 돌아도 조회 결과와 색인이 어긋나지 않음")
+    void testConcurrentReadersDuringWrites() throws Exception {
+        List<RoomReservation> base = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            base.add(createSampleReservation("S14" + (i % 10), "2025-06-1" + (i % 5), "10:00", "91" + (i % 4)));
+        }
+        repository.saveAll(base);
+
+        AtomicBoolean done = new AtomicBoolean(false);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread writer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 2000; i++) {
+                    RoomReservation original = base.get(i % base.size());
+                    repository.save(original.toBuilder().status(i % 2 == 0 ? "승인" : "대기").build());
+                }
+            } catch (Throwable t) {
+                failure.compareAndSet(null, t);
+            } finally {
+                done.set(true);
+            }
+        });
+
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            readers.add(new Thread(() -> {
+                try {
+                    while (!done.get()) {
+                        // 덮어쓰기만 하므로 건수는 항상 그대로여야 함
+                        assertEquals(200, repository.findAll().size());
+                        assertEquals(20, repository.findByUser("S143").size());
+                        assertEquals(40, repository.findByDateRange(LocalDate.of(2025, 6, 12), LocalDate.of(2025, 6, 12)).size());
+                        assertNotNull(repository.findById(base.get(7).getId()));
+                    }
+                } catch (Throwable t) {
+                    failure.compareAndSet(null, t);
+                }
+            }));
+        }
+
+        readers.forEach(Thread::start);
+        writer.start();
+        writer.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertNull(failure.get(), "동시 조회 중 예외/불일치 발생");
+        assertEquals(200, repository.findAll().size());
+        assertTrue(repository.isIndexConsistent());
+    }
+
     @Test
     @DisplayName("전체 예약 목록 반환")
     void testFindAll() {
@@ -0,0 +1,196 @@
+package deu.repository;
+
+import deu.model.entity.RoomReservation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 변경 로그(ReservationWal) 검증 테스트
+ */
+public class ReservationWalTest {
+
+    private File file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        File dir = Files.createTempDirectory("waltest").toFile();
+        dir.deleteOnExit();
+        file = new File(dir, "reservations.wal");
+        file.deleteOnExit();
+    }
+
+    private RoomReservation reservation(String id, String status) {
+        return RoomReservation.builder()
+                .id(id)
+                .buildingName("정보관")
+                .floor("9")
+                .lectureRoom("911")
+                .number("S2023001")
+                .status(status)
+                .date("2025-06-01")
+                .startTime("10:00")
+                .endTime("11:00")
+                .build();
+    }
+
+    // 재생 결과를 ID → 예약으로 모음
+    private Map<String, RoomReservation> replay(ReservationWal wal) throws Exception {
+        Map<String, RoomReservation> result = new LinkedHashMap<>();
+        wal.replay(new ReservationWal.Replayer() {
+            @Override
+            public void save(RoomReservation reservation) {
+                result.put(reservation.getId(), reservation);
+            }
+
+            @Override
+            public void delete(String id) {
+                result.remove(id);
+            }
+        });
+        return result;
+    }
+
+    @Test
+    @DisplayName("저장/삭제 레코드를 기록 순서대로 재생해야 한다")
+    void testReplayAppliesRecordsInOrder() throws Exception {
+        try (ReservationWal wal = new ReservationWal(file)) {
+            wal.appendSave(reservation("A", "대기"));
+            wal.appendSave(reservation("B", "대기"));
+            wal.appendSave(reservation("A", "승인"));
+            wal.appendDelete("B");
+            wal.sync();
+            assertEquals(4, wal.getRecordCount());
+        }
+
+        try (ReservationWal wal = new ReservationWal(file)) {
+            Map<String, RoomReservation> result = replay(wal);
+            assertEquals(1, result.size());
+            assertEquals("승인", result.get("A").getStatus());
+            assertEquals("911", result.get("A").getLectureRoom());
+            assertEquals(4, wal.getRecordCount());
+        }
+    }
+
+    @Test
+    @DisplayName("마지막 레코드가 잘렸거나 손상되면 그 앞까지만 재생하고 파일을 잘라내야 한다")
+    void testTornTailIsTruncated() throws Exception {
+        long validLength;
+        try (ReservationWal wal = new ReservationWal(file)) {
+            wal.appendSave(reservation("A", "대기"));
+            wal.sync();
+            validLength = wal.getByteCount();
+            wal.appendSave(reservation("B", "대기"));
+            wal.sync();
+        }
+        // 두 번째 레코드의 마지막 바이트를 잘라냄 (기록 도중 종료)
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 1);
+        }
+
+        try (ReservationWal wal = new ReservationWal(file)) {
+            Map<String, RoomReservation> result = replay(wal);
+            assertEquals(1, result.size());
+            assertTrue(result.containsKey("A"));
+            assertEquals(validLength, file.length());
+
+            // 잘라낸 뒤 이어서 기록해도 정상 재생
+            wal.appendDelete("A");
+            wal.sync();
+        }
+
+        // 뒤에 쓰레기 바이트가 붙은 경우 (CRC 불일치)
+        try (FileOutputStream out = new FileOutputStream(file, true)) {
+            out.write(new byte[]{0, 0, 0, 1, 1, 2, 3, 4, 1, 9});
+        }
+        try (ReservationWal wal = new ReservationWal(file)) {
+            assertTrue(replay(wal).isEmpty());
+            assertEquals(2, wal.getRecordCount());
+        }
+    }
+
+    @Test
+    @DisplayName("마지막이 아닌 레코드가 손상되면 잘라내지 않고 IOException 으로 멈춰야 한다")
+    void testCorruptionBeforeTailFailsLoudly() throws Exception {
+        try (ReservationWal wal = new ReservationWal(file)) {
+            wal.appendSave(reservation("A", "대기"));
+            wal.appendSave(reservation("B", "대기"));
+            wal.sync();
+        }
+        long length = file.length();
+        // 첫 레코드 본문 마지막 바이트 변경 (머리 5 + 레코드 머리 8 + 종류 1 이후)
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(5);
+            int bodyLength = raf.readInt();
+            long last = 5 + 8 + bodyLength;
+            raf.seek(last);
+            int b = raf.read();
+            raf.seek(last);
+            raf.write(b ^ 0xFF);
+        }
+
+        try (ReservationWal wal = new ReservationWal(file)) {
+            assertThrows(IOException.class, () -> replay(wal));
+        }
+        assertEquals(length, file.length());
+    }
+
+    @Test
+    @DisplayName("CRC 는 맞는데 해석할 수 없는 레코드나 모르는 파일 머리/버전은 IOException 이어야 한다")
+    void testUndecodableRecordFailsLoudly() throws Exception {
+        // 올바른 머리 + CRC 가 맞는 저장 레코드 (본문은 예약 형식이 아님) + 정상 레코드
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.write(new byte[]{'D', 'E', 'U', 'W', RecordCodec.VERSION});
+        byte[] body = {ReservationWal.SAVE, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF};
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        out.writeInt(body.length - 1);
+        out.writeInt((int) crc.getValue());
+        out.write(body);
+        Files.write(file.toPath(), bytes.toByteArray());
+        long length = file.length();
+
+        try (ReservationWal wal = new ReservationWal(file)) {
+            assertThrows(IOException.class, () -> replay(wal));
+        }
+        assertEquals(length, file.length());
+
+        // 다음 버전 형식
+        Files.write(file.toPath(), new byte[]{'D', 'E', 'U', 'W', RecordCodec.VERSION + 1});
+        try (ReservationWal wal = new ReservationWal(file)) {
+            assertThrows(IOException.class, () -> replay(wal));
+        }
+
+        // 머리 없는 파일 (예전 형식 등)
+        Files.write(file.toPath(), new byte[]{0, 0, 0, 1, 0, 0, 0, 0, 1, 9});
+        try (ReservationWal wal = new ReservationWal(file)) {
+            assertThrows(IOException.class, () -> replay(wal));
+        }
+    }
+
+    @Test
+    @DisplayName("reset 후에는 재생할 레코드가 없어야 한다")
+    void testResetClearsLog() throws Exception {
+        try (ReservationWal wal = new ReservationWal(file)) {
+            wal.appendSave(reservation("A", "대기"));
+            wal.reset();
+            assertEquals(0, wal.getRecordCount());
+            assertEquals(0, file.length());
+            assertTrue(replay(wal).isEmpty());
+        }
+    }
+}
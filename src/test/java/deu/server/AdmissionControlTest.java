@@ -0,0 +1,135 @@
+package deu.server;
+
+import deu.model.dto.request.command.ReservationCommandRequest;
+import deu.model.dto.request.command.UserCommandRequest;
+import deu.model.dto.response.BasicResponse;
+import deu.moniter.LogManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 요청 수용 제어(AdmissionControl) 검증 테스트
+ */
+public class AdmissionControlTest {
+
+    private static final Object READ = new UserCommandRequest("동시접속자", null);
+    private static final Object WRITE = new ReservationCommandRequest("예약 요청", null);
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // 해제될 때까지 붙잡고 있는 처리기
+    private final Function<Object, Object> blocking = request -> {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "ok";
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        LogManager.setAdmissionStatus(null);
+    }
+
+    @Test
+    @DisplayName("한도 안의 요청은 그대로 처리기로 전달되어야 한다")
+    void testPassThroughWithinLimits() {
+        AdmissionControl admission = new AdmissionControl(2, 0, 2, 0, 100);
+        Function<Object, Object> handler = admission.wrap(request -> "ok");
+
+        assertEquals("ok", handler.apply(READ));
+        assertEquals("ok", handler.apply(WRITE));
+        assertEquals(0, admission.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("조회 한도와 대기열이 가득 차면 바로 503 으로 거절해야 한다")
+    void testSaturatedReadLaneRejectsFast() throws Exception {
+        AdmissionControl admission = new AdmissionControl(1, 0, 1, 0, 1000);
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> admission.handle(READ, blocking));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        long begin = System.nanoTime();
+        Object response = admission.handle(READ, request -> "ok");
+        long elapsedMillis = (System.nanoTime() - begin) / 1_000_000;
+
+        assertInstanceOf(BasicResponse.class, response);
+        assertEquals(AdmissionControl.REJECT_CODE, ((BasicResponse) response).code);
+        assertTrue(elapsedMillis < 500, "대기열이 없으면 기다리지 않아야 합니다: " + elapsedMillis + "ms");
+        assertEquals(1, admission.getRejectedCount());
+
+        // 변경 요청은 별도 한도라 영향을 받지 않음
+        assertEquals("ok", admission.handle(WRITE, request -> "ok"));
+
+        release.countDown();
+        assertEquals("ok", first.get(5, TimeUnit.SECONDS));
+        assertEquals("ok", admission.handle(READ, request -> "ok"));
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 자리가 나면 대기열의 요청도 처리되어야 한다")
+    void testQueuedRequestIsAdmittedWhenPermitFrees() throws Exception {
+        AdmissionControl admission = new AdmissionControl(1, 1, 1, 1, 5000);
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> admission.handle(WRITE, blocking));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> admission.handle(WRITE, request -> "queued"));
+        waitUntil(() -> admission.getStatus().contains("변경 실행 1/1 대기 1/1"));
+        release.countDown();
+
+        assertEquals("ok", first.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(0, admission.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("변경 요청이 대기 중이면 조회 요청은 먼저 거절되어야 한다")
+    void testReadsShedWhileWritesQueued() throws Exception {
+        AdmissionControl admission = new AdmissionControl(4, 4, 1, 4, 5000);
+        CompletableFuture<Object> first = CompletableFuture.supplyAsync(() -> admission.handle(WRITE, blocking));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Object> queued = CompletableFuture.supplyAsync(() -> admission.handle(WRITE, request -> "queued"));
+        waitUntil(() -> admission.getStatus().contains("변경 실행 1/1 대기 1/4"));
+
+        Object response = admission.handle(READ, request -> "ok");
+
+        assertEquals(AdmissionControl.REJECT_CODE, ((BasicResponse) response).code);
+
+        release.countDown();
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        assertEquals("ok", first.get(5, TimeUnit.SECONDS));
+        assertEquals("ok", admission.handle(READ, request -> "ok"));
+    }
+
+    @Test
+    @DisplayName("현재 상태를 LogManager 로 조회할 수 있어야 한다")
+    void testStatusExposedThroughLogManager() {
+        AdmissionControl admission = new AdmissionControl(8, 2, 4, 1, 100);
+        LogManager.setAdmissionStatus(admission::getStatus);
+
+        assertEquals("조회 실행 0/8 대기 0/2 거절 0 | 변경 실행 0/4 대기 0/1 거절 0",
+                LogManager.getAdmissionStatus());
+    }
+
+    private static void waitUntil(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("조건을 기다리다 시간이 초과되었습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
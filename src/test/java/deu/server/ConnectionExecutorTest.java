@@ -0,0 +1,108 @@
+package deu.server;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 연결 실행기(ConnectionExecutor)의 동시 연결 수 제한 검증 테스트
+ */
+public class ConnectionExecutorTest {
+
+    @Test
+    @DisplayName("모든 모드에서 연결 작업이 실행되어야 한다")
+    void testExecuteInEveryMode() throws Exception {
+        for (ConnectionMode mode : ConnectionMode.values()) {
+            try (ConnectionExecutor executor = new ConnectionExecutor(mode, 10, 2)) {
+                CountDownLatch done = new CountDownLatch(5);
+                for (int i = 0; i < 5; i++) {
+                    executor.execute(done::countDown);
+                }
+                assertTrue(done.await(5, TimeUnit.SECONDS), mode + " 모드에서 작업이 실행되지 않았습니다.");
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("POOLED 모드는 풀 크기를 넘는 연결을 받지 않고 accept 에서 대기해야 한다")
+    void testPooledLimitedByPoolSize() throws Exception {
+        try (ConnectionExecutor executor = new ConnectionExecutor(ConnectionMode.POOLED, 10, 2)) {
+            assertEquals(2, executor.getMaxConnections());
+
+            CountDownLatch release = new CountDownLatch(1);
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignored) {
+                    }
+                });
+            }
+
+            // 풀 스레드가 모두 점유되었으므로 세 번째 연결은 실행기 대기열이 아니라 execute 에서 대기
+            AtomicBoolean thirdSubmitted = new AtomicBoolean(false);
+            Thread acceptor = new Thread(() -> {
+                try {
+                    executor.execute(() -> {});
+                    thirdSubmitted.set(true);
+                } catch (InterruptedException ignored) {
+                }
+            });
+            acceptor.start();
+            acceptor.join(300);
+            assertFalse(thirdSubmitted.get(), "풀 크기를 초과한 연결이 수락되면 안 됩니다.");
+
+            release.countDown();
+            acceptor.join(5000);
+            assertTrue(thirdSubmitted.get());
+        }
+        try (ConnectionExecutor executor = new ConnectionExecutor(ConnectionMode.VIRTUAL, 10, 2)) {
+            assertEquals(10, executor.getMaxConnections());
+        }
+    }
+
+    @Test
+    @DisplayName("최대 연결 수에 도달하면 다음 연결은 기존 연결이 끝날 때까지 대기해야 한다")
+    void testMaxConnectionsLimit() throws Exception {
+        try (ConnectionExecutor executor = new ConnectionExecutor(ConnectionMode.VIRTUAL, 2, 0)) {
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch started = new CountDownLatch(2);
+
+            // 한도(2개)만큼 연결을 점유
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException ignored) {
+                    }
+                });
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            assertEquals(2, executor.getActiveConnections());
+
+            // 세 번째 연결은 자리가 날 때까지 대기
+            AtomicBoolean thirdSubmitted = new AtomicBoolean(false);
+            Thread acceptor = new Thread(() -> {
+                try {
+                    executor.execute(() -> {});
+                    thirdSubmitted.set(true);
+                } catch (InterruptedException ignored) {
+                }
+            });
+            acceptor.start();
+            acceptor.join(300);
+            assertFalse(thirdSubmitted.get(), "한도를 초과한 연결이 바로 실행되면 안 됩니다.");
+
+            // 기존 연결 종료 후에는 실행되어야 함
+            release.countDown();
+            acceptor.join(5000);
+            assertTrue(thirdSubmitted.get(), "자리가 난 뒤에는 대기 중이던 연결이 실행되어야 합니다.");
+        }
+    }
+}
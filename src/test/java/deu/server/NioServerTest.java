@@ -0,0 +1,245 @@
+package deu.server;
+
+import deu.model.dto.request.RequestEnvelope;
+import deu.model.dto.request.command.UserCommandRequest;
+import deu.model.dto.response.BasicResponse;
+import deu.model.dto.response.ResponseEnvelope;
+import deu.protocol.BinaryProtocol;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InvalidClassException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NIO 엔진 프레임 처리 검증 테스트
+ * - 실제 SystemController 대신 요청을 그대로 돌려주는 핸들러를 사용
+ */
+public class NioServerTest {
+
+    private NioServer server;
+    private Thread serverThread;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new NioServer(0, 4, request -> {
+            // 지연 요청("지연:ms")은 해당 시간만큼 처리 시간을 흉내냄
+            if (request instanceof String s && s.startsWith("지연:")) {
+                try {
+                    Thread.sleep(Long.parseLong(s.substring(3)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            // "오류" 요청은 처리 스레드에서 Error 가 나는 경우를 흉내냄
+            if ("오류".equals(request)) {
+                throw new StackOverflowError("테스트용 오류");
+            }
+            return new BasicResponse("200", request);
+        });
+        serverThread = new Thread(server);
+        serverThread.start();
+    }
+
+    @AfterEach
+    void stopServer() throws Exception {
+        server.close();
+        serverThread.join(2000);
+    }
+
+    private Socket connect() throws Exception {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+        socket.setSoTimeout(5000);
+        return socket;
+    }
+
+    @Test
+    @DisplayName("요청 1건을 보내면 같은 연결로 응답 1건이 돌아와야 한다")
+    void testSingleRoundTrip() throws Exception {
+        try (Socket socket = connect()) {
+            FrameCodec.writeFrame(socket.getOutputStream(), "동시접속자");
+            BasicResponse response = (BasicResponse) FrameCodec.readFrame(socket.getInputStream());
+
+            assertEquals("200", response.code);
+            assertEquals("동시접속자", response.data);
+        }
+    }
+
+    @Test
+    @DisplayName("최대 연결 수에 도달하면 새 연결은 처리되지 않고, 기존 연결이 닫히면 처리되어야 한다")
+    void testMaxConnections() throws Exception {
+        try (NioServer limited = new NioServer(0, 2, RequestPipeline.DEFAULT_MAX_IN_FLIGHT, 2,
+                request -> new BasicResponse("200", request))) {
+            Thread thread = new Thread(limited);
+            thread.start();
+            int port = limited.getPort();
+
+            Socket first = new Socket(InetAddress.getLoopbackAddress(), port);
+            Socket second = new Socket(InetAddress.getLoopbackAddress(), port);
+            for (Socket socket : List.of(first, second)) {
+                socket.setSoTimeout(5000);
+                FrameCodec.writeFrame(socket.getOutputStream(), "연결");
+                assertEquals("200", ((BasicResponse) FrameCodec.readFrame(socket.getInputStream())).code);
+            }
+            assertEquals(2, limited.getConnectionCount());
+
+            // 세 번째 연결은 OS backlog 에서 대기 (accept 되지 않으므로 응답 없음)
+            try (Socket third = new Socket(InetAddress.getLoopbackAddress(), port)) {
+                third.setSoTimeout(300);
+                FrameCodec.writeFrame(third.getOutputStream(), "대기");
+                assertThrows(java.net.SocketTimeoutException.class, () -> FrameCodec.readFrame(third.getInputStream()));
+                assertEquals(2, limited.getConnectionCount());
+
+                // 기존 연결 하나가 닫히면 accept 되어 처리됨
+                first.close();
+                third.setSoTimeout(5000);
+                assertEquals("대기", ((BasicResponse) FrameCodec.readFrame(third.getInputStream())).data);
+            }
+            second.close();
+            limited.close();
+            thread.join(2000);
+        }
+    }
+
+    @Test
+    @DisplayName("한 번에 여러 요청을 보내도 보낸 순서대로 응답해야 한다")
+    void testPipelinedRequestsKeepOrder() throws Exception {
+        try (Socket socket = connect()) {
+            ByteArrayOutputStream batch = new ByteArrayOutputStream();
+            for (int i = 0; i < 100; i++) {
+                ByteBuffer frame = FrameCodec.encode("요청-" + i);
+                batch.write(frame.array(), 0, frame.limit());
+            }
+            socket.getOutputStream().write(batch.toByteArray());
+
+            InputStream in = socket.getInputStream();
+            for (int i = 0; i < 100; i++) {
+                BasicResponse response = (BasicResponse) FrameCodec.readFrame(in);
+                assertEquals("요청-" + i, response.data);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("프레임이 여러 조각으로 나뉘어 도착해도 하나의 요청으로 처리해야 한다")
+    void testFragmentedFrame() throws Exception {
+        try (Socket socket = connect()) {
+            socket.setTcpNoDelay(true);
+            ByteBuffer frame = FrameCodec.encode("조각난 요청");
+            OutputStream out = socket.getOutputStream();
+            for (int i = 0; i < frame.limit(); i++) {
+                out.write(frame.array()[i]);
+                out.flush();
+                if (i % 16 == 0) {
+                    Thread.sleep(1);
+                }
+            }
+
+            BasicResponse response = (BasicResponse) FrameCodec.readFrame(socket.getInputStream());
+            assertEquals("조각난 요청", response.data);
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 많은 연결이 열려 있어도 모든 연결이 응답을 받아야 한다")
+    void testManyConnections() throws Exception {
+        List<Socket> sockets = new ArrayList<>();
+        try {
+            for (int i = 0; i < 200; i++) {
+                sockets.add(connect());
+            }
+            for (int i = 0; i < sockets.size(); i++) {
+                FrameCodec.writeFrame(sockets.get(i).getOutputStream(), i);
+            }
+            for (int i = 0; i < sockets.size(); i++) {
+                BasicResponse response = (BasicResponse) FrameCodec.readFrame(sockets.get(i).getInputStream());
+                assertEquals(i, response.data);
+            }
+            assertEquals(200, server.getConnectionCount());
+        } finally {
+            for (Socket socket : sockets) {
+                socket.close();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("바이너리 프로토콜로 협상한 연결은 바이너리 프레임으로 응답해야 한다")
+    void testBinaryProtocolNegotiation() throws Exception {
+        try (Socket socket = connect()) {
+            assertEquals(BinaryProtocol.VERSION,
+                    BinaryProtocol.clientHandshake(socket.getInputStream(), socket.getOutputStream()));
+
+            for (int i = 0; i < 3; i++) {
+                BinaryProtocol.writeFrame(socket.getOutputStream(), new UserCommandRequest("동시접속자", i));
+                BasicResponse response = (BasicResponse) BinaryProtocol.readFrame(socket.getInputStream());
+                assertEquals(i, ((UserCommandRequest) response.data).payload);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 프로토콜 버전은 거절 응답 후 연결을 종료해야 한다")
+    void testBinaryProtocolRejected() throws Exception {
+        try (Socket socket = connect()) {
+            socket.getOutputStream().write(BinaryProtocol.hello(0));
+            assertEquals(0, BinaryProtocol.readHello(socket.getInputStream()));
+            assertEquals(-1, socket.getInputStream().read());
+        }
+    }
+
+    @Test
+    @DisplayName("처리 중 Error 가 나면 그 연결은 닫히고, 다른 연결은 계속 처리되어야 한다")
+    void testErrorClosesConnection() throws Exception {
+        try (Socket socket = connect()) {
+            FrameCodec.writeFrame(socket.getOutputStream(), "오류");
+            assertEquals(-1, socket.getInputStream().read());
+        }
+        try (Socket socket = connect()) {
+            FrameCodec.writeFrame(socket.getOutputStream(), "동시접속자");
+            assertEquals("200", ((BasicResponse) FrameCodec.readFrame(socket.getInputStream())).code);
+        }
+    }
+
+    @Test
+    @DisplayName("허용 목록에 없는 클래스를 직렬화해 보내면 역직렬화하지 않고 연결을 닫아야 한다")
+    void testDisallowedClassRejected() throws Exception {
+        ByteBuffer frame = FrameCodec.encode(new File("x"));
+        byte[] body = Arrays.copyOfRange(frame.array(), 4, frame.limit());
+        assertThrows(InvalidClassException.class, () -> FrameCodec.decode(body));
+
+        try (Socket socket = connect()) {
+            FrameCodec.writeFrame(socket.getOutputStream(), new File("x"));
+            assertEquals(-1, socket.getInputStream().read());
+        }
+    }
+
+    @Test
+    @DisplayName("봉투 요청은 먼저 처리가 끝난 순서대로 요청 번호와 함께 응답해야 한다")
+    void testPipelinedEnvelopesOutOfOrder() throws Exception {
+        try (Socket socket = connect()) {
+            BinaryProtocol.clientHandshake(socket.getInputStream(), socket.getOutputStream());
+            BinaryProtocol.writeFrame(socket.getOutputStream(), new RequestEnvelope(1, "지연:500"));
+            BinaryProtocol.writeFrame(socket.getOutputStream(), new RequestEnvelope(2, "바로"));
+
+            ResponseEnvelope first = (ResponseEnvelope) BinaryProtocol.readFrame(socket.getInputStream());
+            ResponseEnvelope second = (ResponseEnvelope) BinaryProtocol.readFrame(socket.getInputStream());
+            assertEquals(2, first.requestId);
+            assertEquals("바로", ((BasicResponse) first.response).data);
+            assertEquals(1, second.requestId);
+        }
+    }
+}
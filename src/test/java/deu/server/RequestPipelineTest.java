@@ -0,0 +1,91 @@
+package deu.server;
+
+import deu.model.dto.request.RequestEnvelope;
+import deu.model.dto.response.ResponseEnvelope;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 요청 파이프라이닝(RequestPipeline) 검증 테스트
+ */
+public class RequestPipelineTest {
+
+    private final BlockingQueue<Object> sent = new LinkedBlockingQueue<>();
+
+    // 요청 값(Integer)만큼 대기한 뒤 그대로 돌려주는 핸들러
+    private static Object sleepAndEcho(Object request) {
+        try {
+            Thread.sleep((Integer) request);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("봉투 요청은 동시에 처리되고 먼저 끝난 요청부터 같은 번호로 응답해야 한다")
+    void testEnvelopesCompleteOutOfOrder() throws Exception {
+        RequestPipeline pipeline = new RequestPipeline(RequestPipelineTest::sleepAndEcho, sent::add, e -> {}, 8);
+
+        int[] delays = {0, 600, 300, 0}; // 요청 번호별 처리 시간
+        for (int id = 1; id <= 3; id++) {
+            pipeline.submit(new RequestEnvelope(id, delays[id]));
+        }
+
+        long[] order = new long[3];
+        for (int i = 0; i < 3; i++) {
+            ResponseEnvelope response = (ResponseEnvelope) sent.poll(5, TimeUnit.SECONDS);
+            assertNotNull(response, "응답이 도착하지 않았습니다.");
+            assertEquals(delays[(int) response.requestId], response.response);
+            order[i] = response.requestId;
+        }
+        assertArrayEquals(new long[]{3, 2, 1}, order);
+    }
+
+    @Test
+    @DisplayName("봉투 없는 일반 요청은 받은 스레드에서 바로 처리되어야 한다")
+    void testPlainRequestIsHandledInline() throws Exception {
+        RequestPipeline pipeline = new RequestPipeline(RequestPipelineTest::sleepAndEcho, sent::add, e -> {}, 8);
+
+        pipeline.submit(0);
+
+        assertEquals(0, sent.poll());
+    }
+
+    @Test
+    @DisplayName("동시 처리 한도에 도달하면 다음 봉투 요청은 받은 스레드에서 처리되어야 한다")
+    void testMaxInFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        RequestPipeline pipeline = new RequestPipeline(request -> {
+            if ("대기".equals(request)) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return request;
+        }, sent::add, e -> {}, 1);
+
+        pipeline.submit(new RequestEnvelope(1, "대기"));
+        pipeline.submit(new RequestEnvelope(2, "바로"));
+
+        // 두 번째 요청은 submit 안에서 처리가 끝나 있어야 함
+        ResponseEnvelope inline = (ResponseEnvelope) sent.poll();
+        assertNotNull(inline);
+        assertEquals(2, inline.requestId);
+        assertEquals(1, pipeline.getInFlight());
+
+        release.countDown();
+        ResponseEnvelope first = (ResponseEnvelope) sent.poll(5, TimeUnit.SECONDS);
+        assertNotNull(first);
+        assertEquals(1, first.requestId);
+    }
+}
@@ -0,0 +1,122 @@
+package deu.service;
+
+import deu.model.dto.request.data.reservation.BulkReservationRequest;
+import deu.model.dto.response.BasicResponse;
+import deu.model.dto.response.NotificationDTO;
+import deu.model.entity.RoomReservation;
+import deu.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 관리자 예약 일괄 승인 / 일괄 삭제 ("예약 일괄 승인", "예약 일괄 삭제") 테스트
+ */
+public class BulkReservationManagementTest {
+
+    private ReservationService service;
+    private ReservationRepository repo;
+
+    @BeforeEach
+    void setUp() {
+        service = ReservationService.getInstance();
+        repo = ReservationRepository.getInstance();
+        repo.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.clear();
+    }
+
+    private RoomReservation reservation(String user, String date, String startTime, String room, String status) {
+        return RoomReservation.builder()
+                .number(user)
+                .date(date)
+                .startTime(startTime)
+                .endTime(startTime.substring(0, 2) + ":50")
+                .lectureRoom(room)
+                .title("스터디 모임")
+                .description("시험 준비 스터디")
+                .buildingName("정보관")
+                .floor("9")
+                .status(status)
+                .dayOfTheWeek("MONDAY")
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<BasicResponse> results(BasicResponse res) {
+        assertEquals("200", res.code, String.valueOf(res.data));
+        return (List<BasicResponse>) res.data;
+    }
+
+    @Test
+    @DisplayName("ID 목록 일괄 승인: 항목별 결과를 순서대로 반환하고, 알림은 사용자별 요약 1건")
+    void testApproveByIds() {
+        RoomReservation a1 = reservation("S9101", "2026-11-02", "10:00", "912", "대기");
+        RoomReservation a2 = reservation("S9101", "2026-11-03", "11:00", "912", "대기");
+        RoomReservation b1 = reservation("S9102", "2026-11-02", "10:00", "913", "대기");
+        RoomReservation approved = reservation("S9102", "2026-11-04", "10:00", "913", "승인");
+        RoomReservation deleted = reservation("S9102", "2026-11-05", "10:00", "913", "삭제됨");
+        repo.saveAll(List.of(a1, a2, b1, approved, deleted));
+
+        int before1 = NotificationService.getInstance().getAllNotifications("S9101").size();
+        int before2 = NotificationService.getInstance().getAllNotifications("S9102").size();
+
+        List<BasicResponse> results = results(service.approveRoomReservations(new BulkReservationRequest(new ArrayList<>(List.of(
+                a1.getId(), a2.getId(), "없는-ID", approved.getId(), deleted.getId(), b1.getId(), a1.getId())))));
+
+        List<String> codes = results.stream().map(r -> r.code).toList();
+        assertEquals(List.of("200", "200", "404", "409", "409", "200", "409"), codes);
+        assertEquals("없는-ID: 예약을 찾을 수 없습니다.", results.get(2).data);
+        assertEquals(approved.getId() + ": 이미 승인된 예약입니다.", results.get(3).data);
+
+        assertEquals("승인", repo.findById(a1.getId()).getStatus());
+        assertEquals("승인", repo.findById(a2.getId()).getStatus());
+        assertEquals("승인", repo.findById(b1.getId()).getStatus());
+        assertEquals("삭제됨", repo.findById(deleted.getId()).getStatus());
+
+        List<NotificationDTO> n1 = NotificationService.getInstance().getAllNotifications("S9101");
+        assertEquals(before1 + 1, n1.size());
+        assertEquals("예약 2건이 승인되었습니다. [912, 2026-11-02] 10:00~10:50, [912, 2026-11-03] 11:00~11:50",
+                n1.get(n1.size() - 1).getMessage());
+        List<NotificationDTO> n2 = NotificationService.getInstance().getAllNotifications("S9102");
+        assertEquals(before2 + 1, n2.size());
+        assertEquals("[913, 2026-11-02] 10:00~10:50 예약이 승인되었습니다.", n2.get(n2.size() - 1).getMessage());
+    }
+
+    @Test
+    @DisplayName("조건 일괄 삭제: 조건에 맞는 예약만 '삭제됨', 조건이 없으면 거절")
+    void testDeleteByCondition() {
+        RoomReservation in1 = reservation("S9103", "2026-11-02", "10:00", "912", "대기");
+        RoomReservation in2 = reservation("S9104", "2026-11-06", "10:00", "912", "승인");
+        RoomReservation otherRoom = reservation("S9103", "2026-11-03", "10:00", "913", "대기");
+        RoomReservation outOfRange = reservation("S9104", "2026-11-09", "10:00", "912", "대기");
+        repo.saveAll(List.of(in1, in2, otherRoom, outOfRange));
+
+        BulkReservationRequest filter = new BulkReservationRequest(null, null, "9", "912", null, "2026-11-02", "2026-11-08");
+        List<BasicResponse> results = results(service.deleteRoomReservationsFromManagement(filter));
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(r -> "200".equals(r.code)));
+        assertEquals("삭제됨", repo.findById(in1.getId()).getStatus());
+        assertEquals("삭제됨", repo.findById(in2.getId()).getStatus());
+        assertEquals("대기", repo.findById(otherRoom.getId()).getStatus());
+        assertEquals("대기", repo.findById(outOfRange.getId()).getStatus());
+
+        // 다시 실행하면 이미 삭제된 예약으로 보고
+        List<BasicResponse> again = results(service.deleteRoomReservationsFromManagement(filter));
+        assertTrue(again.stream().allMatch(r -> "409".equals(r.code)));
+
+        assertEquals("400", service.deleteRoomReservationsFromManagement(new BulkReservationRequest()).code);
+        assertEquals("400", service.approveRoomReservations(
+                new BulkReservationRequest(null, null, null, null, null, "2026/11/02", null)).code);
+    }
+}
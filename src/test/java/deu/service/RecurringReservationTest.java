@@ -0,0 +1,121 @@
+package deu.service;
+
+import deu.model.dto.request.data.reservation.RecurringReservationRequest;
+import deu.model.dto.request.data.reservation.RoomReservationRequest;
+import deu.model.dto.response.BasicResponse;
+import deu.model.dto.response.NotificationDTO;
+import deu.model.entity.RoomReservation;
+import deu.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 반복 예약 신청("반복 예약 요청") 테스트
+ */
+public class RecurringReservationTest {
+
+    private ReservationService service;
+    private ReservationRepository repo;
+    private LocalDate firstMonday;
+
+    @BeforeEach
+    void setUp() {
+        service = ReservationService.getInstance();
+        repo = ReservationRepository.getInstance();
+        repo.clear();
+        // 다음 주 이후 첫 월요일 (7일 5회 제한에 걸리지 않도록)
+        firstMonday = LocalDate.now().plusDays(8).with(TemporalAdjusters.nextOrSame(java.time.DayOfWeek.MONDAY));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.clear();
+    }
+
+    private RoomReservationRequest base(String number, String date) {
+        return new RoomReservationRequest("정보관", "9", "913", "보강", "자료구조 보강",
+                date, "월", "13:00", "14:30", number, "수업", 0, null);
+    }
+
+    @Test
+    @DisplayName("반복 규칙 펼치기: 횟수 / 마지막 날짜 / 요일 지정, 잘못된 규칙은 거절")
+    void testExpandRule() {
+        String start = firstMonday.minusDays(2).toString(); // 토요일
+
+        // 요일을 비우면 시작 날짜의 요일
+        List<LocalDate> byCount = ReservationSeries.dates(new RecurringReservationRequest(base("P1", start), null, 3, null));
+        assertEquals(List.of(firstMonday.minusDays(2), firstMonday.plusDays(5), firstMonday.plusDays(12)), byCount);
+
+        // 요일 지정 + 마지막 날짜 (포함)
+        List<LocalDate> byUntil = ReservationSeries.dates(new RecurringReservationRequest(
+                base("P1", start), "monday", 0, firstMonday.plusWeeks(2).toString()));
+        assertEquals(List.of(firstMonday, firstMonday.plusWeeks(1), firstMonday.plusWeeks(2)), byUntil);
+
+        // 둘 다 있으면 먼저 끝나는 쪽
+        assertEquals(2, ReservationSeries.dates(new RecurringReservationRequest(
+                base("P1", start), "MONDAY", 2, firstMonday.plusWeeks(5).toString())).size());
+
+        assertThrows(IllegalArgumentException.class, () -> ReservationSeries.dates(
+                new RecurringReservationRequest(base("P1", start), null, 0, null)));
+        assertThrows(IllegalArgumentException.class, () -> ReservationSeries.dates(
+                new RecurringReservationRequest(base("P1", start), "월요일", 2, null)));
+        assertThrows(IllegalArgumentException.class, () -> ReservationSeries.dates(
+                new RecurringReservationRequest(base("P1", start), null, ReservationSeries.MAX_OCCURRENCES + 1, null)));
+        assertThrows(IllegalArgumentException.class, () -> ReservationSeries.dates(
+                new RecurringReservationRequest(base("P1", start), null, 0, firstMonday.minusWeeks(1).toString())));
+    }
+
+    @Test
+    @DisplayName("교수 반복 예약: 모든 회차가 승인 상태로 한 번에 저장되고 알림은 요약 1건")
+    void testProfessorSeriesSaved() {
+        int notificationsBefore = NotificationService.getInstance().getAllNotifications("P9001").size();
+
+        BasicResponse res = service.createRecurringReservation(
+                new RecurringReservationRequest(base("P9001", firstMonday.toString()), null, 4, null));
+
+        assertEquals("200", res.code, String.valueOf(res.data));
+        List<RoomReservation> saved = repo.findByUser("P9001");
+        assertEquals(4, saved.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(firstMonday.plusWeeks(i).toString(), saved.get(i).getDate());
+            assertEquals("승인", saved.get(i).getStatus());
+            assertEquals("13:00", saved.get(i).getStartTime());
+        }
+
+        List<NotificationDTO> notifications = NotificationService.getInstance().getAllNotifications("P9001");
+        assertEquals(notificationsBefore + 1, notifications.size());
+        assertEquals("반복 예약 신청", notifications.get(notifications.size() - 1).getTitle());
+    }
+
+    @Test
+    @DisplayName("한 회차라도 규칙에 걸리면 아무 회차도 저장되지 않고, 걸린 날짜와 기존 오류 코드/메시지를 반환")
+    void testSeriesAllOrNothing() {
+        // 3주차 같은 시간대를 다른 교수 2명이 먼저 채움 (정원 3명의 50% = 2명)
+        String third = firstMonday.plusWeeks(2).toString();
+        assertEquals("200", service.createRoomReservation(base("P9002", third)).code);
+        assertEquals("200", service.createRoomReservation(base("P9003", third)).code);
+
+        BasicResponse res = service.createRecurringReservation(
+                new RecurringReservationRequest(base("P9004", firstMonday.toString()), null, 4, null));
+
+        assertEquals("403", res.code);
+        assertEquals(third + ": 정원의 50%(2명)를 초과하여 예약할 수 없습니다.", res.data);
+        assertTrue(repo.findByUser("P9004").isEmpty());
+        assertEquals(2, repo.findAll().size());
+
+        // 정책 위반(교수 3시간 초과)도 저장 전에 거절
+        RoomReservationRequest tooLong = base("P9004", firstMonday.toString());
+        tooLong.setEndTime("17:00");
+        assertEquals("403", service.createRecurringReservation(
+                new RecurringReservationRequest(tooLong, null, 2, null)).code);
+        assertTrue(repo.findByUser("P9004").isEmpty());
+    }
+}
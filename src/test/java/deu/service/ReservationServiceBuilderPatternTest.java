@@ -107,9 +107,11 @@ public class ReservationServiceBuilderPatternTest {
         // 1. 응답 코드가 200(성공)인지 확인
         assertEquals("200", response.getCode(), "예약 생성 요청은 성공해야 합니다.");
 
-        // 2. Repository.save()가 호출될 때 전달된 RoomReservation 객체 가로채기 (Capture)
+        // 2. Repository.insert()가 호출될 때 전달된 RoomReservation 객체 가로채기 (Capture)
+        // (신청 잠금 안에서는 insert 로 메모리에만 반영하고, 잠금을 놓은 뒤 awaitDurable 로 디스크 반영을 기다림)
         ArgumentCaptor<RoomReservation> captor = ArgumentCaptor.forClass(RoomReservation.class);
-        verify(reservationRepository).save(captor.capture()); // save 메서드 호출 검증 및 인자 포획
+        verify(reservationRepository).insert(captor.capture()); // insert 메서드 호출 검증 및 인자 포획
+        verify(reservationRepository).awaitDurable(anyLong());
 
         RoomReservation savedReservation = captor.getValue(); // 가로챈 객체 가져오기
         
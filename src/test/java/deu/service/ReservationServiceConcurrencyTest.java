@@ -0,0 +1,122 @@
+package deu.service;
+
+import deu.model.dto.request.data.reservation.RoomReservationRequest;
+import deu.model.dto.response.BasicResponse;
+import deu.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 예약 신청 동시성 테스트 (64 스레드가 동시에 신청해도 초과 예약이 없어야 함)
+ */
+public class ReservationServiceConcurrencyTest {
+
+    private static final int THREADS = 64;
+
+    private ReservationService service;
+    private ReservationRepository repo;
+    private String date;
+
+    @BeforeEach
+    void setUp() {
+        service = ReservationService.getInstance();
+        repo = ReservationRepository.getInstance();
+        repo.clear();
+        date = LocalDate.now().plusDays(2).toString(); // 학생은 하루 전부터 예약 가능
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.clear();
+    }
+
+    private RoomReservationRequest buildRequest(String number, String room, String startTime, String endTime) {
+        RoomReservationRequest req = new RoomReservationRequest();
+        req.setNumber(number);
+        req.setBuildingName("정보관");
+        req.setFloor("9");
+        req.setLectureRoom(room);
+        req.setTitle("동시성 테스트");
+        req.setDescription("동시성 테스트");
+        req.setDate(date);
+        req.setDayOfTheWeek("월");
+        req.setStartTime(startTime);
+        req.setEndTime(endTime);
+        req.setPurpose("일반");
+        return req;
+    }
+
+    // 모든 신청을 동시에 출발시키고 응답 코드 목록 반환
+    private List<String> runConcurrently(List<RoomReservationRequest> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(requests.size());
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<BasicResponse>> futures = new ArrayList<>();
+            for (RoomReservationRequest request : requests) {
+                Callable<BasicResponse> task = () -> {
+                    ready.countDown();
+                    go.await();
+                    return service.createRoomReservation(request);
+                };
+                futures.add(executor.submit(task));
+            }
+            ready.await();
+            go.countDown();
+
+            List<String> codes = new ArrayList<>();
+            for (Future<BasicResponse> future : futures) {
+                codes.add(future.get().code);
+            }
+            return codes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 강의실 시간대에 64명이 동시에 신청해도 정원 50%(2명)까지만 예약되어야 한다")
+    void testNoOverbookingOnSameSlot() throws Exception {
+        List<RoomReservationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            requests.add(buildRequest("s7" + String.format("%03d", i), "912", "10:00", "11:00"));
+        }
+
+        List<String> codes = runConcurrently(requests);
+
+        assertEquals(2, codes.stream().filter("200"::equals).count(), "성공 응답 수: " + codes);
+        assertEquals(THREADS - 2, codes.stream().filter("403"::equals).count());
+        assertEquals(2, repo.countLiveInSlot("정보관", "9", "912", date, "10:00"));
+        assertEquals(2, repo.findAll().size());
+    }
+
+    @Test
+    @DisplayName("한 학생이 서로 다른 강의실/시간에 64건을 동시에 신청해도 하루 2시간을 넘지 않아야 한다")
+    void testNoQuotaOverrunForSameUser() throws Exception {
+        String[] rooms = {"911", "912", "913", "914", "915", "916", "918"};
+        List<RoomReservationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int hour = 9 + i / rooms.length;
+            requests.add(buildRequest("s7999", rooms[i % rooms.length],
+                    String.format("%02d:00", hour), String.format("%02d:00", hour + 1)));
+        }
+
+        List<String> codes = runConcurrently(requests);
+
+        assertEquals(2, codes.stream().filter("200"::equals).count(), "성공 응답 수: " + codes);
+        assertEquals(2, repo.findByUser("s7999").size());
+    }
+}
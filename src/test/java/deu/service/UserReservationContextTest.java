@@ -0,0 +1,72 @@
+package deu.service;
+
+import deu.model.entity.RoomReservation;
+import deu.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 신청자 기준 검사 값(UserReservationContext) 테스트
+ */
+public class UserReservationContextTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 2);
+
+    private ReservationRepository repo;
+
+    @BeforeEach
+    void setUp() {
+        repo = ReservationRepository.getInstance();
+        repo.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repo.clear();
+    }
+
+    private RoomReservation reservation(String date, String start, String end, String status) {
+        return RoomReservation.builder()
+                .number("S100").lectureRoom("912").date(date)
+                .startTime(start).endTime(end).status(status)
+                .build();
+    }
+
+    @Test
+    @DisplayName("하루 사용 시간, 7일 예약 수, 본인 중복을 사용량 집계에서 읽고 삭제됨/취소됨은 제외")
+    void testValuesFromQuotaCounters() {
+        List<RoomReservation> reservations = List.of(
+                reservation("2026-03-04", "09:00", "10:00", "대기"),
+                reservation("2026-03-04", "13:00", "13:30", "승인"),
+                reservation("2026-03-04", "15:00", "17:00", "취소됨"),  // 제외
+                reservation("2026-03-04", "10:00", "11:00", "삭제됨"),  // 제외 (같은 시작 시간이어도 중복 아님)
+                reservation("2026-03-02", "09:00", "10:00", "대기"),    // 오늘 (7일 포함)
+                reservation("2026-03-08", "09:00", "10:00", "거절"),    // 6일 뒤 (7일 포함, 거절은 제외 대상 아님)
+                reservation("2026-03-09", "09:00", "10:00", "대기"),    // 7일 뒤 (제외)
+                reservation("2026-03-01", "09:00", "10:00", "대기"),    // 어제 (제외)
+                reservation("3월 4일", "09:00", "10:00", "대기"));      // 해석할 수 없는 날짜 (제외)
+        repo.saveAll(reservations);
+
+        UserReservationContext context = UserReservationContext.of(repo, "s100", "2026-03-04", "10:00", TODAY);
+        assertEquals(90, context.getUsedMinutes());
+        assertEquals(4, context.getWeeklyCount());
+        assertFalse(context.hasSlotCollision());
+
+        assertTrue(UserReservationContext.of(repo, "s100", "2026-03-04", "13:00", TODAY).hasSlotCollision());
+        assertEquals(0, UserReservationContext.of(repo, "s100", "2026-03-05", "13:00", TODAY).getUsedMinutes());
+
+        // 취소하면 집계에서 바로 빠짐
+        repo.save(reservations.get(1).toBuilder().status("취소됨").build());
+        UserReservationContext cancelled = UserReservationContext.of(repo, "S100", "2026-03-04", "13:00", TODAY);
+        assertEquals(60, cancelled.getUsedMinutes());
+        assertEquals(3, cancelled.getWeeklyCount());
+        assertFalse(cancelled.hasSlotCollision());
+    }
+}